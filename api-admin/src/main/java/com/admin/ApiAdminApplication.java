@@ -3,7 +3,7 @@ package com.admin;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.admin", "com.support"})
 public class ApiAdminApplication {
     public static void main(String[] args) {
         SpringApplication.run(ApiAdminApplication.class, args);
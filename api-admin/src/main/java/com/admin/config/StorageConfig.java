@@ -1,18 +1,21 @@
 package com.admin.config;
 
+import com.storage.cache.SecondLevelCacheConfig;
+import com.storage.repository.JpaRepositoryConfig;
+import com.storage.routing.RoutingDataSourceConfig;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 import java.util.Optional;
 
 @Configuration
-@EnableJpaRepositories(basePackages = "com.storage.repository")
 @EntityScan(basePackages = "com.storage.entity")
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
+@Import({JpaRepositoryConfig.class, RoutingDataSourceConfig.class, SecondLevelCacheConfig.class})
 public class StorageConfig {
 
     @Bean
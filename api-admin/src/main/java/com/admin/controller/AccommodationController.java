@@ -1,26 +1,51 @@
 package com.admin.controller;
 
+import com.admin.dto.request.AccommodationListReqDto;
 import com.admin.dto.request.AccommodationReqDto;
+import com.admin.dto.response.AccommodationImportResDto;
+import com.admin.dto.response.AccommodationListResDto;
+import com.admin.service.AccommodationImportService;
 import com.admin.service.AccommodationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/accommodation")
 public class AccommodationController {
 
     private final AccommodationService accommodationService;
+    private final AccommodationImportService accommodationImportService;
+
+    @GetMapping
+    public ResponseEntity<AccommodationListResDto> getAccommodations(@Valid @ModelAttribute AccommodationListReqDto req) {
+        return ResponseEntity.ok(accommodationService.getAccommodations(req));
+    }
 
     @PostMapping("/register")
     public ResponseEntity registerAccommodation(@Valid @RequestBody AccommodationReqDto req){
         accommodationService.registerAccommodation(req);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
+
+    /**
+     * 본문은 NDJSON(application/x-ndjson) 형식으로, 한 줄에 AccommodationReqDto 하나를 담는다.
+     * 줄 단위로 검증 후 chunk 로 저장하며, 실패한 줄 번호와 사유를 응답한다.
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<AccommodationImportResDto> importAccommodations(InputStream body) throws IOException {
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(body);
+        return ResponseEntity.ok(res);
+    }
 }
@@ -0,0 +1,23 @@
+package com.admin.controller;
+
+import com.admin.dto.request.RoomInventoryReqDto;
+import com.admin.service.RoomInventoryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/room")
+public class RoomController {
+
+    private final RoomInventoryService roomInventoryService;
+
+    @PostMapping("/{roomId}/inventory")
+    public ResponseEntity openRoomInventory(@PathVariable Long roomId, @Valid @RequestBody RoomInventoryReqDto req) {
+        roomInventoryService.openRoomInventory(roomId, req);
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+}
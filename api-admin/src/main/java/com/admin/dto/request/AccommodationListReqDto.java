@@ -0,0 +1,28 @@
+package com.admin.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * cursor 는 이전 페이지 응답의 nextCursor 이고, 비어 있으면 처음부터 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationListReqDto {
+    @Min(value = 0, message = "Cursor must be zero or positive.")
+    private Long cursor;
+
+    @Min(value = 1, message = "Size must be between 1 and 100.")
+    @Max(value = 100, message = "Size must be between 1 and 100.")
+    private Integer size;
+
+    public long getCursor() {
+        return cursor == null ? 0 : cursor;
+    }
+
+    public int getSize() {
+        return size == null ? 20 : size;
+    }
+}
@@ -45,8 +45,7 @@ public class AccommodationReqDto {
     private double longitude;
 
     @NotEmpty(message = "At least one room information is required.")
-    @Valid
-    private List<RoomReqDto> rooms;
+    private List<@NotNull(message = "Room information must not be null.") @Valid RoomReqDto> rooms;
 
     @Getter
     @AllArgsConstructor
@@ -0,0 +1,17 @@
+package com.admin.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class RoomInventoryReqDto {
+    @NotNull(message = "Start date is required.")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required.")
+    private LocalDate endDate;
+}
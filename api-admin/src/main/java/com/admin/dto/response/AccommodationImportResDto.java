@@ -0,0 +1,22 @@
+package com.admin.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AccommodationImportResDto {
+    private long totalCount;
+    private long importedCount;
+    private long failedCount;
+    private List<LineError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private String message;
+    }
+}
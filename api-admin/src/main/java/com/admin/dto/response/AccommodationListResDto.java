@@ -0,0 +1,31 @@
+package com.admin.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 다음 페이지는 nextCursor 를 cursor 로 넘겨 조회한다. 마지막 페이지면 nextCursor 가 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationListResDto {
+    private List<Item> content;
+    private int size;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long accommodationId;
+        private String name;
+        private String countryName;
+        private String state;
+        private String city;
+        private String district;
+        private BigDecimal minPrice;
+    }
+}
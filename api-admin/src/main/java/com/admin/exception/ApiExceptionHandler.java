@@ -2,6 +2,7 @@ package com.admin.exception;
 
 import com.admin.exception.response.ErrorResponse;
 import com.admin.exception.type.ErrorCode;
+import com.support.concurrency.JdbcPoolConcurrencyFilter.LimitExceededException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -21,6 +22,13 @@ public class ApiExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    // 가상 스레드 모드의 동시 요청 제한(JdbcPoolConcurrencyFilter)에 걸린 요청
+    @ExceptionHandler(LimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleLimitExceeded(LimitExceededException ex) {
+        ErrorCode errorCode = ErrorCode.ERROR_BE1005;
+        return new ResponseEntity<>(new ErrorResponse(errorCode.getCode(), errorCode.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
         FieldError firstError = ex.getBindingResult().getFieldErrors().stream()
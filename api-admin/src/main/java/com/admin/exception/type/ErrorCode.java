@@ -5,6 +5,9 @@ import lombok.Getter;
 @Getter
 public enum ErrorCode {
 
+    ERROR_BE1005("BE1005", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    ERROR_BE1004("BE1004", "재고 기간이 올바르지 않습니다."),
+    ERROR_BE1003("BE1003", "존재하지 않는 객실입니다."),
     ERROR_BE1002("BE1002", "해당 국가코드가 존재하지 않습니다."),
     ERROR_BE1001("BE1001", "중복된 위치의 숙소입니다.");
 
@@ -0,0 +1,122 @@
+package com.admin.service;
+
+import com.admin.dto.request.AccommodationReqDto;
+import com.admin.dto.response.AccommodationImportResDto;
+import com.admin.dto.response.AccommodationImportResDto.LineError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON(한 줄에 숙소 하나) 본문을 한 줄씩 읽어 검증한 뒤 chunk 단위로 저장한다.
+ * 요청 본문 전체를 메모리에 올리지 않고, 저장 대기 중인 chunk 하나만 유지한다.
+ */
+@Slf4j
+@Service
+public class AccommodationImportService {
+
+    private final AccommodationService accommodationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public AccommodationImportService(AccommodationService accommodationService,
+                                      ObjectMapper objectMapper,
+                                      Validator validator,
+                                      @Value("${accommodation.import.chunk-size:500}") int chunkSize) {
+        this.accommodationService = accommodationService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public AccommodationImportResDto importAccommodations(InputStream body) throws IOException {
+        List<AccommodationReqDto> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        List<LineError> errors = new ArrayList<>();
+        long total = 0;
+        long imported = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                total++;
+
+                AccommodationReqDto req;
+                try {
+                    req = objectMapper.readValue(line, AccommodationReqDto.class);
+                } catch (JsonProcessingException e) {
+                    errors.add(new LineError(lineNumber, "Malformed accommodation record."));
+                    continue;
+                }
+                // 리터럴 null 줄은 예외 없이 null 로 읽힌다
+                if (req == null) {
+                    errors.add(new LineError(lineNumber, "Accommodation record must be a JSON object."));
+                    continue;
+                }
+
+                Set<ConstraintViolation<AccommodationReqDto>> violations = validator.validate(req);
+                if (!violations.isEmpty()) {
+                    errors.add(new LineError(lineNumber, violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining(" "))));
+                    continue;
+                }
+
+                chunk.add(req);
+                chunkLines.add(lineNumber);
+                if (chunk.size() >= chunkSize) {
+                    imported += flush(chunk, chunkLines, errors);
+                }
+            }
+        }
+        imported += flush(chunk, chunkLines, errors);
+        errors.sort(Comparator.comparingLong(LineError::getLine));
+
+        return new AccommodationImportResDto(total, imported, errors.size(), errors);
+    }
+
+    /**
+     * chunk 하나를 하나의 트랜잭션으로 저장한다. 저장에 실패하면(DB 오류뿐 아니라 검증을 통과한 뒤 변환 중 발생한 예외도 포함)
+     * 해당 chunk 의 모든 줄을 실패로 기록하고 다음 chunk 를 계속 처리한다.
+     */
+    private int flush(List<AccommodationReqDto> chunk, List<Long> chunkLines, List<LineError> errors) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        try {
+            accommodationService.registerAccommodations(chunk);
+            return chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Failed to import accommodation chunk (lines {} ~ {})", chunkLines.getFirst(), chunkLines.getLast(), e);
+            for (Long line : chunkLines) {
+                errors.add(new LineError(line, "Failed to save accommodation."));
+            }
+            return 0;
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+        }
+    }
+}
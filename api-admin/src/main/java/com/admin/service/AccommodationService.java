@@ -1,14 +1,24 @@
 package com.admin.service;
 
 import com.admin.dto.request.AccommodationReqDto;
+import com.admin.dto.request.AccommodationListReqDto;
 import com.admin.dto.request.AccommodationReqDto.RoomReqDto;
+import com.admin.dto.response.AccommodationListResDto;
+import com.admin.dto.response.AccommodationListResDto.Item;
 import com.storage.entity.Accommodation;
+import com.storage.entity.AccommodationOutbox;
+import com.storage.entity.AccommodationOutbox.EventType;
 import com.storage.entity.Room;
+import com.storage.repository.AccommodationOutboxRepository;
 import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.AccommodationSummary;
+import com.support.money.Money;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,24 +26,59 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AccommodationService {
     private final AccommodationRepository accommodationRepository;
+    private final AccommodationOutboxRepository accommodationOutboxRepository;
 
     @Transactional
     public void registerAccommodation(AccommodationReqDto req) {
+        Accommodation accommodation = accommodationRepository.save(toEntity(req));
+        accommodationOutboxRepository.save(AccommodationOutbox.of(accommodation.getAccommodationId(), EventType.CREATED));
+    }
 
-        List<Room> rooms = new ArrayList<>();
-        for (RoomReqDto roomReq : req.getRooms()) {
-            Room room = Room.builder()
-                    .roomType(roomReq.getRoomType().name())
-                    .viewType(roomReq.getViewType().name())
-                    .bedType(roomReq.getBedType().name())
-                    .squareMeter(roomReq.getSquareMeter())
-                    .capacity(roomReq.getCapacity())
-                    .price(roomReq.getPrice())
-                    .stock(roomReq.getStock())
-                    .build();
-            rooms.add(room);
+    /**
+     * 대량 등록(import) 시 chunk 단위로 호출된다.
+     * chunk 마다 트랜잭션이 끝나면서 영속성 컨텍스트도 비워지므로 메모리에는 한 chunk 만 유지된다.
+     */
+    @Transactional
+    public void registerAccommodations(List<AccommodationReqDto> reqs) {
+        List<Accommodation> accommodations = new ArrayList<>(reqs.size());
+        for (AccommodationReqDto req : reqs) {
+            accommodations.add(toEntity(req));
         }
+        accommodationRepository.saveAll(accommodations);
+
+        // id 는 persist 시점에 할당되므로 flush 전에 이벤트를 만들어 숙소와 함께 batch insert 한다.
+        List<AccommodationOutbox> events = new ArrayList<>(accommodations.size());
+        for (Accommodation accommodation : accommodations) {
+            events.add(AccommodationOutbox.of(accommodation.getAccommodationId(), EventType.CREATED));
+        }
+        accommodationOutboxRepository.saveAll(events);
+        accommodationRepository.flush();
+    }
+
+    /**
+     * cursor(마지막으로 받은 숙소 id) 다음부터 id 순으로 size 건을 조회한다.
+     * OFFSET 없이 PK 범위로 읽으므로 뒤쪽 페이지도 앞쪽과 같은 비용이 든다.
+     */
+    @Transactional(readOnly = true)
+    public AccommodationListResDto getAccommodations(AccommodationListReqDto req) {
+        int size = req.getSize();
+        List<AccommodationSummary> rows = accommodationRepository.findSummariesAfter(req.getCursor(), PageRequest.ofSize(size + 1));
 
+        boolean hasNext = rows.size() > size;
+        List<Item> content = rows.stream()
+                .limit(size)
+                .map(row -> new Item(row.getAccommodationId(), row.getName(), row.getCountryName(), row.getState(),
+                        row.getCity(), row.getDistrict(), toAmount(row.getMinPrice())))
+                .toList();
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getAccommodationId() : null;
+        return new AccommodationListResDto(content, size, nextCursor, hasNext);
+    }
+
+    private static BigDecimal toAmount(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    private Accommodation toEntity(AccommodationReqDto req) {
         Accommodation accommodation = Accommodation.builder()
                 .name(req.getName())
                 .info(req.getInfo())
@@ -45,9 +90,23 @@ public class AccommodationService {
                 .postalCode(req.getPostalCode())
                 .latitude(req.getLatitude())
                 .longitude(req.getLongitude())
-                .rooms(rooms)  // 미리 생성한 Room 리스트를 설정
                 .build();
 
-        accommodationRepository.save(accommodation);
+        // Room 이 연관관계의 주인이므로 accommodation 을 지정해야 FK 가 함께 batch insert 된다.
+        List<Room> rooms = accommodation.getRooms();
+        for (RoomReqDto roomReq : req.getRooms()) {
+            Room room = Room.builder()
+                    .accommodation(accommodation)
+                    .roomType(roomReq.getRoomType().name())
+                    .viewType(roomReq.getViewType().name())
+                    .bedType(roomReq.getBedType().name())
+                    .squareMeter(roomReq.getSquareMeter())
+                    .capacity(roomReq.getCapacity())
+                    .price(Money.of(roomReq.getPrice()))
+                    .stock(roomReq.getStock())
+                    .build();
+            rooms.add(room);
+        }
+        return accommodation;
     }
 }
@@ -0,0 +1,61 @@
+package com.admin.service;
+
+import com.admin.dto.request.RoomInventoryReqDto;
+import com.admin.exception.CustomException;
+import com.admin.exception.type.ErrorCode;
+import com.storage.entity.Room;
+import com.storage.entity.RoomInventory;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class RoomInventoryService {
+
+    // 한 번에 열 수 있는 최대 판매 기간
+    private static final long MAX_OPEN_DAYS = 366;
+
+    private final RoomRepository roomRepository;
+    private final RoomInventoryRepository roomInventoryRepository;
+
+    /**
+     * [startDate, endDate) 의 숙박일별 재고를 Room.stock 으로 생성한다.
+     * 이미 생성된 날짜는 건너뛰므로 같은 기간을 여러 번 요청해도 예약된 재고를 덮어쓰지 않는다.
+     */
+    @Transactional
+    public void openRoomInventory(Long roomId, RoomInventoryReqDto req) {
+        long days = ChronoUnit.DAYS.between(req.getStartDate(), req.getEndDate());
+        if (days <= 0 || days > MAX_OPEN_DAYS) {
+            throw new CustomException(ErrorCode.ERROR_BE1004);
+        }
+
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1003));
+
+        Set<LocalDate> opened = new HashSet<>(roomInventoryRepository.findStayDates(roomId, req.getStartDate(), req.getEndDate()));
+
+        List<RoomInventory> inventories = new ArrayList<>();
+        for (LocalDate date = req.getStartDate(); date.isBefore(req.getEndDate()); date = date.plusDays(1)) {
+            if (opened.contains(date)) {
+                continue;
+            }
+            inventories.add(RoomInventory.builder()
+                    .room(room)
+                    .stayDate(date)
+                    .total(room.getStock())
+                    .available(room.getStock())
+                    .build());
+        }
+        roomInventoryRepository.saveAll(inventories);
+    }
+}
@@ -0,0 +1,88 @@
+package com.admin.benchmark;
+
+import com.admin.dto.request.AccommodationReqDto;
+import com.admin.dto.request.AccommodationReqDto.RoomReqDto;
+import com.admin.e2eTest.BaseE2eTest;
+import com.admin.enums.room.BedType;
+import com.admin.enums.room.RoomType;
+import com.admin.enums.room.ViewType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.repository.AccommodationRepository;
+import com.support.benchmark.HttpLoadGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * 숙소 등록(POST /accommodation/register)의 처리량과 p99 를 플랫폼 스레드/가상 스레드 모드에서 비교한다.
+ * 실행 : ./gradlew :api-admin:Benchmark --tests '*AccommodationLoadBenchmarkTest*'
+ */
+@Tag("Benchmark")
+public abstract class AccommodationLoadBenchmarkTest extends BaseE2eTest {
+
+    private static final int WARM_UP = 200;
+    private static final int REQUESTS = 2000;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    private final HttpLoadGenerator loadGenerator = new HttpLoadGenerator();
+
+    @AfterEach
+    void cleanup() {
+        accommodationRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "concurrency {0}")
+    @ValueSource(ints = {50, 500})
+    @DisplayName("register accommodation under load")
+    void registerAccommodation(int concurrency) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(accommodation());
+
+        loadGenerator.run(WARM_UP, concurrency, i -> post(body));
+        HttpLoadGenerator.Result result = loadGenerator.run(REQUESTS, concurrency, i -> post(body));
+
+        System.out.printf("[AccommodationLoadBenchmark] mode=%s concurrency=%d %s%n",
+                virtualThreads ? "virtual" : "platform", concurrency, result);
+    }
+
+    private HttpRequest post(byte[] body) {
+        return HttpRequest.newBuilder(HttpLoadGenerator.uri(serverPort, "/accommodation/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private static AccommodationReqDto accommodation() {
+        return new AccommodationReqDto("Load Hotel", "load test", "country", "state", "city", "district",
+                "street", "12345", 37.5665, 126.9780,
+                List.of(new RoomReqDto(RoomType.SINGLE, ViewType.CITY, BedType.SINGLE, 20.0, 2, BigDecimal.valueOf(100), 5)));
+    }
+
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    static class PlatformThreads extends AccommodationLoadBenchmarkTest {
+    }
+
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    static class VirtualThreads extends AccommodationLoadBenchmarkTest {
+    }
+}
@@ -0,0 +1,90 @@
+package com.admin.benchmark;
+
+import com.admin.e2eTest.BaseE2eTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 숙소 목록의 OFFSET 페이지 조회와 keyset(id > cursor) 페이지 조회 비용을 페이지 깊이별로 비교한다.
+ * 실행 : ./gradlew :api-admin:Benchmark
+ */
+@Tag("Benchmark")
+public class KeysetPaginationBenchmarkTest extends BaseE2eTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 10_001;
+    private static final int INSERT_BATCH = 5_000;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table bench_accommodation (accommodation_id bigint primary key, name varchar(255), city varchar(255), min_price decimal(10,2))");
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        for (long id = 1; id <= (long) PAGE_SIZE * PAGES; id++) {
+            rows.add(new Object[]{id, "hotel-" + id, "city-" + id % 100, BigDecimal.valueOf(id % 500 + 50)});
+            if (rows.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate("insert into bench_accommodation values (?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into bench_accommodation values (?, ?, ?, ?)", rows);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("drop table bench_accommodation");
+    }
+
+    @ParameterizedTest(name = "page {0}")
+    @ValueSource(ints = {1, 100, 10_000})
+    @DisplayName("offset vs keyset pagination")
+    void comparePagination(int page) {
+        long offset = (long) (page - 1) * PAGE_SIZE;
+        // id 가 1 부터 빈틈없이 들어가 있으므로 앞 페이지의 마지막 id 는 offset 과 같다.
+        long cursor = offset;
+        for (int i = 0; i < WARM_UP; i++) {
+            readWithOffset(offset);
+            readWithKeyset(cursor);
+        }
+
+        long offsetNanos = 0;
+        long keysetNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            readWithOffset(offset);
+            offsetNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            readWithKeyset(cursor);
+            keysetNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[KeysetPaginationBenchmark] page=%d offset=%.2fms keyset=%.2fms%n",
+                page, offsetNanos / 1e6 / ITERATIONS, keysetNanos / 1e6 / ITERATIONS);
+    }
+
+    private List<Map<String, Object>> readWithOffset(long offset) {
+        return jdbcTemplate.queryForList("select accommodation_id, name, city, min_price from bench_accommodation order by accommodation_id limit ? offset ?",
+                PAGE_SIZE, offset);
+    }
+
+    private List<Map<String, Object>> readWithKeyset(long cursor) {
+        return jdbcTemplate.queryForList("select accommodation_id, name, city, min_price from bench_accommodation where accommodation_id > ? order by accommodation_id limit ?",
+                cursor, PAGE_SIZE);
+    }
+}
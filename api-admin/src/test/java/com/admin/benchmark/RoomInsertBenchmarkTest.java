@@ -0,0 +1,110 @@
+package com.admin.benchmark;
+
+import com.admin.e2eTest.BaseE2eTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IDENTITY(행 단위 INSERT + generated key 조회) 와 pooled id + JDBC batch INSERT 방식의
+ * 객실 등록 비용을 비교한다.
+ * 실행 : ./gradlew :api-admin:Benchmark
+ */
+@Tag("Benchmark")
+public class RoomInsertBenchmarkTest extends BaseE2eTest {
+
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+    private static final int ALLOCATION_SIZE = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long nextPooledId = 1;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table bench_room_identity (room_id bigint auto_increment primary key, accommodation_id bigint, room_type varchar(20), price decimal(10,2))");
+        jdbcTemplate.execute("create table bench_room_pooled (room_id bigint primary key, accommodation_id bigint, room_type varchar(20), price decimal(10,2))");
+        jdbcTemplate.execute("create table bench_id_generator (sequence_name varchar(50) primary key, next_val bigint)");
+        jdbcTemplate.update("insert into bench_id_generator values ('room', 1)");
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("drop table bench_room_identity");
+        jdbcTemplate.execute("drop table bench_room_pooled");
+        jdbcTemplate.execute("drop table bench_id_generator");
+    }
+
+    @ParameterizedTest(name = "{0} rooms")
+    @ValueSource(ints = {1, 50, 500})
+    @DisplayName("identity vs pooled batch insert")
+    void compareInsertStrategies(int roomCount) {
+        for (int i = 0; i < WARM_UP; i++) {
+            insertWithIdentity(roomCount);
+            insertWithPooledBatch(roomCount);
+        }
+
+        long identityNanos = 0;
+        long pooledNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            insertWithIdentity(roomCount);
+            identityNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            insertWithPooledBatch(roomCount);
+            pooledNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[RoomInsertBenchmark] rooms=%d identity=%.2fms pooled-batch=%.2fms%n",
+                roomCount, identityNanos / 1e6 / ITERATIONS, pooledNanos / 1e6 / ITERATIONS);
+    }
+
+    private void insertWithIdentity(int roomCount) {
+        for (int i = 0; i < roomCount; i++) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "insert into bench_room_identity (accommodation_id, room_type, price) values (?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, 1L);
+                ps.setString(2, "SINGLE");
+                ps.setBigDecimal(3, BigDecimal.TEN);
+                return ps;
+            }, keyHolder);
+        }
+    }
+
+    private void insertWithPooledBatch(int roomCount) {
+        List<Object[]> rows = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            rows.add(new Object[]{allocateId(), 1L, "SINGLE", BigDecimal.TEN});
+        }
+        jdbcTemplate.batchUpdate("insert into bench_room_pooled (room_id, accommodation_id, room_type, price) values (?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * Hibernate pooled optimizer 와 동일하게 ALLOCATION_SIZE 마다 한 번만 id 테이블을 갱신한다.
+     */
+    private long allocateId() {
+        if ((nextPooledId - 1) % ALLOCATION_SIZE == 0) {
+            jdbcTemplate.update("update bench_id_generator set next_val = next_val + ? where sequence_name = 'room'", ALLOCATION_SIZE);
+        }
+        return nextPooledId++;
+    }
+}
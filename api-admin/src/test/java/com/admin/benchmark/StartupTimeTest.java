@@ -0,0 +1,16 @@
+package com.admin.benchmark;
+
+import com.support.benchmark.StartupTimeBenchmark;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * api-admin 의 시작 시간(프로세스 시작 ~ 첫 GET /accommodation 응답)을 실행 방식별로 비교한다. 측정 방식은 StartupTimeBenchmark 참고.
+ * 실행 : ./gradlew :api-admin:Benchmark --tests '*StartupTimeTest*' [-PfastStart] [-Dstartup.runs=5]
+ */
+@Tag("Benchmark")
+public class StartupTimeTest extends StartupTimeBenchmark {
+
+    public StartupTimeTest() {
+        super("api-admin", "com/admin/ApiAdminApplication", "/accommodation?size=1");
+    }
+}
@@ -2,14 +2,23 @@ package com.admin.e2eTest;
 
 import com.admin.dto.request.AccommodationReqDto;
 import com.admin.dto.request.AccommodationReqDto.RoomReqDto;
+import com.admin.dto.response.AccommodationImportResDto;
 import com.admin.enums.room.BedType;
 import com.admin.enums.room.RoomType;
 import com.admin.enums.room.ViewType;
 import com.storage.repository.AccommodationRepository;
+import com.storage.repository.RoomRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
@@ -27,6 +36,15 @@ public class AccommodationTest extends BaseE2eTest{
     @Autowired
     private AccommodationRepository accommodationRepository;
 
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @AfterEach
     public void cleanup() {
         accommodationRepository.deleteAll();
@@ -69,6 +87,55 @@ public class AccommodationTest extends BaseE2eTest{
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     }
 
+    @Test
+    @DisplayName("registers hundreds of rooms with a handful of statements")
+    public void registerManyRoomsWithBatchInsert() {
+        AccommodationReqDto reqDto = createValidAccommodationReqDto;
+        List<RoomReqDto> rooms = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rooms.add(new RoomReqDto(RoomType.DOUBLE, ViewType.OCEAN, BedType.QUEEN, 30.0, 2, BigDecimal.valueOf(150.00), 3));
+        }
+        reqDto = new AccommodationReqDto(reqDto.getName(), reqDto.getInfo(), reqDto.getCountryName(), reqDto.getState(),
+                reqDto.getCity(), reqDto.getDistrict(), reqDto.getStreet(),
+                reqDto.getPostalCode(), reqDto.getLatitude(), reqDto.getLongitude(),
+                rooms);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<Void> response = testRestTemplate.postForEntity("/accommodation/register", reqDto, Void.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(roomRepository.count()).isEqualTo(500);
+        // id 는 애플리케이션에서 발급하고 batch insert 만 수행되므로 객실 수와 무관하게 적은 수의 statement 만 사용한다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+    }
+
+    @Test
+    @DisplayName("imports NDJSON lines and reports invalid ones")
+    public void importAccommodations() throws Exception {
+        AccommodationReqDto valid = createValidAccommodationReqDto;
+        AccommodationReqDto invalid = new AccommodationReqDto("", valid.getInfo(), valid.getCountryName(), valid.getState(),
+                valid.getCity(), valid.getDistrict(), valid.getStreet(),
+                valid.getPostalCode(), valid.getLatitude(), valid.getLongitude(),
+                valid.getRooms());
+        String body = String.join("\n",
+                objectMapper.writeValueAsString(valid),
+                objectMapper.writeValueAsString(invalid),
+                objectMapper.writeValueAsString(valid));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        ResponseEntity<AccommodationImportResDto> response = testRestTemplate.postForEntity("/accommodation/import",
+                new HttpEntity<>(body, headers), AccommodationImportResDto.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getImportedCount()).isEqualTo(2);
+        assertThat(response.getBody().getErrors()).hasSize(1);
+        assertThat(response.getBody().getErrors().getFirst().getLine()).isEqualTo(2);
+        assertThat(accommodationRepository.count()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("fails to register due to invalid accommodation name")
     public void failsToRegisterWithInvalidName() {
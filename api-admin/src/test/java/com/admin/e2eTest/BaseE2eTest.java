@@ -15,7 +15,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Testcontainers
 public class BaseE2eTest {
     @Container
-    private static MySQLContainer<?> MySQLContainer = new MySQLContainer<>("mysql:8.0");
+    private static MySQLContainer<?> MySQLContainer = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true");
 
     @LocalServerPort
     int port;
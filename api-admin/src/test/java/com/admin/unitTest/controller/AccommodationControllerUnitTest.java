@@ -1,11 +1,17 @@
 package com.admin.unitTest.controller;
 
 import com.admin.controller.AccommodationController;
+import com.admin.dto.request.AccommodationListReqDto;
 import com.admin.dto.request.AccommodationReqDto;
 import com.admin.dto.request.AccommodationReqDto.RoomReqDto;
+import com.admin.dto.response.AccommodationImportResDto;
+import com.admin.dto.response.AccommodationImportResDto.LineError;
+import com.admin.dto.response.AccommodationListResDto;
+import com.admin.dto.response.AccommodationListResDto.Item;
 import com.admin.enums.room.BedType;
 import com.admin.enums.room.RoomType;
 import com.admin.enums.room.ViewType;
+import com.admin.service.AccommodationImportService;
 import com.admin.service.AccommodationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +31,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -38,6 +46,9 @@ public class AccommodationControllerUnitTest {
     @MockBean
     private AccommodationService accommodationService;
 
+    @MockBean
+    private AccommodationImportService accommodationImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -82,6 +93,56 @@ public class AccommodationControllerUnitTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    @DisplayName("success to import NDJSON body with per-line error report")
+    public void successToImport() throws Exception {
+        AccommodationImportResDto res = new AccommodationImportResDto(2, 1, 1,
+                List.of(new LineError(2, "Accommodation name is required.")));
+        when(accommodationImportService.importAccommodations(any())).thenReturn(res);
+
+        mockMvc.perform(post("/accommodation/import")
+                        .contentType("application/x-ndjson")
+                        .content(objectMapper.writeValueAsString(reqDto) + "\n{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Accommodation name is required."));
+    }
+
+    @Test
+    @DisplayName("Fails to import with unsupported content type")
+    public void failsToImportWithUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/accommodation/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reqDto)))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("success to list accommodations after the cursor")
+    public void successToList() throws Exception {
+        Item item = new Item(11L, "Test Hotel", "country", "state", "city", "district", BigDecimal.valueOf(100.00));
+        when(accommodationService.getAccommodations(any(AccommodationListReqDto.class)))
+                .thenReturn(new AccommodationListResDto(List.of(item), 1, 11L, true));
+
+        mockMvc.perform(get("/accommodation")
+                        .param("cursor", "10")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].accommodationId").value(11L))
+                .andExpect(jsonPath("$.nextCursor").value(11L))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Fails to list due to invalid size")
+    public void failsToListWithInvalidSize() throws Exception {
+        mockMvc.perform(get("/accommodation")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Size must be between 1 and 100."));
+    }
+
     @Test
     @DisplayName("Fails to register due to invalid name")
     public void failsToRegisterWithInvalidName() throws Exception {
@@ -0,0 +1,75 @@
+package com.admin.unitTest.controller;
+
+import com.admin.controller.RoomController;
+import com.admin.dto.request.RoomInventoryReqDto;
+import com.admin.exception.CustomException;
+import com.admin.exception.type.ErrorCode;
+import com.admin.service.RoomInventoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RoomController.class)
+@Tag("UnitTest")
+public class RoomControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RoomInventoryService roomInventoryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("success to open room inventory")
+    public void successToOpenInventory() throws Exception {
+        RoomInventoryReqDto req = new RoomInventoryReqDto(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+
+        mockMvc.perform(post("/room/1/inventory")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Fails to open room inventory without start date")
+    public void failsToOpenInventoryWithoutStartDate() throws Exception {
+        RoomInventoryReqDto req = new RoomInventoryReqDto(null, LocalDate.of(2026, 2, 1));
+
+        mockMvc.perform(post("/room/1/inventory")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Start date is required."));
+    }
+
+    @Test
+    @DisplayName("Fails to open room inventory for unknown room")
+    public void failsToOpenInventoryForUnknownRoom() throws Exception {
+        RoomInventoryReqDto req = new RoomInventoryReqDto(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+        doThrow(new CustomException(ErrorCode.ERROR_BE1003)).when(roomInventoryService).openRoomInventory(eq(1L), any(RoomInventoryReqDto.class));
+
+        mockMvc.perform(post("/room/1/inventory")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1003"));
+    }
+}
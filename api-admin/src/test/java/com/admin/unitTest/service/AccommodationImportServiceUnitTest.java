@@ -0,0 +1,142 @@
+package com.admin.unitTest.service;
+
+import com.admin.dto.request.AccommodationReqDto;
+import com.admin.dto.request.AccommodationReqDto.RoomReqDto;
+import com.admin.dto.response.AccommodationImportResDto;
+import com.admin.enums.room.BedType;
+import com.admin.enums.room.RoomType;
+import com.admin.enums.room.ViewType;
+import com.admin.service.AccommodationImportService;
+import com.admin.service.AccommodationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("UnitTest")
+public class AccommodationImportServiceUnitTest {
+
+    @Mock
+    private AccommodationService accommodationService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private AccommodationImportService accommodationImportService;
+
+    @BeforeEach
+    void setUp() {
+        accommodationImportService = new AccommodationImportService(accommodationService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    }
+
+    private String line(String name) throws Exception {
+        AccommodationReqDto req = new AccommodationReqDto(name, "info", "country", "state", "city", "district",
+                "street", "12345", 40.7128, -74.0060,
+                List.of(new RoomReqDto(RoomType.SINGLE, ViewType.CITY, BedType.SINGLE, 20.0, 2, BigDecimal.valueOf(100.00), 5)));
+        return objectMapper.writeValueAsString(req);
+    }
+
+    private ByteArrayInputStream body(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("saves valid records in fixed-size chunks")
+    void importInChunks() throws Exception {
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(
+                body(line("A"), line("B"), line("C"), line("D"), line("E")));
+
+        assertEquals(5, res.getTotalCount());
+        assertEquals(5, res.getImportedCount());
+        assertEquals(0, res.getFailedCount());
+        verify(accommodationService, times(3)).registerAccommodations(anyList());
+    }
+
+    @Test
+    @DisplayName("reports invalid and malformed lines without stopping the import")
+    void reportInvalidLines() throws Exception {
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(
+                body(line("A"), line(""), "", "{not json", line("B")));
+
+        assertEquals(4, res.getTotalCount());
+        assertEquals(2, res.getImportedCount());
+        assertEquals(2, res.getFailedCount());
+        assertEquals(2, res.getErrors().get(0).getLine());
+        assertEquals("Accommodation name is required.", res.getErrors().get(0).getMessage());
+        assertEquals(4, res.getErrors().get(1).getLine());
+        assertEquals("Malformed accommodation record.", res.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("marks every line of a chunk as failed when the chunk cannot be saved")
+    void reportFailedChunk() throws Exception {
+        doThrow(new DataIntegrityViolationException("fail"))
+                .doNothing()
+                .when(accommodationService).registerAccommodations(anyList());
+
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(
+                body(line("A"), line("B"), line("C")));
+
+        assertEquals(1, res.getImportedCount());
+        assertEquals(2, res.getFailedCount());
+        assertEquals(1, res.getErrors().get(0).getLine());
+        assertEquals(2, res.getErrors().get(1).getLine());
+    }
+
+    @Test
+    @DisplayName("reports a null room as an invalid line")
+    void reportNullRoom() throws Exception {
+        String nullRoom = line("A").replaceFirst("\"rooms\":\\[.*]", "\"rooms\":[null]");
+
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(body(nullRoom, line("B")));
+
+        assertEquals(1, res.getImportedCount());
+        assertEquals(1, res.getFailedCount());
+        assertEquals(1, res.getErrors().get(0).getLine());
+        assertEquals("Room information must not be null.", res.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("reports a null record as an invalid line without stopping the import")
+    void reportNullRecord() throws Exception {
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(
+                body(line("A"), line("B"), "null", line("C")));
+
+        assertEquals(4, res.getTotalCount());
+        assertEquals(3, res.getImportedCount());
+        assertEquals(1, res.getFailedCount());
+        assertEquals(3, res.getErrors().get(0).getLine());
+        assertEquals("Accommodation record must be a JSON object.", res.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("marks a chunk as failed instead of aborting when saving throws an unexpected exception")
+    void reportChunkFailedByUnexpectedException() throws Exception {
+        doThrow(new NullPointerException())
+                .doNothing()
+                .when(accommodationService).registerAccommodations(anyList());
+
+        AccommodationImportResDto res = accommodationImportService.importAccommodations(
+                body(line("A"), line("B"), line("C")));
+
+        assertEquals(1, res.getImportedCount());
+        assertEquals(2, res.getFailedCount());
+    }
+}
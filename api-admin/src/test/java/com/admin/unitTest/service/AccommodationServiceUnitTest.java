@@ -1,21 +1,31 @@
 package com.admin.unitTest.service;
 
+import com.admin.dto.request.AccommodationListReqDto;
 import com.admin.dto.request.AccommodationReqDto;
 import com.admin.dto.request.AccommodationReqDto.RoomReqDto;
+import com.admin.dto.response.AccommodationListResDto;
+import com.admin.dto.response.AccommodationListResDto.Item;
 import com.admin.enums.room.BedType;
 import com.admin.enums.room.RoomType;
 import com.admin.enums.room.ViewType;
 import com.admin.service.AccommodationService;
 import com.storage.entity.Accommodation;
+import com.storage.entity.AccommodationOutbox;
+import com.storage.entity.AccommodationOutbox.EventType;
 import com.storage.entity.Room;
+import com.storage.repository.AccommodationOutboxRepository;
 import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.AccommodationSummary;
+import com.support.money.Money;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -31,6 +41,8 @@ public class AccommodationServiceUnitTest {
 
     @Mock
     private AccommodationRepository accommodationRepository;
+    @Mock
+    private AccommodationOutboxRepository accommodationOutboxRepository;
     @InjectMocks
     private AccommodationService accommodationService;
 
@@ -92,10 +104,59 @@ public class AccommodationServiceUnitTest {
             assertEquals("SINGLE", room.getBedType());
             assertEquals(20.0, room.getSquareMeter());
             assertEquals(2, room.getCapacity());
-            assertEquals(0, BigDecimal.valueOf(100.00).compareTo(room.getPrice()));
+            assertEquals(Money.of(100), room.getPrice());
             assertEquals(5, room.getStock());
 
             return true;
         }));
+        verify(accommodationOutboxRepository, times(1)).save(argThat(event -> event.getEventType() == EventType.CREATED));
+    }
+
+    @Test
+    @DisplayName("Record a created event for every accommodation in the chunk")
+    void successToRegisterChunkWithEvents() {
+        when(accommodationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        accommodationService.registerAccommodations(List.of(accommodationReqDto, accommodationReqDto));
+
+        verify(accommodationOutboxRepository).saveAll(argThat((List<AccommodationOutbox> events) ->
+                events.size() == 2 && events.stream().allMatch(event -> event.getEventType() == EventType.CREATED)));
+        verify(accommodationRepository).flush();
+    }
+
+    private record Summary(Long accommodationId) implements AccommodationSummary {
+        public Long getAccommodationId() { return accommodationId; }
+        public String getName() { return "hotel-" + accommodationId; }
+        public String getCountryName() { return "country"; }
+        public String getState() { return "state"; }
+        public String getCity() { return "city"; }
+        public String getDistrict() { return "district"; }
+        public Money getMinPrice() { return Money.of(100); }
+    }
+
+    @Test
+    @DisplayName("List accommodations after the cursor and return the next cursor")
+    void successToList() {
+        when(accommodationRepository.findSummariesAfter(10L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(new Summary(11L), new Summary(12L), new Summary(13L)));
+
+        AccommodationListResDto res = accommodationService.getAccommodations(new AccommodationListReqDto(10L, 2));
+
+        assertEquals(List.of(11L, 12L), res.getContent().stream().map(Item::getAccommodationId).toList());
+        assertEquals(12L, res.getNextCursor());
+        assertTrue(res.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Return no next cursor on the last page")
+    void successToListLastPage() {
+        when(accommodationRepository.findSummariesAfter(0L, PageRequest.ofSize(21)))
+                .thenReturn(List.of(new Summary(1L)));
+
+        AccommodationListResDto res = accommodationService.getAccommodations(new AccommodationListReqDto(null, null));
+
+        assertEquals(1, res.getContent().size());
+        assertNull(res.getNextCursor());
+        assertFalse(res.isHasNext());
     }
 }
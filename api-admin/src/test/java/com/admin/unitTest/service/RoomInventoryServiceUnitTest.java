@@ -0,0 +1,75 @@
+package com.admin.unitTest.service;
+
+import com.admin.dto.request.RoomInventoryReqDto;
+import com.admin.exception.CustomException;
+import com.admin.service.RoomInventoryService;
+import com.storage.entity.Room;
+import com.storage.entity.RoomInventory;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("UnitTest")
+public class RoomInventoryServiceUnitTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private RoomInventoryRepository roomInventoryRepository;
+    @InjectMocks
+    private RoomInventoryService roomInventoryService;
+
+    private final LocalDate start = LocalDate.of(2026, 1, 1);
+
+    @Test
+    @DisplayName("opens inventory for every night that is not opened yet")
+    void openRoomInventory() {
+        Room room = Room.builder().roomId(1L).stock(5).build();
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(roomInventoryRepository.findStayDates(1L, start, start.plusDays(3))).thenReturn(List.of(start.plusDays(1)));
+
+        roomInventoryService.openRoomInventory(1L, new RoomInventoryReqDto(start, start.plusDays(3)));
+
+        verify(roomInventoryRepository).saveAll(argThat((List<RoomInventory> inventories) -> {
+            assertEquals(2, inventories.size());
+            assertEquals(start, inventories.get(0).getStayDate());
+            assertEquals(start.plusDays(2), inventories.get(1).getStayDate());
+            assertEquals(5, inventories.get(0).getTotal());
+            assertEquals(5, inventories.get(0).getAvailable());
+            return true;
+        }));
+    }
+
+    @Test
+    @DisplayName("fails to open inventory with an empty date range")
+    void failsToOpenWithInvalidRange() {
+        assertThrows(CustomException.class,
+                () -> roomInventoryService.openRoomInventory(1L, new RoomInventoryReqDto(start, start)));
+        verify(roomInventoryRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("fails to open inventory for an unknown room")
+    void failsToOpenWithUnknownRoom() {
+        when(roomRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(CustomException.class,
+                () -> roomInventoryService.openRoomInventory(1L, new RoomInventoryReqDto(start, start.plusDays(1))));
+    }
+}
@@ -0,0 +1,61 @@
+package com.user.booking;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 객실의 partition 에 순서대로 전달되는 재고 변경 명령. result 는 저장(group commit)이 끝난 뒤 예약 id 로 완료된다.
+ * enqueuedAt 은 System.nanoTime() 기준이며 대기열에 넣은 시점부터 완료까지의 지연 측정에 사용한다.
+ * <p>
+ * partition 은 적용하기 전에, timeout 이 난 호출자는 포기하기 전에 take() 로 명령을 가져간다. 한쪽만 성공하므로
+ * 호출자가 포기한 명령은 저장되지 않고, partition 이 가져간 명령은 호출자가 저장 결과를 기다린다.
+ */
+public sealed interface BookingCommand {
+
+    long userId();
+
+    long roomId();
+
+    LocalDate checkIn();
+
+    LocalDate checkOut();
+
+    int quantity();
+
+    CompletableFuture<Long> result();
+
+    long enqueuedAt();
+
+    AtomicBoolean taken();
+
+    /**
+     * 처음 가져간 쪽만 true 를 반환한다.
+     */
+    default boolean take() {
+        return taken().compareAndSet(false, true);
+    }
+
+    /**
+     * 숙박일마다 재고(available)에 더할 값
+     */
+    int delta();
+
+    record Reserve(long userId, long roomId, LocalDate checkIn, LocalDate checkOut, int quantity,
+                   CompletableFuture<Long> result, long enqueuedAt, AtomicBoolean taken) implements BookingCommand {
+
+        @Override
+        public int delta() {
+            return -quantity;
+        }
+    }
+
+    record Cancel(long userId, long reservationId, long roomId, LocalDate checkIn, LocalDate checkOut, int quantity,
+                  CompletableFuture<Long> result, long enqueuedAt, AtomicBoolean taken) implements BookingCommand {
+
+        @Override
+        public int delta() {
+            return quantity;
+        }
+    }
+}
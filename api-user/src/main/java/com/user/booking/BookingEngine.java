@@ -0,0 +1,201 @@
+package com.user.booking;
+
+import com.user.booking.BookingCommand.Cancel;
+import com.user.booking.BookingCommand.Reserve;
+import com.user.booking.BookingStore.Stay;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.service.ReservationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약/취소를 객실별 single-writer partition 으로 보내 처리하는 예약 엔진. (booking.engine.enabled=true)
+ * <p>
+ * 객실 id 로 partition 을 고르므로 같은 객실의 명령은 한 스레드가 들어온 순서대로 처리한다.
+ * partition 은 메모리의 재고로 예약 가능 여부를 판단하고 여러 명령을 한 트랜잭션으로 저장하므로,
+ * 인기 객실에 요청이 몰려도 재고 행 잠금을 기다리는 트랜잭션이 쌓이지 않는다.
+ * <p>
+ * 요청은 저장이 끝난 뒤에 응답하므로 재시작으로 잃는 예약은 없다. 대기열에 남은 명령은 종료할 때 처리하고,
+ * 재시작한 뒤에는 객실 재고(room_inventory)를 처음 사용할 때 MySQL 에서 다시 읽는다.
+ * 여러 인스턴스가 같은 객실을 받아도 저장 시 조건부 UPDATE 가 초과 예약을 막는다.
+ * <p>
+ * 대기열이 가득 찼거나 timeout 안에 partition 이 명령을 가져가지 않으면 503(BE1011)으로 실패하고, 그 명령은 저장하지 않는다.
+ * partition 이 이미 가져간 명령은 timeout 이 지나도 저장이 끝날 때까지 기다려 응답과 저장 결과가 어긋나지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.engine.enabled", havingValue = "true")
+public class BookingEngine {
+
+    private final BookingStore store;
+    private final BookingPartition[] partitions;
+    private final long timeoutNanos;
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final Timer latency;
+
+    @Autowired
+    public BookingEngine(BookingStore store,
+                         @Value("${booking.engine.partitions:8}") int partitions,
+                         @Value("${booking.engine.queue-capacity:4096}") int queueCapacity,
+                         @Value("${booking.engine.max-batch-size:256}") int maxBatchSize,
+                         @Value("${booking.engine.timeout:5s}") Duration timeout,
+                         @Value("${booking.engine.recheck-interval:1s}") Duration recheckInterval,
+                         @Value("${booking.engine.ledger-idle-timeout:10m}") Duration ledgerIdleTimeout,
+                         @Value("${booking.engine.max-ledger-rooms:10000}") int maxLedgerRooms,
+                         MeterRegistry meterRegistry) {
+        this.store = store;
+        this.timeoutNanos = timeout.toNanos();
+        this.latency = Timer.builder("booking.engine.latency")
+                .description("대기열에 넣은 뒤 저장이 끝날 때까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        DistributionSummary batchSizes = DistributionSummary.builder("booking.engine.batch.size")
+                .description("한 번에 저장한 명령 수")
+                .register(meterRegistry);
+        this.partitions = new BookingPartition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new BookingPartition(i, store, queueCapacity, maxBatchSize, recheckInterval.toNanos(),
+                    ledgerIdleTimeout.toNanos(), maxLedgerRooms, batchSizes::record, fallbacks::incrementAndGet);
+        }
+        Gauge.builder("booking.engine.queued", this, BookingEngine::queued)
+                .description("partition 대기열에 있는 명령 수")
+                .register(meterRegistry);
+        Gauge.builder("booking.engine.ledger.rooms", this, BookingEngine::ledgerRooms)
+                .description("메모리에 재고를 들고 있는 객실 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("booking.engine.fallbacks", fallbacks, AtomicLong::get)
+                .description("group commit 이 실패해 명령을 하나씩 다시 저장한 횟수")
+                .register(meterRegistry);
+    }
+
+    public BookingEngine(BookingStore store, int partitions, int queueCapacity, int maxBatchSize,
+                         Duration timeout, Duration recheckInterval) {
+        this(store, partitions, queueCapacity, maxBatchSize, timeout, recheckInterval, Duration.ofMinutes(10), 10_000);
+    }
+
+    public BookingEngine(BookingStore store, int partitions, int queueCapacity, int maxBatchSize,
+                         Duration timeout, Duration recheckInterval, Duration ledgerIdleTimeout, int maxLedgerRooms) {
+        this(store, partitions, queueCapacity, maxBatchSize, timeout, recheckInterval, ledgerIdleTimeout, maxLedgerRooms,
+                new SimpleMeterRegistry());
+    }
+
+    public ReserveRes reserve(Long userId, ReserveReq req) {
+        long nights = ChronoUnit.DAYS.between(req.getCheckIn(), req.getCheckOut());
+        if (nights <= 0 || nights > ReservationService.MAX_NIGHTS) {
+            throw new CustomException(ErrorCode.ERROR_BE1007);
+        }
+        Reserve command = new Reserve(userId, req.getRoomId(), req.getCheckIn(), req.getCheckOut(), req.getQuantity(),
+                new CompletableFuture<>(), System.nanoTime(), new AtomicBoolean());
+        return ReserveRes.builder()
+                .reservationId(submit(command))
+                .build();
+    }
+
+    /**
+     * 예약을 찾는 것은 호출한 스레드에서 하고, 상태 변경과 재고 복구만 partition 에서 한다.
+     * 같은 예약을 동시에 취소하면 저장 시 조건부 상태 변경으로 하나만 성공한다.
+     */
+    public void cancel(Long userId, Long reservationId) {
+        Stay stay = store.findCancelable(userId, reservationId);
+        submit(new Cancel(userId, reservationId, stay.roomId(), stay.checkIn(), stay.checkOut(), stay.quantity(),
+                new CompletableFuture<>(), System.nanoTime(), new AtomicBoolean()));
+    }
+
+    private long submit(BookingCommand command) {
+        if (!partitionOf(command.roomId()).offer(command)) {
+            throw new CustomException(ErrorCode.ERROR_BE1011);
+        }
+        try {
+            return command.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return abandonOrJoin(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandonOrJoin(command);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } finally {
+            latency.record(System.nanoTime() - command.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * partition 이 아직 가져가지 않은 명령은 버리고 503 으로 실패한다. 이미 가져간 명령은 저장이 끝날 때까지 기다린다.
+     */
+    private static long abandonOrJoin(BookingCommand command) {
+        if (command.take()) {
+            command.result().cancel(false);
+            throw new CustomException(ErrorCode.ERROR_BE1011);
+        }
+        try {
+            return command.result().join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    /**
+     * 연속된 객실 id 가 partition 에 고르게 나뉘도록 섞은 뒤 나눈다.
+     */
+    private BookingPartition partitionOf(long roomId) {
+        return partitions[Math.floorMod(Long.hashCode(roomId * 0x9E3779B97F4A7C15L), partitions.length)];
+    }
+
+    public int queued() {
+        int queued = 0;
+        for (BookingPartition partition : partitions) {
+            queued += partition.queued();
+        }
+        return queued;
+    }
+
+    public int ledgerRooms() {
+        int rooms = 0;
+        for (BookingPartition partition : partitions) {
+            rooms += partition.ledgerRooms();
+        }
+        return rooms;
+    }
+
+    public long fallbackCount() {
+        return fallbacks.get();
+    }
+
+    /**
+     * 새 명령을 받지 않고, 모든 partition 이 대기열에 남은 명령을 저장할 때까지 기다린다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (BookingPartition partition : partitions) {
+            partition.stop();
+        }
+        for (BookingPartition partition : partitions) {
+            partition.await(TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+        }
+    }
+}
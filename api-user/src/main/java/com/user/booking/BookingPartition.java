@@ -0,0 +1,307 @@
+package com.user.booking;
+
+import com.user.booking.BookingStore.Inventory;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 한 스레드만 읽고 쓰는(single-writer) 객실 재고 partition.
+ * <p>
+ * 대기열에서 최대 maxBatchSize 개의 명령을 꺼내 들어온 순서대로 메모리의 객실 재고(ledger)에 적용하고,
+ * 적용된 명령을 한 트랜잭션으로 저장(group commit)한 뒤에 결과를 완료한다. 재고가 부족한 명령은 저장 없이 바로 거절한다.
+ * 같은 객실의 명령은 항상 같은 partition 으로 오므로 ledger 에 잠금이 필요 없고, 재고 행의 잠금도 이 스레드만 잡는다.
+ * <p>
+ * ledger 는 객실의 날짜를 처음 사용할 때 DB 에서 읽는다. 재시작하면 비어 있는 상태에서 다시 읽으므로 별도의 복구 절차가 없다.
+ * 결과는 커밋 후에만 완료하므로, 커밋되지 않은 명령은 호출한 쪽에서도 성공으로 보지 않는다.
+ * 다른 인스턴스나 기존 경로의 쓰기로 DB 와 ledger 가 달라지면 commit 의 조건부 UPDATE 가 이를 감지한다.
+ * 이때 묶음을 명령 하나씩 기존 경로로 다시 저장하고, 관련 객실의 ledger 를 버려 다음 명령에서 다시 읽는다.
+ * <p>
+ * ledger 는 DB 에서 다시 읽을 수 있는 캐시이므로 묶음 사이에 버린다. 객실 수가 maxLedgerRooms 를 넘으면 가장 오래 쓰지 않은 객실부터,
+ * 그리고 1초마다 ledgerIdleNanos 동안 쓰지 않은 객실과 오늘 이전의 숙박일을 버린다.
+ */
+@Slf4j
+class BookingPartition {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final BookingStore store;
+    private final BlockingQueue<BookingCommand> queue;
+    private final int maxBatchSize;
+    private final long recheckNanos;
+    private final long ledgerIdleNanos;
+    private final int maxLedgerRooms;
+    private final IntConsumer batchSizes;
+    private final Runnable fallbacks;
+    private final Thread thread;
+
+    /**
+     * 이 partition 스레드만 접근한다. 접근 순서로 정렬되어 있어 앞쪽이 가장 오래 쓰지 않은 객실이다.
+     */
+    private final LinkedHashMap<Long, RoomLedger> ledgers = new LinkedHashMap<>(16, 0.75f, true);
+    private long sweptAt = System.nanoTime();
+
+    private volatile boolean running = true;
+    private volatile int ledgerRooms;
+
+    BookingPartition(int index, BookingStore store, int queueCapacity, int maxBatchSize, long recheckNanos,
+                     long ledgerIdleNanos, int maxLedgerRooms, IntConsumer batchSizes, Runnable fallbacks) {
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.recheckNanos = recheckNanos;
+        this.ledgerIdleNanos = ledgerIdleNanos;
+        this.maxLedgerRooms = maxLedgerRooms;
+        this.batchSizes = batchSizes;
+        this.fallbacks = fallbacks;
+        this.thread = new Thread(this::run, "booking-partition-" + index);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 대기열이 가득 찼거나 종료 중이면 false 를 반환한다.
+     */
+    boolean offer(BookingCommand command) {
+        return running && queue.offer(command);
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    /**
+     * 메모리에 재고를 들고 있는 객실 수
+     */
+    int ledgerRooms() {
+        return ledgerRooms;
+    }
+
+    /**
+     * 새 명령을 받지 않는다. 대기열에 남은 명령은 모두 처리한 뒤 스레드가 끝난다.
+     */
+    void stop() {
+        running = false;
+    }
+
+    void await(long timeoutMillis) throws InterruptedException {
+        thread.join(timeoutMillis);
+    }
+
+    private void run() {
+        List<BookingCommand> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            BookingCommand first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            evict();
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            try {
+                process(batch);
+            } catch (RuntimeException e) {
+                log.error("booking batch failed", e);
+                batch.forEach(command -> fail(command, e));
+            }
+            batch.clear();
+            evict();
+        }
+        // 종료를 확인하는 사이에 들어온 명령
+        queue.forEach(command -> command.result().completeExceptionally(new CustomException(ErrorCode.ERROR_BE1011)));
+    }
+
+    private void process(List<BookingCommand> batch) {
+        List<BookingCommand> applied = new ArrayList<>(batch.size());
+        Set<Long> dirtyRooms = new HashSet<>();
+        for (BookingCommand command : batch) {
+            // timeout 으로 호출자가 포기한 명령
+            if (!command.take()) {
+                continue;
+            }
+            try {
+                if (apply(command, dirtyRooms)) {
+                    applied.add(command);
+                } else {
+                    command.result().completeExceptionally(new CustomException(ErrorCode.ERROR_BE1006));
+                }
+            } catch (RuntimeException e) {
+                ledgers.remove(command.roomId());
+                fail(command, e);
+            }
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+        batchSizes.accept(applied.size());
+
+        List<Long> ids;
+        try {
+            ids = store.commit(applied);
+        } catch (RuntimeException e) {
+            log.info("booking group commit of {} commands failed, committing one by one: {}", applied.size(), e.toString());
+            fallbacks.run();
+            dirtyRooms.forEach(ledgers::remove);
+            commitEach(applied);
+            return;
+        }
+        for (int i = 0; i < applied.size(); i++) {
+            applied.get(i).result().complete(ids.get(i));
+        }
+    }
+
+    /**
+     * ledger 에 명령을 적용한다. 예약할 재고가 없으면 false 를 반환한다.
+     * 재고가 부족해 보여도 ledger 를 읽은 지 recheckNanos 가 지났고 이번 묶음에서 바꾸지 않았다면 DB 에서 다시 읽어 확인한다.
+     * (다른 인스턴스의 취소, api-admin 의 재고 추가)
+     */
+    private boolean apply(BookingCommand command, Set<Long> dirtyRooms) {
+        RoomLedger ledger = ledgers.computeIfAbsent(command.roomId(), id -> new RoomLedger());
+        ledger.usedAt = System.nanoTime();
+        ledgerRooms = ledgers.size();
+        if (!ledger.covers(command)) {
+            ledger.merge(store.load(command.roomId(), command.checkIn(), command.checkOut()), false);
+        }
+        if (!ledger.canApply(command)) {
+            if (dirtyRooms.contains(command.roomId()) || System.nanoTime() - ledger.loadedAt < recheckNanos) {
+                return false;
+            }
+            ledger.merge(store.load(command.roomId(), command.checkIn(), command.checkOut()), true);
+            if (!ledger.canApply(command)) {
+                return false;
+            }
+        }
+        ledger.apply(command);
+        dirtyRooms.add(command.roomId());
+        return true;
+    }
+
+    /**
+     * 묶음 사이에서만 호출하므로 저장 전인 변경을 가진 ledger 를 버리는 일은 없다.
+     */
+    private void evict() {
+        while (ledgers.size() > maxLedgerRooms) {
+            Iterator<RoomLedger> eldest = ledgers.values().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+        long now = System.nanoTime();
+        if (now - sweptAt >= SWEEP_INTERVAL_NANOS) {
+            sweptAt = now;
+            LocalDate today = LocalDate.now();
+            Iterator<RoomLedger> iterator = ledgers.values().iterator();
+            while (iterator.hasNext()) {
+                RoomLedger ledger = iterator.next();
+                if (now - ledger.usedAt >= ledgerIdleNanos || ledger.evictBefore(today)) {
+                    iterator.remove();
+                }
+            }
+        }
+        ledgerRooms = ledgers.size();
+    }
+
+    private void commitEach(List<BookingCommand> commands) {
+        for (BookingCommand command : commands) {
+            try {
+                command.result().complete(store.commitOne(command));
+            } catch (RuntimeException e) {
+                fail(command, e);
+            }
+        }
+    }
+
+    private static void fail(BookingCommand command, RuntimeException e) {
+        command.result().completeExceptionally(e);
+    }
+
+    /**
+     * 객실 하나의 숙박일별 재고
+     */
+    private static final class RoomLedger {
+
+        private final Map<LocalDate, Night> nights = new HashMap<>();
+        private long loadedAt = System.nanoTime();
+        private long usedAt = loadedAt;
+
+        boolean covers(BookingCommand command) {
+            for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                if (!nights.containsKey(night)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 예약은 모든 숙박일에 quantity 이상 남아 있어야 한다. 취소는 DB 가드(total 이하)에 맡기고 날짜만 확인한다.
+         */
+        boolean canApply(BookingCommand command) {
+            for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                Night current = nights.get(night);
+                if (current == null || current.available + command.delta() < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void apply(BookingCommand command) {
+            for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                Night current = nights.get(night);
+                current.available = Math.min(current.total, current.available + command.delta());
+            }
+        }
+
+        /**
+         * today 이전의 숙박일을 버린다. 남은 숙박일이 없으면 true 를 반환한다.
+         */
+        boolean evictBefore(LocalDate today) {
+            nights.keySet().removeIf(night -> night.isBefore(today));
+            return nights.isEmpty();
+        }
+
+        /**
+         * overwrite 가 false 면 이미 있는 날짜는 그대로 둔다. (저장 전인 변경이 있을 수 있다)
+         */
+        void merge(Map<LocalDate, Inventory> loaded, boolean overwrite) {
+            loaded.forEach((night, inventory) -> {
+                if (overwrite || !nights.containsKey(night)) {
+                    nights.put(night, new Night(inventory.total(), inventory.available()));
+                }
+            });
+            if (overwrite) {
+                loadedAt = System.nanoTime();
+            }
+        }
+    }
+
+    private static final class Night {
+
+        private final int total;
+        private int available;
+
+        Night(int total, int available) {
+            this.total = total;
+            this.available = available;
+        }
+    }
+}
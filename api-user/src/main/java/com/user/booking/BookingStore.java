@@ -0,0 +1,47 @@
+package com.user.booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BookingEngine 이 재고를 읽고 명령을 저장하는 곳. (JpaBookingStore)
+ * 모든 읽기는 primary 에서 해야 한다. replica 의 늦은 재고를 메모리에 올리면 초과 예약을 DB 가드에만 맡기게 된다.
+ */
+public interface BookingStore {
+
+    /**
+     * [from, to) 의 숙박일별 재고. 재고 행이 없는 날짜는 포함하지 않는다.
+     */
+    Map<LocalDate, Inventory> load(long roomId, LocalDate from, LocalDate to);
+
+    /**
+     * 사용자의 예약 중 취소할 수 있는(RESERVED) 예약을 찾는다. 없으면 BE1008, 이미 취소됐으면 BE1009 를 던진다.
+     */
+    Stay findCancelable(long userId, long reservationId);
+
+    /**
+     * 명령들을 한 트랜잭션으로 저장하고 명령 순서대로 예약 id 를 반환한다.
+     * 숙박일별 재고 변경은 (객실, 날짜)마다 합쳐 조건부 UPDATE 한 번으로 반영한다.
+     * DB 의 재고나 예약 상태가 메모리에서 적용한 결과와 맞지 않으면 ConflictException 을 던져 전체를 롤백한다.
+     */
+    List<Long> commit(List<BookingCommand> commands);
+
+    /**
+     * 명령 하나를 기존 예약/취소 경로(ReservationService)로 저장한다. commit 이 실패한 묶음을 하나씩 다시 저장할 때 사용한다.
+     */
+    long commitOne(BookingCommand command);
+
+    record Inventory(int total, int available) {
+    }
+
+    record Stay(long roomId, LocalDate checkIn, LocalDate checkOut, int quantity) {
+    }
+
+    class ConflictException extends RuntimeException {
+
+        public ConflictException(String message) {
+            super(message);
+        }
+    }
+}
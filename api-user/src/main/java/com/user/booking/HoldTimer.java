@@ -0,0 +1,130 @@
+package com.user.booking;
+
+import com.support.concurrency.TimingWheel;
+import com.support.concurrency.TimingWheel.Timeout;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실 점유(InventoryHold)의 만료 시각을 timing wheel 에 두고, 만료된 hold id 를 꺼내 준다.
+ * 등록과 취소가 O(1) 이므로 hold 가 수백만 건이어도 만료를 찾으려고 테이블을 주기적으로 조회하지 않는다.
+ * <p>
+ * wheel 은 메모리에만 있어 이 인스턴스(owner, Snowflake worker id)가 만든 hold 만 담는다. 재시작하면 HoldExpirationScheduler 가
+ * 같은 owner 의 HELD 행으로 다시 채우고, 다시 시작하지 않는 인스턴스의 hold 는 만료 후 유예 시간이 지난 행만 읽어 돌려준다.
+ * 같은 hold 를 다시 등록하면 이전 등록을 취소한다.
+ */
+@Component
+public class HoldTimer {
+
+    private final int owner;
+    private final Clock clock;
+    private final TimingWheel<Long> wheel;
+    private final Map<Long, Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HoldTimer(@Value("${booking.hold.tick:PT1S}") Duration tick,
+                     @Value("${spring.jpa.properties.hibernate.id.snowflake.worker_id}") int owner,
+                     MeterRegistry meterRegistry) {
+        this(tick, owner, Clock.systemDefaultZone());
+        Gauge.builder("inventory.hold.pending", this, HoldTimer::pending)
+                .description("만료를 기다리는 객실 점유 수")
+                .register(meterRegistry);
+    }
+
+    public HoldTimer(Duration tick, int owner, Clock clock) {
+        this.owner = owner;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tick, 4, clock.millis());
+    }
+
+    public void schedule(Long holdId, LocalDateTime expiresAt) {
+        schedule(holdId, expiresAt.atZone(clock.getZone()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * 돌려주지 못한 hold 를 다음 pollExpired 에서 다시 꺼내도록 현재 시각으로 등록한다.
+     */
+    public void retry(Collection<Long> holdIds) {
+        long now = clock.millis();
+        holdIds.forEach(holdId -> schedule(holdId, now));
+    }
+
+    /**
+     * hold 를 만든 트랜잭션이 커밋된 뒤에 등록한다. 롤백되면 등록하지 않는다.
+     */
+    public void scheduleAfterCommit(Long holdId, LocalDateTime expiresAt) {
+        afterCommit(() -> schedule(holdId, expiresAt));
+    }
+
+    /**
+     * 확정/취소한 트랜잭션이 커밋된 뒤에 만료 대상에서 뺀다. 롤백되면 그대로 둔다.
+     */
+    public void cancelAfterCommit(Long holdId) {
+        afterCommit(() -> cancel(holdId));
+    }
+
+    public void cancel(Long holdId) {
+        Timeout<Long> timeout = timeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * 현재 시각까지 만료된 hold id 를 만료 순서로 꺼낸다.
+     */
+    public List<Long> pollExpired() {
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(clock.millis(), expired::add);
+        // 꺼낸 뒤에 다시 등록된 hold 는 남긴다
+        expired.forEach(holdId -> timeouts.computeIfPresent(holdId, (id, timeout) -> timeout.isPending() ? timeout : null));
+        return expired;
+    }
+
+    private void schedule(Long holdId, long deadlineMillis) {
+        timeouts.compute(holdId, (id, previous) -> {
+            if (previous != null) {
+                previous.cancel();
+            }
+            return wheel.schedule(id, deadlineMillis);
+        });
+    }
+
+    /**
+     * 이 wheel 이 만료를 맡는 hold 의 ownerWorkerId
+     */
+    public int owner() {
+        return owner;
+    }
+
+    public int pending() {
+        return wheel.size();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
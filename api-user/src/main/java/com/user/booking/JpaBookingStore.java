@@ -0,0 +1,132 @@
+package com.user.booking;
+
+import com.storage.entity.Reservation;
+import com.storage.entity.RoomInventory;
+import com.storage.repository.ReservationRepository;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import com.storage.repository.UserRepository;
+import com.user.booking.BookingCommand.Cancel;
+import com.user.booking.BookingCommand.Reserve;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.service.ReservationService;
+import com.user.utils.enums.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 읽기도 쓰기 트랜잭션(@Transactional)으로 실행해 replica 가 아닌 primary 에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.engine.enabled", havingValue = "true")
+public class JpaBookingStore implements BookingStore {
+
+    private final RoomInventoryRepository roomInventoryRepository;
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final ReservationService reservationService;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @Override
+    @Transactional
+    public Map<LocalDate, Inventory> load(long roomId, LocalDate from, LocalDate to) {
+        Map<LocalDate, Inventory> nights = new HashMap<>();
+        for (RoomInventory inventory : roomInventoryRepository.findByRoomIdAndStayDateRange(roomId, from, to)) {
+            nights.put(inventory.getStayDate(), new Inventory(inventory.getTotal(), inventory.getAvailable()));
+        }
+        return nights;
+    }
+
+    @Override
+    @Transactional
+    public Stay findCancelable(long userId, long reservationId) {
+        Reservation reservation = reservationRepository.findByReservationIdAndUserUserId(reservationId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1008));
+        if (!ReservationStatus.RESERVED.name().equals(reservation.getStatus())) {
+            throw new CustomException(ErrorCode.ERROR_BE1009);
+        }
+        return new Stay(reservation.getRoom().getRoomId(), reservation.getCheckIn(), reservation.getCheckOut(),
+                reservation.getQuantity());
+    }
+
+    /**
+     * 재고 UPDATE 를 (객실, 날짜) 순으로 먼저 실행해, 같은 행을 갱신하는 다른 트랜잭션과 항상 같은 순서로 잠근다.
+     * 예약 INSERT 는 마지막에 batch 로 전송된다.
+     */
+    @Override
+    @Transactional
+    public List<Long> commit(List<BookingCommand> commands) {
+        Map<Long, TreeMap<LocalDate, Integer>> deltas = new TreeMap<>();
+        for (BookingCommand command : commands) {
+            TreeMap<LocalDate, Integer> nights = deltas.computeIfAbsent(command.roomId(), id -> new TreeMap<>());
+            for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                nights.merge(night, command.delta(), Integer::sum);
+            }
+        }
+        deltas.forEach((roomId, nights) -> nights.forEach((night, delta) -> {
+            int updated = delta < 0
+                    ? roomInventoryRepository.decreaseAvailable(roomId, night, night.plusDays(1), -delta)
+                    : delta > 0 ? roomInventoryRepository.increaseAvailable(roomId, night, night.plusDays(1), delta) : 1;
+            if (updated != 1) {
+                throw new ConflictException("inventory of room " + roomId + " on " + night + " does not match");
+            }
+        }));
+
+        List<Reservation> reservations = new ArrayList<>();
+        for (BookingCommand command : commands) {
+            switch (command) {
+                case Reserve reserve -> reservations.add(Reservation.builder()
+                        .user(userRepository.getReferenceById(reserve.userId()))
+                        .room(roomRepository.getReferenceById(reserve.roomId()))
+                        .checkIn(reserve.checkIn())
+                        .checkOut(reserve.checkOut())
+                        .quantity(reserve.quantity())
+                        .status(ReservationStatus.RESERVED.name())
+                        .build());
+                case Cancel cancel -> {
+                    int changed = reservationRepository.updateStatus(cancel.reservationId(),
+                            ReservationStatus.RESERVED.name(), ReservationStatus.CANCELED.name());
+                    if (changed != 1) {
+                        throw new ConflictException("reservation " + cancel.reservationId() + " is not reserved");
+                    }
+                }
+            }
+        }
+        reservationRepository.saveAll(reservations);
+
+        List<Long> ids = new ArrayList<>(commands.size());
+        int reserved = 0;
+        for (BookingCommand command : commands) {
+            ids.add(command instanceof Cancel cancel ? cancel.reservationId() : reservations.get(reserved++).getReservationId());
+        }
+        deltas.forEach((roomId, nights) -> roomAvailabilityIndex.applyAfterCommit(
+                roomInventoryRepository.findAvailability(roomId, nights.firstKey(), nights.lastKey().plusDays(1))));
+        return ids;
+    }
+
+    @Override
+    public long commitOne(BookingCommand command) {
+        return switch (command) {
+            case Reserve reserve -> reservationService.reserve(reserve.userId(),
+                    new ReserveReq(reserve.roomId(), reserve.checkIn(), reserve.checkOut(), reserve.quantity())).getReservationId();
+            case Cancel cancel -> {
+                reservationService.cancel(cancel.userId(), cancel.reservationId());
+                yield cancel.reservationId();
+            }
+        };
+    }
+}
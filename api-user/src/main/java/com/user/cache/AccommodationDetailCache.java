@@ -0,0 +1,190 @@
+package com.user.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.support.concurrency.SingleFlight;
+import com.support.concurrency.SingleFlight.LoadTimeoutException;
+import com.user.dto.response.AccommodationResponseDto.AccommodationDetailRes;
+import com.user.event.AccommodationChangedEvent;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 숙소 상세 응답(객실 포함)을 JSON(UTF-8)으로 직렬화한 바이트와 ETag 를 숙소 id 기준으로 캐시한다.
+ * 같은 숙소를 요청할 때마다 Jackson 으로 다시 직렬화하지 않고, gzipMinSize 이상이면 gzip 으로 압축한 바이트도 함께 둔다.
+ * <p>
+ * api-admin 의 변경은 숙소 변경 이벤트(AccommodationChangedEvent)로 제거한다.
+ * 제거 직후 복제가 늦은 replica 에서 옛 값을 읽어 다시 캐시할 수 있으므로 ttl 이 지나면 다시 만든다.
+ * <p>
+ * 캐시에 없는 숙소는 SingleFlight 로 읽으므로 같은 숙소를 동시에 요청해도 DB 는 한 번만 조회한다.
+ * 기다리는 요청은 loadTimeout 이 지나면 503(BE1011)으로 실패한다.
+ * hit/miss/eviction 은 cache.* 메트릭(cache=accommodationDetail)으로, 묶인 요청 수는
+ * singleflight.loads{name=accommodationDetail, result=loaded|coalesced|timeout} 으로 노출된다.
+ */
+@Component
+public class AccommodationDetailCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int gzipMinSize;
+    private final Cache<Long, Payload> cache;
+    private final SingleFlight<Long, Payload> singleFlight;
+
+    /**
+     * 변경 이벤트를 받은 횟수. 읽기 시작한 뒤 바뀌면 읽은 값을 캐시하지 않는다.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public AccommodationDetailCache(ObjectMapper objectMapper,
+                                    @Value("${accommodation.detail-cache.enabled:true}") boolean enabled,
+                                    @Value("${accommodation.detail-cache.max-size:10000}") long maxSize,
+                                    @Value("${accommodation.detail-cache.ttl:10m}") Duration ttl,
+                                    @Value("${accommodation.detail-cache.gzip-min-size:1024}") int gzipMinSize,
+                                    @Value("${accommodation.detail-cache.load-timeout:3s}") Duration loadTimeout,
+                                    MeterRegistry meterRegistry) {
+        this(objectMapper, enabled, maxSize, ttl, gzipMinSize, loadTimeout, Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accommodationDetail");
+        loadCounter(meterRegistry, "loaded", SingleFlight::loadCount);
+        loadCounter(meterRegistry, "coalesced", SingleFlight::coalescedCount);
+        loadCounter(meterRegistry, "timeout", SingleFlight::timeoutCount);
+        Gauge.builder("singleflight.in.flight", singleFlight, SingleFlight::inFlight)
+                .description("실행 중인 load 수")
+                .tag("name", "accommodationDetail")
+                .register(meterRegistry);
+    }
+
+    public AccommodationDetailCache(ObjectMapper objectMapper, boolean enabled, long maxSize, Duration ttl,
+                                    int gzipMinSize, Duration loadTimeout, Ticker ticker) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzipMinSize = gzipMinSize;
+        this.singleFlight = new SingleFlight<>(loadTimeout);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 읽어 직렬화한다. loader 가 던진 예외(없는 숙소 등)는 캐시하지 않고,
+     * 같은 숙소를 기다리던 요청에도 그대로 던진다.
+     */
+    public Payload get(Long accommodationId, Function<Long, AccommodationDetailRes> loader) {
+        if (enabled) {
+            Payload cached = cache.getIfPresent(accommodationId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        try {
+            return singleFlight.load(accommodationId, id -> enabled ? loadAndCache(id, loader) : encode(loader.apply(id)));
+        } catch (LoadTimeoutException e) {
+            throw new CustomException(ErrorCode.ERROR_BE1011);
+        }
+    }
+
+    public void evict(Long accommodationId) {
+        invalidate(Set.of(accommodationId));
+    }
+
+    @EventListener
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        invalidate(event.accommodationIds());
+    }
+
+    private void invalidate(Set<Long> accommodationIds) {
+        invalidations.incrementAndGet();
+        accommodationIds.forEach(singleFlight::forget);
+        cache.invalidateAll(accommodationIds);
+    }
+
+    /**
+     * 읽는 중에 변경 이벤트를 받았으면 바뀌기 전의 값일 수 있으므로 반환만 하고 캐시하지 않는다.
+     * 확인과 저장을 compute 안에서 하므로, 저장한 뒤에 받은 이벤트는 저장한 값을 제거한다.
+     */
+    private Payload loadAndCache(Long accommodationId, Function<Long, AccommodationDetailRes> loader) {
+        long generation = invalidations.get();
+        Payload payload = encode(loader.apply(accommodationId));
+        cache.asMap().compute(accommodationId, (id, current) -> invalidations.get() == generation ? payload : current);
+        return payload;
+    }
+
+    private void loadCounter(MeterRegistry meterRegistry, String result, ToDoubleFunction<SingleFlight<Long, Payload>> count) {
+        FunctionCounter.builder("singleflight.loads", singleFlight, count)
+                .description("숙소 상세를 읽은 횟수(loaded)와 진행 중인 읽기를 기다린 요청 수(coalesced, timeout)")
+                .tag("name", "accommodationDetail")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private Payload encode(AccommodationDetailRes detail) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(detail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize accommodation " + detail.getAccommodationId(), e);
+        }
+        return new Payload(etag(json), json, json.length >= gzipMinSize ? gzip(json) : null);
+    }
+
+    /**
+     * 내용의 해시로 만들므로 인스턴스가 달라도 같은 내용이면 같은 ETag 가 된다.
+     * gzip 여부와 관계없이 같은 값을 쓰므로 weak ETag 로 표시한다.
+     */
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * gzip 은 json 이 gzipMinSize 보다 작으면 null 이다. 반환된 배열은 공유되므로 수정하면 안 된다.
+     */
+    public record Payload(String etag, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.user.config;
+
+import com.storage.routing.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * route 별 커넥션 풀 지표(hikaricp.connections.*{pool=primary|replica-N})와 route 선택 횟수를 노출한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "storage.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingMetricsConfig {
+
+    @Bean
+    public MetricsTrackerFactory hikariMetricsTrackerFactory(MeterRegistry meterRegistry) {
+        return new MicrometerMetricsTrackerFactory(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder routeSelectionMetrics(ReadWriteRoutingDataSource routingDataSource) {
+        return registry -> routingDataSource.getPools().keySet().forEach(route ->
+                FunctionCounter.builder("datasource.route.selections", routingDataSource, ds -> ds.getSelectionCount(route))
+                        .description("Connections obtained per datasource route")
+                        .tag("route", route)
+                        .register(registry));
+    }
+}
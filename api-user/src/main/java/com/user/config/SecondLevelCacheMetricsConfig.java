@@ -0,0 +1,29 @@
+package com.user.config;
+
+import com.storage.cache.SecondLevelCacheConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 2차 캐시 region 별 지표. cache.gets{result=hit|miss}, cache.evictions, cache.size 와 적중률(cache.hit.ratio)을 노출한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "storage.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheMetricsConfig {
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> SecondLevelCacheConfig.caches(entityManagerFactory).forEach((region, cache) -> {
+            CaffeineCacheMetrics.monitor(registry, cache, region);
+            Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                    .description("Second-level cache hit ratio")
+                    .tag("cache", region)
+                    .register(registry);
+        });
+    }
+}
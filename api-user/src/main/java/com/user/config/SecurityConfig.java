@@ -1,11 +1,16 @@
 package com.user.config;
 
-import com.user.security.CustomUserDetailService;
+import com.storage.routing.ReadYourWrites;
+import com.user.security.TokenRevocationList;
 import com.user.security.filter.JwtFilter;
+import com.user.security.filter.ReadYourWritesFilter;
 import com.user.utils.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -21,11 +26,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailService customUserDetailService;
+    private final TokenRevocationList tokenRevocationList;
+    // DB 라우팅(storage.datasource.routing.enabled)을 켠 경우에만 있다.
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
 
+    /**
+     * cost 를 올리면 기존 해시는 다음 로그인 성공 시 새 cost 로 다시 저장된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -37,10 +47,12 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests((auth) -> auth
                         .requestMatchers("/", "/auth/signUp", "/auth/signIn", "/auth/reissueToken").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/accommodations/**").permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement((session) -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(new JwtFilter(jwtTokenProvider, customUserDetailService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtTokenProvider, tokenRevocationList), UsernamePasswordAuthenticationFilter.class);
+        readYourWrites.ifAvailable(ryw -> http.addFilterAfter(new ReadYourWritesFilter(ryw), JwtFilter.class));
 
 
         return http.build();
@@ -1,11 +1,14 @@
 package com.user.config;
 
+import com.storage.cache.SecondLevelCacheConfig;
+import com.storage.repository.JpaRepositoryConfig;
+import com.storage.routing.RoutingDataSourceConfig;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,9 +16,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.util.Optional;
 
 @Configuration
-@EnableJpaRepositories(basePackages = "com.storage.repository")
 @EntityScan(basePackages = "com.storage.entity")
 @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
+@Import({JpaRepositoryConfig.class, RoutingDataSourceConfig.class, SecondLevelCacheConfig.class})
 public class StorageConfig {
 
     @Bean
@@ -0,0 +1,73 @@
+package com.user.controller;
+
+import com.user.cache.AccommodationDetailCache;
+import com.user.cache.AccommodationDetailCache.Payload;
+import com.user.dto.request.AccommodationRequestDto.ListReq;
+import com.user.dto.request.AccommodationRequestDto.NearbyReq;
+import com.user.dto.request.AccommodationRequestDto.SearchReq;
+import com.user.dto.response.AccommodationResponseDto.ListPageRes;
+import com.user.dto.response.AccommodationResponseDto.NearbyPageRes;
+import com.user.dto.response.AccommodationResponseDto.SearchPageRes;
+import com.user.service.AccommodationSearchService;
+import com.user.service.AccommodationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/accommodations")
+public class AccommodationController {
+
+    private final AccommodationSearchService accommodationSearchService;
+    private final AccommodationService accommodationService;
+    private final AccommodationDetailCache accommodationDetailCache;
+
+    @GetMapping
+    public ResponseEntity<ListPageRes> list(@Valid @ModelAttribute ListReq req) {
+        return ResponseEntity.ok(accommodationService.getAccommodations(req));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<NearbyPageRes> nearby(@Valid @ModelAttribute NearbyReq req) {
+        return ResponseEntity.ok(accommodationSearchService.findNearby(req));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchPageRes> search(@Valid @ModelAttribute SearchReq req) {
+        return ResponseEntity.ok(accommodationSearchService.search(req));
+    }
+
+    /**
+     * 캐시에 직렬화해 둔 바이트를 그대로 쓴다. If-None-Match 가 ETag 와 같으면 본문 없이 304 를 반환한다. (HttpEntityMethodProcessor)
+     */
+    @GetMapping("/{accommodationId}")
+    public ResponseEntity<byte[]> getAccommodation(@PathVariable Long accommodationId,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Payload payload = accommodationDetailCache.get(accommodationId, accommodationService::getAccommodation);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(payload.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (payload.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -1,33 +1,55 @@
 package com.user.controller;
 
 import com.user.dto.request.TokenRequestDto;
+import com.user.dto.request.UserRequestDto.PasswordChangeReq;
 import com.user.dto.request.UserRequestDto.UserRegisterReq;
 import com.user.dto.request.UserRequestDto.UserSignInReq;
 import com.user.dto.response.TokenResponseDto;
 import com.user.dto.response.UserResponseDto.SignInRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.security.CustomUserDetails;
+import com.user.security.LoginRateLimiter;
 import com.user.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.regex.Pattern;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
 public class AuthController {
 
+    // refresh token 은 기기별로 하나씩 유지한다.
+    private static final String DEVICE_ID_HEADER = "X-Device-Id";
+    private static final String DEFAULT_DEVICE_ID = "default";
+    // refresh_token.device_id 컬럼 길이(64)를 넘거나 제어 문자가 섞인 값은 저장 전에 400 으로 거절한다.
+    private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/signUp")
-    public ResponseEntity signup(@RequestBody @Valid UserRegisterReq req) {
+    public ResponseEntity signup(@RequestBody @Valid UserRegisterReq req, HttpServletRequest request) {
+        loginRateLimiter.acquire(req.getEmail(), request.getRemoteAddr());
         authService.register(req);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
     @PostMapping("/signIn")
-    public ResponseEntity<SignInRes> signIn(@RequestBody @Valid UserSignInReq req) {
-        SignInRes signInRes = authService.signIn(req);
+    public ResponseEntity<SignInRes> signIn(@RequestBody @Valid UserSignInReq req,
+                                            @RequestHeader(value = DEVICE_ID_HEADER, defaultValue = DEFAULT_DEVICE_ID) String deviceId,
+                                            HttpServletRequest request) {
+        validateDeviceId(deviceId);
+        // 트랜잭션(커넥션 획득)과 BCrypt 비교 전에 거절한다.
+        loginRateLimiter.acquire(req.getEmail(), request.getRemoteAddr());
+        SignInRes signInRes = authService.signIn(req, deviceId);
         return ResponseEntity.ok(signInRes);
     }
 
@@ -36,4 +58,25 @@ public class AuthController {
         TokenResponseDto res = authService.getAccessTokenByRefreshToken(req);
         return ResponseEntity.ok(res);
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity logout(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                 @RequestHeader(value = DEVICE_ID_HEADER, defaultValue = DEFAULT_DEVICE_ID) String deviceId) {
+        validateDeviceId(deviceId);
+        authService.logout(userDetails.getEmail(), deviceId, userDetails.getTokenClaims());
+        return ResponseEntity.ok().build();
+    }
+
+    @PatchMapping("/password")
+    public ResponseEntity changePassword(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                         @RequestBody @Valid PasswordChangeReq req) {
+        authService.changePassword(userDetails.getEmail(), req);
+        return ResponseEntity.ok().build();
+    }
+
+    private static void validateDeviceId(String deviceId) {
+        if (!DEVICE_ID_PATTERN.matcher(deviceId).matches()) {
+            throw new CustomException(ErrorCode.ERROR_BE1017);
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.user.controller;
+
+import com.user.booking.BookingEngine;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.HoldRes;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.security.CustomUserDetails;
+import com.user.service.HoldService;
+import com.user.service.ReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reservation")
+public class ReservationController {
+
+    private final ReservationService reservationService;
+    private final HoldService holdService;
+    // booking.engine.enabled=true 일 때만 있다
+    private final Optional<BookingEngine> bookingEngine;
+
+    @PostMapping
+    public ResponseEntity<ReserveRes> reserve(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                              @RequestBody @Valid ReserveReq req) {
+        ReserveRes res = bookingEngine.isPresent()
+                ? bookingEngine.get().reserve(userDetails.getUserId(), req)
+                : reservationService.reserve(userDetails.getUserId(), req);
+        return ResponseEntity.status(HttpStatus.CREATED).body(res);
+    }
+
+    @PostMapping("/{reservationId}/cancel")
+    public ResponseEntity cancel(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                 @PathVariable Long reservationId) {
+        if (bookingEngine.isPresent()) {
+            bookingEngine.get().cancel(userDetails.getUserId(), reservationId);
+        } else {
+            reservationService.cancel(userDetails.getUserId(), reservationId);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 결제하는 동안 객실 재고를 잡아 둔다. expiresAt 까지 확정하지 않으면 자동으로 돌려준다.
+     */
+    @PostMapping("/hold")
+    public ResponseEntity<HoldRes> hold(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                        @RequestBody @Valid ReserveReq req) {
+        HoldRes res = holdService.hold(userDetails.getUserId(), req);
+        return ResponseEntity.status(HttpStatus.CREATED).body(res);
+    }
+
+    @PostMapping("/hold/{holdId}/confirm")
+    public ResponseEntity<ReserveRes> confirm(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                              @PathVariable Long holdId) {
+        ReserveRes res = holdService.confirm(userDetails.getUserId(), holdId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(res);
+    }
+
+    @PostMapping("/hold/{holdId}/release")
+    public ResponseEntity release(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                  @PathVariable Long holdId) {
+        holdService.release(userDetails.getUserId(), holdId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.user.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public class AccommodationRequestDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class NearbyReq {
+        @NotNull(message = "위도를 입력하세요.")
+        @DecimalMin(value = "-90.0", message = "위도는 -90 ~ 90 사이로 입력하세요.")
+        @DecimalMax(value = "90.0", message = "위도는 -90 ~ 90 사이로 입력하세요.")
+        private Double lat;
+
+        @NotNull(message = "경도를 입력하세요.")
+        @DecimalMin(value = "-180.0", message = "경도는 -180 ~ 180 사이로 입력하세요.")
+        @DecimalMax(value = "180.0", message = "경도는 -180 ~ 180 사이로 입력하세요.")
+        private Double lng;
+
+        @NotNull(message = "검색 반경을 입력하세요.")
+        @DecimalMin(value = "0.1", message = "검색 반경은 0.1 ~ 100km 사이로 입력하세요.")
+        @DecimalMax(value = "100.0", message = "검색 반경은 0.1 ~ 100km 사이로 입력하세요.")
+        private Double radiusKm;
+
+        @Min(value = 0, message = "페이지는 0 이상이어야 합니다.")
+        private Integer page;
+
+        @Min(value = 1, message = "페이지 크기는 1 ~ 100 사이로 입력하세요.")
+        @Max(value = 100, message = "페이지 크기는 1 ~ 100 사이로 입력하세요.")
+        private Integer size;
+
+        public int getPage() {
+            return page == null ? 0 : page;
+        }
+
+        public int getSize() {
+            return size == null ? 20 : size;
+        }
+    }
+
+    /**
+     * 지역/객실 조건 검색. 비어 있는 조건은 적용하지 않는다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchReq {
+        private String countryName;
+        private String state;
+        private String city;
+        private String district;
+        private String roomType;
+        private String viewType;
+        private String bedType;
+
+        @Min(value = 1, message = "인원은 1명 이상이어야 합니다.")
+        private Integer capacity;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate checkIn;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate checkOut;
+
+        @Min(value = 0, message = "페이지는 0 이상이어야 합니다.")
+        private Integer page;
+
+        @Min(value = 1, message = "페이지 크기는 1 ~ 100 사이로 입력하세요.")
+        @Max(value = 100, message = "페이지 크기는 1 ~ 100 사이로 입력하세요.")
+        private Integer size;
+
+        public int getPage() {
+            return page == null ? 0 : page;
+        }
+
+        public int getSize() {
+            return size == null ? 20 : size;
+        }
+    }
+
+    /**
+     * 숙소 목록. cursor 는 이전 페이지 응답의 nextCursor 이고, 비어 있으면 처음부터 조회한다.
+     * includeRooms 가 true 이면 숙소마다 객실 목록을 함께 반환한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ListReq {
+        @Min(value = 0, message = "cursor 는 0 이상이어야 합니다.")
+        private Long cursor;
+
+        @Min(value = 1, message = "페이지 크기는 1 ~ 100 사이로 입력하세요.")
+        @Max(value = 100, message = "페이지 크기는 1 ~ 100 사이로 입력하세요.")
+        private Integer size;
+
+        private Boolean includeRooms;
+
+        public long getCursor() {
+            return cursor == null ? 0 : cursor;
+        }
+
+        public int getSize() {
+            return size == null ? 20 : size;
+        }
+
+        public boolean isIncludeRooms() {
+            return Boolean.TRUE.equals(includeRooms);
+        }
+    }
+}
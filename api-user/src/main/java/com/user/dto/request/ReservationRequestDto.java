@@ -0,0 +1,27 @@
+package com.user.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+public class ReservationRequestDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReserveReq {
+        @NotNull(message = "객실을 선택하세요.")
+        private Long roomId;
+
+        @NotNull(message = "체크인 날짜를 입력하세요.")
+        private LocalDate checkIn;
+
+        @NotNull(message = "체크아웃 날짜를 입력하세요.")
+        private LocalDate checkOut;
+
+        @Min(value = 1, message = "객실은 1개 이상 예약해야 합니다.")
+        private int quantity;
+    }
+}
@@ -35,4 +35,15 @@ public class UserRequestDto {
         @Pattern(regexp = "(?=.*[0-9])(?=.*[A-Za-z])(?=.*\\W)(?=\\S+$).{8,16}", message = "8 ~ 16자로 입력하세요.")
         private String password;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PasswordChangeReq {
+        @NotBlank
+        private String currentPassword;
+
+        @NotBlank
+        @Pattern(regexp = "(?=.*[0-9])(?=.*[A-Za-z])(?=.*\\W)(?=\\S+$).{8,16}", message = "8 ~ 16자로 생성하세요. 대소문자, 특수문자, 숫자를 포함하여야 합니다.")
+        private String newPassword;
+    }
 }
@@ -0,0 +1,126 @@
+package com.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class AccommodationResponseDto {
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class NearbyRes {
+        Long accommodationId;
+        String name;
+        String city;
+        String district;
+        double latitude;
+        double longitude;
+        double distanceKm;
+    }
+
+    /**
+     * 전체 건수를 세지 않고 다음 페이지 존재 여부만 반환한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class NearbyPageRes {
+        List<NearbyRes> content;
+        int page;
+        int size;
+        boolean hasNext;
+    }
+
+    /**
+     * lowestPrice 는 조건에 맞는 객실의 1박 최저가, totalPrice 는 숙박 기간을 입력한 경우 그 가격의 숙박 기간 합계다.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class SearchRes {
+        Long accommodationId;
+        String name;
+        String countryName;
+        String state;
+        String city;
+        String district;
+        BigDecimal lowestPrice;
+        BigDecimal totalPrice;
+    }
+
+    /**
+     * 검색 색인의 BitSet 교집합 크기로 전체 건수를 바로 구할 수 있어 totalCount 를 함께 반환한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class SearchPageRes {
+        List<SearchRes> content;
+        int page;
+        int size;
+        long totalCount;
+        boolean hasNext;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class AccommodationDetailRes {
+        Long accommodationId;
+        String name;
+        String info;
+        String countryName;
+        String state;
+        String city;
+        String district;
+        String street;
+        String postalCode;
+        double latitude;
+        double longitude;
+        List<RoomRes> rooms;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class RoomRes {
+        Long roomId;
+        String roomType;
+        String viewType;
+        String bedType;
+        double squareMeter;
+        int capacity;
+        BigDecimal price;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ListRes {
+        Long accommodationId;
+        String name;
+        String countryName;
+        String state;
+        String city;
+        String district;
+        BigDecimal minPrice;
+        List<RoomRes> rooms;
+    }
+
+    /**
+     * 다음 페이지는 nextCursor 를 cursor 로 넘겨 조회한다. 마지막 페이지면 nextCursor 가 null 이다.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ListPageRes {
+        List<ListRes> content;
+        int size;
+        Long nextCursor;
+        boolean hasNext;
+    }
+}
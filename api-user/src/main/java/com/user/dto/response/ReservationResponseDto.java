@@ -0,0 +1,25 @@
+package com.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+public class ReservationResponseDto {
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class ReserveRes {
+        Long reservationId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class HoldRes {
+        Long holdId;
+        LocalDateTime expiresAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.user.event;
+
+import com.storage.entity.AccommodationOutbox.EventType;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * accommodation_outbox 에서 읽은 숙소 변경 이벤트 묶음. AccommodationOutboxRelay 가 created_at 순으로 발행한다.
+ * 이벤트는 "이 숙소가 바뀌었다" 는 알림이므로 구독자는 필요한 상태를 DB 에서 다시 읽는다.
+ * 같은 이벤트가 다시 전달될 수 있으므로(at-least-once) 구독자는 여러 번 처리해도 결과가 같아야 한다.
+ */
+public record AccommodationChangedEvent(List<Change> changes) {
+
+    public record Change(long outboxId, long accommodationId, EventType eventType) {
+    }
+
+    /**
+     * 바뀐 숙소 id 를 처음 나온 순서대로 반환한다.
+     */
+    public Set<Long> accommodationIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Change change : changes) {
+            ids.add(change.accommodationId());
+        }
+        return ids;
+    }
+}
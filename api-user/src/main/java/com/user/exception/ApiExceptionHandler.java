@@ -1,5 +1,6 @@
 package com.user.exception;
 
+import com.support.concurrency.JdbcPoolConcurrencyFilter.LimitExceededException;
 import com.user.exception.response.ErrorResponse;
 import com.user.exception.type.ErrorCode;
 import org.springframework.http.HttpStatus;
@@ -18,7 +19,13 @@ public class ApiExceptionHandler {
         ErrorCode errorCode = ex.getErrorCode();
         ErrorResponse error = new ErrorResponse(errorCode.getCode(), errorCode.getMessage());
         error.setCode(errorCode.getCode());
-        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(error, errorCode.getStatus());
+    }
+
+    // 가상 스레드 모드의 동시 요청 제한(JdbcPoolConcurrencyFilter)에 걸린 요청
+    @ExceptionHandler(LimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleLimitExceeded(LimitExceededException ex) {
+        return handleCustomException(new CustomException(ErrorCode.ERROR_BE1011));
     }
 
     /**
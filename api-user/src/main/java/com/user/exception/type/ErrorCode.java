@@ -1,10 +1,23 @@
 package com.user.exception.type;
 
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
 public enum ErrorCode {
 
+    ERROR_BE1017("BE1017", "기기 식별자가 올바르지 않습니다."),
+    ERROR_BE1016("BE1016", "만료되었거나 이미 처리된 객실 점유입니다."),
+    ERROR_BE1015("BE1015", "객실 점유를 찾을 수 없습니다."),
+    ERROR_BE1014("BE1014", "숙소를 찾을 수 없습니다."),
+    ERROR_BE1013("BE1013", "검색 가능한 숙박 기간이 아닙니다."),
+    ERROR_BE1012("BE1012", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    ERROR_BE1011("BE1011", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    ERROR_BE1010("BE1010", "현재 비밀번호가 일치하지 않습니다."),
+    ERROR_BE1009("BE1009", "이미 취소된 예약입니다."),
+    ERROR_BE1008("BE1008", "예약을 찾을 수 없습니다."),
+    ERROR_BE1007("BE1007", "숙박 기간이 올바르지 않습니다."),
+    ERROR_BE1006("BE1006", "예약 가능한 객실이 없습니다."),
     ERROR_BE1005("BE1005", "유효하지 않은 토큰입니다."),
     ERROR_BE1004("BE1004", "사용자를 찾을 수 없습니다."),
     ERROR_BE1003("BE1003", "로그인 실패, 이메일이나 비밀번호를 확인해주세요."),
@@ -14,9 +27,15 @@ public enum ErrorCode {
 
     private final String code;
     private final String message;
+    private final HttpStatus status;
 
     ErrorCode(String code, String message) {
+        this(code, message, HttpStatus.BAD_REQUEST);
+    }
+
+    ErrorCode(String code, String message, HttpStatus status) {
         this.code = code;
         this.message = message;
+        this.status = status;
     }
 }
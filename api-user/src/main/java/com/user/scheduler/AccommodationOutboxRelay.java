@@ -0,0 +1,143 @@
+package com.user.scheduler;
+
+import com.storage.entity.AccommodationOutbox;
+import com.storage.repository.AccommodationOutboxRepository;
+import com.user.event.AccommodationChangedEvent;
+import com.user.event.AccommodationChangedEvent.Change;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * accommodation_outbox 를 batchSize 건씩 읽어 이 인스턴스의 구독자(@EventListener)에게 AccommodationChangedEvent 로 전달한다.
+ * <p>
+ * 검색 색인, 2차 캐시는 인스턴스마다 따로 있으므로 모든 인스턴스가 모든 이벤트를 받아야 한다.
+ * 그래서 전달 여부(delivered_at)가 아니라 인스턴스마다 created_at 위치를 기억해 읽고, 늦게 커밋된 이벤트를 놓치지 않도록
+ * syncLag 만큼 겹쳐 읽는다. 겹친 구간에서 이미 전달한 이벤트는 건너뛴다.
+ * delivered_at 은 처음 전달한 시각으로 일괄 기록하며, 미전달 이벤트 수 확인과 보관 기간이 지난 이벤트 삭제에 사용한다.
+ * <p>
+ * 구독자가 예외를 던지면 위치를 옮기지 않고 다음 주기에 그 묶음부터 다시 전달한다(at-least-once).
+ * 구독자는 모두 메모리 상태만 가지고 시작 시 전체를 다시 읽으므로, relay 도 시작 시점 이후의 이벤트부터 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class AccommodationOutboxRelay {
+
+    private final AccommodationOutboxRepository accommodationOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration syncLag;
+    private final Duration retention;
+    private final Clock clock;
+    private final Counter deliveredCounter;
+
+    /**
+     * 겹쳐 읽는 구간에서 이미 전달한 이벤트. outboxId -> createdAt
+     */
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Autowired
+    public AccommodationOutboxRelay(AccommodationOutboxRepository accommodationOutboxRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${outbox.relay.batch-size:500}") int batchSize,
+                                    @Value("${outbox.relay.sync-lag:PT30S}") Duration syncLag,
+                                    @Value("${outbox.relay.retention:P1D}") Duration retention) {
+        this(accommodationOutboxRepository, eventPublisher, meterRegistry, batchSize, syncLag, retention,
+                Clock.systemDefaultZone());
+    }
+
+    public AccommodationOutboxRelay(AccommodationOutboxRepository accommodationOutboxRepository,
+                                    ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                                    int batchSize, Duration syncLag, Duration retention, Clock clock) {
+        this.accommodationOutboxRepository = accommodationOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.syncLag = syncLag;
+        this.retention = retention;
+        this.clock = clock;
+        this.lastSyncedAt = LocalDateTime.now(clock);
+        this.deliveredCounter = Counter.builder("outbox.accommodation.delivered")
+                .description("구독자에게 전달한 숙소 변경 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.accommodation.undelivered", accommodationOutboxRepository,
+                        AccommodationOutboxRepository::countUndelivered)
+                .description("아직 어느 인스턴스에도 전달되지 않은 숙소 변경 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${outbox.relay.interval:PT1S}", fixedDelayString = "${outbox.relay.interval:PT1S}")
+    public void relay() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime since = lastSyncedAt.minus(syncLag);
+        delivered.values().removeIf(createdAt -> !createdAt.isAfter(since));
+
+        // afterId 를 최대값으로 두면 createdAt 이 since 보다 큰 이벤트부터 읽는다.
+        LocalDateTime afterAt = since;
+        long afterId = Long.MAX_VALUE;
+        List<AccommodationOutbox> batch;
+        do {
+            batch = accommodationOutboxRepository.findAfter(afterAt, afterId, PageRequest.ofSize(batchSize));
+            List<AccommodationOutbox> undelivered = batch.stream()
+                    .filter(event -> !delivered.containsKey(event.getOutboxId()))
+                    .toList();
+            if (!undelivered.isEmpty()) {
+                deliver(undelivered);
+            }
+            if (!batch.isEmpty()) {
+                AccommodationOutbox last = batch.get(batch.size() - 1);
+                afterAt = last.getCreatedAt();
+                afterId = last.getOutboxId();
+            }
+        } while (batch.size() == batchSize);
+        lastSyncedAt = startedAt;
+    }
+
+    /**
+     * 전달된 이벤트 중 보관 기간이 지난 것을 batchSize 건씩 삭제한다.
+     * 보관 기간은 가장 늦은 인스턴스가 읽는 위치(syncLag + 주기)보다 충분히 길어야 한다.
+     */
+    @Scheduled(cron = "${outbox.relay.purge-cron:0 30 * * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = accommodationOutboxRepository.deleteDeliveredBefore(before, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("delivered accommodation outbox events purged: {}", total);
+        }
+    }
+
+    private void deliver(List<AccommodationOutbox> events) {
+        List<Change> changes = events.stream()
+                .map(event -> new Change(event.getOutboxId(), event.getAccommodationId(), event.getEventType()))
+                .toList();
+        eventPublisher.publishEvent(new AccommodationChangedEvent(changes));
+
+        List<Long> ids = changes.stream().map(Change::outboxId).toList();
+        accommodationOutboxRepository.markDelivered(ids, LocalDateTime.now(clock));
+        events.forEach(event -> delivered.put(event.getOutboxId(), event.getCreatedAt()));
+        deliveredCounter.increment(events.size());
+    }
+}
@@ -0,0 +1,155 @@
+package com.user.scheduler;
+
+import com.storage.repository.InventoryHoldRepository;
+import com.storage.repository.InventoryHoldRepository.PendingHold;
+import com.user.booking.HoldTimer;
+import com.user.service.HoldService;
+import com.user.utils.enums.HoldStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * HoldTimer 에서 만료된 객실 점유를 꺼내 batchSize 건씩 나눠 재고를 돌려준다.
+ * 청크마다 별도의 트랜잭션으로 커밋하며, 실패한 청크는 다음 tick 에 다시 시도한다.
+ * <p>
+ * HoldTimer 는 이 인스턴스가 만든 점유만 안다. 시작할 때 같은 worker id(ownerWorkerId)로 만든 HELD 행만 id 순으로 읽어
+ * HoldTimer 를 다시 채우므로, 재시작 전에 만든 점유는 원래 만료 시각에 돌려준다.
+ * 다시 시작하지 않는 인스턴스(축소된 pod)의 점유는 orphan-sweep-interval 마다 만료 후 orphan-grace 가 지나도록
+ * HELD 로 남은 행만 읽어 돌려준다. 살아 있는 인스턴스의 점유는 그 인스턴스가 tick 안에 만료시키므로 이 조회는 보통 비어 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booking.hold.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class HoldExpirationScheduler {
+
+    private final HoldTimer holdTimer;
+    private final HoldService holdService;
+    private final InventoryHoldRepository inventoryHoldRepository;
+    private final int batchSize;
+    private final Duration orphanGrace;
+    private final Clock clock;
+    private final Counter releasedCounter;
+
+    @Autowired
+    public HoldExpirationScheduler(HoldTimer holdTimer,
+                                   HoldService holdService,
+                                   InventoryHoldRepository inventoryHoldRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${booking.hold.expiry.batch-size:500}") int batchSize,
+                                   @Value("${booking.hold.expiry.orphan-grace:PT1M}") Duration orphanGrace) {
+        this(holdTimer, holdService, inventoryHoldRepository, meterRegistry, batchSize, orphanGrace, Clock.systemDefaultZone());
+    }
+
+    public HoldExpirationScheduler(HoldTimer holdTimer,
+                                   HoldService holdService,
+                                   InventoryHoldRepository inventoryHoldRepository,
+                                   MeterRegistry meterRegistry,
+                                   int batchSize,
+                                   Duration orphanGrace,
+                                   Clock clock) {
+        this.holdTimer = holdTimer;
+        this.holdService = holdService;
+        this.inventoryHoldRepository = inventoryHoldRepository;
+        this.batchSize = batchSize;
+        this.orphanGrace = orphanGrace;
+        this.clock = clock;
+        this.releasedCounter = Counter.builder("inventory.hold.released")
+                .description("만료되어 재고를 돌려준 객실 점유 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.tick:PT1S}")
+    public void expire() {
+        List<Long> expired = holdTimer.pollExpired();
+        int released = 0;
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                released += holdService.releaseExpired(batch);
+            } catch (RuntimeException e) {
+                log.warn("releasing {} expired holds failed, retrying on the next tick: {}", batch.size(), e.toString());
+                holdTimer.retry(batch);
+            }
+        }
+        releasedCounter.increment(released);
+        if (released > 0) {
+            log.info("expired holds released: {}", released);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        log.info("holds of worker {} scheduled from the database: {}", holdTimer.owner(), rebuild());
+    }
+
+    /**
+     * 이 인스턴스의 worker id 로 만든 HELD 점유를 HoldTimer 에 등록한다. 이미 만료된 점유는 다음 tick 에 돌려준다.
+     *
+     * @return 등록한 점유 수
+     */
+    public int rebuild() {
+        int total = 0;
+        Long afterId = 0L;
+        List<PendingHold> holds;
+        do {
+            holds = inventoryHoldRepository.findOwnedAfter(
+                    HoldStatus.HELD.name(), holdTimer.owner(), afterId, PageRequest.ofSize(batchSize));
+            for (PendingHold hold : holds) {
+                holdTimer.schedule(hold.getInventoryHoldId(), hold.getExpiresAt());
+                afterId = hold.getInventoryHoldId();
+            }
+            total += holds.size();
+        } while (holds.size() == batchSize);
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.expiry.orphan-sweep-interval:PT1M}")
+    public void sweepOrphans() {
+        int released = releaseOrphans();
+        if (released > 0) {
+            log.info("orphaned holds released: {}", released);
+        }
+    }
+
+    /**
+     * 만료 시각이 orphanGrace 보다 오래 지났는데 HELD 인 점유를 id 순으로 batchSize 건씩 읽어 재고를 돌려준다.
+     * 여러 인스턴스가 같은 점유를 읽어도 releaseExpired 가 행을 잠그므로 재고는 한 번만 돌아온다.
+     *
+     * @return 돌려준 점유 수
+     */
+    public int releaseOrphans() {
+        LocalDateTime expiredBefore = LocalDateTime.now(clock).minus(orphanGrace);
+        int released = 0;
+        Long afterId = 0L;
+        List<Long> batch;
+        do {
+            batch = inventoryHoldRepository.findExpiredBefore(
+                    HoldStatus.HELD.name(), expiredBefore, afterId, PageRequest.ofSize(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1);
+            try {
+                released += holdService.releaseExpired(batch);
+            } catch (RuntimeException e) {
+                log.warn("releasing {} orphaned holds failed, retrying on the next sweep: {}", batch.size(), e.toString());
+            }
+        } while (batch.size() == batchSize);
+        releasedCounter.increment(released);
+        return released;
+    }
+}
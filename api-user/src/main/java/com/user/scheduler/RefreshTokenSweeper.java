@@ -0,0 +1,84 @@
+package com.user.scheduler;
+
+import com.storage.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 refresh token 을 batchSize 건씩 나눠 삭제한다.
+ * 청크마다 별도의 짧은 트랜잭션으로 커밋하고 사이에 pause 만큼 쉬어서 로그인/재발급 트래픽과 잠금 경합을 줄인다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+    private final Counter sweptCounter;
+
+    public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${security.refresh-token.sweep.batch-size:500}") int batchSize,
+                               @Value("${security.refresh-token.sweep.max-batches:100}") int maxBatches,
+                               @Value("${security.refresh-token.sweep.pause:50ms}") Duration pause) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+        this.sweptCounter = Counter.builder("refresh_token.swept")
+                .description("만료되어 삭제된 refresh token 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.sweep.interval:PT10M}",
+            initialDelayString = "${security.refresh-token.sweep.interval:PT10M}")
+    public void sweep() {
+        sweepExpired(LocalDateTime.now());
+    }
+
+    /**
+     * @return 삭제한 행 수
+     */
+    public int sweepExpired(LocalDateTime now) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = refreshTokenRepository.deleteExpired(now, batchSize);
+            total += deleted;
+            sweptCounter.increment(deleted);
+            if (deleted < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("expired refresh tokens swept: {}", total);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.user.scheduler;
+
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.RoomRepository;
+import com.user.event.AccommodationChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * api-admin 이 수정한 숙소/객실을 이 인스턴스의 2차 캐시에서 제거한다.
+ * 같은 프로세스의 쓰기는 Hibernate 가 처리하지만, 다른 프로세스의 쓰기는 숙소 변경 이벤트(accommodation_outbox)와
+ * updated_date 로 주기적으로 찾아야 한다.
+ * 읽는 구간을 syncLag 만큼 겹쳐서, 복제가 늦은 replica 에서 읽어 다시 캐시된 옛 값도 다음 주기에 제거된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheSynchronizer {
+
+    private static final String ROOMS_ROLE = Accommodation.class.getName() + ".rooms";
+
+    private final AccommodationRepository accommodationRepository;
+    private final RoomRepository roomRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Duration syncLag;
+    private final Clock clock;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Autowired
+    public SecondLevelCacheSynchronizer(AccommodationRepository accommodationRepository,
+                                        RoomRepository roomRepository,
+                                        EntityManagerFactory entityManagerFactory,
+                                        @Value("${storage.second-level-cache.sync-lag:PT30S}") Duration syncLag) {
+        this(accommodationRepository, roomRepository, entityManagerFactory, syncLag, Clock.systemDefaultZone());
+    }
+
+    public SecondLevelCacheSynchronizer(AccommodationRepository accommodationRepository, RoomRepository roomRepository,
+                                        EntityManagerFactory entityManagerFactory, Duration syncLag, Clock clock) {
+        this.accommodationRepository = accommodationRepository;
+        this.roomRepository = roomRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.syncLag = syncLag;
+        this.clock = clock;
+        // 시작할 때 캐시는 비어 있으므로 이후의 변경만 읽는다.
+        this.lastSyncedAt = LocalDateTime.now(clock);
+    }
+
+    @Scheduled(initialDelayString = "${storage.second-level-cache.sync-interval:PT5S}",
+            fixedDelayString = "${storage.second-level-cache.sync-interval:PT5S}")
+    public void evictChanged() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime since = lastSyncedAt.minus(syncLag);
+        List<Long> accommodationIds = accommodationRepository.findIdsUpdatedAfter(since);
+        List<Long> roomIds = roomRepository.findIdsUpdatedAfter(since);
+        List<Long> roomOwnerIds = roomRepository.findAccommodationIdsUpdatedAfter(since);
+
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        for (Long accommodationId : accommodationIds) {
+            cache.evictEntityData(Accommodation.class, accommodationId);
+        }
+        // 객실이 추가되거나 옮겨지면 숙소의 객실 목록도 바뀐다.
+        for (Long accommodationId : roomOwnerIds) {
+            cache.evictCollectionData(ROOMS_ROLE, accommodationId);
+        }
+        for (Long roomId : roomIds) {
+            cache.evictEntityData(Room.class, roomId);
+        }
+        lastSyncedAt = startedAt;
+
+        if (!accommodationIds.isEmpty() || !roomIds.isEmpty()) {
+            log.debug("evicted changed entities from second-level cache. accommodations={}, rooms={}",
+                    accommodationIds.size(), roomIds.size());
+        }
+    }
+
+    /**
+     * 변경 이벤트로 알려진 숙소와 그 객실 목록을 제거한다. 객실 자체의 변경은 evictChanged 가 처리한다.
+     */
+    @EventListener
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        for (Long accommodationId : event.accommodationIds()) {
+            cache.evictEntityData(Accommodation.class, accommodationId);
+            cache.evictCollectionData(ROOMS_ROLE, accommodationId);
+        }
+    }
+}
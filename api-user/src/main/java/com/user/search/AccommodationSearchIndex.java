@@ -0,0 +1,432 @@
+package com.user.search;
+
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.SearchRow;
+import com.storage.repository.RoomRepository;
+import com.support.money.Money;
+import com.user.event.AccommodationChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지역(countryName/state/city/district)과 객실 속성(roomType/viewType/bedType/capacity)으로 숙소를 찾는 메모리 역색인.
+ * <p>
+ * 숙소와 객실에 각각 0부터 시작하는 문서 번호를 부여하고, 필드 값마다 문서 번호의 BitSet 을 둔다.
+ * 조건 검색은 BitSet AND 로 교집합을 구한다. 객실 조건은 한 객실이 모든 조건을 만족해야 하므로
+ * 객실 문서끼리 먼저 교집합을 구한 뒤 숙소 문서로 옮겨 지역 조건과 교집합한다.
+ * 지역 조건으로 숙소가 충분히 좁혀진 경우에는 남은 숙소의 객실 속성(RoomColumns)만 직접 비교한다.
+ * 숙박 기간 조건은 다른 객실 조건을 통과한 객실만 RoomAvailabilityIndex 로 확인한다.
+ * 반환하는 숙소에는 객실 조건을 만족하는 객실의 최저가(1박)를 붙인다. 가격은 RoomColumns 의 minor 단위 long 으로 비교한다.
+ * <p>
+ * 숙소 등록/수정은 api-admin 에서 일어나므로 시작 시 전체를 읽고, 이후에는 숙소 변경 이벤트(accommodation_outbox)로 바뀐 숙소를 바로 다시 색인한다.
+ * 이벤트를 남기지 않는 변경(객실 수정 등)은 updated_date 가 바뀐 숙소/객실을 주기적으로 찾아 다시 색인한다.
+ * 다시 색인할 때 숙소와 객실은 기존 문서 번호를 재사용하므로 수정이 반복되어도 색인이 커지지 않는다.
+ * 숙소 삭제 API 는 없으므로 삭제는 반영하지 않는다.
+ */
+@Slf4j
+@Component
+public class AccommodationSearchIndex {
+
+    private final AccommodationRepository accommodationRepository;
+    private final RoomRepository roomRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final Clock clock;
+    private final int loadBatchSize;
+    private final Duration syncLag;
+
+    /**
+     * 지역 조건에 맞는 숙소의 객실 수가 전체 객실의 1/PROBE_RATIO 이하이면 객실 BitSet 교집합 대신 객실을 직접 비교한다.
+     * BitSet 교집합은 전체 객실 수에 비례하고 직접 비교는 후보 객실 수에 비례한다.
+     */
+    private static final int PROBE_RATIO = 16;
+    private static final int ANY = -2;
+    private static final long NO_PRICE = Long.MAX_VALUE;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> accommodationDocs = new HashMap<>();
+    private final List<AccommodationDoc> accommodations = new ArrayList<>();
+    private final PostingIndex countryName = new PostingIndex();
+    private final PostingIndex state = new PostingIndex();
+    private final PostingIndex city = new PostingIndex();
+    private final PostingIndex district = new PostingIndex();
+
+    private final Map<Long, Integer> roomDocs = new HashMap<>();
+    private final RoomColumns rooms = new RoomColumns();
+    private final BitSet liveRooms = new BitSet();
+    private final PostingIndex roomType = new PostingIndex();
+    private final PostingIndex viewType = new PostingIndex();
+    private final PostingIndex bedType = new PostingIndex();
+    private final NavigableMap<Integer, BitSet> capacity = new TreeMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Autowired
+    public AccommodationSearchIndex(AccommodationRepository accommodationRepository,
+                                    RoomRepository roomRepository,
+                                    RoomAvailabilityIndex roomAvailabilityIndex,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${search.index.load-batch-size:1000}") int loadBatchSize,
+                                    @Value("${search.index.sync-lag:PT30S}") Duration syncLag) {
+        this(accommodationRepository, roomRepository, roomAvailabilityIndex, meterRegistry, loadBatchSize, syncLag,
+                Clock.systemDefaultZone());
+    }
+
+    public AccommodationSearchIndex(AccommodationRepository accommodationRepository, RoomRepository roomRepository,
+                                    RoomAvailabilityIndex roomAvailabilityIndex, MeterRegistry meterRegistry,
+                                    int loadBatchSize, Duration syncLag, Clock clock) {
+        this.accommodationRepository = accommodationRepository;
+        this.roomRepository = roomRepository;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.clock = clock;
+        this.loadBatchSize = loadBatchSize;
+        this.syncLag = syncLag;
+        Gauge.builder("search.index.accommodations", this, index -> index.accommodations.size())
+                .description("검색 색인에 올라간 숙소 수")
+                .register(meterRegistry);
+        Gauge.builder("search.index.rooms", this, index -> index.liveRooms.cardinality())
+                .description("검색 색인에 올라간 객실 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모든 숙소를 id 순으로 loadBatchSize 건씩 읽어 색인한다.
+     */
+    @PostConstruct
+    public void load() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = accommodationRepository.findIdsAfter(afterId, PageRequest.ofSize(loadBatchSize));
+            if (!ids.isEmpty()) {
+                index(ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == loadBatchSize);
+        lastSyncedAt = startedAt;
+        log.info("search index loaded. accommodations={}", accommodations.size());
+    }
+
+    /**
+     * 마지막 동기화 이후 수정된 숙소와 객실이 속한 숙소를 다시 색인한다.
+     * 커밋이 늦은 트랜잭션과 서버 간 시계 차이로 변경을 놓치지 않도록 syncLag 만큼 겹쳐서 읽는다. 다시 색인해도 결과는 같다.
+     */
+    @Scheduled(initialDelayString = "${search.index.refresh-interval:PT5S}",
+            fixedDelayString = "${search.index.refresh-interval:PT5S}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime since = lastSyncedAt.minus(syncLag);
+        Set<Long> changed = new LinkedHashSet<>(accommodationRepository.findIdsUpdatedAfter(since));
+        changed.addAll(roomRepository.findAccommodationIdsUpdatedAfter(since));
+
+        List<Long> ids = new ArrayList<>(changed);
+        for (int from = 0; from < ids.size(); from += loadBatchSize) {
+            index(ids.subList(from, Math.min(from + loadBatchSize, ids.size())));
+        }
+        lastSyncedAt = startedAt;
+    }
+
+    /**
+     * 변경 이벤트로 알려진 숙소를 다시 색인한다. 삭제된 숙소는 색인에서 빼지 않는다.
+     */
+    @EventListener
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        List<Long> ids = new ArrayList<>(event.accommodationIds());
+        for (int from = 0; from < ids.size(); from += loadBatchSize) {
+            index(ids.subList(from, Math.min(from + loadBatchSize, ids.size())));
+        }
+    }
+
+    /**
+     * 조건을 모두 만족하는 숙소를 문서 번호 순으로 offset 부터 limit 건 반환한다. null 인 조건은 무시한다.
+     * 반환하는 숙소의 최저가는 조건을 만족하는 객실 중에서 구하므로 반환하는 숙소의 객실만 다시 비교한다.
+     */
+    public SearchResult search(SearchCondition condition, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = matchAccommodations(condition);
+            RoomFilter filter = roomFilter(condition);
+            List<IndexedAccommodation> hits = new ArrayList<>(limit);
+            int doc = matched.nextSetBit(0);
+            for (long skipped = 0; doc >= 0 && skipped < offset; skipped++) {
+                doc = matched.nextSetBit(doc + 1);
+            }
+            for (; doc >= 0 && hits.size() < limit; doc = matched.nextSetBit(doc + 1)) {
+                AccommodationDoc accommodation = accommodations.get(doc);
+                long lowestPrice = lowestPrice(accommodation.roomDocs(), filter, condition);
+                hits.add(accommodation.accommodation()
+                        .withLowestPrice(lowestPrice == NO_PRICE ? null : Money.ofMinor(lowestPrice)));
+            }
+            return new SearchResult(hits, matched.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matchAccommodations(SearchCondition condition) {
+        BitSet matched = null;
+        matched = intersect(matched, countryName, condition.countryName());
+        matched = intersect(matched, state, condition.state());
+        matched = intersect(matched, city, condition.city());
+        matched = intersect(matched, district, condition.district());
+
+        if (condition.hasRoomCondition() && (matched == null || !matched.isEmpty())) {
+            matched = matched != null && candidateRooms(matched) <= rooms.size() / PROBE_RATIO
+                    ? probeRooms(matched, condition)
+                    : intersectRooms(matched, condition);
+        }
+
+        if (matched == null) {
+            matched = new BitSet(accommodations.size());
+            matched.set(0, accommodations.size());
+        }
+        return matched;
+    }
+
+    private int candidateRooms(BitSet matched) {
+        int count = 0;
+        for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+            count += accommodations.get(doc).roomDocs().length;
+        }
+        return count;
+    }
+
+    /**
+     * 지역 조건으로 숙소가 충분히 좁혀졌으면 남은 숙소의 객실만 값 id 로 직접 비교한다.
+     */
+    private BitSet probeRooms(BitSet matched, SearchCondition condition) {
+        RoomFilter filter = roomFilter(condition);
+        for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+            boolean found = false;
+            for (int roomDoc : accommodations.get(doc).roomDocs()) {
+                if (matches(roomDoc, filter, condition)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                matched.clear(doc);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 조건을 만족하는 객실 중 최저가(minor 단위). 없으면 NO_PRICE 를 반환한다.
+     */
+    private long lowestPrice(int[] roomDocs, RoomFilter filter, SearchCondition condition) {
+        long lowest = NO_PRICE;
+        for (int roomDoc : roomDocs) {
+            if (rooms.price(roomDoc) < lowest && matches(roomDoc, filter, condition)) {
+                lowest = rooms.price(roomDoc);
+            }
+        }
+        return lowest;
+    }
+
+    private RoomFilter roomFilter(SearchCondition condition) {
+        return new RoomFilter(
+                condition.roomType() == null ? ANY : roomType.termId(condition.roomType()),
+                condition.viewType() == null ? ANY : viewType.termId(condition.viewType()),
+                condition.bedType() == null ? ANY : bedType.termId(condition.bedType()),
+                condition.minCapacity() == null ? Integer.MIN_VALUE : condition.minCapacity());
+    }
+
+    private boolean matches(int roomDoc, RoomFilter filter, SearchCondition condition) {
+        return matches(filter.roomTypeId(), rooms.roomTypeId(roomDoc)) && matches(filter.viewTypeId(), rooms.viewTypeId(roomDoc))
+                && matches(filter.bedTypeId(), rooms.bedTypeId(roomDoc)) && rooms.capacity(roomDoc) >= filter.minCapacity()
+                && isAvailable(roomDoc, condition);
+    }
+
+    /**
+     * 숙박 기간 조건이 있으면 객실 가용성 bitmap 으로 모든 밤에 재고가 있는지 확인한다.
+     */
+    private boolean isAvailable(int roomDoc, SearchCondition condition) {
+        return !condition.hasStayDates()
+                || roomAvailabilityIndex.isAvailable(rooms.roomId(roomDoc), condition.checkIn(), condition.checkOut());
+    }
+
+    private static boolean matches(int expected, int actual) {
+        return expected == ANY || expected == actual;
+    }
+
+    /**
+     * 객실 문서 전체에서 BitSet 교집합으로 조건에 맞는 객실을 구한 뒤 지역 조건에 맞는 숙소 문서로 옮긴다.
+     */
+    private BitSet intersectRooms(BitSet matched, SearchCondition condition) {
+        BitSet matchedRooms = (BitSet) liveRooms.clone();
+        matchedRooms = intersect(matchedRooms, roomType, condition.roomType());
+        matchedRooms = intersect(matchedRooms, viewType, condition.viewType());
+        matchedRooms = intersect(matchedRooms, bedType, condition.bedType());
+        if (condition.minCapacity() != null && !matchedRooms.isEmpty()) {
+            BitSet enough = new BitSet();
+            capacity.tailMap(condition.minCapacity(), true).values().forEach(enough::or);
+            matchedRooms.and(enough);
+        }
+
+        BitSet withRoom = new BitSet(accommodations.size());
+        for (int room = matchedRooms.nextSetBit(0); room >= 0; room = matchedRooms.nextSetBit(room + 1)) {
+            int accommodationDoc = rooms.accommodationDoc(room);
+            if (!withRoom.get(accommodationDoc) && (matched == null || matched.get(accommodationDoc))
+                    && isAvailable(room, condition)) {
+                withRoom.set(accommodationDoc);
+            }
+        }
+        return withRoom;
+    }
+
+    /**
+     * 조건 값이 null 이면 그대로, 색인에 없는 값이면 빈 집합을 반환한다. 처음 교집합할 때만 posting list 를 복사한다.
+     */
+    private static BitSet intersect(BitSet matched, PostingIndex field, String term) {
+        if (term == null) {
+            return matched;
+        }
+        BitSet postings = field.postings(term);
+        if (postings == null) {
+            return new BitSet();
+        }
+        if (matched == null) {
+            return (BitSet) postings.clone();
+        }
+        matched.and(postings);
+        return matched;
+    }
+
+    private void index(Collection<Long> ids) {
+        Map<Long, List<SearchRow>> rowsByAccommodation = new LinkedHashMap<>();
+        for (SearchRow row : accommodationRepository.findSearchRows(ids)) {
+            rowsByAccommodation.computeIfAbsent(row.getAccommodationId(), id -> new ArrayList<>()).add(row);
+        }
+
+        lock.writeLock().lock();
+        try {
+            rowsByAccommodation.values().forEach(this::upsert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void upsert(List<SearchRow> rows) {
+        SearchRow first = rows.get(0);
+        Integer existing = accommodationDocs.get(first.getAccommodationId());
+        int doc;
+        Set<Integer> previousRooms = new HashSet<>();
+        if (existing == null) {
+            doc = accommodations.size();
+            accommodations.add(null);
+            accommodationDocs.put(first.getAccommodationId(), doc);
+        } else {
+            doc = existing;
+            AccommodationDoc previous = accommodations.get(doc);
+            countryName.remove(previous.countryNameId(), doc);
+            state.remove(previous.stateId(), doc);
+            city.remove(previous.cityId(), doc);
+            district.remove(previous.districtId(), doc);
+            for (int roomDoc : previous.roomDocs()) {
+                previousRooms.add(roomDoc);
+            }
+        }
+
+        int[] currentRooms = new int[rows.get(0).getRoomId() == null ? 0 : rows.size()];
+        for (int i = 0; i < currentRooms.length; i++) {
+            currentRooms[i] = upsertRoom(rows.get(i), doc);
+            previousRooms.remove(currentRooms[i]);
+        }
+        // 숙소에서 빠진 객실은 검색 대상에서만 제외한다.
+        previousRooms.forEach(this::removeRoom);
+
+        IndexedAccommodation accommodation = new IndexedAccommodation(first.getAccommodationId(), first.getName(),
+                first.getCountryName(), first.getState(), first.getCity(), first.getDistrict(), null);
+        accommodations.set(doc, new AccommodationDoc(accommodation,
+                countryName.add(first.getCountryName(), doc),
+                state.add(first.getState(), doc),
+                city.add(first.getCity(), doc),
+                district.add(first.getDistrict(), doc),
+                currentRooms));
+    }
+
+    private int upsertRoom(SearchRow row, int accommodationDoc) {
+        Integer existing = roomDocs.get(row.getRoomId());
+        int doc;
+        if (existing == null) {
+            doc = rooms.add();
+            roomDocs.put(row.getRoomId(), doc);
+        } else {
+            doc = existing;
+            removeRoom(doc);
+        }
+
+        int roomCapacity = Objects.requireNonNullElse(row.getCapacity(), 0);
+        capacity.computeIfAbsent(roomCapacity, c -> new BitSet()).set(doc);
+        rooms.set(doc, row.getRoomId(), accommodationDoc,
+                roomType.add(row.getRoomType(), doc),
+                viewType.add(row.getViewType(), doc),
+                bedType.add(row.getBedType(), doc),
+                roomCapacity,
+                row.getPrice() == null ? NO_PRICE : row.getPrice().minor());
+        liveRooms.set(doc);
+        return doc;
+    }
+
+    private void removeRoom(int doc) {
+        roomType.remove(rooms.roomTypeId(doc), doc);
+        viewType.remove(rooms.viewTypeId(doc), doc);
+        bedType.remove(rooms.bedTypeId(doc), doc);
+        capacity.get(rooms.capacity(doc)).clear(doc);
+        liveRooms.clear(doc);
+    }
+
+    private record AccommodationDoc(IndexedAccommodation accommodation,
+                                    int countryNameId, int stateId, int cityId, int districtId,
+                                    int[] roomDocs) {
+    }
+
+    /**
+     * 조건에 맞는 값 id. 조건이 없는 속성은 ANY, 인원 조건이 없으면 Integer.MIN_VALUE 이다.
+     */
+    private record RoomFilter(int roomTypeId, int viewTypeId, int bedTypeId, int minCapacity) {
+    }
+
+    /**
+     * lowestPrice 는 검색 조건을 만족하는 객실의 1박 최저가이다. 색인에 저장할 때와 객실이 없는 숙소는 null 이다.
+     */
+    public record IndexedAccommodation(Long accommodationId, String name, String countryName,
+                                       String state, String city, String district, Money lowestPrice) {
+
+        IndexedAccommodation withLowestPrice(Money lowestPrice) {
+            return new IndexedAccommodation(accommodationId, name, countryName, state, city, district, lowestPrice);
+        }
+    }
+
+    public record SearchResult(List<IndexedAccommodation> hits, int totalCount) {
+    }
+}
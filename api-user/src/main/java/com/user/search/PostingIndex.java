@@ -0,0 +1,49 @@
+package com.user.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필드 하나의 역색인.
+ * 값은 사전(dictionary)으로 int id 를 부여하고, id 마다 그 값을 가진 문서 번호의 BitSet(posting list)을 둔다.
+ * 동기화는 호출하는 쪽(AccommodationSearchIndex)의 잠금에 맡긴다.
+ */
+class PostingIndex {
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<BitSet> postings = new ArrayList<>();
+
+    /**
+     * 문서에 값을 추가하고 값의 id 를 반환한다. 처음 보는 값이면 새 id 를 부여한다.
+     */
+    int add(String term, int doc) {
+        int termId = termIds.computeIfAbsent(term, t -> {
+            postings.add(new BitSet());
+            return postings.size() - 1;
+        });
+        postings.get(termId).set(doc);
+        return termId;
+    }
+
+    /**
+     * 값의 id. 색인에 없는 값이면 -1 을 반환한다.
+     */
+    int termId(String term) {
+        return termIds.getOrDefault(term, -1);
+    }
+
+    void remove(int termId, int doc) {
+        postings.get(termId).clear(doc);
+    }
+
+    /**
+     * 값을 가진 문서 집합. 색인에 없는 값이면 null 을 반환한다. 반환된 BitSet 은 수정하지 않는다.
+     */
+    BitSet postings(String term) {
+        Integer termId = termIds.get(term);
+        return termId == null ? null : postings.get(termId);
+    }
+}
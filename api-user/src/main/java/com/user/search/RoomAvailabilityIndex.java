@@ -0,0 +1,214 @@
+package com.user.search;
+
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomInventoryRepository.NightAvailability;
+import com.storage.repository.RoomRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실별 숙박일 가용성 bitmap.
+ * 오늘부터 horizonDays 일 동안 하루(1박)에 1 bit 를 두고, 재고(available)가 1 이상이면 1 로 둔다.
+ * "checkIn ~ checkOut 의 모든 밤에 빈 객실이 있는가" 는 long 단위 mask 비교로 답하므로 검색 경로에서 DB 를 읽지 않는다.
+ * <p>
+ * 객실의 bitmap 은 수정하지 않는 long[] 이고, 변경할 때는 복사본을 만들어 ConcurrentHashMap.compute 로 교체한다.
+ * 그래서 한 번의 예약/취소로 바뀐 여러 날짜가 검색에는 한꺼번에 보인다.
+ * <p>
+ * 이 인스턴스의 예약/취소는 커밋 직후 반영하고, 다른 인스턴스의 예약과 api-admin 의 재고 생성은
+ * room_inventory.updated_date 로 주기적으로 읽어 반영한다. 날짜가 바뀌면 전체를 다시 읽어 기준일을 옮긴다.
+ */
+@Slf4j
+@Component
+public class RoomAvailabilityIndex {
+
+    private final RoomRepository roomRepository;
+    private final RoomInventoryRepository roomInventoryRepository;
+    private final Clock clock;
+    private final int horizonDays;
+    private final int loadBatchSize;
+    private final Duration syncLag;
+
+    private volatile Bitmaps bitmaps;
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Autowired
+    public RoomAvailabilityIndex(RoomRepository roomRepository,
+                                 RoomInventoryRepository roomInventoryRepository,
+                                 @Value("${search.availability.horizon-days:365}") int horizonDays,
+                                 @Value("${search.index.load-batch-size:1000}") int loadBatchSize,
+                                 @Value("${search.index.sync-lag:PT30S}") Duration syncLag) {
+        this(roomRepository, roomInventoryRepository, horizonDays, loadBatchSize, syncLag, Clock.systemDefaultZone());
+    }
+
+    public RoomAvailabilityIndex(RoomRepository roomRepository, RoomInventoryRepository roomInventoryRepository,
+                                 int horizonDays, int loadBatchSize, Duration syncLag, Clock clock) {
+        this.roomRepository = roomRepository;
+        this.roomInventoryRepository = roomInventoryRepository;
+        this.clock = clock;
+        this.horizonDays = horizonDays;
+        this.loadBatchSize = loadBatchSize;
+        this.syncLag = syncLag;
+        this.bitmaps = new Bitmaps(LocalDate.now(clock).toEpochDay(), horizonDays);
+    }
+
+    /**
+     * 오늘부터 horizonDays 일의 재고를 객실 id 순으로 loadBatchSize 개 객실씩 읽어 bitmap 을 새로 만든다.
+     */
+    @PostConstruct
+    @Scheduled(cron = "${search.availability.reload-cron:0 0 0 * * *}")
+    public void reload() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDate from = startedAt.toLocalDate();
+        Bitmaps loaded = new Bitmaps(from.toEpochDay(), horizonDays);
+
+        long afterId = 0;
+        List<Long> roomIds;
+        do {
+            roomIds = roomRepository.findIdsAfter(afterId, PageRequest.ofSize(loadBatchSize));
+            if (!roomIds.isEmpty()) {
+                loaded.apply(roomInventoryRepository.findAvailableNights(roomIds, from, from.plusDays(horizonDays)));
+                afterId = roomIds.get(roomIds.size() - 1);
+            }
+        } while (roomIds.size() == loadBatchSize);
+
+        bitmaps = loaded;
+        lastSyncedAt = startedAt;
+        log.info("room availability loaded. rooms={}", loaded.rooms.size());
+    }
+
+    /**
+     * 마지막 동기화 이후 재고가 바뀐 숙박일을 반영한다. 읽는 구간은 syncLag 만큼 겹친다.
+     * 전체를 다시 읽는 동안 반영된 변경을 놓쳐도 다음 refresh 에서 다시 읽는다.
+     */
+    @Scheduled(initialDelayString = "${search.index.refresh-interval:PT5S}",
+            fixedDelayString = "${search.index.refresh-interval:PT5S}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        Bitmaps current = bitmaps;
+        LocalDate from = LocalDate.ofEpochDay(current.originDay);
+        current.apply(roomInventoryRepository.findAvailabilityUpdatedAfter(
+                lastSyncedAt.minus(syncLag), from, from.plusDays(horizonDays)));
+        lastSyncedAt = startedAt;
+    }
+
+    /**
+     * 예약/취소 트랜잭션이 커밋된 뒤에 바뀐 재고를 반영한다. 롤백되면 반영하지 않는다.
+     */
+    public void applyAfterCommit(List<NightAvailability> nights) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bitmaps.apply(nights);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bitmaps.apply(nights);
+            }
+        });
+    }
+
+    /**
+     * [checkIn, checkOut) 의 모든 밤에 재고가 있는지 확인한다. 색인 기간을 벗어나면 false 를 반환한다.
+     */
+    public boolean isAvailable(long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Bitmaps current = bitmaps;
+        long[] words = current.rooms.get(roomId);
+        if (words == null) {
+            return false;
+        }
+        return allSet(words, current.offset(checkIn), current.offset(checkOut));
+    }
+
+    /**
+     * checkIn ~ checkOut 이 색인 기간 안에 있는지 확인한다.
+     */
+    public boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        Bitmaps current = bitmaps;
+        return current.offset(checkIn) >= 0 && current.offset(checkOut) <= horizonDays;
+    }
+
+    /**
+     * words 의 [from, to) bit 가 모두 1 인지 확인한다. 64 bit 씩 mask 를 만들어 비교한다.
+     */
+    static boolean allSet(long[] words, long from, long to) {
+        if (from < 0 || to > (long) words.length * Long.SIZE || from >= to) {
+            return false;
+        }
+        int first = (int) (from >>> 6);
+        int last = (int) ((to - 1) >>> 6);
+        for (int i = first; i <= last; i++) {
+            long mask = -1L;
+            if (i == first) {
+                mask &= -1L << from;
+            }
+            if (i == last) {
+                mask &= -1L >>> -to;
+            }
+            if ((words[i] & mask) != mask) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 기준일(originDay)부터 horizonDays 일의 객실별 bitmap.
+     */
+    private static final class Bitmaps {
+
+        private final long originDay;
+        private final int wordCount;
+        private final Map<Long, long[]> rooms = new ConcurrentHashMap<>();
+
+        private Bitmaps(long originDay, int horizonDays) {
+            this.originDay = originDay;
+            this.wordCount = (horizonDays + Long.SIZE - 1) / Long.SIZE;
+        }
+
+        private long offset(LocalDate date) {
+            return date.toEpochDay() - originDay;
+        }
+
+        /**
+         * 객실별로 모아 객실마다 한 번의 compute 로 교체한다.
+         */
+        private void apply(List<NightAvailability> nights) {
+            Map<Long, List<NightAvailability>> byRoom = new LinkedHashMap<>();
+            for (NightAvailability night : nights) {
+                byRoom.computeIfAbsent(night.getRoomId(), id -> new ArrayList<>()).add(night);
+            }
+            byRoom.forEach((roomId, roomNights) -> rooms.compute(roomId, (id, words) -> {
+                long[] next = words == null ? new long[wordCount] : words.clone();
+                for (NightAvailability night : roomNights) {
+                    long bit = offset(night.getStayDate());
+                    if (bit < 0 || bit >= (long) wordCount * Long.SIZE) {
+                        continue;
+                    }
+                    if (night.getAvailable() > 0) {
+                        next[(int) (bit >>> 6)] |= 1L << bit;
+                    } else {
+                        next[(int) (bit >>> 6)] &= ~(1L << bit);
+                    }
+                }
+                return next;
+            }));
+        }
+    }
+}
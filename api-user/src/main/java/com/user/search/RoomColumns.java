@@ -0,0 +1,81 @@
+package com.user.search;
+
+import java.util.Arrays;
+
+/**
+ * 객실 문서의 속성을 문서 번호를 인덱스로 하는 int 배열(열)에 나눠 저장한다.
+ * 문자열 속성은 PostingIndex 의 값 id 로 저장하므로 비교가 int 비교가 되고, 가격은 Money 의 minor 단위 long 으로 저장한다.
+ * 한 숙소의 객실은 연속된 문서 번호를 받으므로 객실을 직접 비교할 때 메모리를 순서대로 읽는다.
+ * 동기화는 호출하는 쪽(AccommodationSearchIndex)의 잠금에 맡긴다.
+ */
+class RoomColumns {
+
+    private int size;
+    private long[] roomId = new long[1024];
+    private int[] accommodationDoc = new int[1024];
+    private int[] roomTypeId = new int[1024];
+    private int[] viewTypeId = new int[1024];
+    private int[] bedTypeId = new int[1024];
+    private int[] capacity = new int[1024];
+    private long[] price = new long[1024];
+
+    /**
+     * 새 문서 번호를 할당한다.
+     */
+    int add() {
+        if (size == accommodationDoc.length) {
+            int length = size * 2;
+            roomId = Arrays.copyOf(roomId, length);
+            accommodationDoc = Arrays.copyOf(accommodationDoc, length);
+            roomTypeId = Arrays.copyOf(roomTypeId, length);
+            viewTypeId = Arrays.copyOf(viewTypeId, length);
+            bedTypeId = Arrays.copyOf(bedTypeId, length);
+            capacity = Arrays.copyOf(capacity, length);
+            price = Arrays.copyOf(price, length);
+        }
+        return size++;
+    }
+
+    void set(int doc, long roomId, int accommodationDoc, int roomTypeId, int viewTypeId, int bedTypeId, int capacity,
+             long price) {
+        this.roomId[doc] = roomId;
+        this.accommodationDoc[doc] = accommodationDoc;
+        this.roomTypeId[doc] = roomTypeId;
+        this.viewTypeId[doc] = viewTypeId;
+        this.bedTypeId[doc] = bedTypeId;
+        this.capacity[doc] = capacity;
+        this.price[doc] = price;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long roomId(int doc) {
+        return roomId[doc];
+    }
+
+    int accommodationDoc(int doc) {
+        return accommodationDoc[doc];
+    }
+
+    int roomTypeId(int doc) {
+        return roomTypeId[doc];
+    }
+
+    int viewTypeId(int doc) {
+        return viewTypeId[doc];
+    }
+
+    int bedTypeId(int doc) {
+        return bedTypeId[doc];
+    }
+
+    int capacity(int doc) {
+        return capacity[doc];
+    }
+
+    long price(int doc) {
+        return price[doc];
+    }
+}
@@ -0,0 +1,25 @@
+package com.user.search;
+
+import java.time.LocalDate;
+
+/**
+ * 숙소 검색 조건. null 인 조건은 적용하지 않는다.
+ * 객실 조건(roomType, viewType, bedType, minCapacity, checkIn ~ checkOut 가용성)은 한 객실이 모두 만족해야 한다.
+ */
+public record SearchCondition(String countryName, String state, String city, String district,
+                              String roomType, String viewType, String bedType, Integer minCapacity,
+                              LocalDate checkIn, LocalDate checkOut) {
+
+    public SearchCondition(String countryName, String state, String city, String district,
+                           String roomType, String viewType, String bedType, Integer minCapacity) {
+        this(countryName, state, city, district, roomType, viewType, bedType, minCapacity, null, null);
+    }
+
+    boolean hasStayDates() {
+        return checkIn != null && checkOut != null;
+    }
+
+    boolean hasRoomCondition() {
+        return roomType != null || viewType != null || bedType != null || minCapacity != null || hasStayDates();
+    }
+}
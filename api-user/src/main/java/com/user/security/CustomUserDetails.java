@@ -1,6 +1,8 @@
 package com.user.security;
 
 import com.storage.entity.User;
+import com.user.utils.jwt.TokenClaims;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,10 +10,31 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.ArrayList;
 import java.util.Collection;
 
+/**
+ * 엔티티를 직접 들고 있지 않고 인증에 필요한 값만 보관한다.
+ * 토큰 claim 으로 만든 principal 은 DB 를 조회하지 않으므로 password 가 null 이고,
+ * 로그아웃 시 해당 토큰을 폐기할 수 있도록 claim 을 함께 들고 있다.
+ */
+@Getter
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final String password;
+    private final TokenClaims tokenClaims;
+
+    public CustomUserDetails(Long userId, String email, String password) {
+        this(userId, email, password, null);
+    }
+
+    public CustomUserDetails(User user) {
+        this(user.getUserId(), user.getAccount().getEmail(), user.getAccount().getPassword());
+    }
+
+    public static CustomUserDetails from(TokenClaims claims) {
+        return new CustomUserDetails(claims.userId(), claims.email(), null, claims);
+    }
 
     /**
      * Admin 에서는 권한 관련해서 생각해야할게 있지만, ( 예를 들어 admin, user 둘다 권한 부여 등 )
@@ -27,13 +50,8 @@ public class CustomUserDetails implements UserDetails {
         return collection;
     }
 
-    @Override
-    public String getPassword() {
-        return user.getAccount().getPassword();
-    }
-
     @Override
     public String getUsername() {
-        return user.getAccount().getEmail();
+        return email;
     }
 }
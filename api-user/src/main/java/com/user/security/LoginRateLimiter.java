@@ -0,0 +1,140 @@
+package com.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인/회원가입 요청을 BCrypt, DB 접근 전에 email, 접속 IP 기준으로 제한한다.
+ * <p>
+ * 키마다 AtomicLong 하나(GCRA 의 다음 허용 시각)만 두고 CAS 로 갱신하므로 잠금이 없다.
+ * 키 map 은 Caffeine(내부적으로 striped ConcurrentHashMap)을 사용해 최대 키 수로 메모리를 제한하고,
+ * idle-timeout 동안 요청이 없는 키는 자동으로 제거한다.
+ * 거절된 요청은 다음 허용 시각을 늦추지 않으므로 공격이 멈추면 곧 다시 허용된다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String EMAIL_KEY_PREFIX = "email:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final boolean enabled;
+    private final Rate emailRate;
+    private final Rate ipRate;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> buckets;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${security.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${security.rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${security.rate-limit.email.period:1m}") Duration emailPeriod,
+                            @Value("${security.rate-limit.ip.capacity:30}") int ipCapacity,
+                            @Value("${security.rate-limit.ip.period:1m}") Duration ipPeriod,
+                            @Value("${security.rate-limit.max-keys:100000}") long maxKeys,
+                            MeterRegistry meterRegistry) {
+        this(enabled, new Rate(emailCapacity, emailPeriod), new Rate(ipCapacity, ipPeriod), maxKeys, Ticker.systemTicker(), meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "loginRateLimit");
+    }
+
+    public LoginRateLimiter(boolean enabled, Rate emailRate, Rate ipRate, long maxKeys, Ticker ticker) {
+        this(enabled, emailRate, ipRate, maxKeys, ticker, new SimpleMeterRegistry());
+    }
+
+    private LoginRateLimiter(boolean enabled, Rate emailRate, Rate ipRate, long maxKeys, Ticker ticker, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.emailRate = emailRate;
+        this.ipRate = ipRate;
+        this.ticker = ticker;
+        // 키는 가장 긴 기간 동안만 의미가 있으므로 그 이후에는 제거해도 결과가 같다.
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(Math.max(emailRate.periodNanos, ipRate.periodNanos)))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.rejectedCounter = Counter.builder("login.rate_limit.rejected")
+                .description("요청 제한으로 거절된 로그인/회원가입 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도를 넘으면 BE1012(429)를 던진다. email 한도로 거절하면 먼저 사용한 IP 한도는 돌려준다.
+     * remoteAddress 는 로드 밸런서 뒤에서 X-Forwarded-For 의 클라이언트 IP 여야 한다. (server.forward-headers-strategy)
+     */
+    public void acquire(String email, String remoteAddress) {
+        if (!enabled) {
+            return;
+        }
+        String ipKey = IP_KEY_PREFIX + remoteAddress;
+        if (!tryAcquire(ipKey, ipRate)) {
+            reject();
+        }
+        if (email != null && !tryAcquire(EMAIL_KEY_PREFIX + email.toLowerCase(Locale.ROOT), emailRate)) {
+            release(ipKey, ipRate);
+            reject();
+        }
+    }
+
+    private void reject() {
+        rejectedCounter.increment();
+        throw new CustomException(ErrorCode.ERROR_BE1012);
+    }
+
+    public long estimatedKeyCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private boolean tryAcquire(String key, Rate rate) {
+        long now = ticker.read();
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + rate.emissionIntervalNanos;
+            if (next - now > rate.periodNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 사용한 한 번을 돌려준다. 다음 허용 시각을 한 번 간격만큼 앞당긴다.
+     */
+    private void release(String key, Rate rate) {
+        AtomicLong theoreticalArrival = buckets.getIfPresent(key);
+        if (theoreticalArrival != null) {
+            theoreticalArrival.addAndGet(-rate.emissionIntervalNanos);
+        }
+    }
+
+    /**
+     * period 동안 capacity 번까지 허용한다. (연속 요청도 capacity 번까지 허용)
+     */
+    public static final class Rate {
+
+        private final long periodNanos;
+        private final long emissionIntervalNanos;
+
+        public Rate(int capacity, Duration period) {
+            this.periodNanos = period.toNanos();
+            this.emissionIntervalNanos = periodNanos / Math.max(1, capacity);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.user.security;
+
+import com.storage.entity.RevokedToken;
+import com.storage.repository.RevokedTokenRepository;
+import com.user.utils.enums.TokenType;
+import com.user.utils.jwt.TokenClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기된 access token 목록.
+ * 인증 필터에서 요청마다 DB 를 조회하지 않도록 Bloom filter 로 먼저 걸러내고,
+ * Bloom filter 가 있다고 답한 경우에만 정확한 map 으로 다시 확인해 false positive 를 제거한다.
+ * <p>
+ * 폐기 기록은 revoked_token 테이블에 저장하고 주기적으로 다시 읽어 다른 인스턴스의 폐기도 반영한다.
+ * 다시 읽을 때 만료된 항목은 빼고 Bloom filter 를 새로 만들기 때문에 access token 만료 시간이 지나면 자연히 사라진다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final String USER_KEY_PREFIX = "user:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Clock clock;
+    private final int expectedInsertions;
+    private final double fpp;
+    private final int purgeBatchSize;
+    private final Counter falsePositiveCounter;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${security.revocation.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${security.revocation.fpp:0.01}") double fpp,
+                               @Value("${security.revocation.purge-batch-size:500}") int purgeBatchSize) {
+        this(revokedTokenRepository, meterRegistry, expectedInsertions, fpp, purgeBatchSize, Clock.systemDefaultZone());
+    }
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry,
+                               int expectedInsertions, double fpp, int purgeBatchSize, Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.purgeBatchSize = purgeBatchSize;
+        this.snapshot = Snapshot.of(new HashMap<>(), expectedInsertions, fpp);
+        this.falsePositiveCounter = Counter.builder("token.revocation.bloom.false_positive")
+                .description("Bloom filter 는 있다고 했지만 폐기되지 않은 토큰 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("token.revocation.size", this, list -> list.snapshot.entries.size())
+                .description("메모리에 올라간 폐기 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나를 폐기한다. (로그아웃)
+     */
+    public void revoke(TokenClaims claims) {
+        if (claims.tokenId() == null) {
+            return;
+        }
+        add(claims.tokenId(), now(), claims.expiration().getTime());
+    }
+
+    /**
+     * 지금 이전에 발급된 사용자의 모든 access token 을 폐기한다. (강제 로그아웃, 비밀번호 변경)
+     */
+    public void revokeAllIssuedBefore(Long userId) {
+        long now = now();
+        add(USER_KEY_PREFIX + userId, now, now + TokenType.ACCESS.getExpiredMs());
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        Snapshot current = snapshot;
+        if (claims.tokenId() != null && current.filter.mightContain(claims.tokenId())) {
+            if (current.entries.containsKey(claims.tokenId())) {
+                return true;
+            }
+            falsePositiveCounter.increment();
+        }
+        String userKey = USER_KEY_PREFIX + claims.userId();
+        if (current.filter.mightContain(userKey)) {
+            Entry entry = current.entries.get(userKey);
+            if (entry == null) {
+                falsePositiveCounter.increment();
+                return false;
+            }
+            // 폐기와 같은 초에 먼저 발급된 토큰도 폐기되도록 밀리초 단위 발급 시각(issuedAtMs)으로 비교한다.
+            return claims.issuedAt().getTime() < entry.revokedAt;
+        }
+        return false;
+    }
+
+    /**
+     * 테이블에서 만료되지 않은 폐기 기록을 다시 읽어 Bloom filter 를 새로 만든다.
+     * 만료된 기록은 한 번에 purgeBatchSize 건씩만 지운다.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval:PT10S}")
+    public void refresh() {
+        long now = now();
+        Map<String, Entry> loaded = new HashMap<>();
+        for (RevokedToken revokedToken : revokedTokenRepository.findByExpiresAtAfter(toLocalDateTime(now))) {
+            merge(loaded, revokedToken.getTokenKey(),
+                    new Entry(toEpochMilli(revokedToken.getRevokedAt()), toEpochMilli(revokedToken.getExpiresAt())));
+        }
+
+        // 읽는 동안 이 인스턴스에서 추가된 폐기를 잃지 않도록 교체는 add 와 같은 잠금 안에서 한다.
+        synchronized (this) {
+            snapshot.entries.forEach((key, entry) -> {
+                if (entry.expiresAt > now) {
+                    merge(loaded, key, entry);
+                }
+            });
+            snapshot = Snapshot.of(loaded, Math.max(expectedInsertions, loaded.size() * 2), fpp);
+        }
+
+        revokedTokenRepository.deleteExpired(toLocalDateTime(now), purgeBatchSize);
+    }
+
+    /**
+     * 폐기 기록은 호출한 트랜잭션 안에서 저장하고, 메모리 반영은 커밋된 뒤에 한다.
+     * 트랜잭션이 롤백되면 메모리에도 남지 않으므로 refresh 가 롤백된 폐기를 다시 합치지 않는다.
+     */
+    private void add(String key, long revokedAt, long expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenKey(key)
+                .revokedAt(toLocalDateTime(revokedAt))
+                .expiresAt(toLocalDateTime(expiresAt))
+                .build());
+
+        Entry entry = new Entry(revokedAt, expiresAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(key, entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(key, entry);
+            }
+        });
+    }
+
+    private synchronized void apply(String key, Entry entry) {
+        merge(snapshot.entries, key, entry);
+        snapshot.filter.put(key);
+    }
+
+    private static void merge(Map<String, Entry> entries, String key, Entry entry) {
+        entries.merge(key, entry, (a, b) -> new Entry(Math.max(a.revokedAt, b.revokedAt), Math.max(a.expiresAt, b.expiresAt)));
+    }
+
+    private long now() {
+        return clock.millis();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), clock.getZone());
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private record Entry(long revokedAt, long expiresAt) {
+    }
+
+    private record Snapshot(BloomFilter filter, Map<String, Entry> entries) {
+
+        static Snapshot of(Map<String, Entry> entries, int expectedInsertions, double fpp) {
+            BloomFilter filter = BloomFilter.create(expectedInsertions, fpp);
+            entries.keySet().forEach(filter::put);
+            return new Snapshot(filter, new ConcurrentHashMap<>(entries));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * DB 의 최신 사용자 상태가 필요한 경우(CustomUserDetailService)에 사용하는 email 기준 캐시.
+ * 크기와 TTL 이 제한되며, 비밀번호 변경/로그아웃 시 evict 된다.
+ * hit/miss/eviction 은 cache.* 메트릭(cache=userDetails)으로 노출된다.
+ * <p>
+ * JwtFilter 는 토큰 claim 으로 인증하므로 지금은 이 캐시를 읽는 엔드포인트가 없다.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final boolean enabled;
+    private final Cache<String, CustomUserDetails> cache;
+
+    @Autowired
+    public UserDetailsCache(@Value("${security.user-cache.enabled:true}") boolean enabled,
+                            @Value("${security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-cache.ttl:5m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this(enabled, maxSize, ttl, Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    public UserDetailsCache(boolean enabled, long maxSize, Duration ttl, Ticker ticker) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return cache.get(email, loader);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 비운다. 커밋 전에 비우면 동시에 읽은 요청이 변경 전 상태를 TTL 동안 다시 캐시할 수 있다.
+     */
+    public void evict(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(email);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
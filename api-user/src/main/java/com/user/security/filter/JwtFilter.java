@@ -1,7 +1,8 @@
 package com.user.security.filter;
 
-import com.user.security.CustomUserDetailService;
 import com.user.security.CustomUserDetails;
+import com.user.security.TokenRevocationList;
+import com.user.utils.enums.TokenType;
 import com.user.utils.jwt.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,25 +16,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * access token 의 claim 만으로 principal 을 만들어 요청마다 DB 를 조회하지 않는다.
+ * 폐기 여부도 메모리의 폐기 목록으로만 확인한다.
+ */
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailService customUserDetailService;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken(request);
 
         if (StringUtils.hasText(token)) {
-            try {
-                String email = jwtTokenProvider.getClaim(token, "email", String.class);
-                CustomUserDetails userDetails = (CustomUserDetails) customUserDetailService.loadUserByUsername(email);
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            } catch (Exception e) {
-                // TODO  Custom Exception 완료 후 추가
-            }
+            jwtTokenProvider.parseClaims(token)
+                    .filter(claims -> claims.isTypeOf(TokenType.ACCESS))
+                    .filter(claims -> !tokenRevocationList.isRevoked(claims))
+                    .ifPresent(claims -> {
+                        CustomUserDetails userDetails = CustomUserDetails.from(claims);
+                        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    });
         }
 
         filterChain.doFilter(request, response);
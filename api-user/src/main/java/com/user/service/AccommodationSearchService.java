@@ -0,0 +1,119 @@
+package com.user.service;
+
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.NearbyAccommodation;
+import com.support.money.Money;
+import com.user.dto.request.AccommodationRequestDto.NearbyReq;
+import com.user.dto.request.AccommodationRequestDto.SearchReq;
+import com.user.dto.response.AccommodationResponseDto.NearbyPageRes;
+import com.user.dto.response.AccommodationResponseDto.NearbyRes;
+import com.user.dto.response.AccommodationResponseDto.SearchPageRes;
+import com.user.dto.response.AccommodationResponseDto.SearchRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.AccommodationSearchIndex;
+import com.user.search.AccommodationSearchIndex.SearchResult;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.search.SearchCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AccommodationSearchService {
+
+    private final AccommodationRepository accommodationRepository;
+    private final AccommodationSearchIndex accommodationSearchIndex;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+    /**
+     * 반경 안의 숙소를 거리순으로 조회한다. size + 1 건을 읽어 다음 페이지 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public NearbyPageRes findNearby(NearbyReq req) {
+        int size = req.getSize();
+        List<NearbyAccommodation> rows = accommodationRepository.findNearby(
+                req.getLat(), req.getLng(), req.getRadiusKm(), size + 1, (long) req.getPage() * size);
+
+        boolean hasNext = rows.size() > size;
+        List<NearbyRes> content = rows.stream()
+                .limit(size)
+                .map(row -> NearbyRes.builder()
+                        .accommodationId(row.getAccommodationId())
+                        .name(row.getName())
+                        .city(row.getCity())
+                        .district(row.getDistrict())
+                        .latitude(row.getLatitude())
+                        .longitude(row.getLongitude())
+                        .distanceKm(row.getDistanceMeters() / 1000)
+                        .build())
+                .toList();
+
+        return NearbyPageRes.builder()
+                .content(content)
+                .page(req.getPage())
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 지역/객실/숙박 기간 조건 검색. DB 대신 메모리 역색인과 가용성 bitmap 에서 조회한다.
+     * 숙박 기간은 체크인/체크아웃을 함께 입력해야 하고 가용성 bitmap 기간 안이어야 한다.
+     * 숙박 기간을 입력하면 조건에 맞는 객실의 최저가로 숙박 기간 합계를 함께 반환한다.
+     */
+    public SearchPageRes search(SearchReq req) {
+        if ((req.getCheckIn() == null) != (req.getCheckOut() == null)) {
+            throw new CustomException(ErrorCode.ERROR_BE1013);
+        }
+        if (req.getCheckIn() != null && (!req.getCheckIn().isBefore(req.getCheckOut())
+                || !roomAvailabilityIndex.covers(req.getCheckIn(), req.getCheckOut()))) {
+            throw new CustomException(ErrorCode.ERROR_BE1013);
+        }
+
+        int size = req.getSize();
+        SearchCondition condition = new SearchCondition(
+                emptyToNull(req.getCountryName()), emptyToNull(req.getState()),
+                emptyToNull(req.getCity()), emptyToNull(req.getDistrict()),
+                emptyToNull(req.getRoomType()), emptyToNull(req.getViewType()),
+                emptyToNull(req.getBedType()), req.getCapacity(),
+                req.getCheckIn(), req.getCheckOut());
+        long offset = (long) req.getPage() * size;
+        SearchResult result = accommodationSearchIndex.search(condition, offset, size);
+        long nights = req.getCheckIn() == null ? 0 : ChronoUnit.DAYS.between(req.getCheckIn(), req.getCheckOut());
+
+        List<SearchRes> content = result.hits().stream()
+                .map(hit -> SearchRes.builder()
+                        .accommodationId(hit.accommodationId())
+                        .name(hit.name())
+                        .countryName(hit.countryName())
+                        .state(hit.state())
+                        .city(hit.city())
+                        .district(hit.district())
+                        .lowestPrice(toAmount(hit.lowestPrice()))
+                        .totalPrice(nights == 0 || hit.lowestPrice() == null ? null : hit.lowestPrice().times(nights).toBigDecimal())
+                        .build())
+                .toList();
+
+        return SearchPageRes.builder()
+                .content(content)
+                .page(req.getPage())
+                .size(size)
+                .totalCount(result.totalCount())
+                .hasNext(offset + content.size() < result.totalCount())
+                .build();
+    }
+
+    private static BigDecimal toAmount(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,124 @@
+package com.user.service;
+
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.AccommodationSummary;
+import com.support.money.Money;
+import com.user.dto.request.AccommodationRequestDto.ListReq;
+import com.user.dto.response.AccommodationResponseDto.AccommodationDetailRes;
+import com.user.dto.response.AccommodationResponseDto.ListPageRes;
+import com.user.dto.response.AccommodationResponseDto.ListRes;
+import com.user.dto.response.AccommodationResponseDto.RoomRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class AccommodationService {
+
+    private final AccommodationRepository accommodationRepository;
+
+    /**
+     * 숙소, 객실 목록(Accommodation.rooms), 객실은 모두 2차 캐시에 있으므로 캐시에 올라온 뒤에는 DB 를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public AccommodationDetailRes getAccommodation(Long accommodationId) {
+        Accommodation accommodation = accommodationRepository.findById(accommodationId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1014));
+
+        List<RoomRes> rooms = accommodation.getRooms().stream()
+                .sorted(Comparator.comparing(Room::getRoomId))
+                .map(AccommodationService::toRoomRes)
+                .toList();
+
+        return AccommodationDetailRes.builder()
+                .accommodationId(accommodation.getAccommodationId())
+                .name(accommodation.getName())
+                .info(accommodation.getInfo())
+                .countryName(accommodation.getCountryName())
+                .state(accommodation.getState())
+                .city(accommodation.getCity())
+                .district(accommodation.getDistrict())
+                .street(accommodation.getStreet())
+                .postalCode(accommodation.getPostalCode())
+                .latitude(accommodation.getLatitude())
+                .longitude(accommodation.getLongitude())
+                .rooms(rooms)
+                .build();
+    }
+
+    /**
+     * cursor(마지막으로 받은 숙소 id) 다음부터 id 순으로 size 건을 조회한다. size + 1 건을 읽어 다음 페이지 여부를 판단한다.
+     * 객실을 함께 요청하면 페이지의 숙소 id 로 객실을 한 번에 읽으므로 숙소 수와 관계없이 쿼리는 2번이다.
+     */
+    @Transactional(readOnly = true)
+    public ListPageRes getAccommodations(ListReq req) {
+        int size = req.getSize();
+        List<AccommodationSummary> rows = accommodationRepository.findSummariesAfter(req.getCursor(), PageRequest.ofSize(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<AccommodationSummary> page = rows.subList(0, Math.min(size, rows.size()));
+        Map<Long, List<RoomRes>> rooms = req.isIncludeRooms() ? findRooms(page) : Map.of();
+        List<ListRes> content = page.stream()
+                .map(row -> ListRes.builder()
+                        .accommodationId(row.getAccommodationId())
+                        .name(row.getName())
+                        .countryName(row.getCountryName())
+                        .state(row.getState())
+                        .city(row.getCity())
+                        .district(row.getDistrict())
+                        .minPrice(toAmount(row.getMinPrice()))
+                        .rooms(rooms.get(row.getAccommodationId()))
+                        .build())
+                .toList();
+
+        return ListPageRes.builder()
+                .content(content)
+                .size(size)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getAccommodationId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Map<Long, List<RoomRes>> findRooms(List<AccommodationSummary> page) {
+        if (page.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = page.stream().map(AccommodationSummary::getAccommodationId).toList();
+        Map<Long, List<RoomRes>> rooms = new HashMap<>();
+        for (Accommodation accommodation : accommodationRepository.findWithRoomsByIdIn(ids)) {
+            rooms.put(accommodation.getAccommodationId(), accommodation.getRooms().stream()
+                    .sorted(Comparator.comparing(Room::getRoomId))
+                    .map(AccommodationService::toRoomRes)
+                    .toList());
+        }
+        return rooms;
+    }
+
+    private static RoomRes toRoomRes(Room room) {
+        return RoomRes.builder()
+                .roomId(room.getRoomId())
+                .roomType(room.getRoomType())
+                .viewType(room.getViewType())
+                .bedType(room.getBedType())
+                .squareMeter(room.getSquareMeter())
+                .capacity(room.getCapacity())
+                .price(toAmount(room.getPrice()))
+                .build();
+    }
+
+    private static BigDecimal toAmount(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+}
@@ -8,13 +8,18 @@ import com.user.exception.CustomException;
 import com.user.exception.type.ErrorCode;
 import com.user.dto.request.TokenRequestDto;
 import com.user.dto.request.UserRequestDto;
+import com.user.dto.request.UserRequestDto.PasswordChangeReq;
 import com.user.dto.request.UserRequestDto.UserRegisterReq;
 import com.user.dto.response.TokenResponseDto;
 import com.user.dto.response.UserResponseDto.SignInRes;
+import com.user.security.PasswordHashingService;
+import com.user.security.TokenRevocationList;
+import com.user.security.UserDetailsCache;
 import com.user.utils.enums.TokenType;
 import com.user.utils.jwt.JwtTokenProvider;
+import com.user.utils.jwt.TokenClaims;
+import com.user.service.RefreshTokenService.Rotation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.Date;
@@ -25,8 +30,11 @@ public class AuthService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
 
     @Transactional
     public void register(UserRegisterReq request) {
@@ -37,7 +45,7 @@ public class AuthService {
         // Account 엔티티 생성
         Account account = Account.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .build();
 
         // User 엔티티 생성
@@ -59,18 +67,21 @@ public class AuthService {
      * @return
      */
     @Transactional
-    public SignInRes signIn(UserRequestDto.UserSignInReq req) {
+    public SignInRes signIn(UserRequestDto.UserSignInReq req, String deviceId) {
         User user = userRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1003));
 
-        if(!passwordEncoder.matches(req.getPassword(), user.getAccount().getPassword())){
+        Account account = user.getAccount();
+        if(!passwordHashingService.matches(req.getPassword(), account.getPassword())){
             throw new CustomException(ErrorCode.ERROR_BE1003);
         }
+        // BCrypt cost 설정이 바뀐 경우 평문을 알고 있는 지금 새 cost 로 다시 저장
+        if (passwordHashingService.needsRehash(account.getPassword())) {
+            account.setPassword(passwordHashingService.encode(req.getPassword()));
+        }
         // 토큰 생성
-        String accessToken = jwtTokenProvider.generateToken(TokenType.ACCESS, user.getUserId(), new Date());
-        String refreshToken = jwtTokenProvider.generateToken(TokenType.REFRESH, user.getUserId(), new Date());
-
-        user.setRefreshToken(refreshToken);
+        String accessToken = jwtTokenProvider.generateToken(TokenType.ACCESS, user.getUserId(), account.getEmail(), new Date());
+        String refreshToken = refreshTokenService.issue(user, deviceId);
 
         return SignInRes.builder()
                 .accessToken(accessToken)
@@ -80,28 +91,54 @@ public class AuthService {
 
     /**
      * 요청시 accessToken 재발행
+     * 재사용된 refresh token 이면 family 를 폐기한 뒤 예외를 던지므로, 폐기 결과는 롤백하지 않는다.
      * @param req
      * @return
      */
-    @Transactional
+    @Transactional(noRollbackFor = CustomException.class)
     public TokenResponseDto getAccessTokenByRefreshToken(TokenRequestDto req) {
-        if (!jwtTokenProvider.validateToken(req.getRefreshToken())) {
-            throw new CustomException(ErrorCode.ERROR_BE1005);
-        }
+        Rotation rotation = refreshTokenService.rotate(req.getRefreshToken());
+
+        User user = rotation.user();
+        String accessToken = jwtTokenProvider.generateToken(TokenType.ACCESS, user.getUserId(), user.getAccount().getEmail(), new Date());
 
-        Long userId = jwtTokenProvider.getClaim(req.getRefreshToken(), "userId", Long.class);
+        return TokenResponseDto.builder()
+                .accessToken(accessToken)
+                .refreshToken(rotation.refreshToken())
+                .build();
+    }
 
-        User user = userRepository.findByUserIdAndRefreshToken(userId, req.getRefreshToken())
+    /**
+     * 현재 기기의 refresh token 과 요청에 사용한 access token 을 폐기하고 캐시된 사용자 정보를 비운다.
+     */
+    @Transactional
+    public void logout(String email, String deviceId, TokenClaims accessTokenClaims) {
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1004));
 
-        String accessToken = jwtTokenProvider.generateToken(TokenType.ACCESS, user.getUserId(), new Date());
-        String refreshToken = jwtTokenProvider.generateToken(TokenType.REFRESH, user.getUserId(), new Date());
+        refreshTokenService.revoke(user.getUserId(), deviceId);
+        if (accessTokenClaims != null) {
+            tokenRevocationList.revoke(accessTokenClaims);
+        }
+        userDetailsCache.evict(email);
+    }
+
+    /**
+     * 비밀번호 변경 시 모든 refresh token 과 이미 발급된 access token 을 폐기하고 캐시된 사용자 정보를 비운다.
+     */
+    @Transactional
+    public void changePassword(String email, PasswordChangeReq req) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1004));
 
-        user.setRefreshToken(refreshToken);
+        Account account = user.getAccount();
+        if (!passwordHashingService.matches(req.getCurrentPassword(), account.getPassword())) {
+            throw new CustomException(ErrorCode.ERROR_BE1010);
+        }
 
-        return TokenResponseDto.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        account.setPassword(passwordHashingService.encode(req.getNewPassword()));
+        refreshTokenService.revokeAll(user.getUserId());
+        tokenRevocationList.revokeAllIssuedBefore(user.getUserId());
+        userDetailsCache.evict(email);
     }
 }
@@ -0,0 +1,208 @@
+package com.user.service;
+
+import com.storage.entity.InventoryHold;
+import com.storage.entity.Reservation;
+import com.storage.repository.InventoryHoldRepository;
+import com.storage.repository.ReservationRepository;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import com.storage.repository.UserRepository;
+import com.user.booking.HoldTimer;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.HoldRes;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.utils.enums.HoldStatus;
+import com.user.utils.enums.ReservationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 결제 전에 객실 재고를 ttl 동안 잡아 두는 객실 점유(hold).
+ * <p>
+ * 점유는 예약과 같은 조건부 UPDATE 로 재고를 차감하고, 확정하면 재고를 다시 차감하지 않고 예약을 만든다.
+ * 만료는 HoldTimer(timing wheel)가 알려 주고 HoldExpirationScheduler 가 releaseExpired 로 묶어서 재고를 돌려준다.
+ * 만료 시각이 지난 점유는 확정할 수 없으므로, 확정과 만료가 동시에 일어나도 한쪽만 성공한다.
+ * 예약 엔진(booking.engine)을 켠 경우 점유로 바뀐 재고는 엔진의 메모리 재고와 다를 수 있으나,
+ * 엔진이 저장할 때 조건부 UPDATE 로 감지하고 다시 읽는다.
+ */
+@Service
+public class HoldService {
+
+    private final InventoryHoldRepository inventoryHoldRepository;
+    private final ReservationRepository reservationRepository;
+    private final RoomInventoryRepository roomInventoryRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final HoldTimer holdTimer;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public HoldService(InventoryHoldRepository inventoryHoldRepository,
+                       ReservationRepository reservationRepository,
+                       RoomInventoryRepository roomInventoryRepository,
+                       RoomRepository roomRepository,
+                       UserRepository userRepository,
+                       RoomAvailabilityIndex roomAvailabilityIndex,
+                       HoldTimer holdTimer,
+                       @Value("${booking.hold.ttl:PT10M}") Duration ttl) {
+        this(inventoryHoldRepository, reservationRepository, roomInventoryRepository, roomRepository, userRepository,
+                roomAvailabilityIndex, holdTimer, ttl, Clock.systemDefaultZone());
+    }
+
+    public HoldService(InventoryHoldRepository inventoryHoldRepository,
+                       ReservationRepository reservationRepository,
+                       RoomInventoryRepository roomInventoryRepository,
+                       RoomRepository roomRepository,
+                       UserRepository userRepository,
+                       RoomAvailabilityIndex roomAvailabilityIndex,
+                       HoldTimer holdTimer,
+                       Duration ttl,
+                       Clock clock) {
+        this.inventoryHoldRepository = inventoryHoldRepository;
+        this.reservationRepository = reservationRepository;
+        this.roomInventoryRepository = roomInventoryRepository;
+        this.roomRepository = roomRepository;
+        this.userRepository = userRepository;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+        this.holdTimer = holdTimer;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public HoldRes hold(Long userId, ReserveReq req) {
+        long nights = ChronoUnit.DAYS.between(req.getCheckIn(), req.getCheckOut());
+        if (nights <= 0 || nights > ReservationService.MAX_NIGHTS) {
+            throw new CustomException(ErrorCode.ERROR_BE1007);
+        }
+
+        int updated = roomInventoryRepository.decreaseAvailable(req.getRoomId(), req.getCheckIn(), req.getCheckOut(), req.getQuantity());
+        if (updated != nights) {
+            throw new CustomException(ErrorCode.ERROR_BE1006);
+        }
+        roomAvailabilityIndex.applyAfterCommit(
+                roomInventoryRepository.findAvailability(req.getRoomId(), req.getCheckIn(), req.getCheckOut()));
+
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(ttl);
+        InventoryHold hold = inventoryHoldRepository.save(InventoryHold.builder()
+                .user(userRepository.getReferenceById(userId))
+                .room(roomRepository.getReferenceById(req.getRoomId()))
+                .checkIn(req.getCheckIn())
+                .checkOut(req.getCheckOut())
+                .quantity(req.getQuantity())
+                .status(HoldStatus.HELD.name())
+                .expiresAt(expiresAt)
+                .ownerWorkerId(holdTimer.owner())
+                .build());
+        holdTimer.scheduleAfterCommit(hold.getInventoryHoldId(), expiresAt);
+
+        return HoldRes.builder()
+                .holdId(hold.getInventoryHoldId())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 점유한 재고로 예약을 만든다. 재고는 점유할 때 이미 차감했다.
+     */
+    @Transactional
+    public ReserveRes confirm(Long userId, Long holdId) {
+        InventoryHold hold = inventoryHoldRepository.findByInventoryHoldIdAndUserUserId(holdId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1015));
+        Long roomId = hold.getRoom().getRoomId();
+        int changed = inventoryHoldRepository.updateStatusBeforeExpiry(holdId,
+                HoldStatus.HELD.name(), HoldStatus.CONFIRMED.name(), LocalDateTime.now(clock));
+        if (changed == 0) {
+            throw new CustomException(ErrorCode.ERROR_BE1016);
+        }
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(userRepository.getReferenceById(userId))
+                .room(roomRepository.getReferenceById(roomId))
+                .checkIn(hold.getCheckIn())
+                .checkOut(hold.getCheckOut())
+                .quantity(hold.getQuantity())
+                .status(ReservationStatus.RESERVED.name())
+                .build());
+        holdTimer.cancelAfterCommit(holdId);
+
+        return ReserveRes.builder()
+                .reservationId(reservation.getReservationId())
+                .build();
+    }
+
+    /**
+     * 사용자가 결제를 포기한 점유를 만료 전에 돌려준다.
+     */
+    @Transactional
+    public void release(Long userId, Long holdId) {
+        InventoryHold hold = inventoryHoldRepository.findByInventoryHoldIdAndUserUserId(holdId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1015));
+        Long roomId = hold.getRoom().getRoomId();
+        int changed = inventoryHoldRepository.updateStatus(holdId, HoldStatus.HELD.name(), HoldStatus.RELEASED.name());
+        if (changed == 0) {
+            throw new CustomException(ErrorCode.ERROR_BE1016);
+        }
+
+        roomInventoryRepository.increaseAvailable(roomId, hold.getCheckIn(), hold.getCheckOut(), hold.getQuantity());
+        roomAvailabilityIndex.applyAfterCommit(
+                roomInventoryRepository.findAvailability(roomId, hold.getCheckIn(), hold.getCheckOut()));
+        holdTimer.cancelAfterCommit(holdId);
+    }
+
+    /**
+     * holdIds 중 아직 HELD 이고 만료 시각이 지난 점유를 한 트랜잭션으로 돌려준다.
+     * 재고는 (객실, 숙박일)마다 합쳐 UPDATE 한 번으로 늘리고, 같은 행을 갱신하는 다른 트랜잭션과 같은 순서로 잠그도록 정렬해서 실행한다.
+     * 다른 인스턴스가 먼저 돌려준 점유나 이미 확정된 점유는 건너뛴다.
+     * 이 인스턴스의 시계가 빨라 아직 만료되지 않은 점유는 다시 등록한다.
+     *
+     * @return 돌려준 점유 수
+     */
+    @Transactional
+    public int releaseExpired(Collection<Long> holdIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> released = new ArrayList<>();
+        Map<Long, TreeMap<LocalDate, Integer>> deltas = new TreeMap<>();
+        for (InventoryHold hold : inventoryHoldRepository.findForUpdate(holdIds, HoldStatus.HELD.name())) {
+            if (hold.getExpiresAt().isAfter(now)) {
+                holdTimer.scheduleAfterCommit(hold.getInventoryHoldId(), hold.getExpiresAt());
+                continue;
+            }
+            released.add(hold.getInventoryHoldId());
+            TreeMap<LocalDate, Integer> nights = deltas.computeIfAbsent(hold.getRoom().getRoomId(), id -> new TreeMap<>());
+            for (LocalDate night = hold.getCheckIn(); night.isBefore(hold.getCheckOut()); night = night.plusDays(1)) {
+                nights.merge(night, hold.getQuantity(), Integer::sum);
+            }
+        }
+        if (released.isEmpty()) {
+            return 0;
+        }
+
+        inventoryHoldRepository.updateStatusIn(released, HoldStatus.RELEASED.name());
+        deltas.forEach((roomId, nights) -> {
+            nights.forEach((night, quantity) ->
+                    roomInventoryRepository.increaseAvailable(roomId, night, night.plusDays(1), quantity));
+            roomAvailabilityIndex.applyAfterCommit(
+                    roomInventoryRepository.findAvailability(roomId, nights.firstKey(), nights.lastKey().plusDays(1)));
+        });
+        return released.size();
+    }
+}
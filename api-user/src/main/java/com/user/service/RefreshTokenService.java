@@ -0,0 +1,86 @@
+package com.user.service;
+
+import com.storage.entity.RefreshToken;
+import com.storage.entity.User;
+import com.storage.repository.RefreshTokenRepository;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.utils.enums.TokenType;
+import com.user.utils.jwt.JwtTokenProvider;
+import com.user.utils.jwt.TokenClaims;
+import com.user.utils.jwt.TokenHasher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * refresh token 발급/회전/폐기.
+ * 호출하는 쪽(AuthService)의 트랜잭션 안에서 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 로그인 시 같은 기기의 이전 토큰을 지우고 새 family 로 발급한다.
+     */
+    public String issue(User user, String deviceId) {
+        refreshTokenRepository.deleteByUserIdAndDeviceId(user.getUserId(), deviceId);
+        return save(user, deviceId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 토큰을 사용 처리하고 같은 family 로 새 토큰을 발급한다.
+     * 이미 사용된 토큰이 다시 들어오면 family 전체를 폐기한다. 호출하는 트랜잭션은 이 예외로 롤백하지 않아야 한다.
+     */
+    public Rotation rotate(String refreshToken) {
+        TokenClaims claims = jwtTokenProvider.parseClaims(refreshToken)
+                .filter(c -> c.isTypeOf(TokenType.REFRESH))
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1005));
+
+        RefreshToken current = refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex(refreshToken))
+                .filter(rt -> rt.getUser().getUserId().equals(claims.userId()))
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1005));
+
+        if (current.isUsed() || refreshTokenRepository.markUsed(current.getRefreshTokenId()) == 0) {
+            refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            throw new CustomException(ErrorCode.ERROR_BE1005);
+        }
+
+        User user = current.getUser();
+        return new Rotation(user, save(user, current.getDeviceId(), current.getFamilyId()));
+    }
+
+    public void revoke(Long userId, String deviceId) {
+        refreshTokenRepository.deleteByUserIdAndDeviceId(userId, deviceId);
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    private String save(User user, String deviceId, String familyId) {
+        Date now = new Date();
+        String token = jwtTokenProvider.generateToken(TokenType.REFRESH, user.getUserId(), user.getAccount().getEmail(), now);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHasher.sha256Hex(token))
+                .familyId(familyId)
+                .deviceId(deviceId)
+                .expiresAt(LocalDateTime.ofInstant(
+                        now.toInstant().plusMillis(TokenType.REFRESH.getExpiredMs()), ZoneId.systemDefault()))
+                .build());
+        return token;
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
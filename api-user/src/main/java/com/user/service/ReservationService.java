@@ -0,0 +1,86 @@
+package com.user.service;
+
+import com.storage.entity.Reservation;
+import com.storage.repository.ReservationRepository;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import com.storage.repository.UserRepository;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.utils.enums.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.temporal.ChronoUnit;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationService {
+
+    // 한 번에 예약 가능한 최대 숙박일 수
+    public static final long MAX_NIGHTS = 30;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomInventoryRepository roomInventoryRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+    /**
+     * 숙박 기간의 재고를 조건부 UPDATE 한 번으로 차감한다.
+     * 차감된 행 수가 숙박일 수와 다르면 일부 날짜의 재고가 부족한 것이므로 예외를 던져 전체를 롤백한다.
+     * 재고 차감을 트랜잭션의 첫 쓰기로 두어, 실패하는 요청은 예약 INSERT 없이 바로 끝나도록 한다.
+     * 차감 후 남은 재고는 커밋된 뒤에 검색용 가용성 bitmap 에 반영한다.
+     */
+    @Transactional
+    public ReserveRes reserve(Long userId, ReserveReq req) {
+        long nights = ChronoUnit.DAYS.between(req.getCheckIn(), req.getCheckOut());
+        if (nights <= 0 || nights > MAX_NIGHTS) {
+            throw new CustomException(ErrorCode.ERROR_BE1007);
+        }
+
+        int updated = roomInventoryRepository.decreaseAvailable(req.getRoomId(), req.getCheckIn(), req.getCheckOut(), req.getQuantity());
+        if (updated != nights) {
+            throw new CustomException(ErrorCode.ERROR_BE1006);
+        }
+        roomAvailabilityIndex.applyAfterCommit(
+                roomInventoryRepository.findAvailability(req.getRoomId(), req.getCheckIn(), req.getCheckOut()));
+
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+                .user(userRepository.getReferenceById(userId))
+                .room(roomRepository.getReferenceById(req.getRoomId()))
+                .checkIn(req.getCheckIn())
+                .checkOut(req.getCheckOut())
+                .quantity(req.getQuantity())
+                .status(ReservationStatus.RESERVED.name())
+                .build());
+
+        return ReserveRes.builder()
+                .reservationId(reservation.getReservationId())
+                .build();
+    }
+
+    /**
+     * 예약 상태를 조건부로 변경한 요청만 재고를 복구하므로, 동시에 취소해도 재고가 중복 복구되지 않는다.
+     */
+    @Transactional
+    public void cancel(Long userId, Long reservationId) {
+        Reservation reservation = reservationRepository.findByReservationIdAndUserUserId(reservationId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.ERROR_BE1008));
+
+        Long roomId = reservation.getRoom().getRoomId();
+        int changed = reservationRepository.updateStatus(reservationId,
+                ReservationStatus.RESERVED.name(), ReservationStatus.CANCELED.name());
+        if (changed == 0) {
+            throw new CustomException(ErrorCode.ERROR_BE1009);
+        }
+
+        roomInventoryRepository.increaseAvailable(roomId, reservation.getCheckIn(), reservation.getCheckOut(), reservation.getQuantity());
+        roomAvailabilityIndex.applyAfterCommit(
+                roomInventoryRepository.findAvailability(roomId, reservation.getCheckIn(), reservation.getCheckOut()));
+    }
+}
@@ -0,0 +1,5 @@
+package com.user.utils.enums;
+
+public enum HoldStatus {
+    HELD, CONFIRMED, RELEASED
+}
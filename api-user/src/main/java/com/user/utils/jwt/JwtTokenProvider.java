@@ -1,7 +1,9 @@
 package com.user.utils.jwt;
 
 import com.user.utils.enums.TokenType;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,33 +15,59 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    // 표준 iat 는 초 단위라 같은 초 안의 발급/폐기 순서를 구분할 수 없어 밀리초 발급 시각을 따로 담는다.
+    private static final String ISSUED_AT_MS_CLAIM = "issuedAtMs";
+
     private final SecretKey secretKey;
+    // JwtParser 는 불변이고 thread-safe 하므로 요청마다 생성하지 않고 재사용한다.
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
                             @Value("${jwt.access-token.expire}") Duration accessExpire,
                             @Value("${jwt.refresh-token.expire}") Duration refreshExpire){
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
         TokenType.ACCESS.setExpiredMs(accessExpire.toMillis());
         TokenType.REFRESH.setExpiredMs(refreshExpire.toMillis());
     }
 
-    public <T> T getClaim(String token, String claimName, Class<T> requiredType) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get(claimName, requiredType);
+    /**
+     * 서명/만료 검증과 claim 추출을 한 번의 파싱으로 처리한다.
+     * @return 유효하지 않은 토큰이면 Optional.empty()
+     */
+    public Optional<TokenClaims> parseClaims(String token) {
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Long issuedAtMs = claims.get(ISSUED_AT_MS_CLAIM, Long.class);
+            return Optional.of(new TokenClaims(
+                    TokenType.valueOf(String.valueOf(claims.getSubject())),
+                    claims.getId(),
+                    claims.get("userId", Long.class),
+                    claims.get("email", String.class),
+                    issuedAtMs != null ? new Date(issuedAtMs) : claims.getIssuedAt(),
+                    claims.getExpiration()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
-    public String generateToken(TokenType tokenType, Long userId, Date currentDate){
+    /**
+     * 인증 필터가 DB 조회 없이 principal 을 만들 수 있도록 userId, email 을 claim 으로 담는다.
+     * jti 는 토큰마다 고유하며 폐기 목록의 키와 refresh token 해시의 유일성에 사용된다.
+     */
+    public String generateToken(TokenType tokenType, Long userId, String email, Date currentDate){
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(tokenType))
                 .claim("userId", userId)
+                .claim("email", email)
+                .claim(ISSUED_AT_MS_CLAIM, currentDate.getTime())
                 .issuedAt(currentDate)
                 .expiration(new Date(currentDate.getTime() + tokenType.getExpiredMs()))
                 .signWith(secretKey)
@@ -53,13 +81,4 @@ public class JwtTokenProvider {
         }
         return "";
     }
-
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
-        }
-    }
 }
@@ -0,0 +1,16 @@
+package com.user.utils.jwt;
+
+import com.user.utils.enums.TokenType;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 claim 을 한 번에 꺼내 담는 불변 객체.
+ * 같은 토큰을 claim 마다 다시 파싱(HMAC 검증)하지 않기 위해 사용한다.
+ */
+public record TokenClaims(TokenType tokenType, String tokenId, Long userId, String email, Date issuedAt, Date expiration) {
+
+    public boolean isTypeOf(TokenType type) {
+        return tokenType == type;
+    }
+}
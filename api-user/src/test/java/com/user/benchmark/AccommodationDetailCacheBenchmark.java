@@ -0,0 +1,85 @@
+package com.user.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.user.cache.AccommodationDetailCache;
+import com.user.cache.AccommodationDetailCache.Payload;
+import com.user.dto.response.AccommodationResponseDto.AccommodationDetailRes;
+import com.user.dto.response.AccommodationResponseDto.RoomRes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 숙소 상세 응답(객실 rooms 개) 한 건을 만드는 비용 비교. DB/2차 캐시에서 읽는 비용은 제외한다.
+ * serialize     : 요청마다 Jackson 으로 직렬화
+ * serializeGzip : 요청마다 직렬화 + gzip (server.compression 을 켠 경우와 같은 작업)
+ * cached        : AccommodationDetailCache 에서 직렬화/압축해 둔 바이트를 꺼냄
+ * 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=AccommodationDetailCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccommodationDetailCacheBenchmark {
+
+    @Param({"10", "50"})
+    private int rooms;
+
+    private ObjectMapper objectMapper;
+    private AccommodationDetailCache cache;
+    private AccommodationDetailRes detail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        cache = new AccommodationDetailCache(objectMapper, true, 100, Duration.ofHours(1), 1024, Duration.ofSeconds(3), Ticker.systemTicker());
+        List<RoomRes> roomList = LongStream.rangeClosed(1, rooms)
+                .mapToObj(roomId -> new RoomRes(roomId, "SUITE", "OCEAN", "DOUBLE", 40.0, 2,
+                        BigDecimal.valueOf(100_000 + roomId * 1_000, 2)))
+                .toList();
+        detail = AccommodationDetailRes.builder()
+                .accommodationId(1L)
+                .name("hotel")
+                .info("바다가 보이는 객실과 조식을 제공합니다.")
+                .countryName("KR")
+                .state("Seoul")
+                .city("Seoul")
+                .district("Jung-gu")
+                .street("Sejong-daero 110")
+                .postalCode("04524")
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .rooms(roomList)
+                .build();
+        cache.get(1L, id -> detail);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, detail);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Payload cached() {
+        return cache.get(1L, id -> detail);
+    }
+}
@@ -0,0 +1,114 @@
+package com.user.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.entity.Account;
+import com.storage.entity.User;
+import com.storage.repository.AccountRepository;
+import com.storage.repository.RefreshTokenRepository;
+import com.storage.repository.UserRepository;
+import com.support.benchmark.HttpLoadGenerator;
+import com.user.dto.request.UserRequestDto.UserSignInReq;
+import com.user.e2eTest.BaseE2eTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.http.HttpRequest;
+
+/**
+ * 로그인(POST /auth/signIn)의 처리량과 p99 를 플랫폼 스레드/가상 스레드 모드에서 비교한다.
+ * 로그인은 BCrypt 전용 풀(PasswordHashingService)에서 CPU 로 제한되므로, 두 모드의 차이는 대기 방식과 거절(503) 수에서 나타난다.
+ * JMH 가 아닌 부하 테스트이므로 JmhRunnerTest 대상(*Benchmark)에서 제외되도록 이름을 구분한다.
+ * 실행 : ./gradlew :api-user:Benchmark --tests '*AuthLoadTest*'
+ */
+@Tag("Benchmark")
+public abstract class AuthLoadTest extends BaseE2eTest {
+
+    private static final String EMAIL = "load@test.com";
+    private static final String PASSWORD = "Testtest11!!";
+    private static final int WARM_UP = 100;
+    private static final int REQUESTS = 1000;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final HttpLoadGenerator loadGenerator = new HttpLoadGenerator();
+
+    @BeforeEach
+    void setUp() {
+        Account account = accountRepository.save(Account.builder()
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .build());
+        userRepository.save(User.builder()
+                .account(account)
+                .nickname("load")
+                .grade("silver")
+                .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @ParameterizedTest(name = "concurrency {0}")
+    @ValueSource(ints = {50, 500})
+    @DisplayName("sign in under load")
+    void signIn(int concurrency) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(new UserSignInReq(EMAIL, PASSWORD));
+
+        loadGenerator.run(WARM_UP, concurrency, i -> post(body, i));
+        HttpLoadGenerator.Result result = loadGenerator.run(REQUESTS, concurrency, i -> post(body, i));
+
+        System.out.printf("[AuthLoadTest] mode=%s concurrency=%d %s%n",
+                virtualThreads ? "virtual" : "platform", concurrency, result);
+    }
+
+    /**
+     * 같은 기기로 동시에 로그인하면 기기별 refresh token 교체가 서로 겹치므로 요청마다 기기를 다르게 한다.
+     */
+    private HttpRequest post(byte[] body, int index) {
+        return HttpRequest.newBuilder(HttpLoadGenerator.uri(serverPort, "/auth/signIn"))
+                .header("Content-Type", "application/json")
+                .header("X-Device-Id", "load-" + index)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+    static class PlatformThreads extends AuthLoadTest {
+    }
+
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    static class VirtualThreads extends AuthLoadTest {
+    }
+}
@@ -0,0 +1,126 @@
+package com.user.benchmark;
+
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomInventoryRepository.NightAvailability;
+import com.storage.repository.RoomRepository;
+import com.user.search.RoomAvailabilityIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 객실 10,000 개, 365 일 재고(밤마다 90% 확률로 재고 있음)에서 checkIn ~ checkOut 의 모든 밤이 비어 있는 객실 수를 세는 비용 비교.
+ * rows   : 객실별 숙박일 -> 재고 map 을 밤마다 조회 (요청마다 room_inventory 행으로 계산하는 것과 같은 접근)
+ * bitmap : RoomAvailabilityIndex 의 long 단위 mask 비교
+ * 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=AvailabilityBitmapBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class AvailabilityBitmapBenchmark {
+
+    private static final int ROOMS = 10_000;
+    private static final int HORIZON_DAYS = 365;
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final int QUERIES = 1024;
+
+    @Param({"1", "7"})
+    private int nights;
+
+    private List<Map<LocalDate, Integer>> rows;
+    private RoomAvailabilityIndex index;
+    private LocalDate[] checkIns;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(ROOMS);
+        List<NightAvailability> available = new ArrayList<>();
+        List<Long> roomIds = new ArrayList<>(ROOMS);
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            Map<LocalDate, Integer> inventory = new HashMap<>();
+            for (int day = 0; day < HORIZON_DAYS; day++) {
+                LocalDate date = TODAY.plusDays(day);
+                int count = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(3);
+                inventory.put(date, count);
+                if (count > 0) {
+                    available.add(new Night(roomId, date, count));
+                }
+            }
+            rows.add(inventory);
+            roomIds.add(roomId);
+        }
+
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        RoomInventoryRepository roomInventoryRepository = mock(RoomInventoryRepository.class);
+        when(roomRepository.findIdsAfter(anyLong(), any())).thenReturn(roomIds).thenReturn(List.of());
+        when(roomInventoryRepository.findAvailableNights(anyCollection(), any(), any())).thenReturn(available);
+        index = new RoomAvailabilityIndex(roomRepository, roomInventoryRepository, HORIZON_DAYS, ROOMS,
+                Duration.ofSeconds(30), Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        index.reload();
+
+        checkIns = new LocalDate[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            checkIns[i] = TODAY.plusDays(random.nextInt(HORIZON_DAYS - nights));
+        }
+    }
+
+    @Benchmark
+    public int rows() {
+        LocalDate checkIn = nextCheckIn();
+        LocalDate checkOut = checkIn.plusDays(nights);
+        int count = 0;
+        for (Map<LocalDate, Integer> inventory : rows) {
+            boolean open = true;
+            for (LocalDate date = checkIn; open && date.isBefore(checkOut); date = date.plusDays(1)) {
+                open = inventory.getOrDefault(date, 0) > 0;
+            }
+            if (open) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int bitmap() {
+        LocalDate checkIn = nextCheckIn();
+        LocalDate checkOut = checkIn.plusDays(nights);
+        int count = 0;
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            if (index.isAvailable(roomId, checkIn, checkOut)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private LocalDate nextCheckIn() {
+        return checkIns[next++ & (QUERIES - 1)];
+    }
+
+    private record Night(Long roomId, LocalDate stayDate, int available) implements NightAvailability {
+        public Long getRoomId() { return roomId; }
+        public LocalDate getStayDate() { return stayDate; }
+        public int getAvailable() { return available; }
+    }
+}
@@ -0,0 +1,154 @@
+package com.user.benchmark;
+
+import com.user.booking.BookingCommand;
+import com.user.booking.BookingEngine;
+import com.user.booking.BookingStore;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 64 개의 요청 스레드가 rooms 개의 객실을 무작위로 예약할 때의 처리량과 지연(SampleTime 의 p50/p99) 비교.
+ * MySQL 대신 트랜잭션 한 번에 TX_NANOS + 명령당 ROW_NANOS 가 걸리고 커넥션이 CONNECTIONS 개인 저장소를 흉내 낸다.
+ * direct : ReservationService 처럼 요청마다 트랜잭션 하나. 같은 객실은 재고 행 잠금(객실별 lock)을 기다린다.
+ * engine : BookingEngine(partitions 개)으로 객실별 순서대로 메모리에서 판단하고 모아서 한 트랜잭션으로 저장한다.
+ * 실제 MySQL 에서의 수치는 BookingLoadTest 로 측정한다.
+ * 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=BookingEngineBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(64)
+@Fork(1)
+public class BookingEngineBenchmark {
+
+    private static final long TX_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long ROW_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final int CONNECTIONS = 10;
+    private static final LocalDate CHECK_IN = LocalDate.of(2026, 1, 1);
+
+    @State(Scope.Benchmark)
+    public static class Direct {
+
+        @Param({"8", "1024"})
+        private int rooms;
+
+        private final SimulatedStore store = new SimulatedStore();
+        private ReentrantLock[] roomLocks;
+
+        @Setup
+        public void setUp() {
+            roomLocks = new ReentrantLock[rooms];
+            for (int i = 0; i < rooms; i++) {
+                roomLocks[i] = new ReentrantLock();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Engine {
+
+        @Param({"1", "8", "64"})
+        private int partitions;
+
+        @Param({"8", "1024"})
+        private int rooms;
+
+        private BookingEngine engine;
+
+        @Setup
+        public void setUp() {
+            engine = new BookingEngine(new SimulatedStore(), partitions, 4096, 256, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        }
+
+        @TearDown
+        public void tearDown() throws InterruptedException {
+            engine.shutdown();
+        }
+    }
+
+    private static ReserveReq randomRoom(int rooms) {
+        long roomId = ThreadLocalRandom.current().nextInt(rooms);
+        return new ReserveReq(roomId, CHECK_IN, CHECK_IN.plusDays(2), 1);
+    }
+
+    /**
+     * 재고 행 잠금은 트랜잭션이 끝날 때까지 유지되므로 커넥션을 잡은 채로 같은 객실의 이전 트랜잭션을 기다린다.
+     */
+    @Benchmark
+    public long direct(Direct state) {
+        ReserveReq req = randomRoom(state.rooms);
+        state.store.connections.acquireUninterruptibly();
+        ReentrantLock lock = state.roomLocks[req.getRoomId().intValue()];
+        lock.lock();
+        try {
+            LockSupport.parkNanos(TX_NANOS + ROW_NANOS);
+            return state.store.ids.incrementAndGet();
+        } finally {
+            lock.unlock();
+            state.store.connections.release();
+        }
+    }
+
+    @Benchmark
+    public long engine(Engine state) {
+        return state.engine.reserve(1L, randomRoom(state.rooms)).getReservationId();
+    }
+
+    /**
+     * 재고가 충분한 저장소. commit 은 명령 수와 관계없이 트랜잭션 한 번의 비용에 행 수만큼의 비용을 더한다.
+     */
+    static class SimulatedStore implements BookingStore {
+
+        private final Semaphore connections = new Semaphore(CONNECTIONS);
+        private final AtomicLong ids = new AtomicLong();
+
+        @Override
+        public Map<LocalDate, Inventory> load(long roomId, LocalDate from, LocalDate to) {
+            transaction(1);
+            Map<LocalDate, Inventory> nights = new HashMap<>();
+            for (LocalDate night = from; night.isBefore(to); night = night.plusDays(1)) {
+                nights.put(night, new Inventory(Integer.MAX_VALUE, Integer.MAX_VALUE));
+            }
+            return nights;
+        }
+
+        @Override
+        public Stay findCancelable(long userId, long reservationId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> commit(List<BookingCommand> commands) {
+            transaction(commands.size());
+            return commands.stream().map(command -> ids.incrementAndGet()).toList();
+        }
+
+        @Override
+        public long commitOne(BookingCommand command) {
+            transaction(1);
+            return ids.incrementAndGet();
+        }
+
+        private void transaction(int rows) {
+            connections.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(TX_NANOS + ROW_NANOS * rows);
+            } finally {
+                connections.release();
+            }
+        }
+    }
+}
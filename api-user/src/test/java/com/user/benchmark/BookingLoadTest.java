@@ -0,0 +1,216 @@
+package com.user.benchmark;
+
+import com.storage.entity.*;
+import com.storage.repository.*;
+import com.support.money.Money;
+import com.user.booking.BookingEngine;
+import com.user.booking.BookingStore;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.e2eTest.BaseE2eTest;
+import com.user.exception.CustomException;
+import com.user.service.ReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL 에서 ROOMS 개 객실에 CONCURRENCY 개의 요청을 계속 보낼 때의 예약 처리량과 p50/p99 비교.
+ * direct 는 ReservationService 로, 나머지는 partitions 개의 BookingEngine 으로 예약한다.
+ * JMH 가 아닌 부하 테스트이므로 JmhRunnerTest 대상(*Benchmark)에서 제외되도록 이름을 구분한다.
+ * 실행 : ./gradlew :api-user:Benchmark --tests '*BookingLoadTest*'
+ */
+@Tag("Benchmark")
+@TestPropertySource(properties = "booking.engine.enabled=true")
+public abstract class BookingLoadTest extends BaseE2eTest {
+
+    private static final int ROOMS = 8;
+    private static final int STOCK = 100_000;
+    private static final int NIGHTS = 2;
+    private static final int WARM_UP = 1_000;
+    private static final int REQUESTS = 20_000;
+    private static final int CONCURRENCY = 64;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private BookingStore bookingStore;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(10);
+    private final List<Long> roomIds = new ArrayList<>();
+    private Long userId;
+
+    /**
+     * 0 이면 ReservationService 로 직접 예약한다.
+     */
+    abstract int partitions();
+
+    @BeforeEach
+    void setUp() {
+        Account account = accountRepository.save(Account.builder()
+                .email("load@test.com")
+                .password("password")
+                .build());
+        userId = userRepository.save(User.builder()
+                .account(account)
+                .nickname("load")
+                .grade("Silver")
+                .build()).getUserId();
+
+        Accommodation accommodation = Accommodation.builder()
+                .name("Hotel").info("info").countryName("country").state("state").city("city")
+                .district("district").street("street").postalCode("12345")
+                .build();
+        for (int i = 0; i < ROOMS; i++) {
+            accommodation.getRooms().add(Room.builder()
+                    .accommodation(accommodation)
+                    .roomType("SINGLE").viewType("CITY").bedType("SINGLE")
+                    .squareMeter(20.0).capacity(2).price(Money.of(100)).stock(STOCK)
+                    .build());
+        }
+        accommodationRepository.save(accommodation);
+
+        List<RoomInventory> inventories = new ArrayList<>();
+        for (Room room : accommodation.getRooms()) {
+            roomIds.add(room.getRoomId());
+            for (int i = 0; i < NIGHTS; i++) {
+                inventories.add(RoomInventory.builder()
+                        .room(room)
+                        .stayDate(checkIn.plusDays(i))
+                        .total(STOCK)
+                        .available(STOCK)
+                        .build());
+            }
+        }
+        roomInventoryRepository.saveAll(inventories);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        reservationRepository.deleteAll();
+        roomInventoryRepository.deleteAll();
+        accommodationRepository.deleteAll();
+        userRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("reserve under load")
+    void reserve() throws Exception {
+        BookingEngine engine = partitions() == 0 ? null
+                : new BookingEngine(bookingStore, partitions(), 4096, 256, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        Function<ReserveReq, Long> reserve = engine == null
+                ? req -> reservationService.reserve(userId, req).getReservationId()
+                : req -> engine.reserve(userId, req).getReservationId();
+        try {
+            run(WARM_UP, reserve);
+            long[] latencies = run(REQUESTS, reserve);
+            long elapsed = latencies[latencies.length - 1];
+            long[] sorted = Arrays.copyOf(latencies, REQUESTS);
+            Arrays.sort(sorted);
+
+            System.out.printf("[BookingLoadTest] mode=%s throughput=%.0f/s p50=%.2fms p99=%.2fms%n",
+                    engine == null ? "direct" : "engine-" + partitions(),
+                    REQUESTS * 1e9 / elapsed,
+                    sorted[REQUESTS / 2] / 1e6,
+                    sorted[REQUESTS * 99 / 100] / 1e6);
+        } finally {
+            if (engine != null) {
+                engine.shutdown();
+            }
+        }
+        assertThat(reservationRepository.count()).isEqualTo(WARM_UP + REQUESTS);
+    }
+
+    /**
+     * 요청별 지연(ns)과 마지막 칸에 전체 소요 시간을 담아 반환한다.
+     */
+    private long[] run(int requests, Function<ReserveReq, Long> reserve) throws InterruptedException {
+        long[] latencies = new long[requests + 1];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                executor.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        Long roomId = roomIds.get(ThreadLocalRandom.current().nextInt(ROOMS));
+                        long start = System.nanoTime();
+                        try {
+                            reserve.apply(new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 1));
+                        } catch (CustomException e) {
+                            failed.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        }
+        latencies[requests] = System.nanoTime() - started;
+        assertThat(failed.get()).isZero();
+        return latencies;
+    }
+
+    static class Direct extends BookingLoadTest {
+        @Override
+        int partitions() {
+            return 0;
+        }
+    }
+
+    static class Partitions1 extends BookingLoadTest {
+        @Override
+        int partitions() {
+            return 1;
+        }
+    }
+
+    static class Partitions8 extends BookingLoadTest {
+        @Override
+        int partitions() {
+            return 8;
+        }
+    }
+
+    static class Partitions64 extends BookingLoadTest {
+        @Override
+        int partitions() {
+            return 64;
+        }
+    }
+}
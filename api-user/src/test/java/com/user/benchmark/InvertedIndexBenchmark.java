@@ -0,0 +1,140 @@
+package com.user.benchmark;
+
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.SearchRow;
+import com.storage.repository.RoomRepository;
+import com.support.money.Money;
+import com.user.search.AccommodationSearchIndex;
+import com.user.search.AccommodationSearchIndex.SearchResult;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.search.SearchCondition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 숙소 100,000 건(숙소당 객실 10개)에서 도시 + 객실 조건으로 숙소를 찾고 전체 건수와 첫 20건을 구하는 비용 비교.
+ * scan  : 숙소/객실 객체를 모두 돌며 조건 비교 (LIKE/JOIN 으로 전체를 읽는 것과 같은 접근)
+ * index : AccommodationSearchIndex 의 BitSet 교집합
+ * 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=InvertedIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class InvertedIndexBenchmark {
+
+    private static final int ACCOMMODATIONS = 100_000;
+    private static final int ROOMS_PER_ACCOMMODATION = 10;
+    private static final int CITIES = 200;
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "TWIN", "SUITE", "FAMILY"};
+    private static final String[] VIEW_TYPES = {"CITY", "OCEAN", "MOUNTAIN", "GARDEN"};
+    private static final int QUERIES = 1024;
+    private static final int LIMIT = 20;
+
+    private List<Accommodation> accommodations;
+    private AccommodationSearchIndex index;
+    private SearchCondition[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        accommodations = new ArrayList<>(ACCOMMODATIONS);
+        List<SearchRow> rows = new ArrayList<>(ACCOMMODATIONS * ROOMS_PER_ACCOMMODATION);
+        List<Long> ids = new ArrayList<>(ACCOMMODATIONS);
+        for (long id = 1; id <= ACCOMMODATIONS; id++) {
+            String city = "city-" + random.nextInt(CITIES);
+            List<Room> rooms = new ArrayList<>(ROOMS_PER_ACCOMMODATION);
+            for (int r = 0; r < ROOMS_PER_ACCOMMODATION; r++) {
+                Room room = new Room(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)],
+                        VIEW_TYPES[random.nextInt(VIEW_TYPES.length)], 1 + random.nextInt(6));
+                rooms.add(room);
+                rows.add(new Row(id, city, id * ROOMS_PER_ACCOMMODATION + r, room));
+            }
+            accommodations.add(new Accommodation(id, city, rooms));
+            ids.add(id);
+        }
+
+        AccommodationRepository accommodationRepository = mock(AccommodationRepository.class);
+        when(accommodationRepository.findIdsAfter(anyLong(), any())).thenReturn(ids).thenReturn(List.of());
+        when(accommodationRepository.findSearchRows(anyCollection())).thenReturn(rows);
+        index = new AccommodationSearchIndex(accommodationRepository, mock(RoomRepository.class),
+                mock(RoomAvailabilityIndex.class), new SimpleMeterRegistry(), ACCOMMODATIONS, Duration.ofSeconds(30));
+        index.load();
+
+        queries = new SearchCondition[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new SearchCondition(null, null, "city-" + random.nextInt(CITIES), null,
+                    ROOM_TYPES[random.nextInt(ROOM_TYPES.length)], VIEW_TYPES[random.nextInt(VIEW_TYPES.length)],
+                    null, 1 + random.nextInt(6));
+        }
+    }
+
+    @Benchmark
+    public SearchResult scan() {
+        SearchCondition query = nextQuery();
+        List<AccommodationSearchIndex.IndexedAccommodation> hits = new ArrayList<>(LIMIT);
+        int total = 0;
+        for (Accommodation accommodation : accommodations) {
+            if (!accommodation.city().equals(query.city())) {
+                continue;
+            }
+            for (Room room : accommodation.rooms()) {
+                if (room.roomType().equals(query.roomType()) && room.viewType().equals(query.viewType())
+                        && room.capacity() >= query.minCapacity()) {
+                    if (hits.size() < LIMIT) {
+                        hits.add(new AccommodationSearchIndex.IndexedAccommodation(accommodation.id(), null, null, null,
+                                accommodation.city(), null, null));
+                    }
+                    total++;
+                    break;
+                }
+            }
+        }
+        return new SearchResult(hits, total);
+    }
+
+    @Benchmark
+    public SearchResult index() {
+        return index.search(nextQuery(), 0, LIMIT);
+    }
+
+    private SearchCondition nextQuery() {
+        return queries[next++ & (QUERIES - 1)];
+    }
+
+    private record Accommodation(long id, String city, List<Room> rooms) {
+    }
+
+    private record Room(String roomType, String viewType, int capacity) {
+    }
+
+    private record Row(Long accommodationId, String city, Long roomId, Room room) implements SearchRow {
+        public String getName() { return "hotel-" + accommodationId; }
+        public Long getAccommodationId() { return accommodationId; }
+        public String getCountryName() { return "KR"; }
+        public String getState() { return "state"; }
+        public String getCity() { return city; }
+        public String getDistrict() { return "district"; }
+        public Long getRoomId() { return roomId; }
+        public String getRoomType() { return room.roomType(); }
+        public String getViewType() { return room.viewType(); }
+        public String getBedType() { return "DOUBLE"; }
+        public Integer getCapacity() { return room.capacity(); }
+        public Money getPrice() { return Money.of(100_000); }
+    }
+}
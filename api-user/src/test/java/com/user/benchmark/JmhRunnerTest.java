@@ -0,0 +1,26 @@
+package com.user.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * com.user.benchmark 패키지의 JMH 벤치마크(*Benchmark)를 실행한다.
+ * 특정 벤치마크만 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=JwtParseBenchmark
+ */
+@Tag("Benchmark")
+public class JmhRunnerTest {
+
+    @Test
+    @DisplayName("run JMH benchmarks")
+    void run() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", "com\\.user\\.benchmark\\..*Benchmark"))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,58 @@
+package com.user.benchmark;
+
+import com.user.utils.enums.TokenType;
+import com.user.utils.jwt.JwtTokenProvider;
+import com.user.utils.jwt.TokenClaims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재발급(reissue) 요청 한 번에 드는 토큰 검증 비용 비교.
+ * before : 호출마다 JwtParser 생성 + validateToken, getClaim 으로 두 번 파싱
+ * after  : 재사용하는 JwtParser 로 parseClaims 한 번 파싱
+ * 실행 : ./gradlew :api-user:Benchmark (JmhRunnerTest)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "jwtwhatevertokenjwtwhatevertokenjwtwhatevertoken";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, Duration.ofMinutes(30), Duration.ofDays(14));
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.generateToken(TokenType.REFRESH, 1L, "test@test.com", new Date());
+    }
+
+    @Benchmark
+    public Long before() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .get("userId", Long.class);
+    }
+
+    @Benchmark
+    public Long after() {
+        return jwtTokenProvider.parseClaims(token)
+                .map(TokenClaims::userId)
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,87 @@
+package com.user.benchmark;
+
+import com.support.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 한 페이지(숙소 20건, 숙소당 객실 10개)에서 객실마다 숙박 기간 합계에 할인(15%)과 세금(10%)을 적용하고
+ * 숙소별 최저 금액과 페이지 합계를 구하는 비용 비교.
+ * bigDecimal : 객실 가격을 BigDecimal 로 두고 multiply/divide(HALF_UP) 로 계산
+ * money      : 객실 가격을 Money(minor 단위 long) 로 두고 같은 계산
+ * 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=MoneyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class MoneyBenchmark {
+
+    private static final int ACCOMMODATIONS = 20;
+    private static final int ROOMS_PER_ACCOMMODATION = 10;
+    private static final BigDecimal DISCOUNT = BigDecimal.valueOf(85);
+    private static final BigDecimal TAX = BigDecimal.valueOf(110);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Param({"1", "7"})
+    private int nights;
+
+    private BigDecimal[][] decimalPrices;
+    private Money[][] moneyPrices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        decimalPrices = new BigDecimal[ACCOMMODATIONS][ROOMS_PER_ACCOMMODATION];
+        moneyPrices = new Money[ACCOMMODATIONS][ROOMS_PER_ACCOMMODATION];
+        for (int a = 0; a < ACCOMMODATIONS; a++) {
+            for (int r = 0; r < ROOMS_PER_ACCOMMODATION; r++) {
+                // 50,000.00 ~ 549,999.99, DECIMAL(10,2) 컬럼에서 읽은 값과 같은 scale 2
+                BigDecimal price = BigDecimal.valueOf(5_000_000 + random.nextInt(50_000_000), 2);
+                decimalPrices[a][r] = price;
+                moneyPrices[a][r] = Money.of(price);
+            }
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal nightCount = BigDecimal.valueOf(nights);
+        BigDecimal pageTotal = BigDecimal.ZERO;
+        for (BigDecimal[] rooms : decimalPrices) {
+            BigDecimal lowest = null;
+            for (BigDecimal price : rooms) {
+                BigDecimal total = price.multiply(nightCount)
+                        .multiply(DISCOUNT).divide(HUNDRED, 2, RoundingMode.HALF_UP)
+                        .multiply(TAX).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+                if (lowest == null || total.compareTo(lowest) < 0) {
+                    lowest = total;
+                }
+            }
+            pageTotal = pageTotal.add(lowest);
+        }
+        return pageTotal;
+    }
+
+    @Benchmark
+    public Money money() {
+        Money pageTotal = Money.ZERO;
+        for (Money[] rooms : moneyPrices) {
+            Money lowest = null;
+            for (Money price : rooms) {
+                Money total = price.times(nights).times(85, 100).times(110, 100);
+                if (lowest == null || total.compareTo(lowest) < 0) {
+                    lowest = total;
+                }
+            }
+            pageTotal = pageTotal.plus(lowest);
+        }
+        return pageTotal;
+    }
+}
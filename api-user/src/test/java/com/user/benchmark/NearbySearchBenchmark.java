@@ -0,0 +1,127 @@
+package com.user.benchmark;
+
+import com.storage.geo.GeoHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 숙소 1,000,000 건(한반도 범위 무작위 좌표)에서 반경 검색 후 거리순 상위 20건을 구하는 비용 비교.
+ * fullScan : 모든 행의 거리를 계산 (위도/경도만 있는 현재 테이블의 전체 스캔)
+ * geohash  : geohash 로 정렬된 배열에서 반경을 덮는 셀(최대 16개) prefix 범위만 이진 탐색 (geohash B-tree 인덱스 범위 스캔)
+ * 실행 : ./gradlew :api-user:Benchmark -Pjmh.include=NearbySearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class NearbySearchBenchmark {
+
+    private static final int ACCOMMODATIONS = 1_000_000;
+    private static final int QUERIES = 1024;
+    private static final int LIMIT = 20;
+
+    @Param({"1", "5", "20"})
+    private double radiusKm;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private String[] sortedHashes;
+    private int[] sortedIds;
+    private double[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        latitudes = new double[ACCOMMODATIONS];
+        longitudes = new double[ACCOMMODATIONS];
+        String[] hashes = new String[ACCOMMODATIONS];
+        Integer[] order = new Integer[ACCOMMODATIONS];
+        for (int i = 0; i < ACCOMMODATIONS; i++) {
+            latitudes[i] = 33.0 + random.nextDouble() * 5.5;
+            longitudes[i] = 125.0 + random.nextDouble() * 4.6;
+            hashes[i] = GeoHash.encode(latitudes[i], longitudes[i], GeoHash.MAX_PRECISION);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> hashes[i]));
+        sortedHashes = new String[ACCOMMODATIONS];
+        sortedIds = new int[ACCOMMODATIONS];
+        for (int i = 0; i < ACCOMMODATIONS; i++) {
+            sortedHashes[i] = hashes[order[i]];
+            sortedIds[i] = order[i];
+        }
+
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[]{33.5 + random.nextDouble() * 4.5, 125.5 + random.nextDouble() * 3.6};
+        }
+    }
+
+    @Benchmark
+    public List<Hit> fullScan() {
+        double[] query = nextQuery();
+        List<Hit> hits = new ArrayList<>();
+        for (int i = 0; i < ACCOMMODATIONS; i++) {
+            double distance = GeoHash.distanceKm(query[0], query[1], latitudes[i], longitudes[i]);
+            if (distance <= radiusKm) {
+                hits.add(new Hit(i, distance));
+            }
+        }
+        return top(hits);
+    }
+
+    @Benchmark
+    public List<Hit> geohash() {
+        double[] query = nextQuery();
+        List<Hit> hits = new ArrayList<>();
+        Set<String> prefixes = new HashSet<>(GeoHash.coveringCells(query[0], query[1], radiusKm, 16));
+        for (String prefix : prefixes) {
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+            for (int i = from; i < to; i++) {
+                int id = sortedIds[i];
+                double distance = GeoHash.distanceKm(query[0], query[1], latitudes[id], longitudes[id]);
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(id, distance));
+                }
+            }
+        }
+        return top(hits);
+    }
+
+    private double[] nextQuery() {
+        return queries[next++ & (QUERIES - 1)];
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = sortedHashes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedHashes[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<Hit> top(List<Hit> hits) {
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.size() > LIMIT ? hits.subList(0, LIMIT) : hits;
+    }
+
+    public record Hit(int id, double distanceKm) {
+    }
+}
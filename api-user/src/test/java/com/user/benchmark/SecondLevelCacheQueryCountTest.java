@@ -0,0 +1,126 @@
+package com.user.benchmark;
+
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.repository.AccommodationRepository;
+import com.support.money.Money;
+import com.user.e2eTest.BaseE2eTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 숙소 상세 조회(GET /accommodations/{id}) 1회당 실행되는 SQL 수를 2차 캐시 사용/미사용으로 비교한다.
+ * 숙소 20개(객실 각 10개)를 돌아가며 요청한다. 첫 요청 이후에는 캐시에서 읽으므로 SQL 이 실행되지 않아야 한다.
+ * 2차 캐시만 비교하도록 응답 캐시(AccommodationDetailCache)는 끈다.
+ * 실행 : ./gradlew :api-user:Benchmark --tests '*SecondLevelCacheQueryCountTest*'
+ */
+@Tag("Benchmark")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "accommodation.detail-cache.enabled=false"
+})
+public abstract class SecondLevelCacheQueryCountTest extends BaseE2eTest {
+
+    private static final int ACCOMMODATIONS = 20;
+    private static final int ROOMS_PER_ACCOMMODATION = 10;
+    private static final int REQUESTS = 1000;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${storage.second-level-cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<Accommodation> accommodations = new ArrayList<>();
+        for (int i = 0; i < ACCOMMODATIONS; i++) {
+            Accommodation accommodation = Accommodation.builder()
+                    .name("hotel-" + i)
+                    .info("info")
+                    .countryName("country")
+                    .state("state")
+                    .city("city")
+                    .district("district")
+                    .street("street")
+                    .postalCode("12345")
+                    .build();
+            for (int r = 0; r < ROOMS_PER_ACCOMMODATION; r++) {
+                accommodation.getRooms().add(Room.builder()
+                        .accommodation(accommodation)
+                        .roomType("SUITE")
+                        .viewType("OCEAN")
+                        .bedType("DOUBLE")
+                        .capacity(2)
+                        .price(Money.of(100_000))
+                        .stock(1)
+                        .build());
+            }
+            accommodations.add(accommodation);
+        }
+        accommodationRepository.saveAll(accommodations).forEach(saved -> ids.add(saved.getAccommodationId()));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void cleanup() {
+        accommodationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("SQL statements per accommodation detail request")
+    void queriesPerRequest() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(testRestTemplate.getForEntity("/accommodations/" + ids.get(i % ACCOMMODATIONS), String.class)
+                    .getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("[SecondLevelCacheQueryCountTest] cache=%s requests=%d statements=%d (%.3f/request)"
+                        + " l2 hit=%d miss=%d%n",
+                cacheEnabled ? "on" : "off", REQUESTS, statements, (double) statements / REQUESTS,
+                statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount());
+
+        // 숙소 1건 + 객실 목록 1건
+        if (cacheEnabled) {
+            assertThat(statements).isEqualTo(2L * ACCOMMODATIONS);
+        } else {
+            assertThat(statements).isEqualTo(2L * REQUESTS);
+        }
+    }
+
+    @TestPropertySource(properties = "storage.second-level-cache.enabled=false")
+    static class CacheDisabled extends SecondLevelCacheQueryCountTest {
+    }
+
+    @TestPropertySource(properties = "storage.second-level-cache.enabled=true")
+    static class CacheEnabled extends SecondLevelCacheQueryCountTest {
+    }
+}
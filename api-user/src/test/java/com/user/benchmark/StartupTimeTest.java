@@ -0,0 +1,16 @@
+package com.user.benchmark;
+
+import com.support.benchmark.StartupTimeBenchmark;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * api-user 의 시작 시간(프로세스 시작 ~ 첫 GET /accommodations 응답)을 실행 방식별로 비교한다. 측정 방식은 StartupTimeBenchmark 참고.
+ * 실행 : ./gradlew :api-user:Benchmark --tests '*StartupTimeTest*' [-PfastStart] [-Dstartup.runs=5]
+ */
+@Tag("Benchmark")
+public class StartupTimeTest extends StartupTimeBenchmark {
+
+    public StartupTimeTest() {
+        super("api-user", "com/user/ApiUserApplication", "/accommodations?size=1");
+    }
+}
@@ -0,0 +1,102 @@
+package com.user.e2eTest;
+
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.repository.AccommodationRepository;
+import com.support.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.user.e2eTest.SqlStatementCounter.assertStatementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 숙소 목록은 페이지 크기와 관계없이 목록 1번, 객실 1번의 SQL 로 응답해야 한다.
+ */
+@Tag("E2eTest")
+@AutoConfigureMockMvc
+public class AccommodationListTest extends BaseE2eTest {
+
+    private static final int ACCOMMODATIONS = 10;
+    private static final int ROOMS_PER_ACCOMMODATION = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    private long cursor;
+
+    @BeforeEach
+    void setUp() {
+        List<Accommodation> accommodations = new ArrayList<>();
+        for (int i = 0; i < ACCOMMODATIONS; i++) {
+            Accommodation accommodation = Accommodation.builder()
+                    .name("hotel-" + i)
+                    .info("info")
+                    .countryName("KR")
+                    .state("state")
+                    .city("city")
+                    .district("district")
+                    .street("street")
+                    .postalCode("12345")
+                    .latitude(37.5)
+                    .longitude(127.0)
+                    .build();
+            for (int r = 0; r < ROOMS_PER_ACCOMMODATION; r++) {
+                accommodation.getRooms().add(Room.builder()
+                        .accommodation(accommodation)
+                        .roomType("SUITE")
+                        .viewType("OCEAN")
+                        .bedType("DOUBLE")
+                        .capacity(2)
+                        .price(Money.of(100_000 + r * 10_000))
+                        .stock(1)
+                        .build());
+            }
+            accommodations.add(accommodation);
+        }
+        // 다른 테스트가 남긴 숙소를 건너뛰도록 이번에 저장한 첫 숙소 바로 앞에서 시작한다.
+        cursor = accommodationRepository.saveAll(accommodations).getFirst().getAccommodationId() - 1;
+    }
+
+    @AfterEach
+    void cleanup() {
+        accommodationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("List accommodations with rooms in two SQL statements")
+    public void listWithRooms() throws Exception {
+        assertStatementCount(2, () -> mockMvc.perform(get("/accommodations")
+                        .param("cursor", String.valueOf(cursor))
+                        .param("size", String.valueOf(ACCOMMODATIONS))
+                        .param("includeRooms", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ACCOMMODATIONS))
+                .andExpect(jsonPath("$.content[9].rooms.length()").value(ROOMS_PER_ACCOMMODATION))
+                .andExpect(jsonPath("$.content[0].minPrice").value(100000)));
+    }
+
+    @Test
+    @DisplayName("List accommodations without rooms in one SQL statement")
+    public void listWithoutRooms() throws Exception {
+        assertStatementCount(1, () -> mockMvc.perform(get("/accommodations")
+                        .param("cursor", String.valueOf(cursor))
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true)));
+    }
+}
@@ -0,0 +1,153 @@
+package com.user.e2eTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.entity.RoomInventory;
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.RoomInventoryRepository;
+import com.support.money.Money;
+import com.user.search.AccommodationSearchIndex;
+import com.user.search.RoomAvailabilityIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("E2eTest")
+public class AccommodationSearchTest extends BaseE2eTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private AccommodationSearchIndex accommodationSearchIndex;
+
+    @Autowired
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 색인은 삭제를 반영하지 않으므로 테스트마다 다른 도시 이름을 사용한다.
+    private String seoul;
+
+    @BeforeEach
+    void setUp() {
+        seoul = "Seoul-" + UUID.randomUUID();
+        List<Accommodation> saved = accommodationRepository.saveAll(List.of(
+                accommodation("seoul-suite", seoul, "SUITE", 4),
+                accommodation("seoul-single", seoul, "SINGLE", 1),
+                accommodation("busan-suite", "Busan-" + UUID.randomUUID(), "SUITE", 4)));
+
+        // seoul-single 만 내일부터 3박 판매한다.
+        Room single = saved.get(1).getRooms().get(0);
+        List<RoomInventory> inventories = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            inventories.add(RoomInventory.builder()
+                    .room(single)
+                    .stayDate(LocalDate.now().plusDays(i))
+                    .total(1)
+                    .available(1)
+                    .build());
+        }
+        roomInventoryRepository.saveAll(inventories);
+
+        // 스케줄을 기다리지 않고 방금 저장한 숙소와 재고를 색인한다.
+        accommodationSearchIndex.refresh();
+        roomAvailabilityIndex.refresh();
+    }
+
+    @AfterEach
+    void cleanup() {
+        roomInventoryRepository.deleteAll();
+        accommodationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Search accommodations by city and room conditions")
+    public void searchByCityAndRoom() throws Exception {
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                "/accommodations/search?city=" + seoul + "&roomType=SUITE&capacity=2", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertThat(body.get("totalCount").asInt()).isEqualTo(1);
+        assertThat(body.get("content").get(0).get("name").asText()).isEqualTo("seoul-suite");
+    }
+
+    @Test
+    @DisplayName("Search accommodations by city only")
+    public void searchByCity() throws Exception {
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                "/accommodations/search?city=" + seoul, String.class);
+
+        JsonNode content = objectMapper.readTree(response.getBody()).get("content");
+        List<String> names = new ArrayList<>();
+        content.forEach(node -> names.add(node.get("name").asText()));
+        assertThat(names).containsExactlyInAnyOrder("seoul-suite", "seoul-single");
+    }
+
+    @Test
+    @DisplayName("Search accommodations with a room open for every night of the stay")
+    public void searchByStayDates() throws Exception {
+        LocalDate today = LocalDate.now();
+        ResponseEntity<String> open = testRestTemplate.getForEntity(
+                "/accommodations/search?city=" + seoul + "&checkIn=" + today.plusDays(1) + "&checkOut=" + today.plusDays(4), String.class);
+        ResponseEntity<String> tooLong = testRestTemplate.getForEntity(
+                "/accommodations/search?city=" + seoul + "&checkIn=" + today.plusDays(1) + "&checkOut=" + today.plusDays(5), String.class);
+
+        JsonNode openBody = objectMapper.readTree(open.getBody());
+        assertThat(openBody.get("totalCount").asInt()).isEqualTo(1);
+        assertThat(openBody.get("content").get(0).get("name").asText()).isEqualTo("seoul-single");
+        // 1박 100,000 * 3박
+        assertThat(openBody.get("content").get(0).get("totalPrice").decimalValue()).isEqualByComparingTo(new BigDecimal("300000"));
+        assertThat(objectMapper.readTree(tooLong.getBody()).get("totalCount").asInt()).isZero();
+    }
+
+    private Accommodation accommodation(String name, String city, String roomType, int capacity) {
+        Accommodation accommodation = Accommodation.builder()
+                .name(name)
+                .info("info")
+                .countryName("KR")
+                .state("state")
+                .city(city)
+                .district("district")
+                .street("street")
+                .postalCode("12345")
+                .latitude(37.5)
+                .longitude(127.0)
+                .build();
+        accommodation.getRooms().add(Room.builder()
+                .accommodation(accommodation)
+                .roomType(roomType)
+                .viewType("CITY")
+                .bedType("DOUBLE")
+                .squareMeter(30)
+                .capacity(capacity)
+                .price(Money.of(100000))
+                .stock(5)
+                .build());
+        return accommodation;
+    }
+}
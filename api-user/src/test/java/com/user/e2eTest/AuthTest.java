@@ -3,7 +3,11 @@ package com.user.e2eTest;
 import com.storage.entity.Account;
 import com.storage.entity.User;
 import com.storage.repository.AccountRepository;
+import com.storage.repository.RefreshTokenRepository;
+import com.storage.repository.RevokedTokenRepository;
 import com.storage.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.dto.request.TokenRequestDto;
 import com.user.dto.request.UserRequestDto.UserRegisterReq;
 import com.user.dto.request.UserRequestDto.UserSignInReq;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,9 +38,18 @@ public class AuthTest extends BaseE2eTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private static final String EMAIL = "test@test.com";
     private static final String PASSWORD = "Testtest11!!";
     private static final String NICKNAME = "yogurt";
@@ -58,6 +74,8 @@ public class AuthTest extends BaseE2eTest {
 
     @AfterEach
     void cleanUpDatabase() {
+        refreshTokenRepository.deleteAll();
+        revokedTokenRepository.deleteAll();
         userRepository.deleteAll();
         accountRepository.deleteAll();
     }
@@ -151,9 +169,9 @@ public class AuthTest extends BaseE2eTest {
         assertThat(response.getBody()).contains("accessToken");
         assertThat(response.getBody()).contains("refreshToken");
 
-        // Verify that refreshToken is saved in User entity
-        User updatedUser = userRepository.findByEmail(EMAIL).orElseThrow();
-        assertThat(updatedUser.getRefreshToken()).isNotNull();
+        // Verify that only the refreshToken hash is saved
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findAll().get(0).getTokenHash()).hasSize(64);
     }
 
     @Test
@@ -216,4 +234,62 @@ public class AuthTest extends BaseE2eTest {
         assertThat(response.getBody()).contains("8 ~ 16자로 입력하세요.");
     }
 
+    @Test
+    @DisplayName("Keep one refresh token per device")
+    public void keepRefreshTokenPerDevice() {
+        signIn("phone");
+        signIn("laptop");
+        signIn("phone");
+
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Reusing a rotated refresh token revokes the token family")
+    public void reuseRotatedRefreshToken() throws Exception {
+        String refreshToken = objectMapper.readTree(signIn("phone").getBody()).get("refreshToken").asText();
+
+        ResponseEntity<String> rotated = testRestTemplate.postForEntity(
+                "/auth/reissueToken", new TokenRequestDto(refreshToken), String.class);
+        assertThat(rotated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String newRefreshToken = objectMapper.readTree(rotated.getBody()).get("refreshToken").asText();
+
+        ResponseEntity<String> reused = testRestTemplate.postForEntity(
+                "/auth/reissueToken", new TokenRequestDto(refreshToken), String.class);
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<String> revoked = testRestTemplate.postForEntity(
+                "/auth/reissueToken", new TokenRequestDto(newRefreshToken), String.class);
+        assertThat(revoked.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Reject an access token after logout")
+    public void rejectAccessTokenAfterLogout() throws Exception {
+        String accessToken = objectMapper.readTree(signIn("phone").getBody()).get("accessToken").asText();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.set("X-Device-Id", "phone");
+
+        ResponseEntity<String> logout = testRestTemplate.exchange(
+                "/auth/logout", HttpMethod.POST, new HttpEntity<>(headers), String.class);
+        assertThat(logout.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> reused = testRestTemplate.exchange(
+                "/auth/logout", HttpMethod.POST, new HttpEntity<>(headers), String.class);
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    private ResponseEntity<String> signIn(String deviceId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Device-Id", deviceId);
+        return testRestTemplate.exchange(
+                "/auth/signIn",
+                HttpMethod.POST,
+                new HttpEntity<>(new UserSignInReq(EMAIL, PASSWORD), headers),
+                String.class
+        );
+    }
 }
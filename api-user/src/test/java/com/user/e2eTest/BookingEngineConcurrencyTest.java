@@ -0,0 +1,218 @@
+package com.user.e2eTest;
+
+import com.storage.entity.*;
+import com.storage.repository.*;
+import com.support.money.Money;
+import com.user.booking.BookingEngine;
+import com.user.booking.BookingStore;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.exception.CustomException;
+import com.user.service.ReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 엔진(booking.engine)으로 수천 건의 예약을 동시에 요청해도, 재시작하거나 기존 경로와 섞여도 초과 예약이 발생하지 않는지 검증한다.
+ */
+@Tag("E2eTest")
+@TestPropertySource(properties = "booking.engine.enabled=true")
+public class BookingEngineConcurrencyTest extends BaseE2eTest {
+
+    private static final int STOCK = 100;
+    private static final int REQUESTS = 3000;
+    private static final int NIGHTS = 3;
+
+    @Autowired
+    private BookingEngine bookingEngine;
+
+    @Autowired
+    private BookingStore bookingStore;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(10);
+
+    private Long userId;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = accountRepository.save(Account.builder()
+                .email("engine@test.com")
+                .password("password")
+                .build());
+        userId = userRepository.save(User.builder()
+                .account(account)
+                .nickname("booker")
+                .grade("Silver")
+                .build()).getUserId();
+
+        Accommodation accommodation = Accommodation.builder()
+                .name("Hotel").info("info").countryName("country").state("state").city("city")
+                .district("district").street("street").postalCode("12345")
+                .build();
+        Room room = Room.builder()
+                .accommodation(accommodation)
+                .roomType("SINGLE").viewType("CITY").bedType("SINGLE")
+                .squareMeter(20.0).capacity(2).price(Money.of(100)).stock(STOCK)
+                .build();
+        accommodation.getRooms().add(room);
+        accommodationRepository.save(accommodation);
+        roomId = room.getRoomId();
+
+        List<RoomInventory> inventories = new ArrayList<>();
+        for (int i = 0; i < NIGHTS; i++) {
+            inventories.add(RoomInventory.builder()
+                    .room(room)
+                    .stayDate(checkIn.plusDays(i))
+                    .total(STOCK)
+                    .available(STOCK)
+                    .build());
+        }
+        roomInventoryRepository.saveAll(inventories);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        reservationRepository.deleteAll();
+        roomInventoryRepository.deleteAll();
+        accommodationRepository.deleteAll();
+        userRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    /**
+     * 요청마다 reserve 를 동시에 호출하고 성공한 수를 반환한다.
+     */
+    private int reserveConcurrently(int requests, ReserveReq req, Reserver reserver) throws InterruptedException {
+        AtomicInteger succeeded = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    try {
+                        reserver.reserve(index, req);
+                        succeeded.incrementAndGet();
+                    } catch (CustomException ignored) {
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        }
+        return succeeded.get();
+    }
+
+    private void assertSoldOut() {
+        assertThat(reservationRepository.count()).isEqualTo(STOCK);
+        assertThat(roomInventoryRepository.findByRoomIdAndStayDateRange(roomId, checkIn, checkIn.plusDays(NIGHTS)))
+                .hasSize(NIGHTS)
+                .allSatisfy(inventory -> assertThat(inventory.getAvailable()).isZero());
+    }
+
+    @Test
+    @DisplayName("never oversells a room under thousands of concurrent engine bookings")
+    void neverOversell() throws InterruptedException {
+        ReserveReq req = new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 1);
+
+        int succeeded = reserveConcurrently(REQUESTS, req, (i, r) -> bookingEngine.reserve(userId, r));
+
+        assertThat(succeeded).isEqualTo(STOCK);
+        assertSoldOut();
+    }
+
+    @Test
+    @DisplayName("restores stock exactly once when cancellations race")
+    void cancelRestoresOnce() {
+        ReserveReq req = new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 2);
+        Long reservationId = bookingEngine.reserve(userId, req).getReservationId();
+
+        AtomicInteger canceled = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                executor.submit(() -> {
+                    try {
+                        bookingEngine.cancel(userId, reservationId);
+                        canceled.incrementAndGet();
+                    } catch (CustomException ignored) {
+                    }
+                });
+            }
+        }
+
+        assertThat(canceled.get()).isEqualTo(1);
+        assertThat(roomInventoryRepository.findByRoomIdAndStayDateRange(roomId, checkIn, checkIn.plusDays(NIGHTS)))
+                .allSatisfy(inventory -> assertThat(inventory.getAvailable()).isEqualTo(STOCK));
+    }
+
+    @Test
+    @DisplayName("rebuilds inventory from MySQL after a restart")
+    void recoverAfterRestart() throws InterruptedException {
+        ReserveReq req = new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 1);
+        assertThat(reserveConcurrently(STOCK / 2, req, (i, r) -> bookingEngine.reserve(userId, r))).isEqualTo(STOCK / 2);
+
+        // 재시작 : 메모리 재고가 비어 있는 새 엔진
+        BookingEngine restarted = new BookingEngine(bookingStore, 8, 4096, 256, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        try {
+            int succeeded = reserveConcurrently(REQUESTS, req, (i, r) -> restarted.reserve(userId, r));
+            assertThat(succeeded).isEqualTo(STOCK / 2);
+        } finally {
+            restarted.shutdown();
+        }
+        assertSoldOut();
+    }
+
+    @Test
+    @DisplayName("never oversells when engine bookings race with direct bookings")
+    void mixedWithDirectBookings() throws InterruptedException {
+        ReserveReq req = new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 1);
+
+        int succeeded = reserveConcurrently(REQUESTS, req, (i, r) -> {
+            if (i % 2 == 0) {
+                bookingEngine.reserve(userId, r);
+            } else {
+                reservationService.reserve(userId, r);
+            }
+        });
+
+        assertThat(succeeded).isEqualTo(STOCK);
+        assertSoldOut();
+    }
+
+    @FunctionalInterface
+    private interface Reserver {
+        void reserve(int index, ReserveReq req);
+    }
+}
@@ -0,0 +1,213 @@
+package com.user.e2eTest;
+
+import com.storage.entity.*;
+import com.storage.repository.*;
+import com.support.money.Money;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.scheduler.HoldExpirationScheduler;
+import com.user.service.HoldService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 객실 점유(hold)가 동시에 몰려도 초과 점유가 없고, 만료되면 재고가 정확히 한 번 돌아오는지 검증한다.
+ */
+@Tag("E2eTest")
+@TestPropertySource(properties = {"booking.hold.ttl=PT2S", "booking.hold.tick=PT0.1S", "booking.hold.expiry.orphan-grace=PT1S"})
+public class InventoryHoldTest extends BaseE2eTest {
+
+    private static final int STOCK = 20;
+    private static final int REQUESTS = 200;
+    private static final int NIGHTS = 2;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private HoldExpirationScheduler holdExpirationScheduler;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private InventoryHoldRepository inventoryHoldRepository;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(10);
+
+    private Long userId;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        Account account = accountRepository.save(Account.builder()
+                .email("hold@test.com")
+                .password("password")
+                .build());
+        userId = userRepository.save(User.builder()
+                .account(account)
+                .nickname("holder")
+                .grade("Silver")
+                .build()).getUserId();
+
+        Accommodation accommodation = Accommodation.builder()
+                .name("Hotel").info("info").countryName("country").state("state").city("city")
+                .district("district").street("street").postalCode("12345")
+                .build();
+        room = Room.builder()
+                .accommodation(accommodation)
+                .roomType("SINGLE").viewType("CITY").bedType("SINGLE")
+                .squareMeter(20.0).capacity(2).price(Money.of(100)).stock(STOCK)
+                .build();
+        accommodation.getRooms().add(room);
+        accommodationRepository.save(accommodation);
+
+        List<RoomInventory> inventories = new ArrayList<>();
+        for (int i = 0; i < NIGHTS; i++) {
+            inventories.add(RoomInventory.builder()
+                    .room(room)
+                    .stayDate(checkIn.plusDays(i))
+                    .total(STOCK)
+                    .available(STOCK)
+                    .build());
+        }
+        roomInventoryRepository.saveAll(inventories);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        inventoryHoldRepository.deleteAll();
+        reservationRepository.deleteAll();
+        roomInventoryRepository.deleteAll();
+        accommodationRepository.deleteAll();
+        userRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private ReserveReq req(int quantity) {
+        return new ReserveReq(room.getRoomId(), checkIn, checkIn.plusDays(NIGHTS), quantity);
+    }
+
+    private boolean availableIs(int expected) {
+        return roomInventoryRepository.findByRoomIdAndStayDateRange(room.getRoomId(), checkIn, checkIn.plusDays(NIGHTS))
+                .stream()
+                .allMatch(inventory -> inventory.getAvailable() == expected);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    @DisplayName("never over-holds a room and gives every expired hold back exactly once")
+    void expireConcurrentHolds() throws InterruptedException {
+        AtomicInteger succeeded = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                executor.submit(() -> {
+                    try {
+                        holdService.hold(userId, req(1));
+                        succeeded.incrementAndGet();
+                    } catch (CustomException ignored) {
+                    }
+                });
+            }
+        }
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(availableIs(0)).isTrue();
+
+        await(() -> availableIs(STOCK));
+        assertThat(inventoryHoldRepository.findAll())
+                .hasSize(STOCK)
+                .allSatisfy(hold -> assertThat(hold.getStatus()).isEqualTo("RELEASED"));
+
+        // 다시 만료를 돌려도 재고는 한 번만 돌아온다
+        assertThat(holdExpirationScheduler.releaseOrphans()).isZero();
+        holdExpirationScheduler.expire();
+        assertThat(availableIs(STOCK)).isTrue();
+    }
+
+    @Test
+    @DisplayName("keeps the stock of a confirmed hold and rejects confirming an expired one")
+    void confirmBeforeExpiry() throws InterruptedException {
+        Long confirmed = holdService.hold(userId, req(2)).getHoldId();
+        Long expired = holdService.hold(userId, req(3)).getHoldId();
+
+        holdService.confirm(userId, confirmed);
+        await(() -> availableIs(STOCK - 2));
+
+        CustomException e = assertThrows(CustomException.class, () -> holdService.confirm(userId, expired));
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ERROR_BE1016);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    private void saveHeld(int quantity, int ownerWorkerId, LocalDateTime expiresAt) {
+        roomInventoryRepository.decreaseAvailable(room.getRoomId(), checkIn, checkIn.plusDays(NIGHTS), quantity);
+        inventoryHoldRepository.save(InventoryHold.builder()
+                .user(userRepository.getReferenceById(userId))
+                .room(room)
+                .checkIn(checkIn)
+                .checkOut(checkIn.plusDays(NIGHTS))
+                .quantity(quantity)
+                .status("HELD")
+                .expiresAt(expiresAt)
+                .ownerWorkerId(ownerWorkerId)
+                .build());
+    }
+
+    @Test
+    @DisplayName("expires its own holds left behind by a previous run after rebuilding from the database")
+    void rebuildAfterRestart() throws InterruptedException {
+        // 재시작 전 이 인스턴스(worker 0)가 만든 점유 : HoldTimer 에는 없다
+        saveHeld(4, 0, LocalDateTime.now().plusSeconds(1));
+        // 다른 인스턴스의 점유는 다시 등록하지 않는다
+        saveHeld(1, 7, LocalDateTime.now().plusMinutes(10));
+
+        assertThat(holdExpirationScheduler.rebuild()).isEqualTo(1);
+        await(() -> availableIs(STOCK - 1));
+    }
+
+    @Test
+    @DisplayName("releases holds of an instance that never came back once they outlive the grace period")
+    void releaseOrphans() {
+        saveHeld(4, 7, LocalDateTime.now().minusMinutes(1));
+
+        assertThat(holdExpirationScheduler.releaseOrphans()).isEqualTo(1);
+        assertThat(availableIs(STOCK)).isTrue();
+        assertThat(holdExpirationScheduler.releaseOrphans()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package com.user.e2eTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.entity.Accommodation;
+import com.storage.repository.AccommodationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("E2eTest")
+public class NearbySearchTest extends BaseE2eTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // 서울시청에서 동쪽으로 약 0.9km 간격 5개, 부산 1개
+        List<Accommodation> accommodations = new ArrayList<>();
+        for (int i = 4; i >= 0; i--) {
+            accommodations.add(accommodation("seoul-" + i, 37.5665, 126.9780 + i * 0.01));
+        }
+        accommodations.add(accommodation("busan", 35.1796, 129.0756));
+        accommodationRepository.saveAll(accommodations);
+    }
+
+    @AfterEach
+    void cleanup() {
+        accommodationRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Return accommodations within the radius sorted by distance")
+    public void nearbySortedByDistance() throws Exception {
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                "/accommodations/nearby?lat=37.5665&lng=126.9780&radiusKm=3", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode content = objectMapper.readTree(response.getBody()).get("content");
+        List<String> names = new ArrayList<>();
+        content.forEach(node -> names.add(node.get("name").asText()));
+        assertThat(names).containsExactly("seoul-0", "seoul-1", "seoul-2", "seoul-3");
+    }
+
+    @Test
+    @DisplayName("Page through nearby accommodations")
+    public void nearbyPaging() throws Exception {
+        ResponseEntity<String> first = testRestTemplate.getForEntity(
+                "/accommodations/nearby?lat=37.5665&lng=126.9780&radiusKm=10&page=0&size=2", String.class);
+        ResponseEntity<String> last = testRestTemplate.getForEntity(
+                "/accommodations/nearby?lat=37.5665&lng=126.9780&radiusKm=10&page=2&size=2", String.class);
+
+        JsonNode firstPage = objectMapper.readTree(first.getBody());
+        JsonNode lastPage = objectMapper.readTree(last.getBody());
+        assertThat(firstPage.get("hasNext").asBoolean()).isTrue();
+        assertThat(firstPage.get("content").get(0).get("name").asText()).isEqualTo("seoul-0");
+        assertThat(lastPage.get("hasNext").asBoolean()).isFalse();
+        assertThat(lastPage.get("content").get(0).get("name").asText()).isEqualTo("seoul-4");
+    }
+
+    private Accommodation accommodation(String name, double lat, double lng) {
+        return Accommodation.builder()
+                .name(name)
+                .info("info")
+                .countryName("country")
+                .state("state")
+                .city("city")
+                .district("district")
+                .street("street")
+                .postalCode("12345")
+                .latitude(lat)
+                .longitude(lng)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.user.e2eTest;
+
+import com.storage.entity.*;
+import com.storage.repository.*;
+import com.support.money.Money;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.exception.CustomException;
+import com.user.service.ReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 객실 타입에 수천 건의 예약을 동시에 요청해도 초과 예약이 발생하지 않는지 검증한다.
+ */
+@Tag("E2eTest")
+public class ReservationConcurrencyTest extends BaseE2eTest {
+
+    private static final int STOCK = 100;
+    private static final int REQUESTS = 3000;
+    private static final int NIGHTS = 3;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(10);
+
+    private Long userId;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = accountRepository.save(Account.builder()
+                .email("booking@test.com")
+                .password("password")
+                .build());
+        userId = userRepository.save(User.builder()
+                .account(account)
+                .nickname("booker")
+                .grade("Silver")
+                .build()).getUserId();
+
+        Accommodation accommodation = Accommodation.builder()
+                .name("Hotel").info("info").countryName("country").state("state").city("city")
+                .district("district").street("street").postalCode("12345")
+                .build();
+        Room room = Room.builder()
+                .accommodation(accommodation)
+                .roomType("SINGLE").viewType("CITY").bedType("SINGLE")
+                .squareMeter(20.0).capacity(2).price(Money.of(100)).stock(STOCK)
+                .build();
+        accommodation.getRooms().add(room);
+        accommodationRepository.save(accommodation);
+        roomId = room.getRoomId();
+
+        List<RoomInventory> inventories = new ArrayList<>();
+        for (int i = 0; i < NIGHTS; i++) {
+            inventories.add(RoomInventory.builder()
+                    .room(room)
+                    .stayDate(checkIn.plusDays(i))
+                    .total(STOCK)
+                    .available(STOCK)
+                    .build());
+        }
+        roomInventoryRepository.saveAll(inventories);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        reservationRepository.deleteAll();
+        roomInventoryRepository.deleteAll();
+        accommodationRepository.deleteAll();
+        userRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("never oversells a room under thousands of concurrent virtual-thread bookings")
+    void neverOversell() throws InterruptedException {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        ReserveReq req = new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                executor.submit(() -> {
+                    try {
+                        reservationService.reserve(userId, req);
+                        succeeded.incrementAndGet();
+                    } catch (CustomException e) {
+                        soldOut.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        }
+
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(REQUESTS - STOCK);
+        assertThat(reservationRepository.count()).isEqualTo(STOCK);
+        assertThat(roomInventoryRepository.findByRoomIdAndStayDateRange(roomId, checkIn, checkIn.plusDays(NIGHTS)))
+                .hasSize(NIGHTS)
+                .allSatisfy(inventory -> assertThat(inventory.getAvailable()).isZero());
+    }
+
+    @Test
+    @DisplayName("restores stock exactly once when cancellations race")
+    void cancelRestoresOnce() throws InterruptedException {
+        ReserveReq req = new ReserveReq(roomId, checkIn, checkIn.plusDays(NIGHTS), 2);
+        Long reservationId = reservationService.reserve(userId, req).getReservationId();
+
+        AtomicInteger canceled = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                executor.submit(() -> {
+                    try {
+                        reservationService.cancel(userId, reservationId);
+                        canceled.incrementAndGet();
+                    } catch (CustomException ignored) {
+                    }
+                });
+            }
+        }
+
+        assertThat(canceled.get()).isEqualTo(1);
+        assertThat(roomInventoryRepository.findByRoomIdAndStayDateRange(roomId, checkIn, checkIn.plusDays(NIGHTS)))
+                .allSatisfy(inventory -> assertThat(inventory.getAvailable()).isEqualTo(STOCK));
+    }
+}
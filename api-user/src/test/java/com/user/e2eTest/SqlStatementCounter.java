@@ -0,0 +1,59 @@
+package com.user.e2eTest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 현재 스레드에서 실행된 SQL 을 센다. 테스트 설정의 hibernate.session_factory.statement_inspector 로 등록되어 있다.
+ * 스케줄러 등 다른 스레드의 SQL 은 세지 않으므로 요청을 테스트 스레드에서 처리하는 MockMvc 와 함께 사용한다.
+ * <pre>
+ * SqlStatementCounter.assertStatementCount(2, () -> mockMvc.perform(get("/accommodations")));
+ * </pre>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * action 을 실행하는 동안 이 스레드에서 실행된 SQL 을 반환한다.
+     */
+    public static List<String> record(Action action) throws Exception {
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            action.run();
+        } finally {
+            STATEMENTS.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * action 이 실행한 SQL 수가 expected 와 다르면 실패한다. N+1 이 생기면 숙소 수만큼 SQL 이 늘어나 여기서 걸린다.
+     */
+    public static void assertStatementCount(int expected, Action action) throws Exception {
+        List<String> statements = record(action);
+        assertThat(statements)
+                .withFailMessage("expected %d SQL statements but %d were executed:%n%s",
+                        expected, statements.size(), String.join(System.lineSeparator(), statements))
+                .hasSize(expected);
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,459 @@
+package com.user.unitTest.booking;
+
+import com.user.booking.BookingCommand;
+import com.user.booking.BookingCommand.Cancel;
+import com.user.booking.BookingEngine;
+import com.user.booking.BookingStore;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class BookingEngineTest {
+
+    private static final long ROOM = 10L;
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(30);
+    private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(2);
+
+    private final FakeStore store = new FakeStore();
+    private BookingEngine engine;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        store.release.countDown();
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    private BookingEngine engine(int queueCapacity, Duration recheckInterval) {
+        engine = new BookingEngine(store, 4, queueCapacity, 256, Duration.ofSeconds(5), recheckInterval);
+        return engine;
+    }
+
+    private void awaitLedgerRooms(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (engine.ledgerRooms() != expected) {
+            assertTrue(System.nanoTime() < deadline, "ledger rooms: " + engine.ledgerRooms());
+            Thread.sleep(10);
+        }
+    }
+
+    private static ReserveReq req(int quantity) {
+        return new ReserveReq(ROOM, CHECK_IN, CHECK_OUT, quantity);
+    }
+
+    /**
+     * 첫 commit 이 막혀 있는 동안 count 개의 예약을 차례로 대기열에 넣는다.
+     */
+    private List<Future<Long>> reserveWhileBlocked(ExecutorService executor, int count) throws InterruptedException {
+        List<Future<Long>> results = new ArrayList<>();
+        results.add(executor.submit(() -> engine.reserve(0L, req(1)).getReservationId()));
+        assertTrue(store.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= count; i++) {
+            long userId = i;
+            results.add(executor.submit(() -> engine.reserve(userId, req(1)).getReservationId()));
+            while (engine.queued() < i) {
+                Thread.sleep(1);
+            }
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Commit commands queued behind a commit together, in arrival order")
+    void groupCommitInOrder() throws Exception {
+        store.stock(100);
+        store.blockFirstCommit();
+        engine(1024, Duration.ofSeconds(1));
+
+        List<Future<Long>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = reserveWhileBlocked(executor, 20);
+            store.release.countDown();
+        }
+
+        for (Future<Long> result : results) {
+            assertNotNull(result.get());
+        }
+        assertEquals(List.of(1, 20), store.batchSizes);
+        List<Long> users = store.committed.stream().map(BookingCommand::userId).toList();
+        assertEquals(0L, users.get(0));
+        for (int i = 1; i < users.size(); i++) {
+            assertEquals((long) i, users.get(i));
+        }
+        assertEquals(79, store.available(CHECK_IN));
+        assertEquals(79, store.available(CHECK_IN.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Never oversell and reject sold-out requests without committing")
+    void neverOversell() throws Exception {
+        store.stock(10);
+        engine(1024, Duration.ofHours(1));
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                long userId = i;
+                executor.submit(() -> {
+                    try {
+                        engine.reserve(userId, req(1));
+                        succeeded.incrementAndGet();
+                    } catch (CustomException e) {
+                        assertEquals(ErrorCode.ERROR_BE1006, e.getErrorCode());
+                        soldOut.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertEquals(10, succeeded.get());
+        assertEquals(190, soldOut.get());
+        assertEquals(10, store.committed.size());
+        assertEquals(0, store.available(CHECK_IN));
+        assertEquals(0, store.conflicts.get());
+    }
+
+    @Test
+    @DisplayName("Restore stock with a cancel and allow the next reservation")
+    void cancelRestoresStock() {
+        store.stock(1);
+        engine(1024, Duration.ofHours(1));
+
+        Long reservationId = engine.reserve(1L, req(1)).getReservationId();
+        assertEquals(ErrorCode.ERROR_BE1006,
+                assertThrows(CustomException.class, () -> engine.reserve(2L, req(1))).getErrorCode());
+
+        engine.cancel(1L, reservationId);
+
+        assertEquals(1, store.available(CHECK_IN));
+        assertNotNull(engine.reserve(2L, req(1)).getReservationId());
+        assertEquals(0, store.available(CHECK_IN));
+    }
+
+    @Test
+    @DisplayName("Commit one by one when the store no longer matches memory")
+    void fallBackOnConflict() {
+        store.stock(2);
+        engine(1024, Duration.ofHours(1));
+        engine.reserve(1L, req(1));
+
+        // 다른 인스턴스가 남은 재고를 예약했다
+        store.take(CHECK_IN, 1);
+
+        CustomException e = assertThrows(CustomException.class, () -> engine.reserve(2L, req(1)));
+        assertEquals(ErrorCode.ERROR_BE1006, e.getErrorCode());
+        assertEquals(1, store.conflicts.get());
+        assertEquals(1, engine.fallbackCount());
+
+        // 다시 읽은 재고로 판단하므로 commit 없이 거절한다
+        assertThrows(CustomException.class, () -> engine.reserve(3L, req(1)));
+        assertEquals(1, store.conflicts.get());
+    }
+
+    @Test
+    @DisplayName("Reload stock added elsewhere once the recheck interval has passed")
+    void recheckSoldOut() {
+        store.stock(1);
+        engine(1024, Duration.ZERO);
+        engine.reserve(1L, req(1));
+
+        store.add(1);
+
+        assertNotNull(engine.reserve(2L, req(1)).getReservationId());
+        assertEquals(0, store.conflicts.get());
+    }
+
+    @Test
+    @DisplayName("Reject an invalid stay before queueing")
+    void invalidStay() {
+        engine(1024, Duration.ofHours(1));
+
+        CustomException e = assertThrows(CustomException.class,
+                () -> engine.reserve(1L, new ReserveReq(ROOM, CHECK_IN, CHECK_IN, 1)));
+        assertEquals(ErrorCode.ERROR_BE1007, e.getErrorCode());
+        assertEquals(0, store.loads.get());
+    }
+
+    @Test
+    @DisplayName("Fail with 503 when the partition queue is full")
+    void rejectWhenQueueFull() throws Exception {
+        store.stock(100);
+        store.blockFirstCommit();
+        engine(1, Duration.ofHours(1));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> results = reserveWhileBlocked(executor, 1);
+
+            CustomException e = assertThrows(CustomException.class, () -> engine.reserve(9L, req(1)));
+            assertEquals(ErrorCode.ERROR_BE1011, e.getErrorCode());
+
+            store.release.countDown();
+            for (Future<Long> result : results) {
+                assertNotNull(result.get());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Never commit a reserve that timed out in the queue, but wait for one already being committed")
+    void abandonTimedOutCommands() throws Exception {
+        store.stock(100);
+        store.blockFirstCommit();
+        engine = new BookingEngine(store, 1, 1024, 256, Duration.ofMillis(200), Duration.ofHours(1));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 저장 중인 명령은 timeout 이 지나도 결과를 기다린다
+            Future<Long> committing = executor.submit(() -> engine.reserve(0L, req(1)).getReservationId());
+            assertTrue(store.blocked.await(5, TimeUnit.SECONDS));
+
+            CustomException e = assertThrows(CustomException.class, () -> engine.reserve(1L, req(1)));
+            assertEquals(ErrorCode.ERROR_BE1011, e.getErrorCode());
+
+            store.release.countDown();
+            assertNotNull(committing.get());
+        }
+
+        assertNotNull(engine.reserve(2L, req(1)).getReservationId());
+        assertEquals(List.of(0L, 2L), store.committed.stream().map(BookingCommand::userId).toList());
+        assertEquals(98, store.available(CHECK_IN));
+    }
+
+    @Test
+    @DisplayName("Commit queued commands on shutdown and reject new ones")
+    void drainOnShutdown() throws Exception {
+        store.stock(100);
+        store.blockFirstCommit();
+        engine(1024, Duration.ofHours(1));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> results = reserveWhileBlocked(executor, 10);
+            Future<?> shutdown = executor.submit(() -> {
+                engine.shutdown();
+                return null;
+            });
+            store.release.countDown();
+            shutdown.get();
+            for (Future<Long> result : results) {
+                assertNotNull(result.get());
+            }
+        }
+        assertEquals(11, store.committed.size());
+        assertEquals(ErrorCode.ERROR_BE1011,
+                assertThrows(CustomException.class, () -> engine.reserve(99L, req(1))).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Keep at most max-ledger-rooms rooms in memory, dropping the least recently used")
+    void capLedgerRooms() throws Exception {
+        store.stock(100);
+        engine = new BookingEngine(store, 1, 1024, 256, Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofHours(1), 2);
+
+        for (long roomId = 1; roomId <= 5; roomId++) {
+            engine.reserve(1L, new ReserveReq(roomId, CHECK_IN, CHECK_OUT, 1));
+        }
+        awaitLedgerRooms(2);
+
+        // 남아 있는 객실(4, 5)은 다시 읽지 않고, 버려진 객실(1)은 다시 읽는다
+        int loads = store.loads.get();
+        engine.reserve(2L, new ReserveReq(5L, CHECK_IN, CHECK_OUT, 1));
+        assertEquals(loads, store.loads.get());
+        engine.reserve(2L, new ReserveReq(1L, CHECK_IN, CHECK_OUT, 1));
+        assertEquals(loads + 1, store.loads.get());
+    }
+
+    @Test
+    @DisplayName("Drop rooms that stayed idle longer than ledger-idle-timeout")
+    void dropIdleRooms() throws Exception {
+        store.stock(2);
+        engine = new BookingEngine(store, 1, 1024, 256, Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofMillis(50), 100);
+        engine.reserve(1L, req(1));
+        int loads = store.loads.get();
+
+        awaitLedgerRooms(0);
+
+        // 다시 읽은 재고로 판단한다
+        assertNotNull(engine.reserve(2L, req(1)).getReservationId());
+        assertEquals(loads + 1, store.loads.get());
+        assertEquals(ErrorCode.ERROR_BE1006,
+                assertThrows(CustomException.class, () -> engine.reserve(3L, req(1))).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Drop nights before today and rooms left without nights")
+    void dropPastNights() throws Exception {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        store.stock(yesterday, 1);
+        engine = new BookingEngine(store, 1, 1024, 256, Duration.ofSeconds(5), Duration.ofHours(1), Duration.ofHours(1), 100);
+
+        engine.reserve(1L, new ReserveReq(ROOM, yesterday, yesterday.plusDays(1), 1));
+        int loads = store.loads.get();
+
+        awaitLedgerRooms(0);
+
+        // 버려진 객실이므로 재고를 다시 읽는다
+        assertThrows(CustomException.class, () -> engine.reserve(2L, new ReserveReq(ROOM, yesterday, yesterday.plusDays(1), 1)));
+        assertEquals(loads + 1, store.loads.get());
+    }
+
+    /**
+     * 한 객실의 숙박일별 재고를 메모리에 두고, commit 은 DB 의 조건부 UPDATE 처럼 재고가 모자라면 ConflictException 을 던진다.
+     */
+    private static class FakeStore implements BookingStore {
+
+        private final Map<LocalDate, int[]> inventory = new HashMap<>();
+        private final Map<Long, Cancelable> reservations = new HashMap<>();
+        private final AtomicLong ids = new AtomicLong();
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger conflicts = new AtomicInteger();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final List<BookingCommand> committed = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blockFirstCommit;
+
+        void stock(int total) {
+            for (LocalDate night = CHECK_IN; night.isBefore(CHECK_OUT); night = night.plusDays(1)) {
+                stock(night, total);
+            }
+        }
+
+        void stock(LocalDate night, int total) {
+            inventory.put(night, new int[]{total, total});
+        }
+
+        synchronized void take(LocalDate night, int quantity) {
+            inventory.get(night)[1] -= quantity;
+        }
+
+        synchronized void add(int quantity) {
+            inventory.values().forEach(nights -> {
+                nights[0] += quantity;
+                nights[1] += quantity;
+            });
+        }
+
+        synchronized int available(LocalDate night) {
+            return inventory.get(night)[1];
+        }
+
+        void blockFirstCommit() {
+            blockFirstCommit = true;
+        }
+
+        @Override
+        public synchronized Map<LocalDate, Inventory> load(long roomId, LocalDate from, LocalDate to) {
+            loads.incrementAndGet();
+            Map<LocalDate, Inventory> nights = new HashMap<>();
+            inventory.forEach((night, values) -> {
+                if (!night.isBefore(from) && night.isBefore(to)) {
+                    nights.put(night, new Inventory(values[0], values[1]));
+                }
+            });
+            return nights;
+        }
+
+        @Override
+        public synchronized Stay findCancelable(long userId, long reservationId) {
+            Cancelable reservation = reservations.get(reservationId);
+            if (reservation == null || reservation.userId != userId) {
+                throw new CustomException(ErrorCode.ERROR_BE1008);
+            }
+            if (reservation.canceled) {
+                throw new CustomException(ErrorCode.ERROR_BE1009);
+            }
+            return new Stay(ROOM, CHECK_IN, CHECK_OUT, reservation.quantity);
+        }
+
+        @Override
+        public List<Long> commit(List<BookingCommand> commands) {
+            if (blockFirstCommit) {
+                blockFirstCommit = false;
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this) {
+                Map<LocalDate, int[]> copy = new HashMap<>();
+                inventory.forEach((night, values) -> copy.put(night, values.clone()));
+                for (BookingCommand command : commands) {
+                    for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                        int[] values = copy.get(night);
+                        values[1] += command.delta();
+                        if (values[1] < 0 || values[1] > values[0]) {
+                            conflicts.incrementAndGet();
+                            throw new ConflictException("inventory of " + night + " does not match");
+                        }
+                    }
+                }
+                inventory.putAll(copy);
+                batchSizes.add(commands.size());
+                committed.addAll(commands);
+                return commands.stream().map(this::record).toList();
+            }
+        }
+
+        @Override
+        public synchronized long commitOne(BookingCommand command) {
+            for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                if (inventory.get(night)[1] + command.delta() < 0) {
+                    throw new CustomException(ErrorCode.ERROR_BE1006);
+                }
+            }
+            for (LocalDate night = command.checkIn(); night.isBefore(command.checkOut()); night = night.plusDays(1)) {
+                inventory.get(night)[1] += command.delta();
+            }
+            committed.add(command);
+            return record(command);
+        }
+
+        private long record(BookingCommand command) {
+            if (command instanceof Cancel cancel) {
+                reservations.get(cancel.reservationId()).canceled = true;
+                return cancel.reservationId();
+            }
+            long id = ids.incrementAndGet();
+            reservations.put(id, new Cancelable(command.userId(), command.quantity()));
+            return id;
+        }
+    }
+
+    private static class Cancelable {
+
+        private final long userId;
+        private final int quantity;
+        private boolean canceled;
+
+        Cancelable(long userId, int quantity) {
+            this.userId = userId;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.user.unitTest.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.entity.AccommodationOutbox.EventType;
+import com.user.cache.AccommodationDetailCache;
+import com.user.cache.AccommodationDetailCache.Payload;
+import com.user.dto.response.AccommodationResponseDto.AccommodationDetailRes;
+import com.user.dto.response.AccommodationResponseDto.RoomRes;
+import com.user.event.AccommodationChangedEvent;
+import com.user.event.AccommodationChangedEvent.Change;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class AccommodationDetailCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicReference<String> name = new AtomicReference<>("Hotel");
+    private final Function<Long, AccommodationDetailRes> loader = id -> {
+        loads.incrementAndGet();
+        return detail(id, name.get(), 1);
+    };
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Function<Long, AccommodationDetailRes> blockingLoader = id -> {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return loader.apply(id);
+    };
+
+    private AccommodationDetailCache cache(int gzipMinSize) {
+        return cache(gzipMinSize, Duration.ofSeconds(5));
+    }
+
+    private AccommodationDetailCache cache(int gzipMinSize, Duration loadTimeout) {
+        return new AccommodationDetailCache(objectMapper, true, 100, Duration.ofMinutes(10), gzipMinSize, loadTimeout, nanos::get);
+    }
+
+    private static AccommodationDetailRes detail(long accommodationId, String name, int roomCount) {
+        List<RoomRes> rooms = LongStream.rangeClosed(1, roomCount)
+                .mapToObj(roomId -> new RoomRes(roomId, "SUITE", "OCEAN", "DOUBLE", 40.0, 2, BigDecimal.valueOf(250_000)))
+                .toList();
+        return AccommodationDetailRes.builder()
+                .accommodationId(accommodationId)
+                .name(name)
+                .city("Seoul")
+                .rooms(rooms)
+                .build();
+    }
+
+    private static AccommodationChangedEvent changed(long... accommodationIds) {
+        return new AccommodationChangedEvent(LongStream.of(accommodationIds)
+                .mapToObj(id -> new Change(id, id, EventType.CREATED))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Serve the same encoded bytes without reloading")
+    void hitAfterFirstLoad() throws IOException {
+        AccommodationDetailCache cache = cache(1024);
+
+        Payload first = cache.get(1L, loader);
+        Payload second = cache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+        assertSame(first.json(), second.json());
+        assertEquals("Hotel", objectMapper.readTree(first.json()).get("name").asText());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Reload the changed accommodation only and change its ETag")
+    void evictOnChange() {
+        AccommodationDetailCache cache = cache(1024);
+        String before = cache.get(1L, loader).etag();
+        cache.get(2L, loader);
+
+        name.set("Renamed Hotel");
+        cache.onAccommodationChanged(changed(1L));
+
+        Payload reloaded = cache.get(1L, loader);
+        cache.get(2L, loader);
+        assertEquals(3, loads.get());
+        assertNotEquals(before, reloaded.etag());
+    }
+
+    @Test
+    @DisplayName("Derive the ETag from the content")
+    void etagFromContent() {
+        AccommodationDetailCache cache = cache(1024);
+
+        String first = cache.get(1L, loader).etag();
+        cache.evict(1L);
+        String reloaded = cache.get(1L, loader).etag();
+
+        assertEquals(2, loads.get());
+        assertEquals(first, reloaded);
+        assertTrue(first.startsWith("W/\""));
+    }
+
+    @Test
+    @DisplayName("Gzip payloads at or above the minimum size")
+    void gzipLargePayload() throws IOException {
+        AccommodationDetailCache cache = cache(512);
+
+        Payload small = cache.get(1L, id -> detail(id, "Hotel", 1));
+        Payload large = cache.get(2L, id -> detail(id, "Hotel", 20));
+
+        assertNull(small.gzip());
+        assertTrue(large.gzip().length < large.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertArrayEquals(large.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Do not cache a failed load")
+    void doNotCacheFailure() {
+        AccommodationDetailCache cache = cache(1024);
+
+        assertThrows(CustomException.class, () -> cache.get(1L, id -> {
+            throw new CustomException(ErrorCode.ERROR_BE1014);
+        }));
+        cache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Reload after TTL expires")
+    void reloadAfterTtl() {
+        AccommodationDetailCache cache = cache(1024);
+
+        cache.get(1L, loader);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        cache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Load once for concurrent misses of the same accommodation")
+    void coalesceConcurrentMisses() throws Exception {
+        AccommodationDetailCache cache = cache(1024);
+
+        List<Future<Payload>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> cache.get(1L, blockingLoader)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> cache.get(1L, blockingLoader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+        }
+
+        for (Future<Payload> result : results) {
+            assertSame(results.get(0).get().json(), result.get().json());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Do not cache a load that was running when the accommodation changed")
+    void doNotCacheStaleLoad() throws Exception {
+        AccommodationDetailCache cache = cache(1024);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Payload> stale = executor.submit(() -> cache.get(1L, blockingLoader));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            cache.onAccommodationChanged(changed(1L));
+            name.set("Renamed Hotel");
+            release.countDown();
+            stale.get();
+        }
+
+        Payload reloaded = cache.get(1L, loader);
+        assertEquals(2, loads.get());
+        assertEquals("Renamed Hotel", objectMapper.readTree(reloaded.json()).get("name").asText());
+    }
+
+    @Test
+    @DisplayName("Fail waiting requests with BE1011 after the load timeout")
+    void timeoutWaitingRequest() throws Exception {
+        AccommodationDetailCache cache = cache(1024, Duration.ofMillis(50));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Payload> leader = executor.submit(() -> cache.get(1L, blockingLoader));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CustomException e = assertThrows(CustomException.class, () -> cache.get(1L, loader));
+            assertEquals(ErrorCode.ERROR_BE1011, e.getErrorCode());
+
+            release.countDown();
+            leader.get();
+        }
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,264 @@
+package com.user.unitTest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.user.cache.AccommodationDetailCache;
+import com.user.config.SecurityConfig;
+import com.user.controller.AccommodationController;
+import com.user.dto.request.AccommodationRequestDto.ListReq;
+import com.user.dto.request.AccommodationRequestDto.NearbyReq;
+import com.user.dto.request.AccommodationRequestDto.SearchReq;
+import com.user.dto.response.AccommodationResponseDto.AccommodationDetailRes;
+import com.user.dto.response.AccommodationResponseDto.ListPageRes;
+import com.user.dto.response.AccommodationResponseDto.ListRes;
+import com.user.dto.response.AccommodationResponseDto.NearbyPageRes;
+import com.user.dto.response.AccommodationResponseDto.NearbyRes;
+import com.user.dto.response.AccommodationResponseDto.SearchPageRes;
+import com.user.dto.response.AccommodationResponseDto.RoomRes;
+import com.user.dto.response.AccommodationResponseDto.SearchRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.security.CustomUserDetailService;
+import com.user.security.TokenRevocationList;
+import com.user.service.AccommodationSearchService;
+import com.user.service.AccommodationService;
+import com.user.utils.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AccommodationController.class)
+@Import(SecurityConfig.class)
+@Tag("UnitTest")
+public class AccommodationControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AccommodationSearchService accommodationSearchService;
+
+    @MockBean
+    private AccommodationService accommodationService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TestConfiguration
+    static class DetailCacheConfig {
+
+        @Bean
+        AccommodationDetailCache accommodationDetailCache(ObjectMapper objectMapper) {
+            return new AccommodationDetailCache(objectMapper, true, 100, Duration.ofMinutes(10), 1024, Duration.ofSeconds(3), Ticker.systemTicker());
+        }
+    }
+
+    private static AccommodationDetailRes detail(long accommodationId, int roomCount) {
+        List<RoomRes> rooms = LongStream.rangeClosed(1, roomCount)
+                .mapToObj(roomId -> new RoomRes(roomId, "SUITE", "OCEAN", "DOUBLE", 40.0, 4, BigDecimal.valueOf(250_000)))
+                .toList();
+        return AccommodationDetailRes.builder()
+                .accommodationId(accommodationId)
+                .name("Hotel")
+                .rooms(rooms)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Search nearby accommodations without authentication")
+    void successNearby() throws Exception {
+        NearbyRes item = new NearbyRes(1L, "Hotel", "Seoul", "Jung-gu", 37.56, 126.97, 0.4);
+        when(accommodationSearchService.findNearby(any(NearbyReq.class)))
+                .thenReturn(new NearbyPageRes(List.of(item), 0, 20, false));
+
+        mockMvc.perform(get("/accommodations/nearby")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("radiusKm", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].accommodationId").value(1L))
+                .andExpect(jsonPath("$.content[0].distanceKm").value(0.4))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Fail to search with a radius over the limit")
+    void failNearbyWithLargeRadius() throws Exception {
+        mockMvc.perform(get("/accommodations/nearby")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("radiusKm", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1002"));
+
+        verifyNoInteractions(accommodationSearchService);
+    }
+
+    @Test
+    @DisplayName("Fail to search without coordinates")
+    void failNearbyWithoutCoordinates() throws Exception {
+        mockMvc.perform(get("/accommodations/nearby")
+                        .param("radiusKm", "3"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(accommodationSearchService);
+    }
+
+    @Test
+    @DisplayName("Search accommodations by location and room conditions")
+    void successSearch() throws Exception {
+        SearchRes item = new SearchRes(1L, "Hotel", "KR", "Seoul", "Seoul", "Jung-gu", BigDecimal.valueOf(250_000), null);
+        when(accommodationSearchService.search(any(SearchReq.class)))
+                .thenReturn(new SearchPageRes(List.of(item), 0, 20, 1, false));
+
+        mockMvc.perform(get("/accommodations/search")
+                        .param("city", "Seoul")
+                        .param("roomType", "SUITE")
+                        .param("capacity", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].accommodationId").value(1L))
+                .andExpect(jsonPath("$.content[0].lowestPrice").value(250000))
+                .andExpect(jsonPath("$.totalCount").value(1));
+
+        verify(accommodationSearchService).search(argThat(req ->
+                req.getCity().equals("Seoul") && req.getRoomType().equals("SUITE") && req.getCapacity() == 2));
+    }
+
+    @Test
+    @DisplayName("Fail to search with a capacity under one")
+    void failSearchWithZeroCapacity() throws Exception {
+        mockMvc.perform(get("/accommodations/search")
+                        .param("capacity", "0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(accommodationSearchService);
+    }
+
+    @Test
+    @DisplayName("Get an accommodation with its rooms without authentication")
+    void successGetAccommodation() throws Exception {
+        when(accommodationService.getAccommodation(1L)).thenReturn(detail(1L, 1));
+
+        mockMvc.perform(get("/accommodations/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.name").value("Hotel"))
+                .andExpect(jsonPath("$.rooms[0].roomId").value(1L))
+                .andExpect(jsonPath("$.rooms[0].price").value(250000));
+    }
+
+    @Test
+    @DisplayName("Return 304 for a matching ETag without loading the accommodation again")
+    void notModifiedGetAccommodation() throws Exception {
+        when(accommodationService.getAccommodation(2L)).thenReturn(detail(2L, 1));
+        String etag = mockMvc.perform(get("/accommodations/2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/accommodations/2")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(accommodationService, times(1)).getAccommodation(2L);
+    }
+
+    @Test
+    @DisplayName("Serve the gzip payload when the client accepts gzip")
+    void gzipGetAccommodation() throws Exception {
+        AccommodationDetailRes detail = detail(3L, 20);
+        when(accommodationService.getAccommodation(3L)).thenReturn(detail);
+
+        byte[] body = mockMvc.perform(get("/accommodations/3")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(objectMapper.writeValueAsString(detail), gunzip(body));
+        mockMvc.perform(get("/accommodations/3")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.rooms.length()").value(20));
+    }
+
+    @Test
+    @DisplayName("Fail to get an unknown accommodation")
+    void failGetUnknownAccommodation() throws Exception {
+        when(accommodationService.getAccommodation(4L)).thenThrow(new CustomException(ErrorCode.ERROR_BE1014));
+
+        mockMvc.perform(get("/accommodations/4"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1014"));
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("List accommodations after the cursor without authentication")
+    void successList() throws Exception {
+        ListRes item = new ListRes(21L, "Hotel", "KR", "Seoul", "Seoul", "Jung-gu", BigDecimal.valueOf(90_000), null);
+        when(accommodationService.getAccommodations(any(ListReq.class)))
+                .thenReturn(new ListPageRes(List.of(item), 1, 21L, true));
+
+        mockMvc.perform(get("/accommodations")
+                        .param("cursor", "20")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].minPrice").value(90000))
+                .andExpect(jsonPath("$.nextCursor").value(21L))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(accommodationService).getAccommodations(argThat(req -> req.getCursor() == 20L && req.getSize() == 1));
+    }
+
+    @Test
+    @DisplayName("Fail to list with a page size over the limit")
+    void failListWithLargeSize() throws Exception {
+        mockMvc.perform(get("/accommodations")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(accommodationService);
+    }
+}
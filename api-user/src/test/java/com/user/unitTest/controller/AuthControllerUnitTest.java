@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.config.SecurityConfig;
 import com.user.controller.AuthController;
 import com.user.dto.request.TokenRequestDto;
+import com.user.dto.request.UserRequestDto.PasswordChangeReq;
 import com.user.dto.request.UserRequestDto.UserRegisterReq;
 import com.user.dto.request.UserRequestDto.UserSignInReq;
 import com.user.dto.response.TokenResponseDto;
@@ -11,6 +12,9 @@ import com.user.dto.response.UserResponseDto.SignInRes;
 import com.user.exception.CustomException;
 import com.user.exception.type.ErrorCode;
 import com.user.security.CustomUserDetailService;
+import com.user.security.CustomUserDetails;
+import com.user.security.LoginRateLimiter;
+import com.user.security.TokenRevocationList;
 import com.user.service.AuthService;
 import com.user.utils.jwt.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
@@ -24,7 +28,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -43,12 +51,20 @@ public class AuthControllerUnitTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
+
     @MockBean
     private CustomUserDetailService customUserDetailService;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    private final CustomUserDetails userDetails = new CustomUserDetails(1L, "test@example.com", null);
+
     @Test
     @DisplayName("정상적으로 회원가입에 성공한다.")
     void successSignup() throws Exception {
@@ -118,7 +134,7 @@ public class AuthControllerUnitTest {
         UserSignInReq req = new UserSignInReq("test@example.com", "Password123!");
         SignInRes res = new SignInRes("accessToken", "refreshToken");
 
-        when(authService.signIn(any(UserSignInReq.class))).thenReturn(res);
+        when(authService.signIn(any(UserSignInReq.class), anyString())).thenReturn(res);
 
         mockMvc.perform(post("/auth/signIn")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -157,7 +173,7 @@ public class AuthControllerUnitTest {
     void failSignInWithInvalidCredentials() throws Exception {
         UserSignInReq req = new UserSignInReq("user@example.com", "Password1!");
 
-        when(authService.signIn(any(UserSignInReq.class))).thenThrow(new CustomException(ErrorCode.ERROR_BE1003));
+        when(authService.signIn(any(UserSignInReq.class), anyString())).thenThrow(new CustomException(ErrorCode.ERROR_BE1003));
 
         mockMvc.perform(post("/auth/signIn")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -166,6 +182,51 @@ public class AuthControllerUnitTest {
                 .andExpect(jsonPath("$.code").value("BE1003"));
     }
 
+    @Test
+    @DisplayName("Fail to sign in with 503 when password hashing is saturated")
+    void failSignInWhenHashingSaturated() throws Exception {
+        UserSignInReq req = new UserSignInReq("user@example.com", "Password1!");
+
+        when(authService.signIn(any(UserSignInReq.class), anyString())).thenThrow(new CustomException(ErrorCode.ERROR_BE1011));
+
+        mockMvc.perform(post("/auth/signIn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("BE1011"));
+    }
+
+    @Test
+    @DisplayName("Fail to sign in with 429 before hashing when rate limited")
+    void failSignInWhenRateLimited() throws Exception {
+        UserSignInReq req = new UserSignInReq("user@example.com", "Password1!");
+
+        doThrow(new CustomException(ErrorCode.ERROR_BE1012)).when(loginRateLimiter).acquire(eq("user@example.com"), anyString());
+
+        mockMvc.perform(post("/auth/signIn")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("BE1012"));
+
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    @DisplayName("Fail to sign in with a device id that does not fit the refresh token table")
+    void failSignInWithInvalidDeviceId() throws Exception {
+        UserSignInReq req = new UserSignInReq("test@example.com", "Password123!");
+
+        mockMvc.perform(post("/auth/signIn")
+                        .header("X-Device-Id", "d".repeat(65))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1017"));
+
+        verifyNoInteractions(authService, loginRateLimiter);
+    }
+
     @Test
     @DisplayName("Successfully reissue token")
     void successReissueToken() throws Exception {
@@ -195,4 +256,51 @@ public class AuthControllerUnitTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.code").value("BE1005"));
     }
+
+    @Test
+    @DisplayName("Successfully logout")
+    void successLogout() throws Exception {
+        mockMvc.perform(post("/auth/logout")
+                        .header("X-Device-Id", "phone")
+                        .with(user(userDetails)))
+                .andExpect(status().isOk());
+
+        verify(authService).logout("test@example.com", "phone", null);
+    }
+
+    @Test
+    @DisplayName("Fail to logout without authentication")
+    void failLogoutWithoutAuthentication() throws Exception {
+        mockMvc.perform(post("/auth/logout"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    @DisplayName("Successfully change password")
+    void successChangePassword() throws Exception {
+        PasswordChangeReq req = new PasswordChangeReq("Password123!", "NewPassword1!");
+
+        mockMvc.perform(patch("/auth/password")
+                        .with(user(userDetails))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        verify(authService).changePassword(eq("test@example.com"), any(PasswordChangeReq.class));
+    }
+
+    @Test
+    @DisplayName("Fail to change password with weak new password")
+    void failChangePasswordWithWeakPassword() throws Exception {
+        PasswordChangeReq req = new PasswordChangeReq("Password123!", "weak");
+
+        mockMvc.perform(patch("/auth/password")
+                        .with(user(userDetails))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1002"));
+    }
 }
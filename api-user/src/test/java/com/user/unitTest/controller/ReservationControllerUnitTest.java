@@ -0,0 +1,145 @@
+package com.user.unitTest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.entity.Account;
+import com.storage.entity.User;
+import com.user.config.SecurityConfig;
+import com.user.controller.ReservationController;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.HoldRes;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.security.CustomUserDetailService;
+import com.user.security.CustomUserDetails;
+import com.user.security.TokenRevocationList;
+import com.user.service.HoldService;
+import com.user.service.ReservationService;
+import com.user.utils.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReservationController.class)
+@Import(SecurityConfig.class)
+@Tag("UnitTest")
+public class ReservationControllerUnitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReservationService reservationService;
+
+    @MockBean
+    private HoldService holdService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
+    @MockBean
+    private CustomUserDetailService customUserDetailService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CustomUserDetails userDetails = new CustomUserDetails(User.builder()
+            .userId(1L)
+            .account(Account.builder().email("test@example.com").password("password").build())
+            .build());
+
+    private final ReserveReq req = new ReserveReq(10L, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 3), 1);
+
+    @Test
+    @DisplayName("Successfully reserve a room")
+    void successReserve() throws Exception {
+        when(reservationService.reserve(eq(1L), any(ReserveReq.class))).thenReturn(new ReserveRes(100L));
+
+        mockMvc.perform(post("/reservation")
+                        .with(user(userDetails))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.reservationId").value(100L));
+    }
+
+    @Test
+    @DisplayName("Fail to reserve when the room is sold out")
+    void failReserveBySoldOut() throws Exception {
+        when(reservationService.reserve(eq(1L), any(ReserveReq.class))).thenThrow(new CustomException(ErrorCode.ERROR_BE1006));
+
+        mockMvc.perform(post("/reservation")
+                        .with(user(userDetails))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1006"));
+    }
+
+    @Test
+    @DisplayName("Fail to reserve without authentication")
+    void failReserveWithoutAuthentication() throws Exception {
+        mockMvc.perform(post("/reservation")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    @DisplayName("Successfully cancel a reservation")
+    void successCancel() throws Exception {
+        mockMvc.perform(post("/reservation/100/cancel")
+                        .with(user(userDetails)))
+                .andExpect(status().isOk());
+
+        verify(reservationService).cancel(1L, 100L);
+    }
+
+    @Test
+    @DisplayName("Successfully hold a room until it expires")
+    void successHold() throws Exception {
+        when(holdService.hold(eq(1L), any(ReserveReq.class)))
+                .thenReturn(new HoldRes(200L, LocalDateTime.of(2026, 1, 1, 0, 10)));
+
+        mockMvc.perform(post("/reservation/hold")
+                        .with(user(userDetails))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.holdId").value(200L))
+                .andExpect(jsonPath("$.expiresAt").value("2026-01-01T00:10:00"));
+    }
+
+    @Test
+    @DisplayName("Fail to confirm an expired hold")
+    void failConfirmExpiredHold() throws Exception {
+        when(holdService.confirm(1L, 200L)).thenThrow(new CustomException(ErrorCode.ERROR_BE1016));
+
+        mockMvc.perform(post("/reservation/hold/200/confirm")
+                        .with(user(userDetails)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BE1016"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.user.unitTest.scheduler;
+
+import com.storage.entity.AccommodationOutbox;
+import com.storage.entity.AccommodationOutbox.EventType;
+import com.storage.repository.AccommodationOutboxRepository;
+import com.user.event.AccommodationChangedEvent;
+import com.user.event.AccommodationChangedEvent.Change;
+import com.user.scheduler.AccommodationOutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class AccommodationOutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime SINCE = NOW.minusSeconds(30);
+
+    private final AccommodationOutboxRepository accommodationOutboxRepository = mock(AccommodationOutboxRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private AccommodationOutboxRelay relay;
+
+    private static AccommodationOutbox event(long outboxId, long accommodationId, int secondsAfterSince) {
+        return AccommodationOutbox.builder()
+                .outboxId(outboxId)
+                .accommodationId(accommodationId)
+                .eventType(EventType.CREATED)
+                .createdAt(SINCE.plusSeconds(secondsAfterSince))
+                .build();
+    }
+
+    private List<List<Change>> publishedChanges(int times) {
+        ArgumentCaptor<AccommodationChangedEvent> captor = ArgumentCaptor.forClass(AccommodationChangedEvent.class);
+        verify(eventPublisher, times(times)).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(AccommodationChangedEvent::changes).toList();
+    }
+
+    private static List<Long> accommodationIds(List<Change> changes) {
+        return changes.stream().map(Change::accommodationId).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        relay = new AccommodationOutboxRelay(accommodationOutboxRepository, eventPublisher, new SimpleMeterRegistry(),
+                2, Duration.ofSeconds(30), Duration.ofDays(1), Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Publish events in batches in created order and mark each batch delivered in bulk")
+    void relayInBatches() {
+        AccommodationOutbox first = event(1L, 10L, 1);
+        AccommodationOutbox second = event(3L, 20L, 2);
+        AccommodationOutbox third = event(2L, 10L, 3);
+        when(accommodationOutboxRepository.findAfter(SINCE, Long.MAX_VALUE, PageRequest.ofSize(2)))
+                .thenReturn(List.of(first, second));
+        when(accommodationOutboxRepository.findAfter(second.getCreatedAt(), 3L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(third));
+
+        relay.relay();
+
+        List<List<Change>> published = publishedChanges(2);
+        assertEquals(List.of(10L, 20L), accommodationIds(published.get(0)));
+        assertEquals(List.of(10L), accommodationIds(published.get(1)));
+        verify(accommodationOutboxRepository).markDelivered(eq(List.of(1L, 3L)), any());
+        verify(accommodationOutboxRepository).markDelivered(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("Skip events already delivered in the overlapping window")
+    void skipDeliveredInOverlap() {
+        AccommodationOutbox first = event(1L, 10L, 1);
+        AccommodationOutbox late = event(2L, 20L, 1);
+        when(accommodationOutboxRepository.findAfter(SINCE, Long.MAX_VALUE, PageRequest.ofSize(2)))
+                .thenReturn(List.of(first))
+                // 늦게 커밋된 이벤트가 다음 주기의 겹친 구간에서 보인다.
+                .thenReturn(List.of(first, late))
+                .thenReturn(List.of());
+        when(accommodationOutboxRepository.findAfter(late.getCreatedAt(), 2L, PageRequest.ofSize(2)))
+                .thenReturn(List.of());
+
+        relay.relay();
+        relay.relay();
+
+        List<List<Change>> published = publishedChanges(2);
+        assertEquals(List.of(10L), accommodationIds(published.get(0)));
+        assertEquals(List.of(20L), accommodationIds(published.get(1)));
+    }
+
+    @Test
+    @DisplayName("Redeliver a batch when a subscriber fails")
+    void redeliverOnFailure() {
+        AccommodationOutbox first = event(1L, 10L, 1);
+        when(accommodationOutboxRepository.findAfter(SINCE, Long.MAX_VALUE, PageRequest.ofSize(2)))
+                .thenReturn(List.of(first));
+        doThrow(new IllegalStateException("index unavailable")).doNothing()
+                .when(eventPublisher).publishEvent(any(AccommodationChangedEvent.class));
+
+        assertThrows(IllegalStateException.class, relay::relay);
+        verify(accommodationOutboxRepository, never()).markDelivered(any(), any());
+
+        relay.relay();
+
+        publishedChanges(2);
+        verify(accommodationOutboxRepository).markDelivered(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("Purge delivered events older than the retention in batches")
+    void purge() {
+        when(accommodationOutboxRepository.deleteDeliveredBefore(NOW.minusDays(1), 2)).thenReturn(2, 2, 1);
+
+        relay.purge();
+
+        verify(accommodationOutboxRepository, times(3)).deleteDeliveredBefore(any(), anyInt());
+    }
+}
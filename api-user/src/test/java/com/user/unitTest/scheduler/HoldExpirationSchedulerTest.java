@@ -0,0 +1,193 @@
+package com.user.unitTest.scheduler;
+
+import com.storage.repository.InventoryHoldRepository;
+import com.storage.repository.InventoryHoldRepository.PendingHold;
+import com.user.booking.HoldTimer;
+import com.user.scheduler.HoldExpirationScheduler;
+import com.user.service.HoldService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class HoldExpirationSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final int OWNER = 3;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    private final HoldService holdService = mock(HoldService.class);
+    private final InventoryHoldRepository inventoryHoldRepository = mock(InventoryHoldRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HoldTimer holdTimer = new HoldTimer(Duration.ofSeconds(1), OWNER, clock);
+    private final HoldExpirationScheduler scheduler =
+            new HoldExpirationScheduler(holdTimer, holdService, inventoryHoldRepository, meterRegistry, 2,
+                    Duration.ofMinutes(1), clock);
+
+    private final List<List<Long>> released = new ArrayList<>();
+
+    private LocalDateTime after(Duration duration) {
+        return LocalDateTime.ofInstant(NOW.plus(duration), ZONE);
+    }
+
+    private void recordReleases() {
+        when(holdService.releaseExpired(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            released.add(List.copyOf(ids));
+            return ids.size();
+        });
+    }
+
+    @Test
+    @DisplayName("Release only expired holds, in chunks of the batch size")
+    void releaseExpiredInChunks() {
+        recordReleases();
+        LongStream.rangeClosed(1, 5).forEach(id -> holdTimer.schedule(id, after(Duration.ofMinutes(10))));
+        holdTimer.schedule(6L, after(Duration.ofMinutes(20)));
+
+        now.set(NOW.plus(Duration.ofMinutes(5)));
+        scheduler.expire();
+        assertEquals(List.of(), released);
+
+        now.set(NOW.plus(Duration.ofMinutes(10)));
+        scheduler.expire();
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), released);
+        assertEquals(5, meterRegistry.get("inventory.hold.released").counter().count());
+        assertEquals(1, holdTimer.pending());
+    }
+
+    @Test
+    @DisplayName("Never release a hold cancelled before it expires")
+    void skipCancelledHolds() {
+        recordReleases();
+        holdTimer.schedule(1L, after(Duration.ofMinutes(10)));
+        holdTimer.schedule(2L, after(Duration.ofMinutes(10)));
+        holdTimer.cancel(1L);
+
+        now.set(NOW.plus(Duration.ofMinutes(11)));
+        scheduler.expire();
+
+        assertEquals(List.of(List.of(2L)), released);
+    }
+
+    @Test
+    @DisplayName("Retry a failed chunk on the next tick")
+    void retryFailedChunk() {
+        when(holdService.releaseExpired(anyCollection()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+        holdTimer.schedule(1L, after(Duration.ofMinutes(10)));
+
+        now.set(NOW.plus(Duration.ofMinutes(10)));
+        scheduler.expire();
+        assertEquals(1, holdTimer.pending());
+
+        now.set(NOW.plus(Duration.ofMinutes(10)).plusSeconds(1));
+        scheduler.expire();
+
+        verify(holdService, times(2)).releaseExpired(List.of(1L));
+        assertEquals(0, holdTimer.pending());
+    }
+
+    @Test
+    @DisplayName("Rebuild the timer from this worker's held rows page by page")
+    void rebuildOwnHolds() {
+        recordReleases();
+        when(inventoryHoldRepository.findOwnedAfter(eq("HELD"), eq(OWNER), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(pending(1L, after(Duration.ofMinutes(-1))), pending(2L, after(Duration.ofMinutes(5)))))
+                .thenReturn(List.of(pending(3L, after(Duration.ofMinutes(5)))));
+
+        assertEquals(3, scheduler.rebuild());
+        verify(inventoryHoldRepository).findOwnedAfter(eq("HELD"), eq(OWNER), eq(0L), any(Pageable.class));
+        verify(inventoryHoldRepository).findOwnedAfter(eq("HELD"), eq(OWNER), eq(2L), any(Pageable.class));
+
+        // 이미 만료된 hold 는 다음 tick 에 바로 돌려주고, 나머지는 원래 만료 시각까지 기다린다
+        scheduler.expire();
+        assertEquals(List.of(List.of(1L)), released);
+        assertEquals(2, holdTimer.pending());
+    }
+
+    @Test
+    @DisplayName("Release only holds expired longer than the grace period, page by page")
+    void releaseOrphansPageByPage() {
+        recordReleases();
+        when(inventoryHoldRepository.findExpiredBefore(eq("HELD"), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        assertEquals(3, scheduler.releaseOrphans());
+
+        LocalDateTime expiredBefore = after(Duration.ofMinutes(-1));
+        verify(inventoryHoldRepository).findExpiredBefore(eq("HELD"), eq(expiredBefore), eq(0L), any(Pageable.class));
+        verify(inventoryHoldRepository).findExpiredBefore(eq("HELD"), eq(expiredBefore), eq(2L), any(Pageable.class));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), released);
+        assertEquals(3, meterRegistry.get("inventory.hold.released").counter().count());
+        // 고아 점유는 wheel 에 올리지 않는다
+        assertEquals(0, holdTimer.pending());
+    }
+
+    @Test
+    @DisplayName("Skip a failed page of orphaned holds and keep sweeping")
+    void skipFailedOrphanPage() {
+        when(inventoryHoldRepository.findExpiredBefore(eq("HELD"), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(holdService.releaseExpired(anyCollection()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        assertEquals(1, scheduler.releaseOrphans());
+        verify(inventoryHoldRepository).findExpiredBefore(eq("HELD"), any(LocalDateTime.class), eq(2L), any(Pageable.class));
+    }
+
+    private static PendingHold pending(Long id, LocalDateTime expiresAt) {
+        return new PendingHold() {
+            @Override
+            public Long getInventoryHoldId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.user.unitTest.scheduler;
+
+import com.storage.repository.RefreshTokenRepository;
+import com.user.scheduler.RefreshTokenSweeper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class RefreshTokenSweeperTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Delete in chunks until a partial chunk is returned")
+    void sweepUntilPartialChunk() {
+        RefreshTokenSweeper sweeper = new RefreshTokenSweeper(refreshTokenRepository, meterRegistry, 100, 10, Duration.ZERO);
+        when(refreshTokenRepository.deleteExpired(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 30);
+
+        int swept = sweeper.sweepExpired(LocalDateTime.now());
+
+        assertEquals(230, swept);
+        verify(refreshTokenRepository, times(3)).deleteExpired(any(LocalDateTime.class), eq(100));
+        assertEquals(230, meterRegistry.get("refresh_token.swept").counter().count());
+    }
+
+    @Test
+    @DisplayName("Stop after max batches in one run")
+    void stopAtMaxBatches() {
+        RefreshTokenSweeper sweeper = new RefreshTokenSweeper(refreshTokenRepository, meterRegistry, 100, 2, Duration.ZERO);
+        when(refreshTokenRepository.deleteExpired(any(LocalDateTime.class), eq(100))).thenReturn(100);
+
+        int swept = sweeper.sweepExpired(LocalDateTime.now());
+
+        assertEquals(200, swept);
+        verify(refreshTokenRepository, times(2)).deleteExpired(any(LocalDateTime.class), eq(100));
+    }
+}
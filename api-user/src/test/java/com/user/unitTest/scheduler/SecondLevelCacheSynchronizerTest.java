@@ -0,0 +1,89 @@
+package com.user.unitTest.scheduler;
+
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.RoomRepository;
+import com.storage.entity.AccommodationOutbox.EventType;
+import com.user.event.AccommodationChangedEvent;
+import com.user.event.AccommodationChangedEvent.Change;
+import com.user.scheduler.SecondLevelCacheSynchronizer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class SecondLevelCacheSynchronizerTest {
+
+    private static final String ROOMS_ROLE = Accommodation.class.getName() + ".rooms";
+
+    private final AccommodationRepository accommodationRepository = mock(AccommodationRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    private final Cache cache = mock(Cache.class);
+
+    private SecondLevelCacheSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+        synchronizer = new SecondLevelCacheSynchronizer(accommodationRepository, roomRepository, entityManagerFactory,
+                Duration.ofSeconds(30), Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Evict accommodations, their room lists and rooms changed since the last sync minus the lag")
+    void evictChanged() {
+        LocalDateTime since = LocalDateTime.of(2024, 12, 31, 23, 59, 30);
+        when(accommodationRepository.findIdsUpdatedAfter(since)).thenReturn(List.of(1L));
+        when(roomRepository.findIdsUpdatedAfter(since)).thenReturn(List.of(20L, 21L));
+        when(roomRepository.findAccommodationIdsUpdatedAfter(since)).thenReturn(List.of(2L));
+
+        synchronizer.evictChanged();
+
+        verify(cache).evictEntityData(Accommodation.class, 1L);
+        verify(cache).evictCollectionData(ROOMS_ROLE, 2L);
+        verify(cache).evictEntityData(Room.class, 20L);
+        verify(cache).evictEntityData(Room.class, 21L);
+        verify(cache, never()).evictEntityData(Accommodation.class, 2L);
+    }
+
+    @Test
+    @DisplayName("Evict nothing when nothing changed")
+    void nothingChanged() {
+        when(accommodationRepository.findIdsUpdatedAfter(any())).thenReturn(List.of());
+        when(roomRepository.findIdsUpdatedAfter(any())).thenReturn(List.of());
+        when(roomRepository.findAccommodationIdsUpdatedAfter(any())).thenReturn(List.of());
+
+        synchronizer.evictChanged();
+
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Evict accommodations and their room lists named by change events")
+    void evictOnChangeEvent() {
+        synchronizer.onAccommodationChanged(new AccommodationChangedEvent(List.of(
+                new Change(1L, 3L, EventType.CREATED), new Change(2L, 3L, EventType.UPDATED))));
+
+        verify(cache).evictEntityData(Accommodation.class, 3L);
+        verify(cache).evictCollectionData(ROOMS_ROLE, 3L);
+        verifyNoMoreInteractions(cache);
+        verifyNoInteractions(accommodationRepository, roomRepository);
+    }
+}
@@ -0,0 +1,221 @@
+package com.user.unitTest.search;
+
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.SearchRow;
+import com.storage.entity.AccommodationOutbox.EventType;
+import com.storage.repository.RoomRepository;
+import com.support.money.Money;
+import com.user.event.AccommodationChangedEvent;
+import com.user.event.AccommodationChangedEvent.Change;
+import com.user.search.AccommodationSearchIndex;
+import com.user.search.AccommodationSearchIndex.IndexedAccommodation;
+import com.user.search.AccommodationSearchIndex.SearchResult;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.search.SearchCondition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class AccommodationSearchIndexTest {
+
+    private final AccommodationRepository accommodationRepository = mock(AccommodationRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomAvailabilityIndex roomAvailabilityIndex = mock(RoomAvailabilityIndex.class);
+
+    private AccommodationSearchIndex index;
+
+    private record Row(Long accommodationId, String name, String countryName, String state, String city, String district,
+                       Long roomId, String roomType, String viewType, String bedType, Integer capacity,
+                       Money price) implements SearchRow {
+        public Long getAccommodationId() { return accommodationId; }
+        public String getName() { return name; }
+        public String getCountryName() { return countryName; }
+        public String getState() { return state; }
+        public String getCity() { return city; }
+        public String getDistrict() { return district; }
+        public Long getRoomId() { return roomId; }
+        public String getRoomType() { return roomType; }
+        public String getViewType() { return viewType; }
+        public String getBedType() { return bedType; }
+        public Integer getCapacity() { return capacity; }
+        public Money getPrice() { return price; }
+    }
+
+    /**
+     * 객실 가격은 roomId * 10,000 이다.
+     */
+    private static Row room(long accommodationId, String city, long roomId, String roomType, String viewType, int capacity) {
+        return new Row(accommodationId, "hotel-" + accommodationId, "KR", "state", city, "district",
+                roomId, roomType, viewType, "DOUBLE", capacity, Money.of(roomId * 10_000));
+    }
+
+    private static Row noRoom(long accommodationId, String city) {
+        return new Row(accommodationId, "hotel-" + accommodationId, "KR", "state", city, "district",
+                null, null, null, null, null, null);
+    }
+
+    private static SearchCondition city(String city) {
+        return new SearchCondition(null, null, city, null, null, null, null, null);
+    }
+
+    private static SearchCondition room(String roomType, String viewType, Integer capacity) {
+        return new SearchCondition(null, null, null, null, roomType, viewType, null, capacity);
+    }
+
+    private static List<Long> ids(SearchResult result) {
+        return result.hits().stream().map(IndexedAccommodation::accommodationId).toList();
+    }
+
+    private static List<Money> lowestPrices(SearchResult result) {
+        return result.hits().stream().map(IndexedAccommodation::lowestPrice).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Row> rows = List.of(
+                room(1, "Seoul", 10, "SINGLE", "OCEAN", 1),
+                room(1, "Seoul", 11, "SUITE", "CITY", 4),
+                room(2, "Seoul", 20, "SUITE", "OCEAN", 2),
+                room(3, "Busan", 30, "SUITE", "OCEAN", 4),
+                noRoom(4, "Seoul"));
+        when(accommodationRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(accommodationRepository.findSearchRows(anyCollection())).thenReturn(List.copyOf(rows));
+
+        index = new AccommodationSearchIndex(accommodationRepository, roomRepository, roomAvailabilityIndex, new SimpleMeterRegistry(),
+                100, Duration.ofSeconds(30), Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+        index.load();
+    }
+
+    @Test
+    @DisplayName("Filter by location and return the total count")
+    void searchByLocation() {
+        SearchResult result = index.search(city("Seoul"), 0, 10);
+
+        assertEquals(List.of(1L, 2L, 4L), ids(result));
+        assertEquals(3, result.totalCount());
+    }
+
+    @Test
+    @DisplayName("Room conditions must be satisfied by the same room")
+    void roomConditionsOnSameRoom() {
+        // 숙소 1 은 SUITE 객실과 OCEAN 객실이 따로 있으므로 제외된다.
+        assertEquals(List.of(2L, 3L), ids(index.search(room("SUITE", "OCEAN", null), 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Capacity matches rooms for at least the given guests")
+    void minCapacity() {
+        assertEquals(List.of(1L, 3L), ids(index.search(room(null, null, 3), 0, 10)));
+        assertEquals(List.of(), ids(index.search(room(null, null, 5), 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Intersect location and room conditions")
+    void locationAndRoom() {
+        SearchCondition condition = new SearchCondition("KR", null, "Seoul", null, "SUITE", null, null, 2);
+
+        assertEquals(List.of(1L, 2L), ids(index.search(condition, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Stay dates are checked on the rooms that match the other room conditions")
+    void stayDates() {
+        LocalDate checkIn = LocalDate.of(2025, 1, 10);
+        LocalDate checkOut = LocalDate.of(2025, 1, 12);
+        // 숙소 2 의 SUITE 객실만 비어 있다.
+        when(roomAvailabilityIndex.isAvailable(anyLong(), eq(checkIn), eq(checkOut)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Long.class) == 20L);
+
+        SearchCondition suiteInSeoul = new SearchCondition(null, null, "Seoul", null, "SUITE", null, null, null, checkIn, checkOut);
+        SearchCondition anyRoom = new SearchCondition(null, null, null, null, null, null, null, null, checkIn, checkOut);
+
+        assertEquals(List.of(2L), ids(index.search(suiteInSeoul, 0, 10)));
+        // SINGLE 객실(10)은 객실 타입에서 걸러지므로 가용성을 확인하지 않는다.
+        verify(roomAvailabilityIndex, never()).isAvailable(eq(10L), any(), any());
+        assertEquals(List.of(2L), ids(index.search(anyRoom, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Lowest price is taken from the rooms that match the room conditions")
+    void lowestPrice() {
+        assertEquals(Arrays.asList(Money.of(100_000), Money.of(200_000), null), lowestPrices(index.search(city("Seoul"), 0, 10)));
+        assertEquals(List.of(Money.of(110_000), Money.of(200_000), Money.of(300_000)),
+                lowestPrices(index.search(room("SUITE", null, null), 0, 10)));
+
+        LocalDate checkIn = LocalDate.of(2025, 1, 10);
+        LocalDate checkOut = LocalDate.of(2025, 1, 12);
+        when(roomAvailabilityIndex.isAvailable(anyLong(), eq(checkIn), eq(checkOut)))
+                .thenAnswer(invocation -> invocation.getArgument(0, Long.class) == 11L);
+        SearchCondition anyRoom = new SearchCondition(null, null, null, null, null, null, null, null, checkIn, checkOut);
+
+        // 숙소 1 의 더 싼 SINGLE 객실(10)은 비어 있지 않다.
+        assertEquals(List.of(Money.of(110_000)), lowestPrices(index.search(anyRoom, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Unknown value matches nothing and no condition matches everything")
+    void unknownAndEmptyCondition() {
+        assertEquals(0, index.search(city("Daegu"), 0, 10).totalCount());
+        assertEquals(4, index.search(city(null), 0, 10).totalCount());
+    }
+
+    @Test
+    @DisplayName("Page through matches in document order")
+    void paging() {
+        SearchResult second = index.search(city(null), 2, 1);
+
+        assertEquals(List.of(3L), ids(second));
+        assertEquals(4, second.totalCount());
+    }
+
+    @Test
+    @DisplayName("Reindex changed accommodations and rooms on refresh")
+    void refresh() {
+        when(accommodationRepository.findIdsUpdatedAfter(any())).thenReturn(List.of(1L));
+        when(roomRepository.findAccommodationIdsUpdatedAfter(any())).thenReturn(List.of(4L));
+        when(accommodationRepository.findSearchRows(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            assertEquals(List.of(1L, 4L), List.copyOf(ids));
+            // 숙소 1 은 부산으로 옮기고 SINGLE 객실을 없앴고, 숙소 4 에는 객실이 생겼다.
+            return List.of(
+                    room(1, "Busan", 11, "SUITE", "CITY", 4),
+                    room(4, "Seoul", 40, "SINGLE", "CITY", 2));
+        });
+
+        index.refresh();
+
+        assertEquals(List.of(2L, 4L), ids(index.search(city("Seoul"), 0, 10)));
+        assertEquals(List.of(1L, 3L), ids(index.search(city("Busan"), 0, 10)));
+        assertEquals(List.of(4L), ids(index.search(room("SINGLE", null, null), 0, 10)));
+        assertEquals(4, index.search(city(null), 0, 10).totalCount());
+    }
+
+    @Test
+    @DisplayName("Reindex accommodations named by change events")
+    void reindexOnChangeEvent() {
+        when(accommodationRepository.findSearchRows(List.of(5L))).thenReturn(List.of(room(5, "Seoul", 50, "SUITE", "CITY", 2)));
+
+        index.onAccommodationChanged(new AccommodationChangedEvent(List.of(new Change(1L, 5L, EventType.CREATED))));
+
+        assertEquals(List.of(1L, 2L, 4L, 5L), ids(index.search(city("Seoul"), 0, 10)));
+        verify(accommodationRepository, never()).findIdsUpdatedAfter(any());
+    }
+}
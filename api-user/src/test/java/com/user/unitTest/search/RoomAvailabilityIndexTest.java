@@ -0,0 +1,125 @@
+package com.user.unitTest.search;
+
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomInventoryRepository.NightAvailability;
+import com.storage.repository.RoomRepository;
+import com.user.search.RoomAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class RoomAvailabilityIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomInventoryRepository roomInventoryRepository = mock(RoomInventoryRepository.class);
+
+    private RoomAvailabilityIndex index;
+
+    private record Night(Long roomId, LocalDate stayDate, int available) implements NightAvailability {
+        public Long getRoomId() { return roomId; }
+        public LocalDate getStayDate() { return stayDate; }
+        public int getAvailable() { return available; }
+    }
+
+    /**
+     * from 부터 nights 일 동안 재고가 있는 숙박일 목록
+     */
+    private static List<NightAvailability> open(long roomId, LocalDate from, int nights) {
+        List<NightAvailability> result = new ArrayList<>();
+        for (int i = 0; i < nights; i++) {
+            result.add(new Night(roomId, from.plusDays(i), 1));
+        }
+        return result;
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(roomRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        List<NightAvailability> nights = new ArrayList<>(open(1L, TODAY, 100));
+        nights.addAll(open(2L, TODAY.plusDays(10), 5));
+        when(roomInventoryRepository.findAvailableNights(anyCollection(), eq(TODAY), eq(TODAY.plusDays(365))))
+                .thenReturn(nights);
+
+        index = new RoomAvailabilityIndex(roomRepository, roomInventoryRepository, 365, 100, Duration.ofSeconds(30),
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+        index.reload();
+    }
+
+    @Test
+    @DisplayName("Available only when every night in the range is open, across word boundaries")
+    void everyNight() {
+        assertTrue(index.isAvailable(1L, TODAY.plusDays(60), TODAY.plusDays(70)));
+        assertTrue(index.isAvailable(1L, TODAY, TODAY.plusDays(100)));
+        assertFalse(index.isAvailable(1L, TODAY.plusDays(99), TODAY.plusDays(101)));
+
+        assertTrue(index.isAvailable(2L, TODAY.plusDays(10), TODAY.plusDays(15)));
+        assertFalse(index.isAvailable(2L, TODAY.plusDays(9), TODAY.plusDays(11)));
+        assertFalse(index.isAvailable(3L, TODAY, TODAY.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Ranges outside the horizon are not covered")
+    void horizon() {
+        assertTrue(index.covers(TODAY, TODAY.plusDays(365)));
+        assertFalse(index.covers(TODAY.minusDays(1), TODAY.plusDays(1)));
+        assertFalse(index.covers(TODAY.plusDays(364), TODAY.plusDays(366)));
+        assertFalse(index.isAvailable(1L, TODAY.minusDays(1), TODAY.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Apply a sold-out night immediately outside a transaction")
+    void applyWithoutTransaction() {
+        index.applyAfterCommit(List.of(new Night(1L, TODAY.plusDays(64), 0)));
+
+        assertFalse(index.isAvailable(1L, TODAY.plusDays(60), TODAY.plusDays(70)));
+        assertTrue(index.isAvailable(1L, TODAY.plusDays(65), TODAY.plusDays(70)));
+    }
+
+    @Test
+    @DisplayName("Apply changes only after the transaction commits")
+    void applyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.applyAfterCommit(List.of(new Night(1L, TODAY.plusDays(5), 0)));
+            assertTrue(index.isAvailable(1L, TODAY, TODAY.plusDays(10)));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertFalse(index.isAvailable(1L, TODAY, TODAY.plusDays(10)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Refresh applies nights changed by other instances")
+    void refresh() {
+        when(roomInventoryRepository.findAvailabilityUpdatedAfter(any(), eq(TODAY), eq(TODAY.plusDays(365))))
+                .thenReturn(List.of(new Night(2L, TODAY.plusDays(15), 3), new Night(1L, TODAY, 0)));
+
+        index.refresh();
+
+        assertTrue(index.isAvailable(2L, TODAY.plusDays(10), TODAY.plusDays(16)));
+        assertFalse(index.isAvailable(1L, TODAY, TODAY.plusDays(2)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.user.unitTest.security;
+
+import com.storage.repository.RevokedTokenRepository;
+import com.user.security.CustomUserDetails;
+import com.user.security.TokenRevocationList;
+import com.user.security.filter.JwtFilter;
+import com.user.utils.enums.TokenType;
+import com.user.utils.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@Tag("UnitTest")
+public class JwtFilterUnitTest {
+
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider("testSecretKeyWithAtLeast32Characters", Duration.ofMinutes(30), Duration.ofDays(14));
+    private final TokenRevocationList tokenRevocationList =
+            new TokenRevocationList(mock(RevokedTokenRepository.class), new SimpleMeterRegistry(), 1000, 0.01, 100);
+    private final JwtFilter jwtFilter = new JwtFilter(jwtTokenProvider, tokenRevocationList);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest requestWith(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Authenticate from access token claims without loading the user")
+    void authenticateFromClaims() throws Exception {
+        String token = jwtTokenProvider.generateToken(TokenType.ACCESS, 1L, "test@test.com", new Date());
+
+        jwtFilter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(1L, principal.getUserId());
+        assertEquals("test@test.com", principal.getUsername());
+    }
+
+    @Test
+    @DisplayName("Do not authenticate with a refresh token")
+    void ignoreRefreshToken() throws Exception {
+        String token = jwtTokenProvider.generateToken(TokenType.REFRESH, 1L, "test@test.com", new Date());
+
+        jwtFilter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Do not authenticate with an invalid token")
+    void ignoreInvalidToken() throws Exception {
+        jwtFilter.doFilter(requestWith("invalid"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Do not authenticate with a revoked access token")
+    void ignoreRevokedToken() throws Exception {
+        String token = jwtTokenProvider.generateToken(TokenType.ACCESS, 1L, "test@test.com", new Date());
+        tokenRevocationList.revoke(jwtTokenProvider.parseClaims(token).orElseThrow());
+
+        jwtFilter.doFilter(requestWith(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
@@ -0,0 +1,133 @@
+package com.user.unitTest.security;
+
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.security.LoginRateLimiter;
+import com.user.security.LoginRateLimiter.Rate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class LoginRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private LoginRateLimiter limiter(int emailCapacity, int ipCapacity) {
+        return new LoginRateLimiter(true, new Rate(emailCapacity, Duration.ofMinutes(1)),
+                new Rate(ipCapacity, Duration.ofMinutes(1)), 1000, nanos::get);
+    }
+
+    @Test
+    @DisplayName("Reject after email capacity is used up")
+    void rejectOverEmailCapacity() {
+        LoginRateLimiter limiter = limiter(3, 100);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("Test@test.com", "10.0.0." + i);
+        }
+
+        CustomException ex = assertThrows(CustomException.class, () -> limiter.acquire("test@test.com", "10.0.0.9"));
+        assertEquals(ErrorCode.ERROR_BE1012, ex.getErrorCode());
+        assertDoesNotThrow(() -> limiter.acquire("other@test.com", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("Reject after ip capacity is used up regardless of email")
+    void rejectOverIpCapacity() {
+        LoginRateLimiter limiter = limiter(100, 2);
+
+        limiter.acquire("a@test.com", "10.0.0.1");
+        limiter.acquire("b@test.com", "10.0.0.1");
+
+        assertThrows(CustomException.class, () -> limiter.acquire("c@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("c@test.com", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("Give the ip token back when the email limit rejects the request")
+    void refundIpOnEmailRejection() {
+        LoginRateLimiter limiter = limiter(1, 3);
+
+        limiter.acquire("victim@test.com", "10.0.0.1");
+        for (int i = 0; i < 5; i++) {
+            assertThrows(CustomException.class, () -> limiter.acquire("victim@test.com", "10.0.0.1"));
+        }
+
+        assertDoesNotThrow(() -> limiter.acquire("a@test.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("b@test.com", "10.0.0.1"));
+        assertThrows(CustomException.class, () -> limiter.acquire("c@test.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Allow again as time passes")
+    void refillOverTime() {
+        LoginRateLimiter limiter = limiter(2, 100);
+        limiter.acquire("test@test.com", "10.0.0.1");
+        limiter.acquire("test@test.com", "10.0.0.1");
+        assertThrows(CustomException.class, () -> limiter.acquire("test@test.com", "10.0.0.1"));
+
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertDoesNotThrow(() -> limiter.acquire("test@test.com", "10.0.0.1"));
+        assertThrows(CustomException.class, () -> limiter.acquire("test@test.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Do not let rejected requests extend the lockout")
+    void rejectedRequestsDoNotPenalize() {
+        LoginRateLimiter limiter = limiter(1, 100);
+        limiter.acquire("test@test.com", "10.0.0.1");
+        for (int i = 0; i < 50; i++) {
+            assertThrows(CustomException.class, () -> limiter.acquire("test@test.com", "10.0.0.1"));
+        }
+
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertDoesNotThrow(() -> limiter.acquire("test@test.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Allow exactly capacity under concurrent requests")
+    void exactUnderContention() throws Exception {
+        LoginRateLimiter limiter = limiter(50, 10_000);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 500; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        limiter.acquire("test@test.com", "10.0.0.1");
+                        allowed.incrementAndGet();
+                    } catch (CustomException ignored) {
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(50, allowed.get());
+    }
+
+    @Test
+    @DisplayName("Bound the number of tracked keys")
+    void boundedKeys() {
+        LoginRateLimiter limiter = limiter(5, 5);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.acquire("user" + i + "@test.com", "10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        assertTrue(limiter.estimatedKeyCount() <= 2_000, "keys: " + limiter.estimatedKeyCount());
+    }
+}
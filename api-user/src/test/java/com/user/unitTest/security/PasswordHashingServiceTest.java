@@ -0,0 +1,96 @@
+package com.user.unitTest.security;
+
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.security.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Encode and match passwords on the hashing pool")
+    void encodeAndMatch() {
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), 4, 2, 4, meterRegistry);
+
+        String encoded = service.encode("Password1!");
+
+        assertTrue(service.matches("Password1!", encoded));
+        assertFalse(service.matches("Wrong1!", encoded));
+        assertEquals(1, meterRegistry.timer("password.hash", "operation", "encode").count());
+        assertEquals(2, meterRegistry.timer("password.hash", "operation", "matches").count());
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Reject immediately when the queue is full")
+    void rejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHashingService service = new PasswordHashingService(blockingEncoder, 4, 1, 1, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> service.encode("running"));
+        started.await();
+        callers.submit(() -> service.encode("queued"));
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        CustomException ex = assertThrows(CustomException.class, () -> service.encode("rejected"));
+        assertEquals(ErrorCode.ERROR_BE1011, ex.getErrorCode());
+        assertEquals(1, meterRegistry.counter("password.hash.rejected").count());
+
+        release.countDown();
+        callers.shutdown();
+        assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Require rehash when stored cost is lower than configured cost")
+    void needsRehashWhenCostIncreased() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("Password1!");
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), 5, 1, 1, meterRegistry);
+
+        assertTrue(service.needsRehash(weakHash));
+        assertFalse(service.needsRehash(new BCryptPasswordEncoder(5).encode("Password1!")));
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Require rehash when stored cost is higher than configured cost")
+    void needsRehashWhenCostDecreased() {
+        String strongHash = new BCryptPasswordEncoder(6).encode("Password1!");
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), 5, 1, 1, meterRegistry);
+
+        assertTrue(service.needsRehash(strongHash));
+        service.shutdown();
+    }
+}
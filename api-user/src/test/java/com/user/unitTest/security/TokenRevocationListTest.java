@@ -0,0 +1,157 @@
+package com.user.unitTest.security;
+
+import com.storage.entity.RevokedToken;
+import com.storage.repository.RevokedTokenRepository;
+import com.user.security.TokenRevocationList;
+import com.user.utils.enums.TokenType;
+import com.user.utils.jwt.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+
+    private TokenRevocationList listAt(Instant now) {
+        return new TokenRevocationList(revokedTokenRepository, new SimpleMeterRegistry(), 1000, 0.01, 100, Clock.fixed(now, ZONE));
+    }
+
+    private TokenClaims accessToken(String tokenId, Long userId, Instant issuedAt) {
+        return new TokenClaims(TokenType.ACCESS, tokenId, userId, "test@test.com",
+                Date.from(issuedAt), Date.from(issuedAt.plusSeconds(1800)));
+    }
+
+    @Test
+    @DisplayName("Revoke a single token without affecting others and persist it")
+    void revokeSingleToken() {
+        TokenRevocationList list = listAt(NOW);
+        TokenClaims revoked = accessToken("jti-1", 1L, NOW.minusSeconds(60));
+
+        list.revoke(revoked);
+
+        assertTrue(list.isRevoked(revoked));
+        assertFalse(list.isRevoked(accessToken("jti-2", 1L, NOW.minusSeconds(60))));
+        verify(revokedTokenRepository).save(argThat(rt -> rt.getTokenKey().equals("jti-1")));
+    }
+
+    @Test
+    @DisplayName("Revoke only tokens issued before a user-wide revocation")
+    void revokeAllIssuedBefore() {
+        TokenRevocationList list = listAt(NOW);
+
+        list.revokeAllIssuedBefore(1L);
+
+        assertTrue(list.isRevoked(accessToken("old", 1L, NOW.minusSeconds(60))));
+        assertFalse(list.isRevoked(accessToken("new", 1L, NOW.plusSeconds(1))));
+        assertFalse(list.isRevoked(accessToken("other", 2L, NOW.minusSeconds(60))));
+    }
+
+    @Test
+    @DisplayName("Revoke tokens issued earlier in the same second as a user-wide revocation")
+    void revokeAllIssuedBeforeWithinSameSecond() {
+        TokenRevocationList list = listAt(NOW.plusMillis(500));
+
+        list.revokeAllIssuedBefore(1L);
+
+        assertTrue(list.isRevoked(accessToken("old", 1L, NOW.plusMillis(200))));
+        assertFalse(list.isRevoked(accessToken("new", 1L, NOW.plusMillis(800))));
+    }
+
+    @Test
+    @DisplayName("Apply a revocation in memory only after the transaction commits")
+    void applyAfterCommit() {
+        TokenRevocationList list = listAt(NOW);
+        TokenClaims committed = accessToken("committed", 1L, NOW.minusSeconds(60));
+        TokenClaims rolledBack = accessToken("rolled-back", 1L, NOW.minusSeconds(60));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            list.revoke(committed);
+            assertFalse(list.isRevoked(committed));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(list.isRevoked(committed));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            list.revoke(rolledBack);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        list.refresh();
+        assertFalse(list.isRevoked(rolledBack));
+    }
+
+    @Test
+    @DisplayName("Load revocations made by other instances on refresh")
+    void refreshFromTable() {
+        when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of(
+                RevokedToken.builder()
+                        .tokenKey("remote-jti")
+                        .revokedAt(LocalDateTime.ofInstant(NOW, ZONE))
+                        .expiresAt(LocalDateTime.ofInstant(NOW.plusSeconds(600), ZONE))
+                        .build()));
+        TokenRevocationList list = listAt(NOW);
+
+        list.refresh();
+
+        assertTrue(list.isRevoked(accessToken("remote-jti", 1L, NOW.minusSeconds(60))));
+        verify(revokedTokenRepository).deleteExpired(LocalDateTime.ofInstant(NOW, ZONE), 100);
+    }
+
+    @Test
+    @DisplayName("Drop entries once the revoked token would have expired")
+    void ageOutExpiredEntries() {
+        AtomicReference<Instant> now = new AtomicReference<>(NOW);
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZONE;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        TokenRevocationList list = new TokenRevocationList(revokedTokenRepository, new SimpleMeterRegistry(), 1000, 0.01, 100, clock);
+        TokenClaims revoked = accessToken("jti-1", 1L, NOW.minusSeconds(60));
+        list.revoke(revoked);
+
+        now.set(NOW.plusSeconds(3600));
+        list.refresh();
+
+        assertFalse(list.isRevoked(revoked));
+    }
+}
@@ -0,0 +1,97 @@
+package com.user.unitTest.security;
+
+import com.user.security.CustomUserDetails;
+import com.user.security.UserDetailsCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("UnitTest")
+public class UserDetailsCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, CustomUserDetails> loader = email -> {
+        loads.incrementAndGet();
+        return new CustomUserDetails(1L, email, "password");
+    };
+
+    @Test
+    @DisplayName("Serve repeated lookups from cache and record hit/miss")
+    void hitAfterFirstLoad() {
+        UserDetailsCache cache = new UserDetailsCache(true, 100, Duration.ofMinutes(5), nanos::get);
+
+        cache.get("test@test.com", loader);
+        cache.get("test@test.com", loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Reload after TTL expires")
+    void reloadAfterTtl() {
+        UserDetailsCache cache = new UserDetailsCache(true, 100, Duration.ofMinutes(5), nanos::get);
+
+        cache.get("test@test.com", loader);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.get("test@test.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Reload after evict")
+    void reloadAfterEvict() {
+        UserDetailsCache cache = new UserDetailsCache(true, 100, Duration.ofMinutes(5), nanos::get);
+
+        cache.get("test@test.com", loader);
+        cache.evict("test@test.com");
+        cache.get("test@test.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Evict inside a transaction only after it commits")
+    void evictAfterCommit() {
+        UserDetailsCache cache = new UserDetailsCache(true, 100, Duration.ofMinutes(5), nanos::get);
+        cache.get("test@test.com", loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict("test@test.com");
+            // 커밋 전에 읽은 요청은 기존 항목을 본다
+            cache.get("test@test.com", loader);
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.get("test@test.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Always load from source when disabled")
+    void bypassWhenDisabled() {
+        UserDetailsCache cache = new UserDetailsCache(false, 100, Duration.ofMinutes(5), nanos::get);
+
+        cache.get("test@test.com", loader);
+        cache.get("test@test.com", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
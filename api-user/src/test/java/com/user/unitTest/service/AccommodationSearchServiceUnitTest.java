@@ -0,0 +1,137 @@
+package com.user.unitTest.service;
+
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.NearbyAccommodation;
+import com.support.money.Money;
+import com.user.dto.request.AccommodationRequestDto.NearbyReq;
+import com.user.dto.request.AccommodationRequestDto.SearchReq;
+import com.user.dto.response.AccommodationResponseDto.NearbyPageRes;
+import com.user.dto.response.AccommodationResponseDto.SearchPageRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.AccommodationSearchIndex;
+import com.user.search.AccommodationSearchIndex.IndexedAccommodation;
+import com.user.search.AccommodationSearchIndex.SearchResult;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.search.SearchCondition;
+import com.user.service.AccommodationSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("UnitTest")
+public class AccommodationSearchServiceUnitTest {
+
+    @Mock
+    private AccommodationRepository accommodationRepository;
+
+    @Mock
+    private AccommodationSearchIndex accommodationSearchIndex;
+
+    @Mock
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @InjectMocks
+    private AccommodationSearchService accommodationSearchService;
+
+    private NearbyAccommodation row(long id, double distanceMeters) {
+        NearbyAccommodation row = mock(NearbyAccommodation.class);
+        lenient().when(row.getAccommodationId()).thenReturn(id);
+        lenient().when(row.getDistanceMeters()).thenReturn(distanceMeters);
+        return row;
+    }
+
+    @Test
+    @DisplayName("Read one extra row to detect the next page")
+    void hasNextPage() {
+        NearbyReq req = new NearbyReq(37.5, 127.0, 5.0, 2, 3);
+        List<NearbyAccommodation> rows = IntStream.range(0, 4).mapToObj(i -> row(i, i * 100)).toList();
+        when(accommodationRepository.findNearby(37.5, 127.0, 5.0, 4, 6L)).thenReturn(rows);
+
+        NearbyPageRes res = accommodationSearchService.findNearby(req);
+
+        assertTrue(res.isHasNext());
+        assertEquals(3, res.getContent().size());
+        assertEquals(0.2, res.getContent().get(2).getDistanceKm());
+    }
+
+    @Test
+    @DisplayName("Last page has no next page and defaults apply")
+    void lastPage() {
+        NearbyReq req = new NearbyReq(37.5, 127.0, 5.0, null, null);
+        List<NearbyAccommodation> rows = List.of(row(1, 10));
+        when(accommodationRepository.findNearby(37.5, 127.0, 5.0, 21, 0L)).thenReturn(rows);
+
+        NearbyPageRes res = accommodationSearchService.findNearby(req);
+
+        assertFalse(res.isHasNext());
+        assertEquals(1, res.getContent().size());
+        assertEquals(20, res.getSize());
+    }
+
+    @Test
+    @DisplayName("Search the index with blank conditions ignored")
+    void search() {
+        SearchReq req = new SearchReq("", null, "Seoul", " ", "SUITE", null, null, 2, null, null, 1, 2);
+        SearchCondition condition = new SearchCondition(null, null, "Seoul", null, "SUITE", null, null, 2);
+        IndexedAccommodation hit = new IndexedAccommodation(3L, "Hotel", "KR", "Seoul", "Seoul", "Jung-gu", Money.of(120_000));
+        when(accommodationSearchIndex.search(condition, 2L, 2)).thenReturn(new SearchResult(List.of(hit), 5));
+
+        SearchPageRes res = accommodationSearchService.search(req);
+
+        assertEquals(3L, res.getContent().get(0).getAccommodationId());
+        assertEquals(new BigDecimal("120000.00"), res.getContent().get(0).getLowestPrice());
+        assertNull(res.getContent().get(0).getTotalPrice());
+        assertEquals(5, res.getTotalCount());
+        assertTrue(res.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Search with stay dates inside the availability horizon and total the lowest price over the nights")
+    void searchWithStayDates() {
+        LocalDate checkIn = LocalDate.of(2026, 1, 1);
+        LocalDate checkOut = LocalDate.of(2026, 1, 4);
+        SearchReq req = new SearchReq(null, null, "Seoul", null, null, null, null, null, checkIn, checkOut, null, null);
+        SearchCondition condition = new SearchCondition(null, null, "Seoul", null, null, null, null, null, checkIn, checkOut);
+        IndexedAccommodation hit = new IndexedAccommodation(3L, "Hotel", "KR", "Seoul", "Seoul", "Jung-gu",
+                Money.of(new BigDecimal("99999.99")));
+        when(roomAvailabilityIndex.covers(checkIn, checkOut)).thenReturn(true);
+        when(accommodationSearchIndex.search(condition, 0L, 20)).thenReturn(new SearchResult(List.of(hit), 1));
+
+        SearchPageRes res = accommodationSearchService.search(req);
+
+        assertEquals(new BigDecimal("299999.97"), res.getContent().get(0).getTotalPrice());
+        assertEquals(1, res.getTotalCount());
+        assertFalse(res.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Fail to search with stay dates outside the horizon or in the wrong order")
+    void failSearchWithInvalidStayDates() {
+        LocalDate checkIn = LocalDate.of(2026, 1, 1);
+        SearchReq onlyCheckIn = new SearchReq(null, null, null, null, null, null, null, null, checkIn, null, null, null);
+        SearchReq reversed = new SearchReq(null, null, null, null, null, null, null, null, checkIn, checkIn, null, null);
+        SearchReq beyond = new SearchReq(null, null, null, null, null, null, null, null,
+                checkIn, checkIn.plusYears(2), null, null);
+        when(roomAvailabilityIndex.covers(checkIn, checkIn.plusYears(2))).thenReturn(false);
+
+        for (SearchReq req : List.of(onlyCheckIn, reversed, beyond)) {
+            CustomException ex = assertThrows(CustomException.class, () -> accommodationSearchService.search(req));
+            assertEquals(ErrorCode.ERROR_BE1013, ex.getErrorCode());
+        }
+        verifyNoInteractions(accommodationSearchIndex);
+    }
+}
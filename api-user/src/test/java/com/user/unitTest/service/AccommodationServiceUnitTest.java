@@ -0,0 +1,151 @@
+package com.user.unitTest.service;
+
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.storage.repository.AccommodationRepository;
+import com.storage.repository.AccommodationRepository.AccommodationSummary;
+import com.support.money.Money;
+import com.user.dto.request.AccommodationRequestDto.ListReq;
+import com.user.dto.response.AccommodationResponseDto.AccommodationDetailRes;
+import com.user.dto.response.AccommodationResponseDto.ListPageRes;
+import com.user.dto.response.AccommodationResponseDto.ListRes;
+import com.user.dto.response.AccommodationResponseDto.RoomRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.service.AccommodationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("UnitTest")
+public class AccommodationServiceUnitTest {
+
+    @Mock
+    private AccommodationRepository accommodationRepository;
+
+    @InjectMocks
+    private AccommodationService accommodationService;
+
+    private record Summary(Long accommodationId) implements AccommodationSummary {
+        public Long getAccommodationId() { return accommodationId; }
+        public String getName() { return "hotel-" + accommodationId; }
+        public String getCountryName() { return "KR"; }
+        public String getState() { return "Seoul"; }
+        public String getCity() { return "Seoul"; }
+        public String getDistrict() { return "Jung-gu"; }
+        public Money getMinPrice() { return Money.of(90_000); }
+    }
+
+    private static List<AccommodationSummary> summaries(long fromId, int count) {
+        return LongStream.range(fromId, fromId + count).<AccommodationSummary>mapToObj(Summary::new).toList();
+    }
+
+    private static Room room(Accommodation accommodation, long roomId, String roomType) {
+        return Room.builder()
+                .roomId(roomId)
+                .accommodation(accommodation)
+                .roomType(roomType)
+                .viewType("OCEAN")
+                .bedType("DOUBLE")
+                .capacity(2)
+                .price(Money.of(100_000))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Return the accommodation with its rooms ordered by id")
+    void getAccommodation() {
+        Accommodation accommodation = Accommodation.builder()
+                .accommodationId(1L)
+                .name("Hotel")
+                .city("Seoul")
+                .build();
+        accommodation.getRooms().add(room(accommodation, 12L, "SUITE"));
+        accommodation.getRooms().add(room(accommodation, 11L, "SINGLE"));
+        when(accommodationRepository.findById(1L)).thenReturn(Optional.of(accommodation));
+
+        AccommodationDetailRes res = accommodationService.getAccommodation(1L);
+
+        assertEquals("Hotel", res.getName());
+        assertEquals(List.of(11L, 12L), res.getRooms().stream().map(RoomRes::getRoomId).toList());
+        assertEquals("SUITE", res.getRooms().get(1).getRoomType());
+    }
+
+    @Test
+    @DisplayName("Fail when the accommodation does not exist")
+    void notFound() {
+        when(accommodationRepository.findById(1L)).thenReturn(Optional.empty());
+
+        CustomException exception = assertThrows(CustomException.class, () -> accommodationService.getAccommodation(1L));
+        assertEquals(ErrorCode.ERROR_BE1014, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Read one extra row to find the next cursor")
+    void getAccommodationsWithNext() {
+        when(accommodationRepository.findSummariesAfter(20L, PageRequest.ofSize(3))).thenReturn(summaries(21, 3));
+
+        ListPageRes res = accommodationService.getAccommodations(new ListReq(20L, 2, null));
+
+        assertEquals(List.of(21L, 22L), res.getContent().stream().map(ListRes::getAccommodationId).toList());
+        assertEquals(new BigDecimal("90000.00"), res.getContent().getFirst().getMinPrice());
+        assertEquals(22L, res.getNextCursor());
+        assertTrue(res.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Start from the beginning and stop at the last page")
+    void getAccommodationsLastPage() {
+        when(accommodationRepository.findSummariesAfter(0L, PageRequest.ofSize(21))).thenReturn(summaries(1, 2));
+
+        ListPageRes res = accommodationService.getAccommodations(new ListReq(null, null, null));
+
+        assertEquals(2, res.getContent().size());
+        assertEquals(20, res.getSize());
+        assertNull(res.getNextCursor());
+        assertFalse(res.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Load the rooms of the whole page in one query")
+    void getAccommodationsWithRooms() {
+        when(accommodationRepository.findSummariesAfter(0L, PageRequest.ofSize(3))).thenReturn(summaries(1, 2));
+        Accommodation first = Accommodation.builder().accommodationId(1L).build();
+        first.getRooms().add(room(first, 12L, "SUITE"));
+        first.getRooms().add(room(first, 11L, "SINGLE"));
+        Accommodation second = Accommodation.builder().accommodationId(2L).build();
+        when(accommodationRepository.findWithRoomsByIdIn(List.of(1L, 2L))).thenReturn(List.of(second, first));
+
+        ListPageRes res = accommodationService.getAccommodations(new ListReq(null, 2, true));
+
+        assertEquals(List.of(11L, 12L), res.getContent().get(0).getRooms().stream().map(RoomRes::getRoomId).toList());
+        assertEquals(List.of(), res.getContent().get(1).getRooms());
+        verify(accommodationRepository, times(1)).findWithRoomsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Do not load rooms unless requested")
+    void getAccommodationsWithoutRooms() {
+        when(accommodationRepository.findSummariesAfter(0L, PageRequest.ofSize(21))).thenReturn(summaries(1, 2));
+
+        ListPageRes res = accommodationService.getAccommodations(new ListReq(null, null, false));
+
+        assertNull(res.getContent().getFirst().getRooms());
+        verify(accommodationRepository, never()).findWithRoomsByIdIn(any());
+    }
+}
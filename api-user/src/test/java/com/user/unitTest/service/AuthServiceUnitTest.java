@@ -5,14 +5,22 @@ import com.storage.entity.User;
 import com.storage.repository.AccountRepository;
 import com.storage.repository.UserRepository;
 import com.user.dto.request.TokenRequestDto;
+import com.user.dto.request.UserRequestDto.PasswordChangeReq;
 import com.user.dto.request.UserRequestDto.UserRegisterReq;
 import com.user.dto.request.UserRequestDto.UserSignInReq;
 import com.user.dto.response.TokenResponseDto;
 import com.user.dto.response.UserResponseDto.SignInRes;
 import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.security.PasswordHashingService;
+import com.user.security.TokenRevocationList;
+import com.user.security.UserDetailsCache;
 import com.user.service.AuthService;
+import com.user.service.RefreshTokenService;
+import com.user.service.RefreshTokenService.Rotation;
 import com.user.utils.enums.TokenType;
 import com.user.utils.jwt.JwtTokenProvider;
+import com.user.utils.jwt.TokenClaims;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -20,7 +28,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Date;
 import java.util.Optional;
@@ -41,11 +48,20 @@ public class AuthServiceUnitTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     private AuthService authService;
 
@@ -57,7 +73,7 @@ public class AuthServiceUnitTest {
 
         // When
         when(accountRepository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(passwordEncoder.encode(request.getPassword())).thenReturn("$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG");
+        when(passwordHashingService.encode(request.getPassword())).thenReturn("$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG");
         authService.register(request);
 
         // Then
@@ -104,11 +120,11 @@ public class AuthServiceUnitTest {
 
         // When
         when(userRepository.findByEmail(req.getEmail())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(req.getPassword(), user.getAccount().getPassword())).thenReturn(true);
-        when(jwtTokenProvider.generateToken(eq(TokenType.ACCESS), anyLong(), any(Date.class))).thenReturn("accessToken");
-        when(jwtTokenProvider.generateToken(eq(TokenType.REFRESH), anyLong(), any(Date.class))).thenReturn("refreshToken");
+        when(passwordHashingService.matches(req.getPassword(), user.getAccount().getPassword())).thenReturn(true);
+        when(jwtTokenProvider.generateToken(eq(TokenType.ACCESS), anyLong(), any(), any(Date.class))).thenReturn("accessToken");
+        when(refreshTokenService.issue(user, "device")).thenReturn("refreshToken");
 
-        SignInRes result = authService.signIn(req);
+        SignInRes result = authService.signIn(req, "device");
 
         // Then
         assertNotNull(result);
@@ -116,6 +132,33 @@ public class AuthServiceUnitTest {
         assertEquals("refreshToken", result.getRefreshToken());
     }
 
+    @Test
+    @DisplayName("Rehash password on sign in when BCrypt cost changed")
+    void signInRehashPassword() {
+        // Given
+        UserSignInReq req = new UserSignInReq("test@email.com", "Password1!");
+        Account account = Account.builder()
+                .accountId(1L)
+                .email("test@email.com")
+                .password("oldCostHash")
+                .build();
+        User user = User.builder()
+                .userId(1L)
+                .account(account)
+                .build();
+
+        // When
+        when(userRepository.findByEmail(req.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches(req.getPassword(), "oldCostHash")).thenReturn(true);
+        when(passwordHashingService.needsRehash("oldCostHash")).thenReturn(true);
+        when(passwordHashingService.encode(req.getPassword())).thenReturn("newCostHash");
+
+        authService.signIn(req, "device");
+
+        // Then
+        assertEquals("newCostHash", account.getPassword());
+    }
+
     @Test
     @DisplayName("Fail to sign in with non-existent user")
     void failSignInWithUserNotFound() {
@@ -125,7 +168,7 @@ public class AuthServiceUnitTest {
         // When & Then
         when(userRepository.findByEmail(req.getEmail())).thenReturn(Optional.empty());
 
-        assertThrows(CustomException.class, () -> authService.signIn(req));
+        assertThrows(CustomException.class, () -> authService.signIn(req, "device"));
     }
 
     @Test
@@ -147,9 +190,9 @@ public class AuthServiceUnitTest {
 
         // When & Then
         when(userRepository.findByEmail(req.getEmail())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(req.getPassword(), user.getAccount().getPassword())).thenReturn(false);
+        when(passwordHashingService.matches(req.getPassword(), user.getAccount().getPassword())).thenReturn(false);
 
-        assertThrows(CustomException.class, () -> authService.signIn(req));
+        assertThrows(CustomException.class, () -> authService.signIn(req, "device"));
     }
 
     @Test
@@ -157,14 +200,12 @@ public class AuthServiceUnitTest {
     void getAccessTokenByRefreshToken() {
         // Given
         TokenRequestDto req = new TokenRequestDto("validRefreshToken");
-        User user = User.builder().userId(1L).refreshToken("validRefreshToken").build();
+        Account account = Account.builder().email("test@email.com").build();
+        User user = User.builder().userId(1L).account(account).build();
 
         // When
-        when(jwtTokenProvider.validateToken("validRefreshToken")).thenReturn(true);
-        when(jwtTokenProvider.getClaim("validRefreshToken", "userId", Long.class)).thenReturn(1L);
-        when(userRepository.findByUserIdAndRefreshToken(1L, "validRefreshToken")).thenReturn(Optional.of(user));
-        when(jwtTokenProvider.generateToken(eq(TokenType.ACCESS), eq(1L), any(Date.class))).thenReturn("newAccessToken");
-        when(jwtTokenProvider.generateToken(eq(TokenType.REFRESH), eq(1L), any(Date.class))).thenReturn("newRefreshToken");
+        when(refreshTokenService.rotate("validRefreshToken")).thenReturn(new Rotation(user, "newRefreshToken"));
+        when(jwtTokenProvider.generateToken(eq(TokenType.ACCESS), eq(1L), any(), any(Date.class))).thenReturn("newAccessToken");
 
         TokenResponseDto response = authService.getAccessTokenByRefreshToken(req);
 
@@ -172,34 +213,71 @@ public class AuthServiceUnitTest {
         assertNotNull(response);
         assertEquals("newAccessToken", response.getAccessToken());
         assertEquals("newRefreshToken", response.getRefreshToken());
-        assertEquals("newRefreshToken", user.getRefreshToken());
     }
 
     @Test
-    @DisplayName("Fail to refresh tokens with expired refresh token")
-    void failReissueRefreshTokenWithExpiredToken() {
+    @DisplayName("Fail to refresh tokens with invalid refresh token")
+    void failReissueRefreshTokenWithInvalidToken() {
         // Given
-        String expiredRefreshToken = "expiredRefreshToken";
-        TokenRequestDto req = new TokenRequestDto(expiredRefreshToken);
+        TokenRequestDto req = new TokenRequestDto("expiredRefreshToken");
 
         // When & Then
-        when(jwtTokenProvider.validateToken(expiredRefreshToken)).thenReturn(false);
+        when(refreshTokenService.rotate("expiredRefreshToken")).thenThrow(new CustomException(ErrorCode.ERROR_BE1005));
 
         assertThrows(CustomException.class, () -> authService.getAccessTokenByRefreshToken(req));
+        verify(jwtTokenProvider, never()).generateToken(any(), anyLong(), any(), any(Date.class));
     }
 
     @Test
-    @DisplayName("Fail to refresh tokens when user not found")
-    void failReissueRefreshTokenByUserNotFound() {
+    @DisplayName("Successfully logout and evict cached user")
+    void successLogout() {
         // Given
-        String validRefreshToken = "validRefreshToken";
-        TokenRequestDto req = new TokenRequestDto(validRefreshToken);
+        User user = User.builder().userId(1L).build();
+        when(userRepository.findByEmail("test@email.com")).thenReturn(Optional.of(user));
 
-        // When & Then
-        when(jwtTokenProvider.validateToken(validRefreshToken)).thenReturn(true);
-        when(jwtTokenProvider.getClaim(validRefreshToken, "userId", Long.class)).thenReturn(1L);
-        when(userRepository.findByUserIdAndRefreshToken(1L, validRefreshToken)).thenReturn(Optional.empty());
+        // When
+        TokenClaims claims = new TokenClaims(TokenType.ACCESS, "jti", 1L, "test@email.com", new Date(), new Date());
+        authService.logout("test@email.com", "device", claims);
 
-        assertThrows(CustomException.class, () -> authService.getAccessTokenByRefreshToken(req));
+        // Then
+        verify(refreshTokenService).revoke(1L, "device");
+        verify(tokenRevocationList).revoke(claims);
+        verify(userDetailsCache).evict("test@email.com");
+    }
+
+    @Test
+    @DisplayName("Successfully change password and evict cached user")
+    void successChangePassword() {
+        // Given
+        Account account = Account.builder().email("test@email.com").password("encodedOld").build();
+        User user = User.builder().userId(1L).account(account).build();
+        when(userRepository.findByEmail("test@email.com")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("OldPassword1!", "encodedOld")).thenReturn(true);
+        when(passwordHashingService.encode("NewPassword1!")).thenReturn("encodedNew");
+
+        // When
+        authService.changePassword("test@email.com", new PasswordChangeReq("OldPassword1!", "NewPassword1!"));
+
+        // Then
+        assertEquals("encodedNew", account.getPassword());
+        verify(refreshTokenService).revokeAll(1L);
+        verify(tokenRevocationList).revokeAllIssuedBefore(1L);
+        verify(userDetailsCache).evict("test@email.com");
+    }
+
+    @Test
+    @DisplayName("Fail to change password with wrong current password")
+    void failChangePasswordWithWrongPassword() {
+        // Given
+        Account account = Account.builder().email("test@email.com").password("encodedOld").build();
+        User user = User.builder().userId(1L).account(account).build();
+        when(userRepository.findByEmail("test@email.com")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("WrongPassword1!", "encodedOld")).thenReturn(false);
+
+        // When & Then
+        CustomException ex = assertThrows(CustomException.class,
+                () -> authService.changePassword("test@email.com", new PasswordChangeReq("WrongPassword1!", "NewPassword1!")));
+        assertEquals(ErrorCode.ERROR_BE1010, ex.getErrorCode());
+        verify(userDetailsCache, never()).evict(anyString());
     }
 }
@@ -0,0 +1,171 @@
+package com.user.unitTest.service;
+
+import com.storage.entity.InventoryHold;
+import com.storage.entity.Reservation;
+import com.storage.entity.Room;
+import com.storage.repository.InventoryHoldRepository;
+import com.storage.repository.ReservationRepository;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import com.storage.repository.UserRepository;
+import com.user.booking.HoldTimer;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.HoldRes;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.service.HoldService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+public class HoldServiceUnitTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final InventoryHoldRepository inventoryHoldRepository = mock(InventoryHoldRepository.class);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final RoomInventoryRepository roomInventoryRepository = mock(RoomInventoryRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RoomAvailabilityIndex roomAvailabilityIndex = mock(RoomAvailabilityIndex.class);
+    private final HoldTimer holdTimer = mock(HoldTimer.class);
+
+    private final HoldService holdService = new HoldService(inventoryHoldRepository, reservationRepository,
+            roomInventoryRepository, roomRepository, userRepository, roomAvailabilityIndex, holdTimer,
+            Duration.ofMinutes(10), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    private final LocalDate checkIn = LocalDate.of(2026, 2, 1);
+    private final LocalDate checkOut = LocalDate.of(2026, 2, 3);
+    private final LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    private InventoryHold hold(Long holdId, Long roomId, LocalDate checkIn, LocalDate checkOut, int quantity, LocalDateTime expiresAt) {
+        return InventoryHold.builder()
+                .inventoryHoldId(holdId)
+                .room(Room.builder().roomId(roomId).build())
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .quantity(quantity)
+                .status("HELD")
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Hold stock for the ttl and schedule its expiry")
+    void successHold() {
+        ReserveReq req = new ReserveReq(10L, checkIn, checkOut, 2);
+        when(holdTimer.owner()).thenReturn(3);
+        when(roomInventoryRepository.decreaseAvailable(10L, checkIn, checkOut, 2)).thenReturn(2);
+        when(inventoryHoldRepository.save(any(InventoryHold.class))).thenAnswer(invocation -> {
+            InventoryHold hold = invocation.getArgument(0);
+            return hold(200L, 10L, hold.getCheckIn(), hold.getCheckOut(), hold.getQuantity(), hold.getExpiresAt());
+        });
+
+        HoldRes res = holdService.hold(1L, req);
+
+        assertEquals(200L, res.getHoldId());
+        assertEquals(now.plusMinutes(10), res.getExpiresAt());
+        verify(inventoryHoldRepository).save(argThat(hold -> hold.getStatus().equals("HELD") && hold.getQuantity() == 2
+                && hold.getOwnerWorkerId() == 3));
+        verify(holdTimer).scheduleAfterCommit(200L, now.plusMinutes(10));
+        verify(roomAvailabilityIndex).applyAfterCommit(anyList());
+    }
+
+    @Test
+    @DisplayName("Fail to hold when one of the nights is sold out")
+    void failHoldBySoldOut() {
+        ReserveReq req = new ReserveReq(10L, checkIn, checkOut, 1);
+        when(roomInventoryRepository.decreaseAvailable(10L, checkIn, checkOut, 1)).thenReturn(1);
+
+        CustomException e = assertThrows(CustomException.class, () -> holdService.hold(1L, req));
+
+        assertEquals(ErrorCode.ERROR_BE1006, e.getErrorCode());
+        verify(inventoryHoldRepository, never()).save(any());
+        verifyNoInteractions(holdTimer);
+    }
+
+    @Test
+    @DisplayName("Confirm a hold into a reservation without taking stock again")
+    void successConfirm() {
+        when(inventoryHoldRepository.findByInventoryHoldIdAndUserUserId(200L, 1L))
+                .thenReturn(Optional.of(hold(200L, 10L, checkIn, checkOut, 2, now.plusMinutes(5))));
+        when(inventoryHoldRepository.updateStatusBeforeExpiry(200L, "HELD", "CONFIRMED", now)).thenReturn(1);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            reservation.setReservationId(300L);
+            return reservation;
+        });
+
+        ReserveRes res = holdService.confirm(1L, 200L);
+
+        assertEquals(300L, res.getReservationId());
+        verify(reservationRepository).save(argThat(reservation ->
+                reservation.getStatus().equals("RESERVED") && reservation.getQuantity() == 2));
+        verify(roomInventoryRepository, never()).decreaseAvailable(anyLong(), any(), any(), anyInt());
+        verify(holdTimer).cancelAfterCommit(200L);
+    }
+
+    @Test
+    @DisplayName("Fail to confirm an expired or already released hold")
+    void failConfirmExpired() {
+        when(inventoryHoldRepository.findByInventoryHoldIdAndUserUserId(200L, 1L))
+                .thenReturn(Optional.of(hold(200L, 10L, checkIn, checkOut, 2, now.minusMinutes(1))));
+        when(inventoryHoldRepository.updateStatusBeforeExpiry(200L, "HELD", "CONFIRMED", now)).thenReturn(0);
+
+        CustomException e = assertThrows(CustomException.class, () -> holdService.confirm(1L, 200L));
+
+        assertEquals(ErrorCode.ERROR_BE1016, e.getErrorCode());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Release a hold and give its stock back")
+    void successRelease() {
+        when(inventoryHoldRepository.findByInventoryHoldIdAndUserUserId(200L, 1L))
+                .thenReturn(Optional.of(hold(200L, 10L, checkIn, checkOut, 2, now.plusMinutes(5))));
+        when(inventoryHoldRepository.updateStatus(200L, "HELD", "RELEASED")).thenReturn(1);
+
+        holdService.release(1L, 200L);
+
+        verify(roomInventoryRepository).increaseAvailable(10L, checkIn, checkOut, 2);
+        verify(holdTimer).cancelAfterCommit(200L);
+    }
+
+    @Test
+    @DisplayName("Release expired holds with one inventory update per room and night")
+    void releaseExpiredInOneBatch() {
+        when(inventoryHoldRepository.findForUpdate(List.of(1L, 2L, 3L, 4L), "HELD")).thenReturn(List.of(
+                hold(1L, 10L, checkIn, checkOut, 1, now.minusSeconds(1)),
+                hold(2L, 10L, checkIn.plusDays(1), checkOut.plusDays(1), 2, now.minusSeconds(1)),
+                hold(3L, 20L, checkIn, checkIn.plusDays(1), 1, now),
+                // 이 인스턴스의 시계보다 늦게 만료된다
+                hold(4L, 20L, checkIn, checkIn.plusDays(1), 1, now.plusSeconds(5))));
+
+        int released = holdService.releaseExpired(List.of(1L, 2L, 3L, 4L));
+
+        assertEquals(3, released);
+        verify(inventoryHoldRepository).updateStatusIn(List.of(1L, 2L, 3L), "RELEASED");
+        verify(roomInventoryRepository).increaseAvailable(10L, checkIn, checkIn.plusDays(1), 1);
+        verify(roomInventoryRepository).increaseAvailable(10L, checkIn.plusDays(1), checkIn.plusDays(2), 3);
+        verify(roomInventoryRepository).increaseAvailable(10L, checkIn.plusDays(2), checkIn.plusDays(3), 2);
+        verify(roomInventoryRepository).increaseAvailable(20L, checkIn, checkIn.plusDays(1), 1);
+        verify(roomInventoryRepository, times(4)).increaseAvailable(anyLong(), any(), any(), anyInt());
+        verify(holdTimer).scheduleAfterCommit(4L, now.plusSeconds(5));
+    }
+}
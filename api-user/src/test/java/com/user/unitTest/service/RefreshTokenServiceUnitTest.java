@@ -0,0 +1,143 @@
+package com.user.unitTest.service;
+
+import com.storage.entity.Account;
+import com.storage.entity.RefreshToken;
+import com.storage.entity.User;
+import com.storage.repository.RefreshTokenRepository;
+import com.user.exception.CustomException;
+import com.user.service.RefreshTokenService;
+import com.user.service.RefreshTokenService.Rotation;
+import com.user.utils.enums.TokenType;
+import com.user.utils.jwt.JwtTokenProvider;
+import com.user.utils.jwt.TokenClaims;
+import com.user.utils.jwt.TokenHasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("UnitTest")
+public class RefreshTokenServiceUnitTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private final User user = User.builder()
+            .userId(1L)
+            .account(Account.builder().email("test@email.com").build())
+            .build();
+
+    private RefreshToken storedToken(boolean used) {
+        return RefreshToken.builder()
+                .refreshTokenId(10L)
+                .user(user)
+                .tokenHash(TokenHasher.sha256Hex("oldRefreshToken"))
+                .familyId("family")
+                .deviceId("phone")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .used(used)
+                .build();
+    }
+
+    private void givenValidClaims(String token) {
+        when(jwtTokenProvider.parseClaims(token))
+                .thenReturn(Optional.of(new TokenClaims(TokenType.REFRESH, "jti", 1L, "test@email.com", new Date(), new Date())));
+    }
+
+    @Test
+    @DisplayName("Issue replaces the device's previous token and stores only the hash")
+    void issueStoresHash() {
+        when(jwtTokenProvider.generateToken(eq(TokenType.REFRESH), eq(1L), eq("test@email.com"), any(Date.class)))
+                .thenReturn("refreshToken");
+
+        String token = refreshTokenService.issue(user, "phone");
+
+        assertEquals("refreshToken", token);
+        verify(refreshTokenRepository).deleteByUserIdAndDeviceId(1L, "phone");
+        verify(refreshTokenRepository).save(argThat(rt ->
+                rt.getTokenHash().equals(TokenHasher.sha256Hex("refreshToken"))
+                        && rt.getTokenHash().length() == 64
+                        && rt.getDeviceId().equals("phone")
+                        && !rt.isUsed()));
+    }
+
+    @Test
+    @DisplayName("Rotate marks the token used and issues a new one in the same family")
+    void rotateKeepsFamily() {
+        givenValidClaims("oldRefreshToken");
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex("oldRefreshToken")))
+                .thenReturn(Optional.of(storedToken(false)));
+        when(refreshTokenRepository.markUsed(10L)).thenReturn(1);
+        when(jwtTokenProvider.generateToken(eq(TokenType.REFRESH), eq(1L), any(), any(Date.class))).thenReturn("newRefreshToken");
+
+        Rotation rotation = refreshTokenService.rotate("oldRefreshToken");
+
+        assertEquals("newRefreshToken", rotation.refreshToken());
+        assertSame(user, rotation.user());
+        verify(refreshTokenRepository).save(argThat(rt ->
+                rt.getFamilyId().equals("family") && rt.getDeviceId().equals("phone")));
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+    }
+
+    @Test
+    @DisplayName("Reusing a rotated token revokes the whole family")
+    void reuseRevokesFamily() {
+        givenValidClaims("oldRefreshToken");
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex("oldRefreshToken")))
+                .thenReturn(Optional.of(storedToken(true)));
+
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("oldRefreshToken"));
+        verify(refreshTokenRepository).deleteByFamilyId("family");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Losing a concurrent rotation race is treated as reuse")
+    void concurrentRotationRevokesFamily() {
+        givenValidClaims("oldRefreshToken");
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex("oldRefreshToken")))
+                .thenReturn(Optional.of(storedToken(false)));
+        when(refreshTokenRepository.markUsed(10L)).thenReturn(0);
+
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("oldRefreshToken"));
+        verify(refreshTokenRepository).deleteByFamilyId("family");
+    }
+
+    @Test
+    @DisplayName("Reject tokens that are not stored")
+    void rejectUnknownToken() {
+        givenValidClaims("unknownToken");
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex("unknownToken"))).thenReturn(Optional.empty());
+
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("unknownToken"));
+        verify(refreshTokenRepository, never()).markUsed(anyLong());
+    }
+
+    @Test
+    @DisplayName("Reject access tokens before touching the store")
+    void rejectAccessToken() {
+        when(jwtTokenProvider.parseClaims("accessToken"))
+                .thenReturn(Optional.of(new TokenClaims(TokenType.ACCESS, "jti", 1L, "test@email.com", new Date(), new Date())));
+
+        assertThrows(CustomException.class, () -> refreshTokenService.rotate("accessToken"));
+        verifyNoInteractions(refreshTokenRepository);
+    }
+}
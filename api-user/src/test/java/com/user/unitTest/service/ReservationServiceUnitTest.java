@@ -0,0 +1,146 @@
+package com.user.unitTest.service;
+
+import com.storage.entity.Reservation;
+import com.storage.entity.Room;
+import com.storage.entity.User;
+import com.storage.repository.ReservationRepository;
+import com.storage.repository.RoomInventoryRepository;
+import com.storage.repository.RoomRepository;
+import com.storage.repository.UserRepository;
+import com.user.dto.request.ReservationRequestDto.ReserveReq;
+import com.user.dto.response.ReservationResponseDto.ReserveRes;
+import com.user.exception.CustomException;
+import com.user.exception.type.ErrorCode;
+import com.user.search.RoomAvailabilityIndex;
+import com.user.service.ReservationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("UnitTest")
+public class ReservationServiceUnitTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RoomInventoryRepository roomInventoryRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    private final LocalDate checkIn = LocalDate.of(2026, 1, 1);
+    private final LocalDate checkOut = LocalDate.of(2026, 1, 4);
+
+    @Test
+    @DisplayName("Successfully reserve when every night has enough stock")
+    void successReserve() {
+        // Given
+        ReserveReq req = new ReserveReq(10L, checkIn, checkOut, 1);
+        when(roomInventoryRepository.decreaseAvailable(10L, checkIn, checkOut, 1)).thenReturn(3);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            reservation.setReservationId(100L);
+            return reservation;
+        });
+
+        // When
+        ReserveRes res = reservationService.reserve(1L, req);
+
+        // Then
+        assertEquals(100L, res.getReservationId());
+        verify(reservationRepository).save(argThat(reservation ->
+                reservation.getStatus().equals("RESERVED") && reservation.getQuantity() == 1));
+        verify(roomAvailabilityIndex).applyAfterCommit(anyList());
+    }
+
+    @Test
+    @DisplayName("Fail to reserve when one of the nights is sold out")
+    void failReserveBySoldOut() {
+        // Given
+        ReserveReq req = new ReserveReq(10L, checkIn, checkOut, 1);
+        when(roomInventoryRepository.decreaseAvailable(10L, checkIn, checkOut, 1)).thenReturn(2);
+
+        // When & Then
+        CustomException ex = assertThrows(CustomException.class, () -> reservationService.reserve(1L, req));
+        assertEquals(ErrorCode.ERROR_BE1006, ex.getErrorCode());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        verifyNoInteractions(roomAvailabilityIndex);
+    }
+
+    @Test
+    @DisplayName("Fail to reserve with check-out before check-in")
+    void failReserveByInvalidRange() {
+        ReserveReq req = new ReserveReq(10L, checkOut, checkIn, 1);
+
+        CustomException ex = assertThrows(CustomException.class, () -> reservationService.reserve(1L, req));
+        assertEquals(ErrorCode.ERROR_BE1007, ex.getErrorCode());
+        verifyNoInteractions(roomInventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Successfully cancel and restore stock")
+    void successCancel() {
+        // Given
+        Reservation reservation = Reservation.builder()
+                .reservationId(100L)
+                .user(User.builder().userId(1L).build())
+                .room(Room.builder().roomId(10L).build())
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .quantity(2)
+                .status("RESERVED")
+                .build();
+        when(reservationRepository.findByReservationIdAndUserUserId(100L, 1L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.updateStatus(100L, "RESERVED", "CANCELED")).thenReturn(1);
+
+        // When
+        reservationService.cancel(1L, 100L);
+
+        // Then
+        verify(roomInventoryRepository).increaseAvailable(10L, checkIn, checkOut, 2);
+        verify(roomAvailabilityIndex).applyAfterCommit(anyList());
+    }
+
+    @Test
+    @DisplayName("Fail to cancel an already canceled reservation")
+    void failCancelTwice() {
+        // Given
+        Reservation reservation = Reservation.builder()
+                .reservationId(100L)
+                .room(Room.builder().roomId(10L).build())
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .quantity(1)
+                .status("CANCELED")
+                .build();
+        when(reservationRepository.findByReservationIdAndUserUserId(100L, 1L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.updateStatus(100L, "RESERVED", "CANCELED")).thenReturn(0);
+
+        // When & Then
+        CustomException ex = assertThrows(CustomException.class, () -> reservationService.cancel(1L, 100L));
+        assertEquals(ErrorCode.ERROR_BE1009, ex.getErrorCode());
+        verify(roomInventoryRepository, never()).increaseAvailable(anyLong(), any(), any(), anyInt());
+    }
+}
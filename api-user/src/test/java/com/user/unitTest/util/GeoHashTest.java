@@ -0,0 +1,77 @@
+package com.user.unitTest.util;
+
+import com.storage.geo.GeoHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class GeoHashTest {
+
+    @Test
+    @DisplayName("Encode a well-known coordinate")
+    void encodeKnownValue() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("wydm9", GeoHash.encode(37.5665, 126.9780, 5));
+    }
+
+    @Test
+    @DisplayName("Every point within the radius falls into one of the covering cells")
+    void coveringCellsContainRadius() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            double lat = random.nextDouble() * 160 - 80;
+            double lng = random.nextDouble() * 360 - 180;
+            double radiusKm = 0.1 + random.nextDouble() * 100;
+            List<String> cells = GeoHash.coveringCells(lat, lng, radiusKm, 16);
+            assertTrue(cells.size() <= 16);
+
+            for (int j = 0; j < 20; j++) {
+                double bearing = random.nextDouble() * 2 * Math.PI;
+                double distanceKm = random.nextDouble() * radiusKm;
+                double pointLat = lat + Math.toDegrees(distanceKm / 6371.0088) * Math.cos(bearing);
+                double pointLng = lng + Math.toDegrees(distanceKm / 6371.0088) * Math.sin(bearing) / Math.cos(Math.toRadians(lat));
+                if (pointLng >= 180) pointLng -= 360;
+                if (pointLng < -180) pointLng += 360;
+                if (GeoHash.distanceKm(lat, lng, pointLat, pointLng) > radiusKm) {
+                    continue;
+                }
+
+                String pointHash = GeoHash.encode(pointLat, pointLng, GeoHash.MAX_PRECISION);
+                assertTrue(cells.stream().anyMatch(pointHash::startsWith),
+                        () -> "point outside covering cells: " + pointHash + " " + cells);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Use smaller cells for smaller radii")
+    void precisionFollowsRadius() {
+        int small = GeoHash.coveringCells(37.5, 127.0, 0.5, 16).get(0).length();
+        int large = GeoHash.coveringCells(37.5, 127.0, 50, 16).get(0).length();
+
+        assertTrue(small > large);
+    }
+
+    @Test
+    @DisplayName("Cover the radius across the antimeridian")
+    void antimeridian() {
+        List<String> cells = GeoHash.coveringCells(0, 179.99, 5, 16);
+        String east = GeoHash.encode(0, -179.99, GeoHash.MAX_PRECISION);
+
+        assertTrue(cells.stream().anyMatch(east::startsWith));
+    }
+
+    @Test
+    @DisplayName("Haversine distance between Seoul and Busan")
+    void distance() {
+        double km = GeoHash.distanceKm(37.5665, 126.9780, 35.1796, 129.0756);
+
+        assertEquals(325, km, 5);
+    }
+}
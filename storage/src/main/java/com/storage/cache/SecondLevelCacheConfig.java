@@ -0,0 +1,80 @@
+package com.storage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @Cache 를 붙인 엔티티/컬렉션(Accommodation, Accommodation.rooms, Room)을 Hibernate 2차 캐시에 둔다.
+ * region 별 크기와 만료 시간은 hibernate-cache.conf 에서 설정한다.
+ * <p>
+ * 같은 프로세스의 쓰기는 Hibernate 가 커밋 시 캐시를 갱신/무효화하고,
+ * 다른 프로세스(api-admin)의 쓰기는 updated_date 를 주기적으로 읽어 evict 하거나 after-write 만료로 반영된다.
+ * 질의 캐시는 다른 프로세스의 쓰기로 무효화할 수 없으므로 사용하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "storage.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final URI CONFIG_URI = URI.create("classpath:hibernate-cache.conf");
+
+    /**
+     * Hibernate 에 URI 를 넘기면 jar 안의 파일 URL 로 바뀌어 Caffeine 이 설정을 읽지 못하므로 CacheManager 를 직접 만든다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        return cacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.putAll(hibernateProperties(secondLevelCacheManager));
+    }
+
+    public static CacheManager cacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CONFIG_URI, SecondLevelCacheConfig.class.getClassLoader());
+    }
+
+    public static Map<String, Object> hibernateProperties(CacheManager cacheManager) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+        properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        // Room.accommodation 이 바뀌면 연관관계의 반대편인 Accommodation.rooms 캐시도 비운다.
+        properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        return properties;
+    }
+
+    /**
+     * region 이름 -> Caffeine cache. 적중률과 제거 횟수 등 지표를 노출할 때 사용한다.
+     * 2차 캐시를 사용하지 않으면 빈 map 을 반환한다.
+     */
+    public static Map<String, Cache<?, ?>> caches(EntityManagerFactory entityManagerFactory) {
+        Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory) {
+            CacheManager cacheManager = regionFactory.getCacheManager();
+            for (String name : cacheManager.getCacheNames()) {
+                caches.put(name, cacheManager.getCache(name).unwrap(Cache.class));
+            }
+        }
+        return caches;
+    }
+}
@@ -1,19 +1,42 @@
 package com.storage.entity;
 
+import com.storage.geo.GeoHash;
+import com.support.id.SnowflakeId;
+import com.support.money.Money;
+import com.support.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accommodation")
+@NamedEntityGraph(name = Accommodation.WITH_ROOMS, attributeNodes = @NamedAttributeNode("rooms"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_accommodation_geohash", columnList = "geohash"),
+        @Index(name = "idx_accommodation_updated_date", columnList = "updated_date")
+})
 public class Accommodation extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String WITH_ROOMS = "Accommodation.withRooms";
+
+    /**
+     * IDENTITY 전략은 INSERT 마다 DB 왕복이 필요해 JDBC batch 가 비활성화된다.
+     * 애플리케이션에서 시간 순 id 를 발급하므로 DB 왕복 없이 batch insert 된다.
+     */
+    @Id
+    @SnowflakeId
     private Long accommodationId;
 
     @Column(nullable = false)
@@ -44,7 +67,36 @@ public class Accommodation extends BaseEntity {
 
     private double longitude;
 
+    /**
+     * 위치 검색용 geohash. 저장/수정 시 위도/경도로부터 다시 계산되므로 직접 설정하지 않는다.
+     */
+    @Column(length = GeoHash.MAX_PRECISION)
+    private String geohash;
+
+    /**
+     * 객실 가격 중 최저가. 목록 조회에서 객실을 읽지 않도록 저장/수정 시 객실 목록으로부터 다시 계산한다.
+     */
+    @Column(precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money minPrice;
+
+    /**
+     * 여러 숙소의 객실 목록을 지연 로딩할 때 숙소마다 조회하지 않고 초기화되지 않은 목록을 100 개씩 IN 으로 묶어 읽는다.
+     */
     @OneToMany(mappedBy = "accommodation", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accommodation-rooms")
     @Builder.Default
     private List<Room> rooms = new ArrayList<>();
+
+    @PrePersist
+    @PreUpdate
+    void updateDerivedColumns() {
+        this.geohash = GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+        this.minPrice = rooms.stream()
+                .map(Room::getPrice)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
 }
@@ -0,0 +1,62 @@
+package com.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 숙소 변경 이벤트. 숙소를 바꾸는 트랜잭션 안에서 함께 저장하므로 변경이 커밋되면 이벤트도 반드시 남는다.
+ * api-user 의 relay 가 created_at 순으로 읽어 검색 색인, 2차 캐시 등에 알린다.
+ * <p>
+ * 같은 숙소의 이벤트 순서는 created_at 으로 정한다. 수정/삭제는 숙소 행을 먼저 변경(flush)해 행 잠금을 잡은 뒤
+ * 이벤트를 만들어야 커밋 순서와 created_at 순서가 같아진다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_accommodation_outbox_created_at", columnList = "created_at, outbox_id"),
+        @Index(name = "idx_accommodation_outbox_delivered_at", columnList = "delivered_at")
+})
+public class AccommodationOutbox {
+
+    /**
+     * 대량 등록 시 숙소와 함께 batch insert 되도록 id_generator 테이블에서 미리 할당받는 pooled 방식을 사용한다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "accommodation_outbox_id_generator")
+    @TableGenerator(name = "accommodation_outbox_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "accommodation_outbox", allocationSize = 50)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private Long accommodationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * relay 가 처음 전달한 시각. 전달되지 않은 이벤트 수를 확인하고, 보관 기간이 지난 이벤트를 삭제하는 데 사용한다.
+     */
+    private LocalDateTime deliveredAt;
+
+    public static AccommodationOutbox of(Long accommodationId, EventType eventType) {
+        return AccommodationOutbox.builder()
+                .accommodationId(accommodationId)
+                .eventType(eventType)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public enum EventType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,58 @@
+package com.storage.entity;
+
+import com.support.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 결제가 끝날 때까지 객실 재고를 잡아 두는 임시 점유(hold).
+ * 만들 때 RoomInventory 의 재고를 차감하고, 확정(CONFIRMED)되면 예약이 되며, 만료되거나 취소(RELEASED)되면 재고를 돌려준다.
+ * 만료 대기 중인 hold 는 만든 api-user 인스턴스(ownerWorkerId)가 메모리의 timing wheel 로 관리하고,
+ * 그 인스턴스가 다시 시작할 때 자기 worker id 의 status = HELD 인 행에서 다시 만든다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_inventory_hold_status_owner_id", columnList = "status, owner_worker_id, inventory_hold_id"),
+        @Index(name = "idx_inventory_hold_status_expires_at", columnList = "status, expires_at")
+})
+public class InventoryHold extends BaseEntity {
+
+    @Id
+    @SnowflakeId
+    private Long inventoryHoldId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    @Column(nullable = false)
+    private LocalDate checkIn;
+
+    @Column(nullable = false)
+    private LocalDate checkOut;
+
+    private int quantity;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 만료를 맡은 api-user 인스턴스의 Snowflake worker id
+     */
+    @Column(nullable = false)
+    private Integer ownerWorkerId;
+}
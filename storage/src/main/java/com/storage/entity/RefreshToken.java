@@ -0,0 +1,46 @@
+package com.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기기별 refresh token.
+ * 토큰 원문 대신 SHA-256 해시(64자)를 unique index 로 조회하며,
+ * 재발급 시 같은 familyId 로 새 행을 만들고 이전 행은 used 로 표시한다.
+ * 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_user_device", columnList = "user_id, device_id"),
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+public class RefreshToken extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long refreshTokenId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false, length = 64)
+    private String deviceId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private boolean used;
+}
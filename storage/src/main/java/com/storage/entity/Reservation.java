@@ -0,0 +1,42 @@
+package com.storage.entity;
+
+import com.support.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class Reservation extends BaseEntity {
+
+    /**
+     * 예약 엔진(api-user 의 BookingEngine)이 여러 예약을 한 트랜잭션에서 batch insert 하므로 애플리케이션에서 발급한다.
+     */
+    @Id
+    @SnowflakeId
+    private Long reservationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    @Column(nullable = false)
+    private LocalDate checkIn;
+
+    @Column(nullable = false)
+    private LocalDate checkOut;
+
+    private int quantity;
+
+    @Column(nullable = false)
+    private String status;
+}
@@ -0,0 +1,34 @@
+package com.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기된 access token.
+ * tokenKey 는 토큰 하나(jti) 또는 사용자 전체("user:{userId}", revokedAt 이전 발급 토큰 모두)를 가리킨다.
+ * access token 이 어차피 만료되는 시점(expiresAt)이 지나면 삭제 대상이다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long revokedTokenId;
+
+    @Column(nullable = false, length = 64)
+    private String tokenKey;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,18 +1,30 @@
 package com.storage.entity;
 
+import com.support.id.SnowflakeId;
+import com.support.money.Money;
+import com.support.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.*;
-
-import java.math.BigDecimal;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room")
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_room_updated_date", columnList = "updated_date")
+})
 public class Room extends BaseEntity{
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * 숙소 하나에 수백 개의 객실이 한 번에 등록되므로 id 할당에 DB 왕복이 없도록 애플리케이션에서 발급한다.
+     */
+    @Id
+    @SnowflakeId
     private Long roomId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,7 +45,8 @@ public class Room extends BaseEntity{
     private int capacity;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     private int stock;
 }
@@ -0,0 +1,39 @@
+package com.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 객실 타입별, 숙박일(1박)별 재고.
+ * 예약은 행을 조회해 잠그지 않고 RoomInventoryRepository 의 조건부 UPDATE 로만 차감한다.
+ * 조건부 UPDATE 는 auditing 을 거치지 않으므로 updated_date 를 직접 갱신한다. (api-user 의 객실 가용성 색인이 변경분을 읽는 기준)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_room_inventory_room_date", columnNames = {"room_id", "stay_date"}),
+        indexes = @Index(name = "idx_room_inventory_updated_date", columnList = "updated_date"))
+public class RoomInventory extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "room_inventory_id_generator")
+    @TableGenerator(name = "room_inventory_id_generator", table = "id_generator",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "room_inventory", allocationSize = 100)
+    private Long roomInventoryId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    private Room room;
+
+    @Column(nullable = false)
+    private LocalDate stayDate;
+
+    private int total;
+
+    private int available;
+}
@@ -1,5 +1,6 @@
 package com.storage.entity;
 
+import com.support.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,7 @@ import lombok.*;
 @AllArgsConstructor
 public class User extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long userId;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -19,5 +20,4 @@ public class User extends BaseEntity {
     private Account account;
     private String nickname;
     private String grade;
-    private String refreshToken;
 }
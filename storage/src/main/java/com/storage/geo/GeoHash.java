@@ -0,0 +1,125 @@
+package com.storage.geo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 위도/경도를 geohash 문자열로 변환한다.
+ * 가까운 위치는 같은 prefix 를 공유하므로 B-tree 인덱스의 prefix(LIKE 'abc%') 범위 조회로 공간 검색을 할 수 있다.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 중심 좌표에서 radiusKm 이내를 모두 포함하는 geohash 셀 목록을 반환한다.
+     * 반경의 bounding box 를 maxCells 개 이하의 셀로 덮을 수 있는 가장 작은 셀 크기를 고른다.
+     * 셀이 작을수록 prefix 범위 조회로 읽는 후보 행이 줄어든다.
+     */
+    public static List<String> coveringCells(double latitude, double longitude, double radiusKm, int maxCells) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, latitude - dLat);
+        double maxLat = Math.min(90, latitude + dLat);
+        // bounding box 에서 가장 극지방 쪽 위도의 경도 1도 길이가 가장 짧다.
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLng = cosLat < 1e-9 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE * cosLat));
+        double minLng = longitude - dLng;
+        double maxLng = longitude + dLng;
+
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            double height = cellHeightDegrees(precision);
+            double width = cellWidthDegrees(precision);
+            long firstRow = (long) Math.floor((minLat + 90) / height);
+            long lastRow = Math.min((long) Math.floor((maxLat + 90) / height), (long) (180 / height) - 1);
+            long firstCol = (long) Math.floor((minLng + 180) / width);
+            long lastCol = (long) Math.floor((maxLng + 180) / width);
+            if ((lastRow - firstRow + 1) * (lastCol - firstCol + 1) > maxCells) {
+                continue;
+            }
+
+            Set<String> cells = new LinkedHashSet<>();
+            for (long row = firstRow; row <= lastRow; row++) {
+                double cellLat = (row + 0.5) * height - 90;
+                for (long col = firstCol; col <= lastCol; col++) {
+                    cells.add(encode(cellLat, wrapLongitude((col + 0.5) * width - 180), precision));
+                }
+            }
+            return new ArrayList<>(cells);
+        }
+        // 가장 큰 셀로도 덮을 수 없으면 전체(빈 prefix)를 반환한다.
+        return List.of("");
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리(km, haversine).
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static double cellHeightDegrees(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    private static double cellWidthDegrees(int precision) {
+        int lngBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lngBits);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        double wrapped = (longitude + 180) % 360;
+        return (wrapped < 0 ? wrapped + 360 : wrapped) - 180;
+    }
+}
@@ -0,0 +1,43 @@
+package com.storage.repository;
+
+import com.storage.entity.AccommodationOutbox;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccommodationOutboxRepository extends JpaRepository<AccommodationOutbox, Long> {
+
+    /**
+     * (createdAt, outboxId) 가 (afterAt, afterId) 다음인 이벤트를 그 순서로 읽는다.
+     */
+    @Query("select o from AccommodationOutbox o" +
+            " where o.createdAt > :afterAt or (o.createdAt = :afterAt and o.outboxId > :afterId)" +
+            " order by o.createdAt, o.outboxId")
+    List<AccommodationOutbox> findAfter(LocalDateTime afterAt, Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update AccommodationOutbox o set o.deliveredAt = :now where o.outboxId in :ids and o.deliveredAt is null")
+    int markDelivered(Collection<Long> ids, LocalDateTime now);
+
+    @Query("select count(o) from AccommodationOutbox o where o.deliveredAt is null")
+    long countUndelivered();
+
+    /**
+     * before 이전에 전달된 이벤트를 최대 batchSize 건만 삭제한다.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "accommodation_outbox"))
+    @Query(value = "delete from accommodation_outbox where delivered_at < :before limit :batchSize", nativeQuery = true)
+    int deleteDeliveredBefore(LocalDateTime before, int batchSize);
+}
@@ -1,7 +1,152 @@
 package com.storage.repository;
 
 import com.storage.entity.Accommodation;
+import com.storage.geo.GeoHash;
+import com.support.money.Money;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface AccommodationRepository extends JpaRepository<Accommodation, Long> {
+
+    /**
+     * findNearbyInCells 의 prefix 파라미터 수. 쿼리 모양을 고정하기 위해 남는 자리는 첫 셀로 채운다.
+     */
+    int NEARBY_CELLS = 16;
+
+    /**
+     * 반경 안의 숙소를 거리순으로 반환한다.
+     * 반경을 덮는 geohash 셀(최대 16개)의 prefix 범위만 인덱스로 읽으므로 전체 테이블을 읽지 않는다.
+     */
+    default List<NearbyAccommodation> findNearby(double lat, double lng, double radiusKm, int limit, long offset) {
+        List<String> cells = GeoHash.coveringCells(lat, lng, radiusKm, NEARBY_CELLS);
+        String[] p = new String[NEARBY_CELLS];
+        for (int i = 0; i < NEARBY_CELLS; i++) {
+            p[i] = cells.get(i < cells.size() ? i : 0) + "%";
+        }
+        return findNearbyInCells(lat, lng, radiusKm * 1000,
+                p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7],
+                p[8], p[9], p[10], p[11], p[12], p[13], p[14], p[15],
+                limit, offset);
+    }
+
+    @Query(value = "select t.accommodationId as accommodationId, t.name as name, t.city as city, t.district as district," +
+            " t.latitude as latitude, t.longitude as longitude, t.distanceMeters as distanceMeters" +
+            " from (" +
+            "   select a.accommodation_id as accommodationId, a.name, a.city, a.district, a.latitude, a.longitude," +
+            "     st_distance_sphere(point(a.longitude, a.latitude), point(:lng, :lat)) as distanceMeters" +
+            "   from accommodation a" +
+            "   where a.geohash like :p0 or a.geohash like :p1 or a.geohash like :p2 or a.geohash like :p3" +
+            "      or a.geohash like :p4 or a.geohash like :p5 or a.geohash like :p6 or a.geohash like :p7" +
+            "      or a.geohash like :p8 or a.geohash like :p9 or a.geohash like :p10 or a.geohash like :p11" +
+            "      or a.geohash like :p12 or a.geohash like :p13 or a.geohash like :p14 or a.geohash like :p15" +
+            " ) t" +
+            " where t.distanceMeters <= :radiusMeters" +
+            " order by t.distanceMeters, t.accommodationId" +
+            " limit :limit offset :offset", nativeQuery = true)
+    List<NearbyAccommodation> findNearbyInCells(double lat, double lng, double radiusMeters,
+                                                String p0, String p1, String p2, String p3,
+                                                String p4, String p5, String p6, String p7,
+                                                String p8, String p9, String p10, String p11,
+                                                String p12, String p13, String p14, String p15,
+                                                int limit, long offset);
+
+    @Query("select a.accommodationId from Accommodation a where a.accommodationId > :afterId order by a.accommodationId")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    /**
+     * 목록 화면에 필요한 컬럼만 id 순으로 읽는다. afterId 다음부터 PK 범위로 읽으므로 OFFSET 과 달리 페이지 깊이와 관계없이 비용이 같다.
+     */
+    @Query("select a.accommodationId as accommodationId, a.name as name, a.countryName as countryName," +
+            " a.state as state, a.city as city, a.district as district, a.minPrice as minPrice" +
+            " from Accommodation a" +
+            " where a.accommodationId > :afterId" +
+            " order by a.accommodationId")
+    List<AccommodationSummary> findSummariesAfter(Long afterId, Pageable pageable);
+
+    /**
+     * ids 의 숙소와 객실을 한 번의 join fetch 로 읽는다. 객실 수만큼 반복되는 숙소 행은 distinct 로 합친다.
+     * 컬렉션 fetch join 에 페이지를 걸면 Hibernate 가 메모리에서 자르므로, 페이지는 findSummariesAfter 등으로 id 만 먼저 정한다.
+     */
+    @EntityGraph(Accommodation.WITH_ROOMS)
+    @Query("select distinct a from Accommodation a where a.accommodationId in :ids")
+    List<Accommodation> findWithRoomsByIdIn(Collection<Long> ids);
+
+    @Query("select a.accommodationId from Accommodation a where a.updatedDate > :since")
+    List<Long> findIdsUpdatedAfter(LocalDateTime since);
+
+    /**
+     * 검색 색인에 필요한 숙소 지역 정보와 객실 속성/가격만 읽는다. 객실이 없는 숙소는 room 컬럼이 null 인 행 하나로 반환된다.
+     */
+    @Query("select a.accommodationId as accommodationId, a.name as name, a.countryName as countryName," +
+            " a.state as state, a.city as city, a.district as district," +
+            " r.roomId as roomId, r.roomType as roomType, r.viewType as viewType, r.bedType as bedType, r.capacity as capacity," +
+            " r.price as price" +
+            " from Accommodation a left join a.rooms r" +
+            " where a.accommodationId in :ids" +
+            " order by a.accommodationId, r.roomId")
+    List<SearchRow> findSearchRows(Collection<Long> ids);
+
+    interface NearbyAccommodation {
+        Long getAccommodationId();
+
+        String getName();
+
+        String getCity();
+
+        String getDistrict();
+
+        double getLatitude();
+
+        double getLongitude();
+
+        double getDistanceMeters();
+    }
+
+    interface SearchRow {
+        Long getAccommodationId();
+
+        String getName();
+
+        String getCountryName();
+
+        String getState();
+
+        String getCity();
+
+        String getDistrict();
+
+        Long getRoomId();
+
+        String getRoomType();
+
+        String getViewType();
+
+        String getBedType();
+
+        Integer getCapacity();
+
+        Money getPrice();
+    }
+
+    interface AccommodationSummary {
+        Long getAccommodationId();
+
+        String getName();
+
+        String getCountryName();
+
+        String getState();
+
+        String getCity();
+
+        String getDistrict();
+
+        Money getMinPrice();
+    }
 }
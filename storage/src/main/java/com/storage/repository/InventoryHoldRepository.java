@@ -0,0 +1,70 @@
+package com.storage.repository;
+
+import com.storage.entity.InventoryHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface InventoryHoldRepository extends JpaRepository<InventoryHold, Long> {
+
+    Optional<InventoryHold> findByInventoryHoldIdAndUserUserId(Long inventoryHoldId, Long userId);
+
+    /**
+     * 현재 상태가 from 이고 아직 만료되지 않은 경우에만 상태를 변경한다. 만료 처리와 동시에 확정해도 한쪽만 1을 반환한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InventoryHold h set h.status = :to" +
+            " where h.inventoryHoldId = :inventoryHoldId and h.status = :from and h.expiresAt > :now")
+    int updateStatusBeforeExpiry(Long inventoryHoldId, String from, String to, LocalDateTime now);
+
+    /**
+     * 현재 상태가 from 인 경우에만 상태를 변경한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InventoryHold h set h.status = :to" +
+            " where h.inventoryHoldId = :inventoryHoldId and h.status = :from")
+    int updateStatus(Long inventoryHoldId, String from, String to);
+
+    /**
+     * ids 중 상태가 status 인 hold 를 잠그고 읽는다. 여러 인스턴스가 같은 hold 를 만료시켜도 재고는 한 번만 돌려준다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from InventoryHold h where h.inventoryHoldId in :ids and h.status = :status")
+    List<InventoryHold> findForUpdate(Collection<Long> ids, String status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update InventoryHold h set h.status = :to where h.inventoryHoldId in :ids")
+    int updateStatusIn(Collection<Long> ids, String to);
+
+    /**
+     * ownerWorkerId 인스턴스가 만든, 상태가 status 인 hold 의 id 와 만료 시각을 id 순으로 읽는다.
+     * (status, owner_worker_id, inventory_hold_id) 인덱스 범위로 읽는다.
+     */
+    @Query("select h.inventoryHoldId as inventoryHoldId, h.expiresAt as expiresAt from InventoryHold h" +
+            " where h.status = :status and h.ownerWorkerId = :ownerWorkerId and h.inventoryHoldId > :afterId" +
+            " order by h.inventoryHoldId")
+    List<PendingHold> findOwnedAfter(String status, Integer ownerWorkerId, Long afterId, Pageable pageable);
+
+    /**
+     * 상태가 status 이고 만료 시각이 expiredBefore 보다 이른 hold 의 id 를 id 순으로 읽는다.
+     * (status, expires_at) 인덱스 범위로 읽으므로 만료가 한참 지난 hold 만 보고 테이블 전체를 읽지 않는다.
+     */
+    @Query("select h.inventoryHoldId from InventoryHold h" +
+            " where h.status = :status and h.expiresAt < :expiredBefore and h.inventoryHoldId > :afterId" +
+            " order by h.inventoryHoldId")
+    List<Long> findExpiredBefore(String status, LocalDateTime expiredBefore, Long afterId, Pageable pageable);
+
+    interface PendingHold {
+        Long getInventoryHoldId();
+
+        LocalDateTime getExpiresAt();
+    }
+}
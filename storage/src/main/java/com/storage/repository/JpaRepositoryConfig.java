@@ -0,0 +1,40 @@
+package com.storage.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.config.BootstrapMode;
+
+/**
+ * com.storage.repository 의 JPA repository 를 등록한다.
+ * <p>
+ * spring.data.jpa.repositories.bootstrap-mode=deferred 이면 EntityManagerFactory(엔티티 metamodel)를 별도 스레드에서 만들고,
+ * repository 는 지연 proxy 로 주입했다가 컨텍스트 refresh 가 끝날 때(또는 먼저 사용될 때) 초기화한다.
+ * 그동안 security filter chain, 웹 서버 등 나머지 빈 생성이 metamodel 생성과 겹쳐 진행되고, 첫 요청 전에 모든 repository 가 준비된다.
+ * Spring Boot 의 같은 설정은 @EnableJpaRepositories 를 직접 선언하면 적용되지 않으므로 여기서 처리한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JpaRepositoryConfig {
+
+    public static final String BOOTSTRAP_MODE = "spring.data.jpa.repositories.bootstrap-mode";
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = BOOTSTRAP_MODE, havingValue = "default", matchIfMissing = true)
+    @EnableJpaRepositories(basePackages = "com.storage.repository")
+    static class DefaultBootstrap {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = BOOTSTRAP_MODE, havingValue = "deferred")
+    @EnableJpaRepositories(basePackages = "com.storage.repository", bootstrapMode = BootstrapMode.DEFERRED)
+    static class DeferredBootstrap {
+
+        @Bean
+        public EntityManagerFactoryBuilderCustomizer jpaBootstrapExecutorCustomizer() {
+            return builder -> builder.setBootstrapExecutor(new SimpleAsyncTaskExecutor("jpa-bootstrap-"));
+        }
+    }
+}
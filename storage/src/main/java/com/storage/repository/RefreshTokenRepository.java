@@ -0,0 +1,53 @@
+package com.storage.repository;
+
+import com.storage.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("select rt from RefreshToken rt" +
+            " join fetch rt.user u" +
+            " join fetch u.account" +
+            " where rt.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 경우에만 used 로 표시한다. 같은 토큰으로 동시에 재발급해도 한 요청만 1을 반환한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken rt set rt.used = true" +
+            " where rt.refreshTokenId = :refreshTokenId and rt.used = false")
+    int markUsed(Long refreshTokenId);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.user.userId = :userId and rt.deviceId = :deviceId")
+    int deleteByUserIdAndDeviceId(Long userId, String deviceId);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.user.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.familyId = :familyId")
+    int deleteByFamilyId(String familyId);
+
+    /**
+     * 만료된 토큰을 최대 batchSize 건만 삭제한다.
+     * 한 번에 많은 행을 지우면 잠금과 undo log 가 커지므로 호출하는 쪽에서 짧은 트랜잭션으로 반복 호출한다.
+     * native 쿼리가 수정하는 테이블을 지정하지 않으면 Hibernate 가 2차 캐시 전체를 비우므로 refresh_token 으로 한정한다.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_token"))
+    @Query(value = "delete from refresh_token where expires_at < :now limit :batchSize", nativeQuery = true)
+    int deleteExpired(LocalDateTime now, int batchSize);
+}
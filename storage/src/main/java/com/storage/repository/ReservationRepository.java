@@ -0,0 +1,21 @@
+package com.storage.repository;
+
+import com.storage.entity.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    Optional<Reservation> findByReservationIdAndUserUserId(Long reservationId, Long userId);
+
+    /**
+     * 현재 상태가 from 인 경우에만 상태를 변경한다. 동시에 같은 예약을 취소해도 한 요청만 1을 반환한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to" +
+            " where r.reservationId = :reservationId and r.status = :from")
+    int updateStatus(Long reservationId, String from, String to);
+}
@@ -0,0 +1,27 @@
+package com.storage.repository;
+
+import com.storage.entity.RevokedToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 만료된 폐기 기록을 최대 batchSize 건만 삭제한다. 2차 캐시는 revoked_token 에 대해서만 무효화된다.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_token"))
+    @Query(value = "delete from revoked_token where expires_at < :now limit :batchSize", nativeQuery = true)
+    int deleteExpired(LocalDateTime now, int batchSize);
+}
@@ -0,0 +1,68 @@
+package com.storage.repository;
+
+import com.storage.entity.RoomInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomInventoryRepository extends JpaRepository<RoomInventory, Long> {
+
+    /**
+     * [checkIn, checkOut) 의 모든 숙박일 재고를 한 번의 UPDATE 로 차감한다.
+     * 재고가 부족한 날짜는 WHERE 조건에서 제외되므로, 반환값이 숙박일 수보다 작으면 호출한 트랜잭션을 롤백해야 한다.
+     * SELECT ... FOR UPDATE 없이 UPDATE 문이 잡는 행 잠금만 사용하므로 잠금은 커밋 직전까지의 짧은 구간에만 유지된다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RoomInventory ri set ri.available = ri.available - :quantity, ri.updatedDate = local datetime" +
+            " where ri.room.roomId = :roomId" +
+            " and ri.stayDate >= :checkIn and ri.stayDate < :checkOut" +
+            " and ri.available >= :quantity")
+    int decreaseAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut, int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RoomInventory ri set ri.available = ri.available + :quantity, ri.updatedDate = local datetime" +
+            " where ri.room.roomId = :roomId" +
+            " and ri.stayDate >= :checkIn and ri.stayDate < :checkOut" +
+            " and ri.available + :quantity <= ri.total")
+    int increaseAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut, int quantity);
+
+    @Query("select ri.stayDate from RoomInventory ri" +
+            " where ri.room.roomId = :roomId" +
+            " and ri.stayDate >= :from and ri.stayDate < :to")
+    List<LocalDate> findStayDates(Long roomId, LocalDate from, LocalDate to);
+
+    @Query("select ri from RoomInventory ri" +
+            " where ri.room.roomId = :roomId" +
+            " and ri.stayDate >= :from and ri.stayDate < :to" +
+            " order by ri.stayDate")
+    List<RoomInventory> findByRoomIdAndStayDateRange(Long roomId, LocalDate from, LocalDate to);
+
+    @Query("select ri.room.roomId as roomId, ri.stayDate as stayDate, ri.available as available from RoomInventory ri" +
+            " where ri.room.roomId = :roomId" +
+            " and ri.stayDate >= :from and ri.stayDate < :to")
+    List<NightAvailability> findAvailability(Long roomId, LocalDate from, LocalDate to);
+
+    @Query("select ri.room.roomId as roomId, ri.stayDate as stayDate, ri.available as available from RoomInventory ri" +
+            " where ri.room.roomId in :roomIds" +
+            " and ri.stayDate >= :from and ri.stayDate < :to" +
+            " and ri.available > 0")
+    List<NightAvailability> findAvailableNights(Collection<Long> roomIds, LocalDate from, LocalDate to);
+
+    @Query("select ri.room.roomId as roomId, ri.stayDate as stayDate, ri.available as available from RoomInventory ri" +
+            " where ri.updatedDate > :since" +
+            " and ri.stayDate >= :from and ri.stayDate < :to")
+    List<NightAvailability> findAvailabilityUpdatedAfter(LocalDateTime since, LocalDate from, LocalDate to);
+
+    interface NightAvailability {
+        Long getRoomId();
+
+        LocalDate getStayDate();
+
+        int getAvailable();
+    }
+}
@@ -1,7 +1,21 @@
 package com.storage.repository;
 
 import com.storage.entity.Room;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    @Query("select r.roomId from Room r where r.roomId > :afterId order by r.roomId")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    @Query("select r.roomId from Room r where r.updatedDate > :since")
+    List<Long> findIdsUpdatedAfter(LocalDateTime since);
+
+    @Query("select distinct r.accommodation.accommodationId from Room r where r.updatedDate > :since")
+    List<Long> findAccommodationIdsUpdatedAfter(LocalDateTime since);
 }
@@ -12,6 +12,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
             " join fetch u.account a" +
             " where a.email = :email")
     Optional<User> findByEmail(String email);
-
-    Optional<User> findByUserIdAndRefreshToken(Long id, String refreshToken);
 }
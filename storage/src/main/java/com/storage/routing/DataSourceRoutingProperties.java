@@ -0,0 +1,38 @@
+package com.storage.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * storage.datasource.routing 설정. primary 는 spring.datasource 를 그대로 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "storage.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+    /**
+     * 쓰기 트랜잭션이 커밋된 뒤 같은 사용자의 읽기를 primary 로 보내는 시간. replica 복제 지연보다 길게 둔다.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(3);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
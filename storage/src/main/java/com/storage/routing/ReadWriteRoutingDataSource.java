@@ -0,0 +1,132 @@
+package com.storage.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션의 readOnly 여부로 primary 와 replica 중 하나를 고른다.
+ * readOnly 트랜잭션은 replica 로 보내고, 쓰기 트랜잭션과 트랜잭션 밖의 접근은 primary 로 보낸다.
+ * 최근에 쓰기를 커밋한 사용자의 읽기는 read-your-writes 창이 닫힐 때까지 primary 로 보낸다.
+ * <p>
+ * 커넥션을 얻는 시점에 트랜잭션 속성이 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> pools = new LinkedHashMap<>();
+    private final Map<String, LongAdder> selections = new LinkedHashMap<>();
+    private final ReplicaSelection selection;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+                                      ReplicaSelection selection, ReadYourWrites readYourWrites) {
+        this.selection = selection;
+        this.readYourWrites = readYourWrites;
+        pools.put(PRIMARY, primary);
+        selections.put(PRIMARY, new LongAdder());
+        replicas.forEach((key, replica) -> {
+            replicaKeys.add(key);
+            pools.put(key, replica);
+            selections.put(key, new LongAdder());
+        });
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        selections.get(key).increment();
+        return key;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.markAfterCommit();
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || readYourWrites.isSticky()) {
+            return PRIMARY;
+        }
+        return selection == ReplicaSelection.LEAST_CONNECTIONS ? leastConnections() : roundRobin();
+    }
+
+    private String roundRobin() {
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    /**
+     * 사용 중인 커넥션과 대기 중인 스레드의 합이 가장 작은 replica. 같으면 round-robin 순서로 고른다.
+     */
+    private String leastConnections() {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size());
+        String best = null;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get((start + i) % replicaKeys.size());
+            int load = load(pools.get(key));
+            if (load < bestLoad) {
+                best = key;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private static int load(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            // 아직 커넥션을 만들지 않은 풀은 비어 있는 것으로 본다.
+            return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+        }
+        return 0;
+    }
+
+    /**
+     * route 이름(primary, replica-N) -> 커넥션 풀
+     */
+    public Map<String, DataSource> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * route 별로 커넥션을 얻은 횟수
+     */
+    public long getSelectionCount(String route) {
+        LongAdder count = selections.get(route);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * replica 풀을 닫는다. primary 풀은 bean 이므로 컨테이너가 닫는다.
+     */
+    @Override
+    public void destroy() {
+        for (String key : replicaKeys) {
+            if (pools.get(key) instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.storage.routing;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 직후 같은 사용자의 읽기가 아직 복제되지 않은 replica 로 가지 않도록 하는 read-your-writes 창.
+ * 요청 스레드에 사용자 key 를 bind 해 두면 쓰기 트랜잭션이 커밋될 때 key 에 window 만큼의 만료 시각을 기록하고,
+ * 만료 전까지는 읽기 전용 트랜잭션도 primary 를 사용한다.
+ * 기록은 인스턴스 메모리에만 있으므로 같은 사용자의 다음 요청이 다른 인스턴스로 가면 적용되지 않는다.
+ */
+public class ReadYourWrites {
+
+    // 이 수를 넘으면 기록할 때 만료된 key 를 정리한다.
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final ThreadLocal<String> currentKey = new ThreadLocal<>();
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+
+    public ReadYourWrites(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    public ReadYourWrites(Duration window, LongSupplier nanoTime) {
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public void bind(String key) {
+        currentKey.set(key);
+    }
+
+    public void clear() {
+        currentKey.remove();
+    }
+
+    /**
+     * 현재 스레드의 사용자가 최근에 쓰기를 커밋했는지 확인한다.
+     */
+    public boolean isSticky() {
+        String key = currentKey.get();
+        if (key == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until - nanoTime.getAsLong() > 0) {
+            return true;
+        }
+        stickyUntil.remove(key, until);
+        return false;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 현재 스레드의 사용자에게 read-your-writes 창을 연다.
+     * 트랜잭션 동기화가 없으면 바로 연다.
+     */
+    void markAfterCommit() {
+        String key = currentKey.get();
+        if (key == null || windowNanos <= 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(key);
+            }
+        });
+    }
+
+    private void mark(String key) {
+        long now = nanoTime.getAsLong();
+        stickyUntil.put(key, now + windowNanos);
+        if (stickyUntil.size() > PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now <= 0);
+        }
+    }
+}
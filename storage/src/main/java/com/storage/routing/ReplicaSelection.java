@@ -0,0 +1,15 @@
+package com.storage.routing;
+
+/**
+ * 읽기 전용 트랜잭션이 사용할 replica 를 고르는 방식.
+ */
+public enum ReplicaSelection {
+    /**
+     * replica 를 순서대로 돌아가며 사용한다.
+     */
+    ROUND_ROBIN,
+    /**
+     * 사용 중인 커넥션과 커넥션을 기다리는 스레드가 가장 적은 replica 를 사용한다.
+     */
+    LEAST_CONNECTIONS
+}
@@ -0,0 +1,71 @@
+package com.storage.unitTest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.storage.cache.SecondLevelCacheConfig;
+import com.storage.entity.Accommodation;
+import com.storage.entity.Room;
+import com.support.id.SnowflakeIdentifierGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("UnitTest")
+public class SecondLevelCacheConfigTest {
+
+    private CacheManager cacheManager;
+    private SessionFactory sessionFactory;
+
+    /**
+     * DB 연결 없이 엔티티 매핑과 2차 캐시 설정만으로 SessionFactory 를 만든다.
+     */
+    @BeforeEach
+    void setUp() {
+        cacheManager = SecondLevelCacheConfig.cacheManager();
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySettings(SecondLevelCacheConfig.hibernateProperties(cacheManager))
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DB_NAME, "MySQL")
+                .applySetting(SnowflakeIdentifierGenerator.WORKER_ID, 0)
+                .applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Accommodation.class)
+                .addAnnotatedClass(Room.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("Accommodation, its rooms collection and Room are cached with size-bounded regions")
+    void regions() {
+        Map<String, Cache<?, ?>> caches = SecondLevelCacheConfig.caches(sessionFactory.unwrap(EntityManagerFactory.class));
+
+        assertEquals(10_000, maximumSize(caches.get("accommodation")));
+        assertEquals(10_000, maximumSize(caches.get("accommodation-rooms")));
+        assertEquals(100_000, maximumSize(caches.get("room")));
+        assertEquals(Duration.ofMinutes(10), caches.get("room").policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    private static long maximumSize(Cache<?, ?> cache) {
+        return cache.policy().eviction().orElseThrow().getMaximum();
+    }
+}
@@ -0,0 +1,161 @@
+package com.storage.unitTest.routing;
+
+import com.storage.routing.ReadWriteRoutingDataSource;
+import com.storage.routing.ReadYourWrites;
+import com.storage.routing.ReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("UnitTest")
+public class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(3), nanoTime::get);
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = dataSource(primaryConnection);
+        replica1 = dataSource(replica1Connection);
+        replica2 = dataSource(replica2Connection);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        readYourWrites.clear();
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private ReadWriteRoutingDataSource routing(ReplicaSelection selection, Map<String, DataSource> replicas) {
+        return new ReadWriteRoutingDataSource(primary, replicas, selection, readYourWrites);
+    }
+
+    private Map<String, DataSource> twoReplicas() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        return replicas;
+    }
+
+    private static void transaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions rotate over the replicas and writes go to the primary")
+    void roundRobin() throws SQLException {
+        ReadWriteRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, twoReplicas());
+
+        transaction(true);
+        assertSame(replica1Connection, routing.getConnection());
+        assertSame(replica2Connection, routing.getConnection());
+        assertSame(replica1Connection, routing.getConnection());
+
+        transaction(false);
+        assertSame(primaryConnection, routing.getConnection());
+
+        assertEquals(1, routing.getSelectionCount(ReadWriteRoutingDataSource.PRIMARY));
+        assertEquals(2, routing.getSelectionCount("replica-1"));
+        assertEquals(1, routing.getSelectionCount("replica-2"));
+    }
+
+    @Test
+    @DisplayName("Access outside a transaction and routing without replicas use the primary")
+    void primaryFallback() throws SQLException {
+        assertSame(primaryConnection, routing(ReplicaSelection.ROUND_ROBIN, twoReplicas()).getConnection());
+
+        transaction(true);
+        assertSame(primaryConnection, routing(ReplicaSelection.ROUND_ROBIN, Map.of()).getConnection());
+    }
+
+    @Test
+    @DisplayName("A user's reads stay on the primary for the window after their write commits")
+    void readYourWrites() throws SQLException {
+        ReadWriteRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, twoReplicas());
+        readYourWrites.bind("user:1");
+
+        transaction(false);
+        routing.getConnection();
+        // 커밋 전에는 창이 열리지 않는다.
+        transaction(true);
+        assertSame(replica1Connection, routing.getConnection());
+
+        commit();
+        assertSame(primaryConnection, routing.getConnection());
+
+        // 다른 사용자는 replica 를 사용한다.
+        readYourWrites.bind("user:2");
+        assertSame(replica2Connection, routing.getConnection());
+
+        readYourWrites.bind("user:1");
+        nanoTime.addAndGet(Duration.ofSeconds(3).toNanos());
+        assertSame(replica1Connection, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Least-connections picks the replica with the fewest active and waiting connections")
+    void leastConnections() throws SQLException {
+        HikariDataSource busy = hikari(replica1Connection, 5, 1);
+        HikariDataSource idle = hikari(replica2Connection, 2, 0);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", busy);
+        replicas.put("replica-2", idle);
+        ReadWriteRoutingDataSource routing = routing(ReplicaSelection.LEAST_CONNECTIONS, replicas);
+
+        transaction(true);
+        for (int i = 0; i < 4; i++) {
+            assertSame(replica2Connection, routing.getConnection());
+        }
+    }
+
+    private static HikariDataSource hikari(Connection connection, int active, int waiting) throws SQLException {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getActiveConnections()).thenReturn(active);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(waiting);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,92 @@
+package com.support.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 모드에서 동시에 처리하는 요청 수를 JDBC 커넥션 풀 크기에 맞춰 제한한다.
+ * <p>
+ * 가상 스레드는 요청마다 만들어지므로 Tomcat 스레드 수가 더 이상 동시 요청 수를 제한하지 않는다.
+ * 제한이 없으면 수천 개의 가상 스레드가 작은 Hikari 풀 앞에서 connectionTimeout 까지 기다리다 한꺼번에 실패한다.
+ * permit 을 얻지 못한 요청은 maxWait 만큼만 기다린 뒤 503 으로 바로 거절한다.
+ * 거절은 {@link LimitExceededException} 을 exceptionResolver(@RestControllerAdvice)에 넘겨 다른 과부하 응답과 같은 본문으로 쓴다.
+ */
+@Slf4j
+public class JdbcPoolConcurrencyFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public JdbcPoolConcurrencyFilter(int maxConcurrent, Duration maxWait, HandlerExceptionResolver exceptionResolver) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.incrementAndGet();
+            response.setHeader("Retry-After", "1");
+            // 처리하는 handler 가 없으면 본문 없이 상태만 보낸다
+            if (exceptionResolver.resolveException(request, response, null, new LimitExceededException(maxConcurrent)) == null) {
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public static class LimitExceededException extends RuntimeException {
+
+        public LimitExceededException(int maxConcurrent) {
+            super("more than " + maxConcurrent + " concurrent requests");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.support.concurrency;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 synchronized 블록 안에서 블로킹되어 carrier 스레드를 점유(pinning)하는 경우를 JFR 이벤트로 감지한다.
+ * JDBC 드라이버 등에서 pinning 이 생기면 carrier 수(코어 수)만큼만 동시에 처리되므로 가상 스레드의 이점이 사라진다.
+ * 같은 위치(stack)는 처음 한 번만 경고 로그를 남기고 이후에는 횟수만 센다.
+ */
+@Slf4j
+public class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_TRACKED_STACKS = 1000;
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final Map<String, AtomicLong> pinnedByStack = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("virtual thread pinning monitor started (threshold={})", threshold);
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        String stack = describe(event);
+        AtomicLong count = pinnedByStack.get(stack);
+        if (count == null && pinnedByStack.size() < MAX_TRACKED_STACKS) {
+            count = pinnedByStack.computeIfAbsent(stack, k -> new AtomicLong());
+        }
+        if (count != null && count.getAndIncrement() == 0) {
+            log.warn("virtual thread pinned for {}ms\n{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    public long pinnedCount() {
+        return pinnedCount.get();
+    }
+
+    public Map<String, Long> pinnedByStack() {
+        return pinnedByStack.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "<no stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
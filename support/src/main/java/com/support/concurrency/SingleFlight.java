@@ -0,0 +1,117 @@
+package com.support.concurrency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 같은 key 를 동시에 읽는 요청을 하나로 묶는다. (request coalescing)
+ * <p>
+ * 처음 요청한 스레드(leader)가 자신의 스레드에서 loader 를 실행하고, 그동안 같은 key 로 들어온 요청은 leader 의 CompletableFuture 를
+ * 최대 timeout 만큼 기다려 같은 결과를 받는다. 인기 숙소의 캐시가 비었을 때 수백 개의 요청이 한꺼번에 DB 를 조회하지 않게 한다.
+ * loader 가 예외를 던지면 기다리던 요청도 같은 예외를 받는다. 결과는 보관하지 않으므로 load 가 끝난 뒤의 요청은 다시 읽는다.
+ * leader 의 스레드에서 실행하므로 트랜잭션, 보안 컨텍스트 등 스레드에 묶인 상태가 그대로 적용된다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Duration timeout;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public V load(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return await(key, existing);
+        }
+
+        loadCount.incrementAndGet();
+        try {
+            V value = loader.apply(key);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 진행 중인 load 를 더 이상 공유하지 않는다. 값이 바뀐 key 에 대해 호출하면 이후 요청은 바뀌기 전에 시작한 load 를 기다리지 않는다.
+     * 이미 기다리고 있는 요청은 그 load 의 결과를 받는다.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeoutCount.incrementAndGet();
+            throw new LoadTimeoutException(key, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting for load of " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 실행 중인 load 수
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * loader 를 실행한 횟수
+     */
+    public long loadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * 진행 중인 load 의 결과를 기다린 요청 수 (loader 를 실행하지 않은 횟수)
+     */
+    public long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * 진행 중인 load 를 timeout 안에 받지 못한 요청 수
+     */
+    public long timeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public static class LoadTimeoutException extends RuntimeException {
+
+        public LoadTimeoutException(Object key, Duration timeout) {
+            super("load of " + key + " did not complete within " + timeout);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.support.concurrency;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각이 있는 항목을 모아 두었다가 시각이 지나면 꺼내 주는 계층형 타이밍 휠(hierarchical timing wheel).
+ * <p>
+ * 시간을 tick 단위로 나누고, 단계(level)마다 64 칸의 휠을 둔다. level 0 의 한 칸은 1 tick, level n 의 한 칸은 64^n tick 이다.
+ * 항목은 만료 tick 과 현재 tick 의 상위 bit 가 처음 같아지는 level 의 칸에 연결 리스트로 매달리므로,
+ * 등록과 취소는 항목 수와 관계없이 O(1) 이다. 시계가 level n 의 칸 경계를 지나면 그 칸의 항목을 아래 level 로 옮기고(cascade),
+ * level 0 의 칸에 도착한 항목은 만료된 것으로 꺼낸다. 모든 level 의 범위를 넘는 항목은 overflow 에 두었다가 최상위 휠이 한 바퀴 돌 때 다시 나눈다.
+ * <p>
+ * 만료 시각은 tick 단위로 올림하므로 항목은 만료 시각보다 일찍 꺼내지지 않고, 최대 1 tick 늦게 꺼내진다.
+ * 시계는 advance 에 넘긴 시각으로만 움직인다. 모든 메서드는 이 객체로 동기화된다.
+ */
+public class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final Bucket<T>[][] wheels;
+    private final Bucket<T> overflow = new Bucket<>();
+    private final Bucket<T> due = new Bucket<>();
+
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param levels 휠 단계 수. tick 이 1초이고 levels 가 4 면 overflow 없이 약 194 일까지 담는다.
+     * @param startMillis 시계의 시작 시각(epoch millis)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Duration tick, int levels, long startMillis) {
+        if (tick.toMillis() <= 0 || levels <= 0 || levels * BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("tick=" + tick + ", levels=" + levels);
+        }
+        this.tickMillis = tick.toMillis();
+        this.levels = levels;
+        this.wheels = new Bucket[levels][SLOTS];
+        for (Bucket<T>[] wheel : wheels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[slot] = new Bucket<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * deadlineMillis 가 지나면 advance 에서 꺼내지도록 등록한다. 이미 지난 시각이면 다음 advance 에서 꺼내진다.
+     */
+    public synchronized Timeout<T> schedule(T value, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(this, value, deadlineMillis, Math.ceilDiv(deadlineMillis, tickMillis));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 시계를 nowMillis 까지 움직이고, 만료된 항목을 만료 tick 순서로 expired 에 넘긴다.
+     * expired 는 잠금을 잡은 채로 호출되므로 목록에 담는 정도의 짧은 작업만 해야 한다.
+     *
+     * @return 꺼낸 항목 수
+     */
+    public synchronized int advance(long nowMillis, Consumer<? super T> expired) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        int count = drain(due, expired);
+        while (currentTick < target) {
+            if (size == 0) {
+                currentTick = target;
+                break;
+            }
+            currentTick++;
+            for (int level = levels; level >= 1; level--) {
+                if ((currentTick & ((1L << (level * BITS)) - 1)) == 0) {
+                    cascade(level == levels ? overflow : wheels[level][slot(currentTick, level)]);
+                }
+            }
+            count += drain(due, expired);
+            count += drain(wheels[0][slot(currentTick, 0)], expired);
+        }
+        return count;
+    }
+
+    /**
+     * 등록되어 만료되지도, 취소되지도 않은 항목 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 만료 tick 과 현재 tick 의 상위 bit 가 같은 가장 낮은 level 에 둔다.
+     * 그 level 의 칸은 현재 칸보다 뒤에 있으므로, 시계가 그 칸의 경계에 도착할 때 아래 level 로 옮겨진다.
+     */
+    private void place(Timeout<T> timeout) {
+        long deadline = timeout.deadlineTick;
+        if (deadline <= currentTick) {
+            due.append(timeout);
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            int shift = (level + 1) * BITS;
+            if ((deadline >> shift) == (currentTick >> shift)) {
+                wheels[level][slot(deadline, level)].append(timeout);
+                return;
+            }
+        }
+        overflow.append(timeout);
+    }
+
+    /**
+     * 먼저 칸을 비우고 옮긴다. overflow 의 항목은 다시 overflow 로 갈 수 있다.
+     */
+    private void cascade(Bucket<T> bucket) {
+        Bucket<T> moving = bucket.takeAll();
+        for (Timeout<T> timeout = moving.poll(); timeout != null; timeout = moving.poll()) {
+            place(timeout);
+        }
+    }
+
+    private int drain(Bucket<T> bucket, Consumer<? super T> expired) {
+        int count = 0;
+        for (Timeout<T> timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+            size--;
+            count++;
+            expired.accept(timeout.value);
+        }
+        return count;
+    }
+
+    private static int slot(long tick, int level) {
+        return (int) ((tick >> (level * BITS)) & MASK);
+    }
+
+    private synchronized boolean isPending(Timeout<T> timeout) {
+        return timeout.prev != null;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (!timeout.unlink()) {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 등록된 항목. 칸의 이중 연결 리스트 node 이므로 취소할 때 리스트를 찾지 않고 바로 떼어 낸다.
+     */
+    public static final class Timeout<T> {
+
+        private final TimingWheel<T> wheel;
+        private final T value;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, T value, long deadlineMillis, long deadlineTick) {
+            this.wheel = wheel;
+            this.value = value;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * 만료되지도, 취소되지도 않았으면 true
+         */
+        public boolean isPending() {
+            return wheel.isPending(this);
+        }
+
+        /**
+         * @return 만료되거나 이미 취소된 항목이면 false
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        private boolean unlink() {
+            if (prev == null) {
+                return false;
+            }
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            return true;
+        }
+    }
+
+    /**
+     * sentinel 을 둔 원형 이중 연결 리스트
+     */
+    private static final class Bucket<T> {
+
+        private final Timeout<T> head = new Timeout<>(null, null, 0, 0);
+
+        Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void append(Timeout<T> timeout) {
+            timeout.prev = head.prev;
+            timeout.next = head;
+            head.prev.next = timeout;
+            head.prev = timeout;
+        }
+
+        /**
+         * 모든 node 를 새 리스트로 옮겨 반환하고 이 리스트는 비운다.
+         */
+        Bucket<T> takeAll() {
+            Bucket<T> taken = new Bucket<>();
+            if (head.next != head) {
+                taken.head.next = head.next;
+                taken.head.prev = head.prev;
+                head.next.prev = taken.head;
+                head.prev.next = taken.head;
+                head.next = head;
+                head.prev = head;
+            }
+            return taken;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> first = head.next;
+            if (first == head) {
+                return null;
+            }
+            first.unlink();
+            return first;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.support.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * spring.threads.virtual.enabled=true 일 때 요청 동시성 제한과 pinning 감지를 켠다.
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 풀 크기(server.tomcat.threads.max)가 같은 역할을 한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<JdbcPoolConcurrencyFilter> jdbcPoolConcurrencyFilter(
+            DataSource dataSource,
+            @Value("${concurrency.limiter.permits-per-connection:2}") int permitsPerConnection,
+            @Value("${concurrency.limiter.max-wait:500ms}") Duration maxWait,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) throws SQLException {
+        int poolSize = totalPoolSize(dataSource);
+        int maxConcurrent = Math.max(1, poolSize * permitsPerConnection);
+        log.info("virtual threads enabled: max concurrent requests={} (jdbc pool={})", maxConcurrent, poolSize);
+
+        FilterRegistrationBean<JdbcPoolConcurrencyFilter> registration =
+                new FilterRegistrationBean<>(new JdbcPoolConcurrencyFilter(maxConcurrent, maxWait, exceptionResolver));
+        // 인증 등 다른 필터 작업 전에 거절되도록 앞쪽에 둔다.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * 요청이 나눠 쓸 수 있는 커넥션 수. routing data source 는 primary 와 모든 replica 풀의 합이다.
+     * unwrap 은 routing data source 를 지나며 현재 route(트랜잭션 밖이면 primary)의 풀만 돌려주므로
+     * LazyConnectionDataSourceProxy 같은 위임 data source 를 직접 벗겨 내고 routing 대상을 모두 센다.
+     */
+    public static int totalPoolSize(DataSource dataSource) throws SQLException {
+        Map<DataSource, Boolean> counted = new IdentityHashMap<>();
+        return poolSize(dataSource, counted);
+    }
+
+    private static int poolSize(DataSource dataSource, Map<DataSource, Boolean> counted) throws SQLException {
+        if (dataSource == null || counted.put(dataSource, Boolean.TRUE) != null) {
+            return 0;
+        }
+        if (dataSource instanceof DelegatingDataSource delegating) {
+            return poolSize(delegating.getTargetDataSource(), counted);
+        }
+        if (dataSource instanceof AbstractRoutingDataSource routing) {
+            int total = 0;
+            for (DataSource target : routing.getResolvedDataSources().values()) {
+                total += poolSize(target, counted);
+            }
+            DataSource fallback = routing.getResolvedDefaultDataSource();
+            return total + poolSize(fallback, counted);
+        }
+        return dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                : 10;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "concurrency.pinned-thread-monitor.enabled", havingValue = "true", matchIfMissing = true)
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${concurrency.pinned-thread-monitor.threshold:20ms}") Duration threshold) {
+        return new PinnedThreadMonitor(threshold);
+    }
+
+    /**
+     * Micrometer 가 있는 앱(api-user)에서만 제한기의 거절 수와 처리 중인 요청 수를 노출한다.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class LimiterMetricsConfig {
+
+        @Bean
+        public MeterBinder jdbcPoolConcurrencyMetrics(FilterRegistrationBean<JdbcPoolConcurrencyFilter> jdbcPoolConcurrencyFilter) {
+            JdbcPoolConcurrencyFilter filter = jdbcPoolConcurrencyFilter.getFilter();
+            return registry -> {
+                FunctionCounter.builder("concurrency.limiter.rejected", filter, JdbcPoolConcurrencyFilter::rejectedCount)
+                        .description("동시 요청 제한으로 503 을 받은 요청 수")
+                        .register(registry);
+                Gauge.builder("concurrency.limiter.in_flight", filter, JdbcPoolConcurrencyFilter::inFlight)
+                        .description("permit 을 얻어 처리 중인 요청 수")
+                        .register(registry);
+            };
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.support.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 엔티티 id 를 SnowflakeIdGenerator 로 발급한다. {@code @Id @SnowflakeId private Long id;}
+ * INSERT 전에 id 가 정해지므로 IDENTITY 와 달리 JDBC batch insert 가 가능하다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+}
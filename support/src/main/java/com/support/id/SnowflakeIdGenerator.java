@@ -0,0 +1,101 @@
+package com.support.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 증가하는 64 bit id 를 DB 왕복 없이 발급한다.
+ * <pre>
+ * | 0 | timestamp (41 bit, EPOCH 이후 ms) | workerId (10 bit) | sequence (12 bit) |
+ * </pre>
+ * 마지막으로 발급한 (timestamp, sequence) 를 AtomicLong 하나에 담아 CAS 로 갱신하므로 잠금 없이 여러 스레드에서 호출할 수 있다.
+ * 같은 ms 에 sequence(4096 개)를 다 쓰면 다음 ms 를 미리 사용하고, 시계가 뒤로 가면 마지막 timestamp 를 계속 사용한다.
+ * 이렇게 실제 시각보다 앞서 발급한 폭이 maxDriftMillis 를 넘으면 시계가 따라올 때까지 IllegalStateException 을 던진다.
+ * <p>
+ * workerId 는 같은 테이블에 쓰는 프로세스마다 달라야 한다. 마지막 발급 위치는 메모리에만 있으므로,
+ * 시계가 maxDriftMillis 이상 뒤로 간 채로 재시작하면 같은 id 를 다시 발급할 수 있다.
+ */
+public class SnowflakeIdGenerator {
+
+    /**
+     * timestamp 의 기준 시각. 41 bit 로 약 69 년(2093 년)까지 발급할 수 있다.
+     */
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int WORKER_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+
+    private final long workerId;
+    private final long maxDriftMillis;
+    private final Clock clock;
+
+    /**
+     * 마지막으로 발급한 (timestamp << SEQUENCE_BITS | sequence)
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(long workerId, long maxDriftMillis) {
+        this(workerId, maxDriftMillis, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(long workerId, long maxDriftMillis, Clock clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        if (maxDriftMillis < 0) {
+            throw new IllegalArgumentException("maxDriftMillis must not be negative: " + maxDriftMillis);
+        }
+        this.workerId = workerId;
+        this.maxDriftMillis = maxDriftMillis;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = clock.millis() - EPOCH;
+            long previous = last.get();
+            long previousTimestamp = previous >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > previousTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((previous & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                next = previous + 1;
+            } else {
+                next = (previousTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            long timestamp = next >>> SEQUENCE_BITS;
+            if (timestamp - now > maxDriftMillis) {
+                throw new IllegalStateException("clock is " + (timestamp - now) + "ms behind the last issued id"
+                        + " (max drift " + maxDriftMillis + "ms)");
+            }
+            if (last.compareAndSet(previous, next)) {
+                return timestamp << TIMESTAMP_SHIFT | workerId << SEQUENCE_BITS | next & MAX_SEQUENCE;
+            }
+        }
+    }
+
+    public long workerId() {
+        return workerId;
+    }
+
+    /**
+     * id 가 발급된 시각(ms). 미리 사용한 ms 만큼 실제보다 늦을 수 있다.
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    public static long workerIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_WORKER_ID;
+    }
+
+    public static long sequenceOf(long id) {
+        return id & MAX_SEQUENCE;
+    }
+}
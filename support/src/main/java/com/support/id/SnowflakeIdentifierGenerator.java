@@ -0,0 +1,53 @@
+package com.support.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SnowflakeId} 가 붙은 id 를 발급하는 Hibernate 어댑터.
+ * workerId 와 maxDriftMillis 는 Hibernate 설정(spring.jpa.properties.hibernate.id.snowflake.*)에서 읽고,
+ * 같은 workerId 를 쓰는 엔티티는 하나의 SnowflakeIdGenerator 를 공유하므로 id 는 테이블 사이에서도 겹치지 않는다.
+ * <p>
+ * 같은 DB 에 쓰는 인스턴스가 같은 workerId 를 쓰면 같은 ms 에 발급한 id 가 충돌하므로,
+ * workerId 는 기본값 없이 인스턴스마다 지정해야 하며 없으면 SessionFactory 생성(애플리케이션 시작)에 실패한다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String WORKER_ID = "hibernate.id.snowflake.worker_id";
+    public static final String MAX_DRIFT_MILLIS = "hibernate.id.snowflake.max_drift_ms";
+
+    private static final Map<Long, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry().requireService(ConfigurationService.class).getSettings();
+        long workerId = workerId(settings);
+        long maxDriftMillis = ConfigurationHelper.getLong(MAX_DRIFT_MILLIS, settings, 1000);
+        this.generator = GENERATORS.computeIfAbsent(workerId, id -> new SnowflakeIdGenerator(id, maxDriftMillis));
+    }
+
+    public static long workerId(Map<String, Object> settings) {
+        Object value = settings.get(WORKER_ID);
+        if (value == null || value.toString().isBlank()) {
+            throw new IllegalStateException(WORKER_ID + " is not configured. Every instance writing to the same database needs its own worker id (ID_WORKER_ID).");
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(WORKER_ID + " must be a number but was '" + value + "'.", e);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,136 @@
+package com.support.money;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * 금액을 통화 단위의 1/100(SCALE = 2) 정수(minor)와 통화로 나타내는 불변 값.
+ * 가격 컬럼(DECIMAL(10,2))과 같은 scale 을 고정으로 사용하므로 통화별 소수 자리(KRW 는 0)와는 무관하다.
+ * <p>
+ * 숙박 기간 합계처럼 반복되는 계산을 BigDecimal 대신 long 연산으로 처리해 객체 생성과 scale 정규화 비용을 없앤다.
+ * 연산 결과가 long 범위를 넘으면 ArithmeticException 을 던지고, 통화가 다른 금액끼리 계산하면 IllegalArgumentException 을 던진다.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCALE = 2;
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("KRW");
+    public static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    private static final long ONE = 100;
+
+    private final long minor;
+    private final Currency currency;
+
+    private Money(long minor, Currency currency) {
+        this.minor = minor;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long minor) {
+        return ofMinor(minor, DEFAULT_CURRENCY);
+    }
+
+    public static Money ofMinor(long minor, Currency currency) {
+        return minor == 0 && currency.equals(DEFAULT_CURRENCY) ? ZERO : new Money(minor, currency);
+    }
+
+    public static Money of(long units) {
+        return ofMinor(Math.multiplyExact(units, ONE));
+    }
+
+    /**
+     * 소수 자리가 SCALE 을 넘으면 반올림하지 않고 ArithmeticException 을 던진다.
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), currency);
+    }
+
+    public long minor() {
+        return minor;
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return ofMinor(Math.addExact(minor, other.minor), currency);
+    }
+
+    public Money minus(Money other) {
+        checkCurrency(other);
+        return ofMinor(Math.subtractExact(minor, other.minor), currency);
+    }
+
+    public Money times(long multiplier) {
+        return ofMinor(Math.multiplyExact(minor, multiplier), currency);
+    }
+
+    /**
+     * 금액에 numerator / denominator 를 곱하고 minor 단위에서 반올림(HALF_UP)한다.
+     * 세율 10% 는 times(10, 100), 할인 15% 적용 후 금액은 times(85, 100) 이다.
+     */
+    public Money times(long numerator, long denominator) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("denominator must be positive: " + denominator);
+        }
+        long product = Math.multiplyExact(minor, numerator);
+        long quotient = product / denominator;
+        long remainder = Math.abs(product % denominator);
+        if (remainder >= denominator - remainder) {
+            quotient += Long.signum(product);
+        }
+        return ofMinor(quotient, currency);
+    }
+
+    public boolean isNegative() {
+        return minor < 0;
+    }
+
+    public Money min(Money other) {
+        return compareTo(other) <= 0 ? this : other;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkCurrency(other);
+        return Long.compare(minor, other.minor);
+    }
+
+    private void checkCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("currency mismatch: " + currency + ", " + other.currency);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minor == other.minor && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minor) * 31 + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.support.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.math.BigDecimal;
+
+/**
+ * Money 를 DECIMAL(10,2) 컬럼에 저장한다. {@code @Convert(converter = MoneyConverter.class) private Money price;}
+ * 컬럼에는 통화가 없으므로 읽을 때는 Money.DEFAULT_CURRENCY 로 읽는다.
+ * Money 는 불변이므로 dirty checking 에서 복사하지 않고 equals 로만 비교한다.
+ */
+@Converter
+@Mutability(Immutability.class)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
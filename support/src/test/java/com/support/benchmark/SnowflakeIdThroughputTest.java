@@ -0,0 +1,95 @@
+package com.support.benchmark;
+
+import com.support.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+
+/**
+ * 스레드 수별 id 발급 처리량을 CAS(SnowflakeIdGenerator) 와 synchronized 구현으로 비교한다.
+ * 두 구현 모두 ms 당 4096 개에서 막히지 않도록 미리 쓰는 폭을 넉넉히 둔다.
+ * 실행 : ./gradlew :support:Benchmark
+ */
+@Tag("Benchmark")
+public class SnowflakeIdThroughputTest {
+
+    private static final int WARM_UP_IDS = 1_000_000;
+    private static final int IDS_PER_THREAD = 2_000_000;
+
+    @ParameterizedTest(name = "{0} threads")
+    @ValueSource(ints = {1, 4, 16, 64})
+    @DisplayName("ids per second")
+    void throughput(int threads) throws Exception {
+        SnowflakeIdGenerator lockFree = new SnowflakeIdGenerator(1, Long.MAX_VALUE / 2);
+        SynchronizedGenerator synchronizedGenerator = new SynchronizedGenerator(1);
+        run(1, WARM_UP_IDS, lockFree::nextId);
+        run(1, WARM_UP_IDS, synchronizedGenerator::nextId);
+
+        double lockFreeRate = run(threads, IDS_PER_THREAD, lockFree::nextId);
+        double synchronizedRate = run(threads, IDS_PER_THREAD, synchronizedGenerator::nextId);
+
+        System.out.printf("[SnowflakeIdThroughput] threads=%d cas=%.1fM ids/s synchronized=%.1fM ids/s%n",
+                threads, lockFreeRate / 1e6, synchronizedRate / 1e6);
+    }
+
+    /**
+     * @return 초당 발급 수
+     */
+    private double run(int threads, int idsPerThread, LongSupplier generator) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        long startedAt;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long sink = 0;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        sink ^= generator.getAsLong();
+                    }
+                    return sink;
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<Long> result : results) {
+                result.get();
+            }
+        }
+        return (double) threads * idsPerThread / ((System.nanoTime() - startedAt) / 1e9);
+    }
+
+    /**
+     * 비교용으로 잠금을 잡고 timestamp/sequence 를 갱신하는 일반적인 구현
+     */
+    private static final class SynchronizedGenerator {
+        private final long workerId;
+        private long lastTimestamp = -1;
+        private long sequence;
+
+        private SynchronizedGenerator(long workerId) {
+            this.workerId = workerId;
+        }
+
+        private synchronized long nextId() {
+            long now = System.currentTimeMillis() - SnowflakeIdGenerator.EPOCH;
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = 0;
+            } else if (++sequence > 4095) {
+                lastTimestamp++;
+                sequence = 0;
+            }
+            return lastTimestamp << 22 | workerId << 12 | sequence;
+        }
+    }
+}
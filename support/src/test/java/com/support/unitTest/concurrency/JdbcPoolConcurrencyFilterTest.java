@@ -0,0 +1,153 @@
+package com.support.unitTest.concurrency;
+
+import com.support.concurrency.JdbcPoolConcurrencyFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("UnitTest")
+public class JdbcPoolConcurrencyFilterTest {
+
+    // @RestControllerAdvice 처럼 예외를 503 과 JSON 본문으로 쓴다
+    private static final HandlerExceptionResolver ERROR_BODY = (request, response, handler, ex) -> {
+        response.setStatus(503);
+        response.setContentType("application/json");
+        try {
+            response.getWriter().write("{\"code\":\"BE1011\",\"message\":\"" + ex.getClass().getSimpleName() + "\"}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ModelAndView();
+    };
+
+    @Test
+    @DisplayName("Never run more requests than the limit and reject the overflow with 503")
+    void limitConcurrentRequests() throws Exception {
+        JdbcPoolConcurrencyFilter filter = new JdbcPoolConcurrencyFilter(4, Duration.ofMillis(50), ERROR_BODY);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    filter.doFilter(new MockHttpServletRequest("GET", "/accommodation"), response, (req, res) -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                    });
+                    return response.getStatus();
+                }));
+            }
+            Thread.sleep(300);
+            release.countDown();
+        }
+
+        int ok = 0;
+        int rejected = 0;
+        for (Future<Integer> result : results) {
+            if (result.get() == 200) ok++;
+            if (result.get() == 503) rejected++;
+        }
+        assertTrue(maxRunning.get() <= 4, "max running: " + maxRunning.get());
+        assertEquals(100, ok + rejected);
+        assertEquals(rejected, filter.rejectedCount());
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    @DisplayName("Queue briefly instead of rejecting when a permit frees up within max wait")
+    void waitForPermit() throws Exception {
+        JdbcPoolConcurrencyFilter filter = new JdbcPoolConcurrencyFilter(1, Duration.ofSeconds(5), ERROR_BODY);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    filter.doFilter(new MockHttpServletRequest("GET", "/accommodation"), response, (req, res) -> sleep(10));
+                    return response.getStatus();
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(200, result.get());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Reject through the exception resolver so the 503 carries the app's error body")
+    void rejectWithErrorBody() throws Exception {
+        List<Exception> resolved = new ArrayList<>();
+        JdbcPoolConcurrencyFilter filter = new JdbcPoolConcurrencyFilter(1, Duration.ZERO, (request, response, handler, ex) -> {
+            resolved.add(ex);
+            return ERROR_BODY.resolveException(request, response, handler, ex);
+        });
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/accommodation"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    await(release);
+                });
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/accommodation"), response, (req, res) -> {
+            });
+            release.countDown();
+
+            assertEquals(503, response.getStatus());
+            assertEquals("1", response.getHeader("Retry-After"));
+            assertEquals("{\"code\":\"BE1011\",\"message\":\"LimitExceededException\"}", response.getContentAsString());
+            assertInstanceOf(JdbcPoolConcurrencyFilter.LimitExceededException.class, resolved.getFirst());
+            assertEquals(1, filter.rejectedCount());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
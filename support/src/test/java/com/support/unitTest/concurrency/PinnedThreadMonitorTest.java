@@ -0,0 +1,50 @@
+package com.support.unitTest.concurrency;
+
+import com.support.concurrency.PinnedThreadMonitor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("UnitTest")
+public class PinnedThreadMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    @DisplayName("Detect a virtual thread blocking inside synchronized")
+    void detectPinning() throws Exception {
+        try (PinnedThreadMonitor monitor = new PinnedThreadMonitor(Duration.ofMillis(10))) {
+            monitor.start();
+
+            // 녹화는 비동기로 시작되고 JFR 스트림은 약 1초 간격으로 이벤트를 내보내므로 감지될 때까지 반복한다.
+            // 같은 JVM 의 다른 가상 스레드도 고정될 수 있으므로 이 테스트의 stack 이 기록될 때까지 기다린다.
+            long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+            while (!pinnedHere(monitor) && System.nanoTime() < deadline) {
+                Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+                Thread.sleep(100);
+            }
+
+            assertTrue(monitor.pinnedCount() > 0);
+            assertTrue(pinnedHere(monitor));
+        }
+    }
+
+    private static boolean pinnedHere(PinnedThreadMonitor monitor) {
+        return monitor.pinnedByStack().keySet().stream()
+                .anyMatch(stack -> stack.contains(PinnedThreadMonitorTest.class.getName()));
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
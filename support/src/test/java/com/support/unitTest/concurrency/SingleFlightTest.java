@@ -0,0 +1,160 @@
+package com.support.unitTest.concurrency;
+
+import com.support.concurrency.SingleFlight;
+import com.support.concurrency.SingleFlight.LoadTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class SingleFlightTest {
+
+    private static final int CALLERS = 100;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * release 될 때까지 끝나지 않는 loader. 처음 호출되면 started 를 연다.
+     */
+    private String blockingLoad(String key) {
+        loads.incrementAndGet();
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return key + "-" + loads.get();
+    }
+
+    /**
+     * leader 가 loader 안에서 기다리는 동안 CALLERS 개의 요청을 더 보내고, 모두 기다리기 시작하면 loader 를 끝낸다.
+     */
+    private List<Future<String>> loadConcurrently(SingleFlight<String, String> singleFlight, ExecutorService executor) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.load("hotel", this::blockingLoad)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load("hotel", this::blockingLoad)));
+        }
+        while (singleFlight.coalescedCount() < CALLERS) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+
+    @Test
+    @DisplayName("Run the loader once for concurrent loads of the same key")
+    void coalesceConcurrentLoads() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+
+        List<Future<String>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = loadConcurrently(singleFlight, executor);
+        }
+
+        for (Future<String> result : results) {
+            assertEquals("hotel-1", result.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.loadCount());
+        assertEquals(CALLERS, singleFlight.coalescedCount());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    @DisplayName("Load again once the previous load has finished")
+    void doNotKeepResults() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        release.countDown();
+
+        assertEquals("hotel-1", singleFlight.load("hotel", this::blockingLoad));
+        assertEquals("hotel-2", singleFlight.load("hotel", this::blockingLoad));
+        assertEquals("other-3", singleFlight.load("other", this::blockingLoad));
+        assertEquals(0, singleFlight.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("Propagate the loader's exception to every waiting caller")
+    void propagateFailure() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results.add(executor.submit(() -> singleFlight.load("hotel", key -> {
+                blockingLoad(key);
+                throw failure;
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.load("hotel", this::blockingLoad)));
+            }
+            while (singleFlight.coalescedCount() < CALLERS) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+        }
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, result::get);
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(1, loads.get());
+        assertEquals("hotel-2", singleFlight.load("hotel", this::blockingLoad));
+    }
+
+    @Test
+    @DisplayName("Stop waiting after the timeout while the load keeps running")
+    void timeoutWaiters() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.load("hotel", this::blockingLoad));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(LoadTimeoutException.class, () -> singleFlight.load("hotel", this::blockingLoad));
+            assertEquals(1, singleFlight.timeoutCount());
+
+            release.countDown();
+            assertEquals("hotel-1", leader.get());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Start a new load for a forgotten key")
+    void forget() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> stale = executor.submit(() -> singleFlight.load("hotel", this::blockingLoad));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            singleFlight.forget("hotel");
+            assertEquals("hotel-fresh", singleFlight.load("hotel", key -> key + "-fresh"));
+
+            release.countDown();
+            assertEquals("hotel-1", stale.get());
+        }
+        assertEquals(2, singleFlight.loadCount());
+        assertEquals(0, singleFlight.coalescedCount());
+        assertEquals(0, singleFlight.inFlight());
+    }
+}
@@ -0,0 +1,98 @@
+package com.support.unitTest.concurrency;
+
+import com.support.concurrency.TimingWheel;
+import com.support.concurrency.TimingWheel.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Expire an entry at the first tick at or after its deadline")
+    void expireAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofMillis(100), 4, START);
+        wheel.schedule("hold", START + 250);
+
+        List<String> expired = new ArrayList<>();
+        assertEquals(0, wheel.advance(START + 200, expired::add));
+        assertEquals(0, wheel.advance(START + 299, expired::add));
+        assertEquals(1, wheel.advance(START + 300, expired::add));
+        assertEquals(List.of("hold"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Expire entries scheduled in the past on the next advance")
+    void expirePastDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 4, START);
+        wheel.schedule("late", START - 10_000);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(START, expired::add);
+        assertEquals(List.of("late"), expired);
+    }
+
+    @Test
+    @DisplayName("Never expire a cancelled entry")
+    void cancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(Duration.ofSeconds(1), 4, START);
+        Timeout<String> canceled = wheel.schedule("canceled", START + 5_000);
+        wheel.schedule("kept", START + 5_000);
+
+        assertTrue(canceled.cancel());
+        assertFalse(canceled.cancel());
+        assertFalse(canceled.isPending());
+        assertEquals(1, wheel.size());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(START + 10_000, expired::add);
+        assertEquals(List.of("kept"), expired);
+    }
+
+    @Test
+    @DisplayName("Cascade entries across levels and the overflow without expiring them early or late")
+    void matchBruteForce() {
+        Random random = new Random(42);
+        // 2 단계 휠(64 * 64 tick)보다 먼 항목은 overflow 를 거친다
+        TimingWheel<Integer> wheel = new TimingWheel<>(Duration.ofSeconds(1), 2, START);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        Map<Integer, Timeout<Integer>> timeouts = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long deadline = START + random.nextLong(20_000_000);
+            deadlines.put(i, deadline);
+            timeouts.put(i, wheel.schedule(i, deadline));
+        }
+        for (int i = 0; i < 20_000; i += 7) {
+            assertTrue(timeouts.get(i).cancel());
+            deadlines.remove(i);
+        }
+
+        long now = START;
+        while (!deadlines.isEmpty()) {
+            now += 1_000 + random.nextInt(60_000);
+            long current = now;
+            wheel.advance(now, id -> {
+                Long deadline = deadlines.remove(id);
+                assertNotNull(deadline, "expired twice or after cancel: " + id);
+                assertTrue(deadline <= current, "expired early: " + id);
+            });
+            for (long deadline : deadlines.values()) {
+                assertTrue(deadline > now - 1_000, "not expired in time");
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+}
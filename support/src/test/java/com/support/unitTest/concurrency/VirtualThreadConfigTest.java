@@ -0,0 +1,48 @@
+package com.support.unitTest.concurrency;
+
+import com.support.concurrency.VirtualThreadConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("UnitTest")
+public class VirtualThreadConfigTest {
+
+    private static HikariDataSource pool(int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Use the maximum size of a single pool")
+    void singlePool() throws Exception {
+        assertEquals(7, VirtualThreadConfig.totalPoolSize(pool(7)));
+    }
+
+    @Test
+    @DisplayName("Sum the primary and replica pools behind a lazy routing data source")
+    void routingPools() throws Exception {
+        HikariDataSource primary = pool(10);
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return "primary";
+            }
+        };
+        routing.setTargetDataSources(Map.<Object, Object>of("primary", primary, "replica-1", pool(20), "replica-2", pool(30)));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        assertEquals(60, VirtualThreadConfig.totalPoolSize(dataSource));
+    }
+}
@@ -0,0 +1,193 @@
+package com.support.unitTest.id;
+
+import com.support.id.SnowflakeIdGenerator;
+import com.support.id.SnowflakeIdentifierGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class SnowflakeIdGeneratorTest {
+
+    private static final long START = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    /**
+     * 테스트에서 시각을 직접 옮기는 시계
+     */
+    private static final class MutableClock extends Clock {
+        private volatile long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    @Test
+    @DisplayName("Pack timestamp, worker id and sequence into the id")
+    void layout() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(513, 0, new MutableClock(START));
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertEquals(START, SnowflakeIdGenerator.timestampOf(first));
+        assertEquals(513, SnowflakeIdGenerator.workerIdOf(first));
+        assertEquals(0, SnowflakeIdGenerator.sequenceOf(first));
+        assertEquals(1, SnowflakeIdGenerator.sequenceOf(second));
+        assertTrue(first > 0);
+    }
+
+    @Test
+    @DisplayName("Order ids by time across workers")
+    void timeOrdered() {
+        MutableClock clock = new MutableClock(START);
+        SnowflakeIdGenerator high = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID, 0, clock);
+        SnowflakeIdGenerator low = new SnowflakeIdGenerator(0, 0, clock);
+
+        long earlier = high.nextId();
+        clock.millis++;
+        long later = low.nextId();
+
+        assertTrue(earlier < later);
+    }
+
+    @Test
+    @DisplayName("Borrow the next millisecond when the sequence runs out")
+    void sequenceOverflow() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 1, new MutableClock(START));
+
+        long previous = 0;
+        for (int i = 0; i < 4096; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+        long borrowed = generator.nextId();
+
+        assertEquals(START + 1, SnowflakeIdGenerator.timestampOf(borrowed));
+        assertEquals(0, SnowflakeIdGenerator.sequenceOf(borrowed));
+        assertTrue(borrowed > previous);
+        // 1ms 를 넘겨서 미리 쓸 수는 없다.
+        for (int i = 1; i < 4096; i++) {
+            generator.nextId();
+        }
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    @DisplayName("Keep issuing increasing ids when the clock moves back within the drift")
+    void smallClockRegression() {
+        MutableClock clock = new MutableClock(START);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 10, clock);
+
+        long before = generator.nextId();
+        clock.millis -= 5;
+        long after = generator.nextId();
+
+        assertTrue(after > before);
+        assertEquals(START, SnowflakeIdGenerator.timestampOf(after));
+    }
+
+    @Test
+    @DisplayName("Refuse to issue ids until the clock catches up after a large regression")
+    void largeClockRegression() {
+        MutableClock clock = new MutableClock(START);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 10, clock);
+
+        long before = generator.nextId();
+        clock.millis -= 1000;
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        clock.millis = START + 1;
+        assertTrue(generator.nextId() > before);
+    }
+
+    @Test
+    @DisplayName("Reject worker ids outside 10 bits")
+    void invalidWorkerId() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024, 0));
+    }
+
+    @Test
+    @DisplayName("Issue unique and per-thread increasing ids from many threads")
+    void uniqueUnderContention() throws Exception {
+        int threads = 16;
+        int idsPerThread = 50_000;
+        // 실제 시계에서 ms 당 4096 개를 넘겨 발급하므로 미리 쓰는 폭을 넉넉히 둔다.
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 10_000);
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threads * idsPerThread);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long previous = 0;
+                    boolean increasing = true;
+                    for (int i = 0; i < idsPerThread; i++) {
+                        long id = generator.nextId();
+                        increasing &= id > previous;
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        }
+
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("Refuse to start without an explicitly configured worker id")
+    void requireWorkerIdSetting() {
+        assertEquals(7, SnowflakeIdentifierGenerator.workerId(Map.of(SnowflakeIdentifierGenerator.WORKER_ID, "7")));
+        assertThrows(IllegalStateException.class, () -> SnowflakeIdentifierGenerator.workerId(Map.of()));
+        assertThrows(IllegalStateException.class,
+                () -> SnowflakeIdentifierGenerator.workerId(Map.of(SnowflakeIdentifierGenerator.WORKER_ID, "")));
+        assertThrows(IllegalStateException.class,
+                () -> SnowflakeIdentifierGenerator.workerId(Map.of(SnowflakeIdentifierGenerator.WORKER_ID, "${ID_WORKER_ID}")));
+    }
+}
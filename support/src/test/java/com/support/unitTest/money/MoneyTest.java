@@ -0,0 +1,86 @@
+package com.support.unitTest.money;
+
+import com.support.money.Money;
+import com.support.money.MoneyConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+public class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Test
+    @DisplayName("Convert from and to BigDecimal at scale 2")
+    void bigDecimal() {
+        assertEquals(12_345L, Money.of(new BigDecimal("123.45")).minor());
+        assertEquals(12_300L, Money.of(new BigDecimal("123")).minor());
+        assertEquals(12_300L, Money.of(new BigDecimal("123.000")).minor());
+        assertEquals(new BigDecimal("123.45"), Money.ofMinor(12_345).toBigDecimal());
+        assertEquals(Money.of(100), Money.of(new BigDecimal("100.00")));
+    }
+
+    @Test
+    @DisplayName("Reject amounts that need rounding or overflow a long")
+    void rejectInexact() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.001")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+18")));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE / 2).times(3));
+    }
+
+    @Test
+    @DisplayName("Add, subtract and multiply in minor units")
+    void arithmetic() {
+        Money nightly = Money.of(new BigDecimal("99999.99"));
+
+        assertEquals(Money.of(new BigDecimal("299999.97")), nightly.times(3));
+        assertEquals(Money.of(new BigDecimal("100000.99")), nightly.plus(Money.of(1)));
+        assertTrue(Money.of(1).minus(nightly).isNegative());
+        assertEquals(Money.ofMinor(1), Money.of(new BigDecimal("0.01")));
+    }
+
+    @Test
+    @DisplayName("Multiply by a ratio and round half up like BigDecimal")
+    void ratio() {
+        long[][] cases = {{1_005, 10, 100}, {1_015, 85, 100}, {-1_005, 10, 100}, {333, 1, 3}, {1, 1, 2}, {-1, 1, 2}};
+        for (long[] c : cases) {
+            BigDecimal expected = BigDecimal.valueOf(c[0], 2)
+                    .multiply(BigDecimal.valueOf(c[1]))
+                    .divide(BigDecimal.valueOf(c[2]), 2, RoundingMode.HALF_UP);
+            assertEquals(expected, Money.ofMinor(c[0]).times(c[1], c[2]).toBigDecimal());
+        }
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1).times(1, 0));
+    }
+
+    @Test
+    @DisplayName("Compare amounts and refuse to mix currencies")
+    void compareAndCurrency() {
+        Money cheap = Money.of(100);
+        Money expensive = Money.of(200);
+
+        assertTrue(cheap.compareTo(expensive) < 0);
+        assertSame(cheap, cheap.min(expensive));
+        assertNotEquals(Money.ofMinor(100, USD), Money.ofMinor(100));
+        assertThrows(IllegalArgumentException.class, () -> cheap.plus(Money.ofMinor(100, USD)));
+        assertThrows(IllegalArgumentException.class, () -> cheap.compareTo(Money.ofMinor(100, USD)));
+    }
+
+    @Test
+    @DisplayName("Convert to the DECIMAL(10,2) column and back")
+    void converter() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("150.50"), converter.convertToDatabaseColumn(Money.ofMinor(15_050)));
+        assertEquals(Money.ofMinor(15_050), converter.convertToEntityAttribute(new BigDecimal("150.50")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
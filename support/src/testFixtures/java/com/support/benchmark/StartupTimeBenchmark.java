@@ -0,0 +1,199 @@
+package com.support.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * bootJar 를 별도 프로세스로 실행해 프로세스 시작부터 첫 요청(probePath)이 200 을 받기까지의 시간을 잰다.
+ * 모드마다 RUNS 번 실행해 최소/중앙값/최대를 출력한다. 측정 전에 한 번 실행해 스키마 생성과 디스크 캐시의 영향을 없앤다.
+ * <pre>
+ * jar       : java -jar (bootJar 그대로)
+ * extracted : jarmode tools 로 푼 jar
+ * cds       : 푼 jar + training run 으로 만든 CDS archive
+ * aot       : 빠른 시작 빌드(-PfastStart)인 경우 -Dspring.aot.enabled=true (deferred JPA bootstrap 포함)
+ * aot+cds   : aot 와 cds 를 함께 사용 (Dockerfile.fast-start 와 같은 실행 방식)
+ * </pre>
+ * 앱 모듈은 이 클래스를 상속해 앱 이름, main 클래스, probe 경로만 지정한다. (bootJar 경로는 startup.jar 시스템 속성)
+ */
+@Testcontainers
+public abstract class StartupTimeBenchmark {
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 5);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final String JAVA = ProcessHandle.current().info().command().orElse("java");
+
+    @Container
+    private static final MySQLContainer<?> MySQLContainer = new MySQLContainer<>("mysql:8.0");
+
+    @TempDir
+    private Path workDir;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private final String app;
+    private final String mainClass;
+    private final String probePath;
+
+    /**
+     * @param app       bootJar 를 풀었을 때의 jar 이름 (api-user)
+     * @param mainClass AOT 클래스 존재 여부를 확인할 main 클래스 경로 (com/user/ApiUserApplication)
+     * @param probePath 첫 요청으로 보낼 경로
+     */
+    protected StartupTimeBenchmark(String app, String mainClass, String probePath) {
+        this.app = app;
+        this.mainClass = mainClass;
+        this.probePath = probePath;
+    }
+
+    @Test
+    @DisplayName("time to first successful request")
+    void timeToFirstRequest() throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar", ""));
+        assumeTrue(Files.isRegularFile(jar), "bootJar is not built: " + jar);
+        boolean aot = hasAotClasses(jar);
+
+        Path extracted = workDir.resolve("extracted");
+        run(workDir, List.of(JAVA, "-Djarmode=tools", "-jar", jar.toString(), "extract",
+                "--destination", extracted.toString(), "--application-filename", app + ".jar"));
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("jar", jar.getParent(), List.of("-jar", jar.toString())));
+        modes.add(new Mode("extracted", extracted, List.of("-jar", app + ".jar")));
+        modes.add(new Mode("cds", extracted, List.of("-XX:SharedArchiveFile=" + train(extracted, "cds", List.of()),
+                "-jar", app + ".jar")));
+        if (aot) {
+            modes.add(new Mode("aot", extracted, List.of("-Dspring.aot.enabled=true", "-jar", app + ".jar")));
+            modes.add(new Mode("aot+cds", extracted, List.of(
+                    "-XX:SharedArchiveFile=" + train(extracted, "aot-cds", List.of("-Dspring.aot.enabled=true")),
+                    "-Dspring.aot.enabled=true", "-jar", app + ".jar")));
+        }
+
+        timeToFirstRequest(modes.get(0));
+        for (Mode mode : modes) {
+            long[] millis = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                millis[i] = timeToFirstRequest(mode);
+            }
+            Arrays.sort(millis);
+            System.out.printf("[StartupTimeTest] app=%s mode=%s runs=%d min=%dms median=%dms max=%dms%n",
+                    app, mode.name(), RUNS, millis[0], millis[RUNS / 2], millis[RUNS - 1]);
+        }
+    }
+
+    /**
+     * 컨텍스트 refresh 직후 종료하는 training run 으로 CDS archive 를 만든다. archive 는 extracted 기준 상대 경로다.
+     */
+    private String train(Path extracted, String name, List<String> jvmArgs) throws Exception {
+        String archive = name + ".jsa";
+        List<String> command = new ArrayList<>(List.of(JAVA, "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", app + ".jar"));
+        command.addAll(appArgs(freePort()));
+        run(extracted, command);
+        return archive;
+    }
+
+    /**
+     * 프로세스를 시작한 시점부터 probePath 가 2xx 를 반환할 때까지의 시간(ms). 측정이 끝나면 프로세스를 종료한다.
+     */
+    private long timeToFirstRequest(Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(JAVA));
+        command.addAll(mode.jvmArgs());
+        command.addAll(appArgs(port));
+        Path log = workDir.resolve(mode.name() + ".log");
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + probePath))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(mode.directory().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            while (System.nanoTime() - startedAt < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with " + process.exitValue() + "\n" + Files.readString(log));
+                }
+                try {
+                    if (httpClient.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    }
+                } catch (IOException notListening) {
+                    // 아직 포트를 열지 않았다.
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode.name() + " did not serve " + probePath + " within " + TIMEOUT + "\n" + Files.readString(log));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> appArgs(int port) {
+        return List.of(
+                "--server.port=" + port,
+                "--spring.datasource.driver-class-name=" + MySQLContainer.getDriverClassName(),
+                "--spring.datasource.url=" + MySQLContainer.getJdbcUrl(),
+                "--spring.datasource.username=" + MySQLContainer.getUsername(),
+                "--spring.datasource.password=" + MySQLContainer.getPassword(),
+                "--spring.jpa.properties.hibernate.hbm2ddl.auto=update",
+                "--spring.jpa.properties.hibernate.id.snowflake.worker_id=0");
+    }
+
+    private static void run(Path directory, List<String> command) throws Exception {
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes());
+        assertEquals(0, process.waitFor(), () -> String.join(" ", command) + "\n" + output);
+    }
+
+    /**
+     * 빠른 시작 빌드는 AOT 로 생성한 ApplicationContextInitializer 를 jar 에 포함한다.
+     */
+    private boolean hasAotClasses(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getEntry("BOOT-INF/classes/" + mainClass + "__ApplicationContextInitializer.class") != null;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, Path directory, List<String> jvmArgs) {
+    }
+}